@@ -83,6 +83,7 @@ public class SegmentTrackingClient implements TrackingClient {
 
   @Override
   public void identify(final UUID workspaceId) {
+    invalidateCachedIdentity(workspaceId);
     final TrackingIdentity trackingIdentity = identityFetcher.apply(workspaceId);
     final Map<String, Object> identityMetadata = new HashMap<>();
 
@@ -112,10 +113,18 @@ public class SegmentTrackingClient implements TrackingClient {
 
   @Override
   public void alias(final UUID workspaceId, final String previousCustomerId) {
+    invalidateCachedIdentity(workspaceId);
     final var joinKey = identityFetcher.apply(workspaceId).getCustomerId().toString();
     analytics.enqueue(AliasMessage.builder(previousCustomerId).userId(joinKey));
   }
 
+  // the workspace is identified again when it changes, so its identity must be fetched again.
+  private void invalidateCachedIdentity(final UUID workspaceId) {
+    if (identityFetcher instanceof TrackingIdentityCache) {
+      ((TrackingIdentityCache) identityFetcher).invalidate(workspaceId);
+    }
+  }
+
   @Override
   public void track(@Nullable final UUID workspaceId, final String action) {
     track(workspaceId, action, Collections.emptyMap());
@@ -12,6 +12,7 @@ import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.UUID;
 import java.util.function.Function;
 import org.slf4j.Logger;
@@ -24,6 +25,8 @@ public class TrackingClientSingleton {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(LoggingTrackingClient.class);
 
+  private static final Duration TRACKING_IDENTITY_EXPIRY = Duration.ofMinutes(10);
+
   private static final Object lock = new Object();
   private static TrackingClient trackingClient;
 
@@ -64,11 +67,14 @@ public class TrackingClientSingleton {
                                 final String airbyteRole,
                                 final AirbyteVersion airbyteVersion,
                                 final ConfigRepository configRepository) {
+    final TrackingIdentityCache trackingIdentityCache = new TrackingIdentityCache(
+        (workspaceId) -> getTrackingIdentity(configRepository, airbyteVersion, workspaceId),
+        TRACKING_IDENTITY_EXPIRY);
     initialize(createTrackingClient(
         trackingStrategy,
         deployment,
         airbyteRole,
-        (workspaceId) -> getTrackingIdentity(configRepository, airbyteVersion, workspaceId)));
+        trackingIdentityCache));
   }
 
   // fallback on a logging client with an empty identity.
@@ -98,8 +104,6 @@ public class TrackingClientSingleton {
     }
   }
 
-  // todo (cgardens) - trackingIdentityFetcher should probably have some sort of caching where it is
-  // only re-fetched on identify or alias.
   /**
    * Creates a tracking client that uses the appropriate strategy from an identity supplier.
    *
@@ -108,7 +112,8 @@ public class TrackingClientSingleton {
    *        instance is running.
    * @param airbyteRole - is it an airbyte employee
    * @param trackingIdentityFetcher - how we get the identity of the user. we have a function that
-   *        takes in workspaceId and returns the tracking identity. it does not have any caching as
+   *        takes in workspaceId and returns the tracking identity. if it is a
+   *        {@link TrackingIdentityCache}, a cached identity is re-fetched on identify or alias, as
    *        email or other fields on the identity can change over time.
    * @return tracking client
    */
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.analytics;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Caches the tracking identity of each workspace, so tracking an event doesn't read the workspace
+ * every time. An identity is fetched again once it expires, or when it is invalidated because the
+ * workspace was identified again.
+ */
+public class TrackingIdentityCache implements Function<UUID, TrackingIdentity> {
+
+  private static final int MAX_WORKSPACES = 10_000;
+
+  private final LoadingCache<UUID, TrackingIdentity> identities;
+
+  /**
+   * Cache the identities returned by a fetcher.
+   *
+   * @param identityFetcher fetches the identity of a workspace
+   * @param expiry how long an identity is kept after it was fetched
+   */
+  public TrackingIdentityCache(final Function<UUID, TrackingIdentity> identityFetcher, final Duration expiry) {
+    identities = CacheBuilder.newBuilder()
+        .maximumSize(MAX_WORKSPACES)
+        .expireAfterWrite(expiry)
+        .build(CacheLoader.from(identityFetcher::apply));
+  }
+
+  @Override
+  public TrackingIdentity apply(final UUID workspaceId) {
+    try {
+      return identities.getUnchecked(workspaceId);
+    } catch (final UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Forget the identity of a workspace, so it is fetched again the next time it is needed.
+   *
+   * @param workspaceId workspace id
+   */
+  public void invalidate(final UUID workspaceId) {
+    identities.invalidate(workspaceId);
+  }
+
+}
@@ -27,9 +27,11 @@ import io.airbyte.config.Configs.WorkerEnvironment;
 import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.context.ServerRequestContext;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
@@ -111,6 +113,24 @@ class SegmentTrackingClientTest {
     assertEquals(expectedTraits, actual.traits());
   }
 
+  @Test
+  void testCachedIdentityIsFetchedAgainOnIdentify() {
+    final AtomicInteger fetches = new AtomicInteger();
+    final TrackingIdentityCache identityCache = new TrackingIdentityCache((workspaceId) -> {
+      fetches.incrementAndGet();
+      return IDENTITY;
+    }, Duration.ofMinutes(10));
+    segmentTrackingClient = new SegmentTrackingClient(identityCache, DEPLOYMENT, null, analytics);
+
+    segmentTrackingClient.track(WORKSPACE_ID, JUMP);
+    segmentTrackingClient.track(WORKSPACE_ID, JUMP);
+    assertEquals(1, fetches.get());
+
+    segmentTrackingClient.identify(WORKSPACE_ID);
+    segmentTrackingClient.track(WORKSPACE_ID, JUMP);
+    assertEquals(2, fetches.get());
+  }
+
   @Test
   void testTrack() {
     final ArgumentCaptor<TrackMessage.Builder> mockBuilder = ArgumentCaptor.forClass(TrackMessage.Builder.class);
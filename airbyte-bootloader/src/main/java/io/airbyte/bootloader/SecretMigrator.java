@@ -6,18 +6,27 @@ package io.airbyte.bootloader;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.ActorType;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.config.StandardSourceDefinition;
+import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.persistence.SecretsRepositoryReader;
 import io.airbyte.config.persistence.SecretsRepositoryWriter;
 import io.airbyte.config.persistence.split_secrets.SecretPersistence;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.protocol.models.ConnectorSpecification;
 import io.airbyte.validation.json.JsonValidationException;
+import io.micronaut.context.annotation.Value;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
@@ -26,36 +35,53 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
-import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Migrate old way of storing configs to always use a secrets store.
+ * <p>
+ * Actors are migrated on a bounded pool of threads, since each one is read from and written to the
+ * secret persistence independently.
  */
 @Singleton
 @Slf4j
 public class SecretMigrator {
 
+  // interval, in migrated actors, at which progress is logged.
+  private static final int PROGRESS_LOG_INTERVAL = 100;
+
   private final SecretsRepositoryReader secretsReader;
   private final SecretsRepositoryWriter secretsWriter;
   private final ConfigRepository configRepository;
   private final JobPersistence jobPersistence;
   private final Optional<SecretPersistence> secretPersistence;
+  private final MetricClient metricClient;
+  private final int parallelism;
 
   public SecretMigrator(final SecretsRepositoryReader secretsReader,
                         final SecretsRepositoryWriter secretsWriter,
                         final ConfigRepository configRepository,
                         final JobPersistence jobPersistence,
-                        @Named("secretPersistence") final Optional<SecretPersistence> secretPersistence) {
+                        @Named("secretPersistence") final Optional<SecretPersistence> secretPersistence,
+                        final MetricClient metricClient,
+                        @Value("${airbyte.bootloader.secret-migration.parallelism}") final int parallelism) {
+    Preconditions.checkArgument(parallelism > 0, "Secret migration parallelism must be positive");
     this.secretsReader = secretsReader;
     this.secretsWriter = secretsWriter;
     this.configRepository = configRepository;
     this.jobPersistence = jobPersistence;
     this.secretPersistence = secretPersistence;
+    this.metricClient = metricClient;
+    this.parallelism = parallelism;
   }
 
-  @Value
+  @lombok.Value
   static class ConnectorConfiguration {
 
     private final UUID workspace;
@@ -64,6 +90,16 @@ public class SecretMigrator {
 
   }
 
+  /**
+   * Migrates a single actor.
+   */
+  @FunctionalInterface
+  private interface ActorMigration<T> {
+
+    void migrate(T actor) throws JsonValidationException, IOException, ConfigNotFoundException;
+
+  }
+
   /**
    * Perform a secret migration. It will load all the actor specs extract the secret JsonPath from it.
    * Then for all the secret that are stored in a plain text format, it will save the plain text in
@@ -84,13 +120,8 @@ public class SecretMigrator {
         .stream().collect(Collectors.toMap(StandardSourceDefinition::getSourceDefinitionId, StandardSourceDefinition::getSpec));
 
     final List<SourceConnection> sourcesWithoutSecrets = configRepository.listSourceConnection();
-    final List<SourceConnection> sourcesWithSecrets = new ArrayList<>();
-    for (final SourceConnection source : sourcesWithoutSecrets) {
-      final SourceConnection sourceWithSecrets = secretsReader.getSourceConnectionWithSecrets(source.getSourceId());
-      sourcesWithSecrets.add(sourceWithSecrets);
-    }
 
-    migrateSources(sourcesWithSecrets, definitionIdToSourceSpecs);
+    migrateSources(sourcesWithoutSecrets, definitionIdToSourceSpecs);
 
     final List<StandardDestinationDefinition> standardDestinationDefinitions = configRepository.listStandardDestinationDefinitions(true);
 
@@ -98,25 +129,22 @@ public class SecretMigrator {
         .collect(Collectors.toMap(StandardDestinationDefinition::getDestinationDefinitionId, StandardDestinationDefinition::getSpec));
 
     final List<DestinationConnection> destinationsWithoutSecrets = configRepository.listDestinationConnection();
-    final List<DestinationConnection> destinationsWithSecrets = new ArrayList<>();
-    for (final DestinationConnection destination : destinationsWithoutSecrets) {
-      final DestinationConnection destinationWithoutSecrets = secretsReader.getDestinationConnectionWithSecrets(destination.getDestinationId());
-      destinationsWithSecrets.add(destinationWithoutSecrets);
-    }
 
-    migrateDestinations(destinationsWithSecrets, definitionIdToDestinationSpecs);
+    migrateDestinations(destinationsWithoutSecrets, definitionIdToDestinationSpecs);
 
     jobPersistence.setSecretMigrationDone();
   }
 
   /**
-   * This is migrating the secrets for the source actors.
+   * This is migrating the secrets for the source actors. The configuration of each source, secrets
+   * included, is read from the secret persistence before being written back.
    */
   @VisibleForTesting
   void migrateSources(final List<SourceConnection> sources, final Map<UUID, ConnectorSpecification> definitionIdToSourceSpecs)
       throws JsonValidationException, IOException {
     log.info("Migrating Sources");
-    for (final SourceConnection source : sources) {
+    migrateInParallel(ActorType.SOURCE, sources, sourceWithoutSecrets -> {
+      final SourceConnection source = secretsReader.getSourceConnectionWithSecrets(sourceWithoutSecrets.getSourceId());
       final Optional<ConnectorSpecification> specOptional = Optional.ofNullable(definitionIdToSourceSpecs.get(source.getSourceDefinitionId()));
 
       if (specOptional.isPresent()) {
@@ -128,17 +156,20 @@ public class SecretMigrator {
         sourceWithConfigRemoved.setConfiguration(Jsons.emptyObject());
         secretsWriter.writeSourceConnection(sourceWithConfigRemoved, new ConnectorSpecification().withConnectionSpecification(Jsons.emptyObject()));
       }
-    }
+    });
   }
 
   /**
-   * This is migrating the secrets for the destination actors.
+   * This is migrating the secrets for the destination actors. The configuration of each destination,
+   * secrets included, is read from the secret persistence before being written back.
    */
   @VisibleForTesting
   void migrateDestinations(final List<DestinationConnection> destinations, final Map<UUID, ConnectorSpecification> definitionIdToDestinationSpecs)
       throws JsonValidationException, IOException {
     log.info("Migration Destinations");
-    for (final DestinationConnection destination : destinations) {
+    migrateInParallel(ActorType.DESTINATION, destinations, destinationWithoutSecrets -> {
+      final DestinationConnection destination =
+          secretsReader.getDestinationConnectionWithSecrets(destinationWithoutSecrets.getDestinationId());
       final Optional<ConnectorSpecification> specOptional =
           Optional.ofNullable(definitionIdToDestinationSpecs.get(destination.getDestinationDefinitionId()));
 
@@ -152,7 +183,54 @@ public class SecretMigrator {
         secretsWriter.writeDestinationConnection(destinationWithConfigRemoved,
             new ConnectorSpecification().withConnectionSpecification(Jsons.emptyObject()));
       }
+    });
+  }
+
+  /**
+   * Run the migration of each actor on at most {@link #parallelism} threads, reporting progress as
+   * actors are migrated. The first failure cancels the actors that are still to be migrated and is
+   * rethrown.
+   */
+  private <T> void migrateInParallel(final ActorType actorType, final List<T> actors, final ActorMigration<T> migration)
+      throws JsonValidationException, IOException {
+    final MetricAttribute actorTypeAttribute = new MetricAttribute(MetricTags.ACTOR_TYPE, actorType.value());
+    final AtomicInteger migrated = new AtomicInteger();
+    metricClient.gauge(OssMetricsRegistry.SECRET_MIGRATION_ACTORS_REMAINING, actors.size(), actorTypeAttribute);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(actors.size(), 1)),
+        new ThreadFactoryBuilder().setNameFormat("secret-migration-%d").setDaemon(true).build());
+    try {
+      final List<Future<?>> futures = new ArrayList<>(actors.size());
+      for (final T actor : actors) {
+        futures.add(executor.submit(() -> {
+          migration.migrate(actor);
+          final int count = migrated.incrementAndGet();
+          metricClient.count(OssMetricsRegistry.SECRET_MIGRATION_ACTORS_MIGRATED, 1, actorTypeAttribute);
+          metricClient.gauge(OssMetricsRegistry.SECRET_MIGRATION_ACTORS_REMAINING, actors.size() - count, actorTypeAttribute);
+          if (count % PROGRESS_LOG_INTERVAL == 0) {
+            log.info("Migrated the secrets of {}/{} {}s", count, actors.size(), actorType.value());
+          }
+          return null;
+        }));
+      }
+      for (final Future<?> future : futures) {
+        future.get();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while migrating secrets", e);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof JsonValidationException jsonValidationException) {
+        throw jsonValidationException;
+      } else if (cause instanceof IOException ioException) {
+        throw ioException;
+      }
+      throw new IOException("Failed to migrate secrets of a " + actorType.value(), cause);
+    } finally {
+      executor.shutdownNow();
     }
+    log.info("Migrated the secrets of {} {}s", migrated.get(), actorType.value());
   }
 
 }
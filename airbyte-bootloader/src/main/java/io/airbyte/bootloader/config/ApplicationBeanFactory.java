@@ -17,6 +17,9 @@ import io.airbyte.config.persistence.SecretsRepositoryWriter;
 import io.airbyte.config.persistence.split_secrets.JsonSecretsProcessor;
 import io.airbyte.config.persistence.split_secrets.SecretPersistence;
 import io.airbyte.config.persistence.split_secrets.SecretsHydrator;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.MetricEmittingApps;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Named;
@@ -47,6 +50,12 @@ public class ApplicationBeanFactory {
     return new LocalDefinitionsProvider();
   }
 
+  @Singleton
+  public MetricClient metricClient() {
+    MetricClientFactory.initialize(MetricEmittingApps.BOOTLOADER);
+    return MetricClientFactory.getMetricClient();
+  }
+
   @Singleton
   public FeatureFlags featureFlags() {
     return new EnvVariableFeatureFlags();
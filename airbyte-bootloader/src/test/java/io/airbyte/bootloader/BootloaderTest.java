@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -48,6 +49,7 @@ import io.airbyte.db.instance.jobs.JobsDatabaseMigrator;
 import io.airbyte.db.instance.jobs.JobsDatabaseTestProvider;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.TestClient;
+import io.airbyte.metrics.lib.NotImplementedMetricClient;
 import io.airbyte.persistence.job.DefaultJobPersistence;
 import java.util.Map;
 import java.util.Optional;
@@ -89,8 +91,8 @@ class BootloaderTest {
 
   // ⚠️ This line should change with every new migration to show that you meant to make a new
   // migration to the prod database
-  private static final String CURRENT_CONFIGS_MIGRATION_VERSION = "0.41.02.002";
-  private static final String CURRENT_JOBS_MIGRATION_VERSION = "0.42.0.001";
+  private static final String CURRENT_CONFIGS_MIGRATION_VERSION = "0.42.01.003";
+  private static final String CURRENT_JOBS_MIGRATION_VERSION = "0.42.1.001";
   private static final String CDK_VERSION = "1.2.3";
 
   @BeforeEach
@@ -174,6 +176,55 @@ class BootloaderTest {
     assertNotEquals(Optional.empty(), jobsPersistence.getDeployment());
   }
 
+  @Test
+  void testNoOpDefinitionsUpgradeWritesNothing() throws Exception {
+    val currentAirbyteVersion = new AirbyteVersion(VERSION_0330_ALPHA);
+    val airbyteProtocolRange = new AirbyteProtocolVersionRange(new Version(PROTOCOL_VERSION_123), new Version(PROTOCOL_VERSION_124));
+    val mockedFeatureFlags = mock(FeatureFlags.class);
+    val mockedSecretMigrator = mock(SecretMigrator.class);
+
+    val configsDslContext = DSLContextFactory.create(configsDataSource, SQLDialect.POSTGRES);
+    val jobsDslContext = DSLContextFactory.create(configsDataSource, SQLDialect.POSTGRES);
+
+    val configsFlyway = createConfigsFlyway(configsDataSource);
+    val jobsFlyway = createJobsFlyway(jobsDataSource);
+
+    val configDatabase = new ConfigsDatabaseTestProvider(configsDslContext, configsFlyway).create(false);
+    val jobDatabase = new JobsDatabaseTestProvider(jobsDslContext, jobsFlyway).create(false);
+    val configRepository = spy(new ConfigRepository(configDatabase, ConfigRepository.getMaxSecondsBetweenMessagesSupplier(featureFlagClient)));
+    val configDatabaseInitializer = DatabaseCheckFactory.createConfigsDatabaseInitializer(configsDslContext,
+        TimeUnit.SECONDS.toMillis(60L), MoreResources.readResource(DatabaseConstants.CONFIGS_INITIAL_SCHEMA_PATH));
+    val configsDatabaseMigrator = new ConfigsDatabaseMigrator(configDatabase, configsFlyway);
+    final Optional<DefinitionsProvider> definitionsProvider = Optional.of(new LocalDefinitionsProvider());
+    val jobsDatabaseInitializer = DatabaseCheckFactory.createJobsDatabaseInitializer(jobsDslContext,
+        TimeUnit.SECONDS.toMillis(60L), MoreResources.readResource(DatabaseConstants.JOBS_INITIAL_SCHEMA_PATH));
+    val jobsDatabaseMigrator = new JobsDatabaseMigrator(jobDatabase, jobsFlyway);
+    val jobsPersistence = new DefaultJobPersistence(jobDatabase);
+    val protocolVersionChecker = new ProtocolVersionChecker(jobsPersistence, airbyteProtocolRange, configRepository, definitionsProvider);
+    val applyDefinitionsHelper = new ApplyDefinitionsHelper(configRepository, definitionsProvider, jobsPersistence);
+    final CdkVersionProvider cdkVersionProvider = mock(CdkVersionProvider.class);
+    when(cdkVersionProvider.getCdkVersion()).thenReturn(CDK_VERSION);
+    val declarativeSourceUpdater = new DeclarativeSourceUpdater(configRepository, cdkVersionProvider);
+    val postLoadExecutor =
+        new DefaultPostLoadExecutor(applyDefinitionsHelper, declarativeSourceUpdater, mockedFeatureFlags, jobsPersistence, mockedSecretMigrator);
+
+    val bootloader =
+        new Bootloader(false, configRepository, configDatabaseInitializer, configsDatabaseMigrator, currentAirbyteVersion,
+            definitionsProvider, mockedFeatureFlags, jobsDatabaseInitializer, jobsDatabaseMigrator, jobsPersistence, protocolVersionChecker,
+            true, mockedSecretMigrator, postLoadExecutor);
+    bootloader.load();
+    applyDefinitionsHelper.apply(true);
+
+    // applying the same definitions again is a no-op upgrade.
+    reset(configRepository);
+    applyDefinitionsHelper.apply(true);
+
+    final long definitionWrites = mockingDetails(configRepository).getInvocations().stream()
+        .filter(invocation -> invocation.getMethod().getName().startsWith("write"))
+        .count();
+    assertEquals(0, definitionWrites);
+  }
+
   @SuppressWarnings("VariableDeclarationUsageDistance")
   @Test
   void testBootloaderAppRunSecretMigration() throws Exception {
@@ -214,7 +265,8 @@ class BootloaderTest {
     val secretsWriter = new SecretsRepositoryWriter(configRepository, Optional.of(secretPersistence), Optional.empty());
 
     val spiedSecretMigrator =
-        spy(new SecretMigrator(secretsReader, secretsWriter, configRepository, jobsPersistence, Optional.of(secretPersistence)));
+        spy(new SecretMigrator(secretsReader, secretsWriter, configRepository, jobsPersistence, Optional.of(secretPersistence),
+            new NotImplementedMetricClient(), 2));
 
     val applyDefinitionsHelper = new ApplyDefinitionsHelper(configRepository, definitionsProvider, jobsPersistence);
     final CdkVersionProvider cdkVersionProvider = mock(CdkVersionProvider.class);
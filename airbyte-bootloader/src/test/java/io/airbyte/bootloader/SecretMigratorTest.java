@@ -4,6 +4,8 @@
 
 package io.airbyte.bootloader;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -14,14 +16,20 @@ import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.config.StandardSourceDefinition;
+import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.persistence.SecretsRepositoryReader;
 import io.airbyte.config.persistence.SecretsRepositoryWriter;
 import io.airbyte.config.persistence.split_secrets.SecretPersistence;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.protocol.models.ConnectorSpecification;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +45,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class SecretMigratorTest {
 
+  private static final int PARALLELISM = 4;
   private final UUID workspaceId = UUID.randomUUID();
 
   @Mock
@@ -54,11 +63,15 @@ class SecretMigratorTest {
   @Mock
   private JobPersistence jobPersistence;
 
+  @Mock
+  private MetricClient metricClient;
+
   private SecretMigrator secretMigrator;
 
   @BeforeEach
   void setup() {
-    secretMigrator = Mockito.spy(new SecretMigrator(secretsReader, secretsWriter, configRepository, jobPersistence, Optional.of(secretPersistence)));
+    secretMigrator = Mockito.spy(new SecretMigrator(secretsReader, secretsWriter, configRepository, jobPersistence, Optional.of(secretPersistence),
+        metricClient, PARALLELISM));
   }
 
   @Test
@@ -122,7 +135,7 @@ class SecretMigratorTest {
   }
 
   @Test
-  void testSourceMigration() throws JsonValidationException, IOException {
+  void testSourceMigration() throws JsonValidationException, IOException, ConfigNotFoundException {
     final UUID definitionId1 = UUID.randomUUID();
     final UUID definitionId2 = UUID.randomUUID();
     final UUID sourceId1 = UUID.randomUUID();
@@ -145,6 +158,9 @@ class SecretMigratorTest {
     definitionIdToDestinationSpecs.put(definitionId1, sourceDefinition1);
     definitionIdToDestinationSpecs.put(definitionId2, sourceDefinition2);
 
+    when(secretsReader.getSourceConnectionWithSecrets(sourceId1)).thenReturn(sourceConnection1);
+    when(secretsReader.getSourceConnectionWithSecrets(sourceId2)).thenReturn(sourceConnection2);
+
     secretMigrator.migrateSources(sources, definitionIdToDestinationSpecs);
 
     Mockito.verify(secretsWriter).writeSourceConnection(sourceConnection1, sourceDefinition1);
@@ -152,7 +168,7 @@ class SecretMigratorTest {
   }
 
   @Test
-  void testDestinationMigration() throws JsonValidationException, IOException {
+  void testDestinationMigration() throws JsonValidationException, IOException, ConfigNotFoundException {
     final UUID definitionId1 = UUID.randomUUID();
     final UUID definitionId2 = UUID.randomUUID();
     final UUID destinationId1 = UUID.randomUUID();
@@ -175,10 +191,52 @@ class SecretMigratorTest {
     definitionIdToDestinationSpecs.put(definitionId1, destinationDefinition1);
     definitionIdToDestinationSpecs.put(definitionId2, destinationDefinition2);
 
+    when(secretsReader.getDestinationConnectionWithSecrets(destinationId1)).thenReturn(destinationConnection1);
+    when(secretsReader.getDestinationConnectionWithSecrets(destinationId2)).thenReturn(destinationConnection2);
+
     secretMigrator.migrateDestinations(destinations, definitionIdToDestinationSpecs);
 
     Mockito.verify(secretsWriter).writeDestinationConnection(destinationConnection1, destinationDefinition1);
     Mockito.verify(secretsWriter).writeDestinationConnection(destinationConnection2, destinationDefinition2);
   }
 
+  @Test
+  void testManySourcesAreMigratedWithProgressMetrics() throws JsonValidationException, IOException, ConfigNotFoundException {
+    final UUID definitionId = UUID.randomUUID();
+    final ConnectorSpecification spec = new ConnectorSpecification().withConnectionSpecification(Jsons.jsonNode("def"));
+    final List<SourceConnection> sources = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      final SourceConnection source = new SourceConnection()
+          .withSourceId(UUID.randomUUID())
+          .withSourceDefinitionId(definitionId)
+          .withConfiguration(Jsons.jsonNode("conf" + i));
+      sources.add(source);
+      when(secretsReader.getSourceConnectionWithSecrets(source.getSourceId())).thenReturn(source);
+    }
+
+    secretMigrator.migrateSources(sources, Map.of(definitionId, spec));
+
+    for (final SourceConnection source : sources) {
+      Mockito.verify(secretsWriter).writeSourceConnection(source, spec);
+    }
+    final MetricAttribute sourceAttribute = new MetricAttribute(MetricTags.ACTOR_TYPE, "source");
+    Mockito.verify(metricClient, Mockito.times(sources.size())).count(OssMetricsRegistry.SECRET_MIGRATION_ACTORS_MIGRATED, 1, sourceAttribute);
+    Mockito.verify(metricClient).gauge(OssMetricsRegistry.SECRET_MIGRATION_ACTORS_REMAINING, 0, sourceAttribute);
+  }
+
+  @Test
+  void testMigrationFailureIsRethrown() throws JsonValidationException, IOException, ConfigNotFoundException {
+    final UUID definitionId = UUID.randomUUID();
+    final DestinationConnection destination = new DestinationConnection()
+        .withDestinationId(UUID.randomUUID())
+        .withDestinationDefinitionId(definitionId)
+        .withConfiguration(Jsons.jsonNode("conf"));
+    when(secretsReader.getDestinationConnectionWithSecrets(destination.getDestinationId())).thenReturn(destination);
+    Mockito.doThrow(new IOException("write failed")).when(secretsWriter).writeDestinationConnection(any(), any());
+
+    final IOException e = assertThrows(IOException.class,
+        () -> secretMigrator.migrateDestinations(List.of(destination), Map.of(definitionId, new ConnectorSpecification())));
+    assertEquals("write failed", e.getMessage());
+  }
+
 }
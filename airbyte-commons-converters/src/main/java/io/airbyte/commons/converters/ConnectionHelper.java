@@ -20,6 +20,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import javax.annotation.Nullable;
 
@@ -147,9 +148,10 @@ public class ConnectionHelper {
             destinationId,
             destinationWorkspace));
 
-    if (operationIds != null) {
+    if (operationIds != null && !operationIds.isEmpty()) {
+      final Map<UUID, UUID> operationWorkspaces = workspaceHelper.getWorkspacesForOperationIdsIgnoreExceptions(operationIds);
       for (final UUID operationId : operationIds) {
-        final UUID operationWorkspace = workspaceHelper.getWorkspaceForOperationIdIgnoreExceptions(operationId);
+        final UUID operationWorkspace = operationWorkspaces.get(operationId);
         Preconditions.checkArgument(
             sourceWorkspace.equals(operationWorkspace),
             String.format(
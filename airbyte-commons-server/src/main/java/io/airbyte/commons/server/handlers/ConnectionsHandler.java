@@ -205,6 +205,7 @@ public class ConnectionsHandler {
     } catch (final Exception e) {
       LOGGER.error("Start of the connection manager workflow failed", e);
       configRepository.deleteStandardSync(standardSync.getConnectionId());
+      workspaceHelper.evictConnection(standardSync.getConnectionId());
       throw e;
     }
 
@@ -435,9 +436,11 @@ public class ConnectionsHandler {
       throws JsonValidationException, IOException, ConfigNotFoundException {
     final List<ConnectionRead> connectionReads = Lists.newArrayList();
 
-    for (final StandardSync standardSync : configRepository.listWorkspaceStandardSyncs(workspaceIdRequestBody.getWorkspaceId(), includeDeleted)) {
+    final List<StandardSync> standardSyncs = configRepository.listWorkspaceStandardSyncs(workspaceIdRequestBody.getWorkspaceId(), includeDeleted);
+    for (final StandardSync standardSync : standardSyncs) {
       connectionReads.add(ApiPojoConverters.internalToConnectionRead(standardSync));
     }
+    workspaceHelper.cacheConnectionWorkspaces(workspaceIdRequestBody.getWorkspaceId(), standardSyncs);
 
     return new ConnectionReadList().connections(connectionReads);
   }
@@ -544,11 +547,32 @@ public class ConnectionsHandler {
 
   public ConnectionReadList searchConnections(final ConnectionSearch connectionSearch)
       throws JsonValidationException, IOException, ConfigNotFoundException {
+    // the database only evaluates part of the search, the rest is matched on the connections it finds.
+    final List<StandardSync> standardSyncs = configRepository.searchStandardSyncs(new ConnectionMatcher(connectionSearch).toSearchQuery());
+    if (standardSyncs.isEmpty()) {
+      return new ConnectionReadList().connections(Collections.emptyList());
+    }
+
+    final Map<UUID, SourceRead> sourceReads = configRepository
+        .getSourceAndDefinitionsFromSourceIds(standardSyncs.stream().map(StandardSync::getSourceId).distinct().toList())
+        .stream()
+        .collect(Collectors.toMap(
+            sourceAndDefinition -> sourceAndDefinition.source().getSourceId(),
+            sourceAndDefinition -> SourceHandler.toSourceRead(sourceAndDefinition.source(), sourceAndDefinition.definition())));
+    final Map<UUID, DestinationRead> destinationReads = configRepository
+        .getDestinationAndDefinitionsFromDestinationIds(standardSyncs.stream().map(StandardSync::getDestinationId).distinct().toList())
+        .stream()
+        .collect(Collectors.toMap(
+            destinationAndDefinition -> destinationAndDefinition.destination().getDestinationId(),
+            destinationAndDefinition -> DestinationHandler.toDestinationRead(destinationAndDefinition.destination(),
+                destinationAndDefinition.definition())));
+
     final List<ConnectionRead> reads = Lists.newArrayList();
-    for (final StandardSync standardSync : configRepository.listStandardSyncs()) {
+    for (final StandardSync standardSync : standardSyncs) {
       if (standardSync.getStatus() != StandardSync.Status.DEPRECATED) {
         final ConnectionRead connectionRead = ApiPojoConverters.internalToConnectionRead(standardSync);
-        if (matchSearch(connectionSearch, connectionRead)) {
+        if (matchSearch(connectionSearch, connectionRead, sourceReads.get(standardSync.getSourceId()),
+            destinationReads.get(standardSync.getDestinationId()))) {
           reads.add(connectionRead);
         }
       }
@@ -557,19 +581,10 @@ public class ConnectionsHandler {
     return new ConnectionReadList().connections(reads);
   }
 
-  public boolean matchSearch(final ConnectionSearch connectionSearch, final ConnectionRead connectionRead)
-      throws JsonValidationException, ConfigNotFoundException, IOException {
-
-    final SourceConnection sourceConnection = configRepository.getSourceConnection(connectionRead.getSourceId());
-    final StandardSourceDefinition sourceDefinition =
-        configRepository.getStandardSourceDefinition(sourceConnection.getSourceDefinitionId());
-    final SourceRead sourceRead = SourceHandler.toSourceRead(sourceConnection, sourceDefinition);
-
-    final DestinationConnection destinationConnection = configRepository.getDestinationConnection(connectionRead.getDestinationId());
-    final StandardDestinationDefinition destinationDefinition =
-        configRepository.getStandardDestinationDefinition(destinationConnection.getDestinationDefinitionId());
-    final DestinationRead destinationRead = DestinationHandler.toDestinationRead(destinationConnection, destinationDefinition);
-
+  private boolean matchSearch(final ConnectionSearch connectionSearch,
+                              final ConnectionRead connectionRead,
+                              final SourceRead sourceRead,
+                              final DestinationRead destinationRead) {
     final ConnectionMatcher connectionMatcher = new ConnectionMatcher(connectionSearch);
     final ConnectionRead connectionReadFromSearch = connectionMatcher.match(connectionRead);
 
@@ -642,6 +657,7 @@ public class ConnectionsHandler {
         connectionRead.setWorkspaceId(workspaceId);
         connectionReads.add(connectionRead);
       }
+      workspaceHelper.cacheConnectionWorkspaces(workspaceId, entry.getValue());
     }
     return new ConnectionReadList().connections(connectionReads);
   }
@@ -22,6 +22,7 @@ import io.airbyte.api.model.generated.ListResourcesForWorkspacesRequestBody;
 import io.airbyte.api.model.generated.WorkspaceIdRequestBody;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.server.converters.ConfigurationUpdate;
+import io.airbyte.commons.server.handlers.helpers.DestinationMatcher;
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.StandardDestinationDefinition;
@@ -271,12 +272,12 @@ public class DestinationHandler {
       throws ConfigNotFoundException, IOException, JsonValidationException {
     final List<DestinationRead> reads = Lists.newArrayList();
 
-    for (final DestinationConnection dci : configRepository.listDestinationConnection()) {
-      if (!dci.getTombstone()) {
-        final DestinationRead destinationRead = buildDestinationRead(dci);
-        if (connectionsHandler.matchSearch(destinationSearch, destinationRead)) {
-          reads.add(destinationRead);
-        }
+    // the database only evaluates part of the search, the rest is matched on the destinations it finds.
+    for (final DestinationConnection dci : configRepository
+        .searchDestinationConnections(new DestinationMatcher(destinationSearch).toSearchQuery())) {
+      final DestinationRead destinationRead = buildDestinationRead(dci);
+      if (connectionsHandler.matchSearch(destinationSearch, destinationRead)) {
+        reads.add(destinationRead);
       }
     }
 
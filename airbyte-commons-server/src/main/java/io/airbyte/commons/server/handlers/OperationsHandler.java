@@ -24,6 +24,7 @@ import io.airbyte.config.StandardSyncOperation;
 import io.airbyte.config.StandardSyncOperation.OperatorType;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.persistence.job.WorkspaceHelper;
 import io.airbyte.validation.json.JsonValidationException;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -42,16 +43,18 @@ import java.util.function.Supplier;
 public class OperationsHandler {
 
   private final ConfigRepository configRepository;
+  private final WorkspaceHelper workspaceHelper;
   private final Supplier<UUID> uuidGenerator;
 
   @Inject
-  public OperationsHandler(final ConfigRepository configRepository) {
-    this(configRepository, UUID::randomUUID);
+  public OperationsHandler(final ConfigRepository configRepository, final WorkspaceHelper workspaceHelper) {
+    this(configRepository, workspaceHelper, UUID::randomUUID);
   }
 
   @VisibleForTesting
-  OperationsHandler(final ConfigRepository configRepository, final Supplier<UUID> uuidGenerator) {
+  OperationsHandler(final ConfigRepository configRepository, final WorkspaceHelper workspaceHelper, final Supplier<UUID> uuidGenerator) {
     this.configRepository = configRepository;
+    this.workspaceHelper = workspaceHelper;
     this.uuidGenerator = uuidGenerator;
   }
 
@@ -170,6 +173,7 @@ public class OperationsHandler {
       throws IOException {
     final UUID operationId = operationIdRequestBody.getOperationId();
     configRepository.deleteStandardSyncOperation(operationId);
+    workspaceHelper.evictOperation(operationId);
   }
 
   private void removeOperation(final UUID operationId) throws JsonValidationException, ConfigNotFoundException, IOException {
@@ -26,6 +26,7 @@ import io.airbyte.api.model.generated.WorkspaceIdRequestBody;
 import io.airbyte.commons.server.converters.ConfigurationUpdate;
 import io.airbyte.commons.server.handlers.helpers.CatalogConverter;
 import io.airbyte.commons.server.handlers.helpers.OAuthSecretHelper;
+import io.airbyte.commons.server.handlers.helpers.SourceMatcher;
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardSourceDefinition;
@@ -263,12 +264,11 @@ public class SourceHandler {
       throws ConfigNotFoundException, IOException, JsonValidationException {
     final List<SourceRead> reads = Lists.newArrayList();
 
-    for (final SourceConnection sci : configRepository.listSourceConnection()) {
-      if (!sci.getTombstone()) {
-        final SourceRead sourceRead = buildSourceRead(sci);
-        if (connectionsHandler.matchSearch(sourceSearch, sourceRead)) {
-          reads.add(sourceRead);
-        }
+    // the database only evaluates part of the search, the rest is matched on the sources it finds.
+    for (final SourceConnection sci : configRepository.searchSourceConnections(new SourceMatcher(sourceSearch).toSearchQuery())) {
+      final SourceRead sourceRead = buildSourceRead(sci);
+      if (connectionsHandler.matchSearch(sourceSearch, sourceRead)) {
+        reads.add(sourceRead);
       }
     }
 
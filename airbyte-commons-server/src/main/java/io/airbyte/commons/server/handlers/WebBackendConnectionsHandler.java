@@ -53,6 +53,7 @@ import io.airbyte.commons.lang.MoreBooleans;
 import io.airbyte.commons.server.converters.ApiPojoConverters;
 import io.airbyte.commons.server.handlers.helpers.CatalogConverter;
 import io.airbyte.commons.server.scheduler.EventRunner;
+import io.airbyte.commons.server.scheduling.AirbyteTaskExecutors;
 import io.airbyte.config.ActorCatalog;
 import io.airbyte.config.ActorCatalogFetchEvent;
 import io.airbyte.config.StandardSourceDefinition;
@@ -62,6 +63,7 @@ import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.persistence.ConfigRepository.StandardSyncQuery;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.validation.json.JsonValidationException;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -72,6 +74,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -94,6 +99,8 @@ public class WebBackendConnectionsHandler {
   private final SchedulerHandler schedulerHandler;
   private final OperationsHandler operationsHandler;
   private final EventRunner eventRunner;
+  // bounded executor used to issue independent queries concurrently.
+  private final ExecutorService executorService;
   // todo (cgardens) - this handler should NOT have access to the db. only access via handler.
   @Deprecated
   private final ConfigRepository configRepositoryDoNotUse;
@@ -106,7 +113,8 @@ public class WebBackendConnectionsHandler {
                                       final SchedulerHandler schedulerHandler,
                                       final OperationsHandler operationsHandler,
                                       final EventRunner eventRunner,
-                                      final ConfigRepository configRepositoryDoNotUse) {
+                                      final ConfigRepository configRepositoryDoNotUse,
+                                      @Named(AirbyteTaskExecutors.WEB_BACKEND) final ExecutorService executorService) {
     this.connectionsHandler = connectionsHandler;
     this.stateHandler = stateHandler;
     this.sourceHandler = sourceHandler;
@@ -116,6 +124,7 @@ public class WebBackendConnectionsHandler {
     this.operationsHandler = operationsHandler;
     this.eventRunner = eventRunner;
     this.configRepositoryDoNotUse = configRepositoryDoNotUse;
+    this.executorService = executorService;
   }
 
   public WebBackendWorkspaceStateResult getWorkspaceState(final WebBackendWorkspaceState webBackendWorkspaceState) throws IOException {
@@ -145,20 +154,32 @@ public class WebBackendConnectionsHandler {
         // passing 'false' so that deleted connections are not included
         false);
 
-    final List<StandardSync> standardSyncs = configRepositoryDoNotUse.listWorkspaceStandardSyncs(query);
-    final List<UUID> sourceIds = standardSyncs.stream().map(StandardSync::getSourceId).toList();
-    final List<UUID> destinationIds = standardSyncs.stream().map(StandardSync::getDestinationId).toList();
+    // only the columns needed to render the list are fetched, notably not the configured catalog.
+    final List<StandardSync> standardSyncs = configRepositoryDoNotUse.listWorkspaceStandardSyncsForListView(
+        query,
+        webBackendConnectionListRequestBody.getAfterConnectionId(),
+        webBackendConnectionListRequestBody.getPageSize());
+    final List<UUID> sourceIds = standardSyncs.stream().map(StandardSync::getSourceId).distinct().toList();
+    final List<UUID> destinationIds = standardSyncs.stream().map(StandardSync::getDestinationId).distinct().toList();
     final List<UUID> connectionIds = standardSyncs.stream().map(StandardSync::getConnectionId).toList();
 
-    // Fetching all the related objects we need for the final output
-    final Map<UUID, SourceSnippetRead> sourceReadById = getSourceSnippetReadById(sourceIds);
-    final Map<UUID, DestinationSnippetRead> destinationReadById = getDestinationSnippetReadById(destinationIds);
-    final Map<UUID, JobRead> latestJobByConnectionId = getLatestJobByConnectionId(connectionIds);
+    // Fetching all the related objects we need for the final output. These queries are independent
+    // of each other, so they are issued concurrently.
+    final Future<Map<UUID, SourceSnippetRead>> sourceReadByIdFuture = executorService.submit(() -> getSourceSnippetReadById(sourceIds));
+    final Future<Map<UUID, DestinationSnippetRead>> destinationReadByIdFuture =
+        executorService.submit(() -> getDestinationSnippetReadById(destinationIds));
+    final Future<Map<UUID, JobRead>> latestJobByConnectionIdFuture = executorService.submit(() -> getLatestJobByConnectionId(connectionIds));
     // This call could be removed, running jobs should be a subset of latest jobs, need to expose the
     // right status filtering for this.
-    final Map<UUID, JobRead> runningJobByConnectionId = getRunningJobByConnectionId(connectionIds);
-    final Map<UUID, ActorCatalogFetchEvent> newestFetchEventsByActorId =
-        configRepositoryDoNotUse.getMostRecentActorCatalogFetchEventForSources(sourceIds);
+    final Future<Map<UUID, JobRead>> runningJobByConnectionIdFuture = executorService.submit(() -> getRunningJobByConnectionId(connectionIds));
+    final Future<Map<UUID, ActorCatalogFetchEvent>> newestFetchEventsByActorIdFuture =
+        executorService.submit(() -> configRepositoryDoNotUse.getMostRecentActorCatalogFetchEventForSources(sourceIds));
+
+    final Map<UUID, SourceSnippetRead> sourceReadById = awaitQuery(sourceReadByIdFuture);
+    final Map<UUID, DestinationSnippetRead> destinationReadById = awaitQuery(destinationReadByIdFuture);
+    final Map<UUID, JobRead> latestJobByConnectionId = awaitQuery(latestJobByConnectionIdFuture);
+    final Map<UUID, JobRead> runningJobByConnectionId = awaitQuery(runningJobByConnectionIdFuture);
+    final Map<UUID, ActorCatalogFetchEvent> newestFetchEventsByActorId = awaitQuery(newestFetchEventsByActorIdFuture);
 
     final List<WebBackendConnectionListItem> connectionItems = Lists.newArrayList();
 
@@ -176,6 +197,42 @@ public class WebBackendConnectionsHandler {
     return new WebBackendConnectionReadList().connections(connectionItems);
   }
 
+  /**
+   * Wait for a query submitted to the executor, rethrowing the IOException it failed with, if any.
+   */
+  private static <T> T awaitQuery(final Future<T> future) throws IOException {
+    try {
+      return awaitRead(future);
+    } catch (final ConfigNotFoundException | JsonValidationException e) {
+      throw new IOException(e);
+    }
+  }
+
+  /**
+   * Wait for a read submitted to the executor, rethrowing the checked exception it failed with, if
+   * any.
+   */
+  private static <T> T awaitRead(final Future<T> future) throws IOException, ConfigNotFoundException, JsonValidationException {
+    try {
+      return future.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof IOException ioException) {
+        throw ioException;
+      } else if (cause instanceof ConfigNotFoundException configNotFoundException) {
+        throw configNotFoundException;
+      } else if (cause instanceof JsonValidationException jsonValidationException) {
+        throw jsonValidationException;
+      } else if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new RuntimeException(cause);
+    }
+  }
+
   private Map<UUID, JobRead> getLatestJobByConnectionId(final List<UUID> connectionIds) throws IOException {
     return jobHistoryHandler.getLatestSyncJobsForConnections(connectionIds).stream()
         .collect(Collectors.toMap(j -> UUID.fromString(j.getConfigId()), Function.identity()));
@@ -203,11 +260,22 @@ public class WebBackendConnectionsHandler {
 
   private WebBackendConnectionRead buildWebBackendConnectionRead(final ConnectionRead connectionRead, final Optional<UUID> currentSourceCatalogId)
       throws ConfigNotFoundException, IOException, JsonValidationException {
-    final SourceRead source = getSourceRead(connectionRead.getSourceId());
-    final DestinationRead destination = getDestinationRead(connectionRead.getDestinationId());
-    final OperationReadList operations = getOperationReadList(connectionRead);
-    final Optional<JobRead> latestSyncJob = jobHistoryHandler.getLatestSyncJob(connectionRead.getConnectionId());
-    final Optional<JobRead> latestRunningSyncJob = jobHistoryHandler.getLatestRunningSyncJob(connectionRead.getConnectionId());
+    // these reads are independent of each other, so they are issued concurrently.
+    final Future<SourceRead> sourceFuture = executorService.submit(() -> getSourceRead(connectionRead.getSourceId()));
+    final Future<DestinationRead> destinationFuture = executorService.submit(() -> getDestinationRead(connectionRead.getDestinationId()));
+    final Future<OperationReadList> operationsFuture = executorService.submit(() -> getOperationReadList(connectionRead));
+    final Future<Optional<JobRead>> latestSyncJobFuture =
+        executorService.submit(() -> jobHistoryHandler.getLatestSyncJob(connectionRead.getConnectionId()));
+    final Future<Optional<JobRead>> latestRunningSyncJobFuture =
+        executorService.submit(() -> jobHistoryHandler.getLatestRunningSyncJob(connectionRead.getConnectionId()));
+    final Future<Optional<ActorCatalogFetchEvent>> mostRecentFetchEventFuture =
+        executorService.submit(() -> configRepositoryDoNotUse.getMostRecentActorCatalogFetchEventForSource(connectionRead.getSourceId()));
+
+    final SourceRead source = awaitRead(sourceFuture);
+    final DestinationRead destination = awaitRead(destinationFuture);
+    final OperationReadList operations = awaitRead(operationsFuture);
+    final Optional<JobRead> latestSyncJob = awaitRead(latestSyncJobFuture);
+    final Optional<JobRead> latestRunningSyncJob = awaitRead(latestRunningSyncJobFuture);
 
     final WebBackendConnectionRead webBackendConnectionRead = getWebBackendConnectionRead(connectionRead, source, destination, operations)
         .catalogId(connectionRead.getSourceCatalogId());
@@ -219,8 +287,7 @@ public class WebBackendConnectionsHandler {
       webBackendConnectionRead.setLatestSyncJobStatus(job.getStatus());
     });
 
-    final Optional<ActorCatalogFetchEvent> mostRecentFetchEvent =
-        configRepositoryDoNotUse.getMostRecentActorCatalogFetchEventForSource(connectionRead.getSourceId());
+    final Optional<ActorCatalogFetchEvent> mostRecentFetchEvent = awaitRead(mostRecentFetchEventFuture);
 
     final SchemaChange schemaChange = getSchemaChange(connectionRead, currentSourceCatalogId, mostRecentFetchEvent);
 
@@ -241,8 +308,13 @@ public class WebBackendConnectionsHandler {
     final DestinationSnippetRead destination = destinationReadById.get(standardSync.getDestinationId());
     final Optional<JobRead> latestSyncJob = Optional.ofNullable(latestJobByConnectionId.get(standardSync.getConnectionId()));
     final Optional<JobRead> latestRunningSyncJob = Optional.ofNullable(runningJobByConnectionId.get(standardSync.getConnectionId()));
-    final ConnectionRead connectionRead = ApiPojoConverters.internalToConnectionRead(standardSync);
-    final Optional<UUID> currentCatalogId = connectionRead == null ? Optional.empty() : Optional.ofNullable(connectionRead.getSourceCatalogId());
+    // the list view sync is a projection without a catalog, so only the fields needed to compute the
+    // schema change are converted.
+    final ConnectionRead connectionRead = new ConnectionRead()
+        .connectionId(standardSync.getConnectionId())
+        .sourceCatalogId(standardSync.getSourceCatalogId())
+        .breakingChange(standardSync.getBreakingChange());
+    final Optional<UUID> currentCatalogId = Optional.ofNullable(connectionRead.getSourceCatalogId());
 
     final SchemaChange schemaChange = getSchemaChange(connectionRead, currentCatalogId, latestFetchEvent);
 
@@ -6,6 +6,10 @@ package io.airbyte.commons.server.handlers.helpers;
 
 import io.airbyte.api.model.generated.ConnectionRead;
 import io.airbyte.api.model.generated.ConnectionSearch;
+import io.airbyte.commons.enums.Enums;
+import io.airbyte.commons.server.converters.ApiPojoConverters;
+import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
+import io.airbyte.config.persistence.ConfigRepository.StandardSyncSearchQuery;
 import org.apache.logging.log4j.util.Strings;
 
 /**
@@ -54,4 +58,29 @@ public class ConnectionMatcher implements Matchable<ConnectionRead> {
     return fromSearch;
   }
 
+  /**
+   * Build a query for the criteria of the search that the database can evaluate. Every connection
+   * matched by this matcher also matches the query, but schedules and the configurations of the
+   * source and destination are not part of the query, so connections returned by it still need to
+   * be matched.
+   *
+   * @return database query
+   */
+  public StandardSyncSearchQuery toSearchQuery() {
+    if (search == null) {
+      return new StandardSyncSearchQuery(null, null, null, null, null, null, null, null, null, null);
+    }
+    return new StandardSyncSearchQuery(
+        search.getConnectionId(),
+        search.getSourceId(),
+        search.getDestinationId(),
+        Strings.isBlank(search.getName()) ? null : search.getName(),
+        Strings.isBlank(search.getNamespaceFormat()) || "null".equals(search.getNamespaceFormat()) ? null : search.getNamespaceFormat(),
+        Enums.convertTo(search.getNamespaceDefinition(), NamespaceDefinitionType.class),
+        Strings.isBlank(search.getPrefix()) ? null : search.getPrefix(),
+        ApiPojoConverters.toPersistenceStatus(search.getStatus()),
+        new SourceMatcher(search.getSource()).toSearchQuery(),
+        new DestinationMatcher(search.getDestination()).toSearchQuery());
+  }
+
 }
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.api.model.generated.DestinationRead;
 import io.airbyte.api.model.generated.DestinationSearch;
+import io.airbyte.config.persistence.ConfigRepository.ActorSearchQuery;
 import org.apache.logging.log4j.util.Strings;
 
 /**
@@ -41,7 +42,8 @@ public class DestinationMatcher implements Matchable<DestinationRead> {
     } else if (query.getConnectionConfiguration() == null) {
       fromSearch.connectionConfiguration(search.getConnectionConfiguration());
     } else {
-      final JsonNode connectionConfiguration = search.getConnectionConfiguration();
+      // copy the searched configuration, so that it is not modified for the next query
+      final JsonNode connectionConfiguration = search.getConnectionConfiguration().deepCopy();
       query.getConnectionConfiguration().fieldNames()
           .forEachRemaining(field -> {
             if (!connectionConfiguration.has(field) && connectionConfiguration instanceof ObjectNode) {
@@ -54,4 +56,23 @@ public class DestinationMatcher implements Matchable<DestinationRead> {
     return fromSearch;
   }
 
+  /**
+   * Build a query for the criteria of the search that the database can evaluate. Every
+   * destination matched by this matcher also matches the query, but the connection configuration is
+   * not part of the query, so destinations returned by it still need to be matched.
+   *
+   * @return database query, or null if any destination matches
+   */
+  public ActorSearchQuery toSearchQuery() {
+    if (search == null) {
+      return null;
+    }
+    return new ActorSearchQuery(
+        search.getDestinationId(),
+        search.getDestinationDefinitionId(),
+        search.getWorkspaceId(),
+        Strings.isBlank(search.getName()) ? null : search.getName(),
+        Strings.isBlank(search.getDestinationName()) ? null : search.getDestinationName());
+  }
+
 }
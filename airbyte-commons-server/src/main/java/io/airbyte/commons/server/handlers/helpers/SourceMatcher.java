@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.api.model.generated.SourceRead;
 import io.airbyte.api.model.generated.SourceSearch;
+import io.airbyte.config.persistence.ConfigRepository.ActorSearchQuery;
 import org.apache.logging.log4j.util.Strings;
 
 /**
@@ -38,7 +39,8 @@ public class SourceMatcher implements Matchable<SourceRead> {
     } else if (query.getConnectionConfiguration() == null) {
       fromSearch.connectionConfiguration(search.getConnectionConfiguration());
     } else {
-      final JsonNode connectionConfiguration = search.getConnectionConfiguration();
+      // copy the searched configuration, so that it is not modified for the next query
+      final JsonNode connectionConfiguration = search.getConnectionConfiguration().deepCopy();
       query.getConnectionConfiguration().fieldNames()
           .forEachRemaining(field -> {
             if (!connectionConfiguration.has(field) && connectionConfiguration instanceof ObjectNode) {
@@ -51,4 +53,23 @@ public class SourceMatcher implements Matchable<SourceRead> {
     return fromSearch;
   }
 
+  /**
+   * Build a query for the criteria of the search that the database can evaluate. Every
+   * source matched by this matcher also matches the query, but the connection configuration is
+   * not part of the query, so sources returned by it still need to be matched.
+   *
+   * @return database query, or null if any source matches
+   */
+  public ActorSearchQuery toSearchQuery() {
+    if (search == null) {
+      return null;
+    }
+    return new ActorSearchQuery(
+        search.getSourceId(),
+        search.getSourceDefinitionId(),
+        search.getWorkspaceId(),
+        Strings.isBlank(search.getName()) ? null : search.getName(),
+        Strings.isBlank(search.getSourceName()) ? null : search.getSourceName());
+  }
+
 }
@@ -7,6 +7,7 @@ package io.airbyte.commons.server.scheduler;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
+import com.google.common.hash.HashCode;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
 import io.airbyte.commons.json.Jsons;
@@ -26,6 +27,7 @@ import io.airbyte.config.JobGetSpecConfig;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardCheckConnectionOutput;
 import io.airbyte.config.persistence.ConfigInjector;
+import io.airbyte.metrics.lib.MetricClientFactory;
 import io.airbyte.persistence.job.errorreporter.ConnectorJobReportingContext;
 import io.airbyte.persistence.job.errorreporter.JobErrorReporter;
 import io.airbyte.persistence.job.factory.OAuthConfigSupplier;
@@ -33,6 +35,7 @@ import io.airbyte.persistence.job.tracker.JobTracker;
 import io.airbyte.persistence.job.tracker.JobTracker.JobState;
 import io.airbyte.protocol.models.ConnectorSpecification;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
@@ -43,7 +46,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Temporal job client for synchronous jobs (i.e. spec, check, discover).
+ * Temporal job client for synchronous jobs (i.e. spec, check, discover). Identical check and
+ * discover requests made while such a job is running share its response instead of starting their
+ * own job.
  */
 public class DefaultSynchronousSchedulerClient implements SynchronousSchedulerClient {
 
@@ -51,6 +56,17 @@ public class DefaultSynchronousSchedulerClient implements SynchronousSchedulerCl
 
   private static final HashFunction HASH_FUNCTION = Hashing.md5();
 
+  /**
+   * Identifies identical check and discover jobs.
+   *
+   * @param configType type of the job
+   * @param taskQueue task queue the job runs on
+   * @param jobConfigHash hash of the job config, including the connector configuration and image
+   */
+  private record CoalescingKey(ConfigType configType, String taskQueue, HashCode jobConfigHash) {
+
+  }
+
   private final TemporalClient temporalClient;
   private final JobTracker jobTracker;
   private final JobErrorReporter jobErrorReporter;
@@ -58,6 +74,7 @@ public class DefaultSynchronousSchedulerClient implements SynchronousSchedulerCl
 
   private final RouterService routerService;
   private final ConfigInjector configInjector;
+  private final SynchronousJobCoalescer jobCoalescer;
 
   @SuppressWarnings("ParameterName")
   public DefaultSynchronousSchedulerClient(final TemporalClient temporalClient,
@@ -66,12 +83,44 @@ public class DefaultSynchronousSchedulerClient implements SynchronousSchedulerCl
                                            final OAuthConfigSupplier oAuthConfigSupplier,
                                            final RouterService routerService,
                                            final ConfigInjector configInjector) {
+    this(temporalClient, jobTracker, jobErrorReporter, oAuthConfigSupplier, routerService, configInjector, Duration.ZERO);
+  }
+
+  /**
+   * Create a client that coalesces identical check and discover jobs.
+   *
+   * @param coalescingWindow how long the response of a successful check or discover job is shared
+   *        with identical requests after the job completed. Identical requests made while the job
+   *        is running always share its response.
+   */
+  @SuppressWarnings("ParameterName")
+  public DefaultSynchronousSchedulerClient(final TemporalClient temporalClient,
+                                           final JobTracker jobTracker,
+                                           final JobErrorReporter jobErrorReporter,
+                                           final OAuthConfigSupplier oAuthConfigSupplier,
+                                           final RouterService routerService,
+                                           final ConfigInjector configInjector,
+                                           final Duration coalescingWindow) {
+    this(temporalClient, jobTracker, jobErrorReporter, oAuthConfigSupplier, routerService, configInjector,
+        new SynchronousJobCoalescer(coalescingWindow, System::currentTimeMillis, MetricClientFactory::getMetricClient));
+  }
+
+  @SuppressWarnings("ParameterName")
+  @VisibleForTesting
+  DefaultSynchronousSchedulerClient(final TemporalClient temporalClient,
+                                    final JobTracker jobTracker,
+                                    final JobErrorReporter jobErrorReporter,
+                                    final OAuthConfigSupplier oAuthConfigSupplier,
+                                    final RouterService routerService,
+                                    final ConfigInjector configInjector,
+                                    final SynchronousJobCoalescer jobCoalescer) {
     this.temporalClient = temporalClient;
     this.jobTracker = jobTracker;
     this.jobErrorReporter = jobErrorReporter;
     this.oAuthConfigSupplier = oAuthConfigSupplier;
     this.routerService = routerService;
     this.configInjector = configInjector;
+    this.jobCoalescer = jobCoalescer;
   }
 
   @Override
@@ -97,14 +146,17 @@ public class DefaultSynchronousSchedulerClient implements SynchronousSchedulerCl
     final ConnectorJobReportingContext jobReportingContext = new ConnectorJobReportingContext(jobId, dockerImage);
     final String taskQueue = routerService.getTaskQueueForWorkspace(source.getWorkspaceId(), TemporalJobType.CHECK_CONNECTION);
 
-    return execute(
+    return jobCoalescer.execute(
+        new CoalescingKey(ConfigType.CHECK_CONNECTION_SOURCE, taskQueue, Jsons.canonicalHash(jobCheckConnectionConfig, HASH_FUNCTION)),
         ConfigType.CHECK_CONNECTION_SOURCE,
-        jobReportingContext,
-        source.getSourceDefinitionId(),
-        () -> temporalClient.submitCheckConnection(UUID.randomUUID(), 0, taskQueue, jobCheckConnectionConfig),
-        ConnectorJobOutput::getCheckConnection,
-        source.getWorkspaceId(),
-        source.getSourceId());
+        () -> execute(
+            ConfigType.CHECK_CONNECTION_SOURCE,
+            jobReportingContext,
+            source.getSourceDefinitionId(),
+            () -> temporalClient.submitCheckConnection(UUID.randomUUID(), 0, taskQueue, jobCheckConnectionConfig),
+            ConnectorJobOutput::getCheckConnection,
+            source.getWorkspaceId(),
+            source.getSourceId()));
   }
 
   @Override
@@ -130,14 +182,17 @@ public class DefaultSynchronousSchedulerClient implements SynchronousSchedulerCl
     final ConnectorJobReportingContext jobReportingContext = new ConnectorJobReportingContext(jobId, dockerImage);
     final String taskQueue = routerService.getTaskQueueForWorkspace(destination.getWorkspaceId(), TemporalJobType.CHECK_CONNECTION);
 
-    return execute(
+    return jobCoalescer.execute(
+        new CoalescingKey(ConfigType.CHECK_CONNECTION_DESTINATION, taskQueue, Jsons.canonicalHash(jobCheckConnectionConfig, HASH_FUNCTION)),
         ConfigType.CHECK_CONNECTION_DESTINATION,
-        jobReportingContext,
-        destination.getDestinationDefinitionId(),
-        () -> temporalClient.submitCheckConnection(jobId, 0, taskQueue, jobCheckConnectionConfig),
-        ConnectorJobOutput::getCheckConnection,
-        destination.getWorkspaceId(),
-        destination.getDestinationId());
+        () -> execute(
+            ConfigType.CHECK_CONNECTION_DESTINATION,
+            jobReportingContext,
+            destination.getDestinationDefinitionId(),
+            () -> temporalClient.submitCheckConnection(jobId, 0, taskQueue, jobCheckConnectionConfig),
+            ConnectorJobOutput::getCheckConnection,
+            destination.getWorkspaceId(),
+            destination.getDestinationId()));
   }
 
   @Override
@@ -167,14 +222,17 @@ public class DefaultSynchronousSchedulerClient implements SynchronousSchedulerCl
 
     final String taskQueue = routerService.getTaskQueueForWorkspace(source.getWorkspaceId(), TemporalJobType.DISCOVER_SCHEMA);
 
-    return execute(
+    return jobCoalescer.execute(
+        new CoalescingKey(ConfigType.DISCOVER_SCHEMA, taskQueue, Jsons.canonicalHash(jobDiscoverCatalogConfig, HASH_FUNCTION)),
         ConfigType.DISCOVER_SCHEMA,
-        jobReportingContext,
-        source.getSourceDefinitionId(),
-        () -> temporalClient.submitDiscoverSchema(jobId, 0, taskQueue, jobDiscoverCatalogConfig),
-        ConnectorJobOutput::getDiscoverCatalogId,
-        source.getWorkspaceId(),
-        source.getSourceId());
+        () -> execute(
+            ConfigType.DISCOVER_SCHEMA,
+            jobReportingContext,
+            source.getSourceDefinitionId(),
+            () -> temporalClient.submitDiscoverSchema(jobId, 0, taskQueue, jobDiscoverCatalogConfig),
+            ConnectorJobOutput::getDiscoverCatalogId,
+            source.getWorkspaceId(),
+            source.getSourceId()));
   }
 
   @Override
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.scheduler;
+
+import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical synchronous jobs. While a job is running, identical requests wait for it and
+ * share its response instead of starting their own job. A successful response is also shared with
+ * identical requests made within the coalescing window after the job completed.
+ */
+class SynchronousJobCoalescer {
+
+  /**
+   * A job whose response can be shared.
+   */
+  private static final class SharedJob {
+
+    private final CompletableFuture<SynchronousResponse<?>> response = new CompletableFuture<>();
+    // set before the response is completed, stays 0 if the job failed.
+    private volatile long succeededAtMillis;
+
+    boolean isShareable(final long nowMillis, final Duration coalescingWindow) {
+      if (!response.isDone()) {
+        return true;
+      }
+      return succeededAtMillis > 0 && nowMillis - succeededAtMillis <= coalescingWindow.toMillis();
+    }
+
+    SynchronousResponse<?> await() {
+      try {
+        return response.join();
+      } catch (final CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw e;
+      }
+    }
+
+  }
+
+  private final Duration coalescingWindow;
+  private final LongSupplier currentTimeMillis;
+  private final Supplier<MetricClient> metricClientSupplier;
+  private final Map<Object, SharedJob> sharedJobs = new ConcurrentHashMap<>();
+
+  SynchronousJobCoalescer(final Duration coalescingWindow,
+                          final LongSupplier currentTimeMillis,
+                          final Supplier<MetricClient> metricClientSupplier) {
+    this.coalescingWindow = coalescingWindow;
+    this.currentTimeMillis = currentTimeMillis;
+    this.metricClientSupplier = metricClientSupplier;
+  }
+
+  /**
+   * Run a job, unless an identical job is running or recently succeeded.
+   *
+   * @param key identifies identical jobs, must implement equals and hashCode
+   * @param configType type of the job
+   * @param job runs the job
+   * @param <T> type of the output of the job
+   * @return response of the job, possibly shared with other requests
+   */
+  @SuppressWarnings("unchecked")
+  <T> SynchronousResponse<T> execute(final Object key, final ConfigType configType, final Supplier<SynchronousResponse<T>> job) {
+    final long nowMillis = currentTimeMillis.getAsLong();
+    sharedJobs.values().removeIf(sharedJob -> !sharedJob.isShareable(nowMillis, coalescingWindow));
+
+    final SharedJob ownJob = new SharedJob();
+    final SharedJob sharedJob = sharedJobs.compute(key,
+        (k, currentJob) -> currentJob != null && currentJob.isShareable(nowMillis, coalescingWindow) ? currentJob : ownJob);
+    if (sharedJob != ownJob) {
+      metricClientSupplier.get().count(OssMetricsRegistry.SYNCHRONOUS_JOB_REQUESTS_COALESCED, 1,
+          new MetricAttribute(MetricTags.CONFIG_TYPE, configType.value()));
+      return (SynchronousResponse<T>) sharedJob.await();
+    }
+
+    try {
+      final SynchronousResponse<T> response = job.get();
+      if (response.isSuccess() && !coalescingWindow.isZero()) {
+        ownJob.succeededAtMillis = currentTimeMillis.getAsLong();
+      } else {
+        sharedJobs.remove(key, ownJob);
+      }
+      ownJob.response.complete(response);
+      return response;
+    } catch (final RuntimeException | Error e) {
+      sharedJobs.remove(key, ownJob);
+      ownJob.response.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+}
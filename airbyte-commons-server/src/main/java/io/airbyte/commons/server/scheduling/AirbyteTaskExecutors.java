@@ -23,4 +23,10 @@ public interface AirbyteTaskExecutors extends TaskExecutors {
    */
   String SCHEDULER = "scheduler";
 
+  /**
+   * The name of the {@link java.util.concurrent.ExecutorService} used by the web backend to issue
+   * independent queries concurrently.
+   */
+  String WEB_BACKEND = "webbackend";
+
 }
@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -68,15 +69,21 @@ import io.airbyte.config.StandardSync.Status;
 import io.airbyte.config.StandardWorkspace;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.DestinationAndDefinition;
+import io.airbyte.config.persistence.ConfigRepository.SourceAndDefinition;
 import io.airbyte.persistence.job.WorkspaceHelper;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.assertj.core.api.Assertions;
 import org.junit.Assert;
 import org.junit.jupiter.api.BeforeEach;
@@ -185,8 +192,9 @@ class ConnectionsHandlerTest {
     connectionHelper = mock(ConnectionHelper.class);
     when(workspaceHelper.getWorkspaceForSourceIdIgnoreExceptions(sourceId)).thenReturn(workspaceId);
     when(workspaceHelper.getWorkspaceForDestinationIdIgnoreExceptions(destinationId)).thenReturn(workspaceId);
-    when(workspaceHelper.getWorkspaceForOperationIdIgnoreExceptions(operationId)).thenReturn(workspaceId);
-    when(workspaceHelper.getWorkspaceForOperationIdIgnoreExceptions(otherOperationId)).thenReturn(workspaceId);
+    when(workspaceHelper.getWorkspacesForOperationIdsIgnoreExceptions(any())).thenAnswer(invocation -> invocation.<Collection<UUID>>getArgument(0)
+        .stream()
+        .collect(Collectors.toMap(Function.identity(), id -> workspaceId)));
   }
 
   @Nested
@@ -417,7 +425,7 @@ class ConnectionsHandlerTest {
       @Test
       void testValidateConnectionCreateOperationInDifferentWorkspace() {
 
-        when(workspaceHelper.getWorkspaceForOperationIdIgnoreExceptions(operationId)).thenReturn(UUID.randomUUID());
+        when(workspaceHelper.getWorkspacesForOperationIdsIgnoreExceptions(List.of(operationId))).thenReturn(Map.of(operationId, UUID.randomUUID()));
 
         final ConnectionCreate connectionCreate = new ConnectionCreate()
             .sourceId(standardSync.getSourceId())
@@ -770,7 +778,7 @@ class ConnectionsHandlerTest {
 
       @Test
       void testValidateConnectionUpdateOperationInDifferentWorkspace() throws JsonValidationException, ConfigNotFoundException, IOException {
-        when(workspaceHelper.getWorkspaceForOperationIdIgnoreExceptions(operationId)).thenReturn(UUID.randomUUID());
+        when(workspaceHelper.getWorkspacesForOperationIdsIgnoreExceptions(List.of(operationId))).thenReturn(Map.of(operationId, UUID.randomUUID()));
         when(configRepository.getStandardSync(standardSync.getConnectionId())).thenReturn(standardSync);
 
         final ConnectionUpdate connectionUpdate = new ConnectionUpdate()
@@ -861,20 +869,13 @@ class ConnectionsHandlerTest {
           .withName(DESTINATION_TEST)
           .withDestinationDefinitionId(UUID.randomUUID());
 
-      when(configRepository.listStandardSyncs())
+      // the repository returns every connection, so the search must match all the criteria itself.
+      when(configRepository.searchStandardSyncs(any()))
           .thenReturn(Lists.newArrayList(standardSync, standardSync2));
-      when(configRepository.getSourceConnection(source.getSourceId()))
-          .thenReturn(source);
-      when(configRepository.getDestinationConnection(destination.getDestinationId()))
-          .thenReturn(destination);
-      when(configRepository.getStandardSync(standardSync.getConnectionId()))
-          .thenReturn(standardSync);
-      when(configRepository.getStandardSync(standardSync2.getConnectionId()))
-          .thenReturn(standardSync2);
-      when(configRepository.getStandardSourceDefinition(source.getSourceDefinitionId()))
-          .thenReturn(sourceDefinition);
-      when(configRepository.getStandardDestinationDefinition(destination.getDestinationDefinitionId()))
-          .thenReturn(destinationDefinition);
+      when(configRepository.getSourceAndDefinitionsFromSourceIds(List.of(source.getSourceId())))
+          .thenReturn(List.of(new SourceAndDefinition(source, sourceDefinition)));
+      when(configRepository.getDestinationAndDefinitionsFromDestinationIds(List.of(destination.getDestinationId())))
+          .thenReturn(List.of(new DestinationAndDefinition(destination, destinationDefinition)));
 
       final ConnectionSearch connectionSearch = new ConnectionSearch();
       connectionSearch.namespaceDefinition(NamespaceDefinitionType.SOURCE);
@@ -33,6 +33,7 @@ import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSyncOperation;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.persistence.job.WorkspaceHelper;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.Collections;
@@ -55,6 +56,7 @@ class OperationsHandlerTest {
   public static final String EXECUTION_BODY = "{\"cause\": \"airbyte\"}";
   public static final String EXECUTION_URL_TEMPLATE = "https://cloud.getdbt.com/api/v2/accounts/%d/jobs/%d/run/";
   private ConfigRepository configRepository;
+  private WorkspaceHelper workspaceHelper;
   private Supplier<UUID> uuidGenerator;
   private OperationsHandler operationsHandler;
   private StandardSyncOperation standardSyncOperation;
@@ -65,7 +67,8 @@ class OperationsHandlerTest {
     configRepository = mock(ConfigRepository.class);
     uuidGenerator = mock(Supplier.class);
 
-    operationsHandler = new OperationsHandler(configRepository, uuidGenerator);
+    workspaceHelper = mock(WorkspaceHelper.class);
+    operationsHandler = new OperationsHandler(configRepository, workspaceHelper, uuidGenerator);
     standardSyncOperation = new StandardSyncOperation()
         .withWorkspaceId(UUID.randomUUID())
         .withOperationId(UUID.randomUUID())
@@ -307,6 +310,7 @@ class OperationsHandlerTest {
     spiedOperationsHandler.deleteOperation(operationIdRequestBody);
 
     verify(configRepository).deleteStandardSyncOperation(standardSyncOperation.getOperationId());
+    verify(workspaceHelper).evictOperation(standardSyncOperation.getOperationId());
   }
 
   @Test
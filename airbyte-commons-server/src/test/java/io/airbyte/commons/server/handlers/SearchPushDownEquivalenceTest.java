@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.analytics.TrackingClient;
+import io.airbyte.api.model.generated.ConnectionRead;
+import io.airbyte.api.model.generated.ConnectionScheduleType;
+import io.airbyte.api.model.generated.ConnectionSearch;
+import io.airbyte.api.model.generated.ConnectionStatus;
+import io.airbyte.api.model.generated.DestinationRead;
+import io.airbyte.api.model.generated.DestinationSearch;
+import io.airbyte.api.model.generated.NamespaceDefinitionType;
+import io.airbyte.api.model.generated.SourceRead;
+import io.airbyte.api.model.generated.SourceSearch;
+import io.airbyte.commons.converters.ConnectionHelper;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.server.converters.ApiPojoConverters;
+import io.airbyte.commons.server.handlers.helpers.ConnectionMatcher;
+import io.airbyte.commons.server.handlers.helpers.DestinationMatcher;
+import io.airbyte.commons.server.handlers.helpers.SourceMatcher;
+import io.airbyte.commons.server.scheduler.EventRunner;
+import io.airbyte.config.DestinationConnection;
+import io.airbyte.config.Geography;
+import io.airbyte.config.JobSyncConfig;
+import io.airbyte.config.SourceConnection;
+import io.airbyte.config.StandardDestinationDefinition;
+import io.airbyte.config.StandardSourceDefinition;
+import io.airbyte.config.StandardSourceDefinition.SourceType;
+import io.airbyte.config.StandardSync;
+import io.airbyte.config.StandardSync.NonBreakingChangesPreference;
+import io.airbyte.config.StandardSync.ScheduleType;
+import io.airbyte.config.StandardWorkspace;
+import io.airbyte.config.persistence.ConfigNotFoundException;
+import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.db.Database;
+import io.airbyte.db.factory.DSLContextFactory;
+import io.airbyte.db.factory.DataSourceFactory;
+import io.airbyte.db.init.DatabaseInitializationException;
+import io.airbyte.db.instance.test.TestDatabaseProviders;
+import io.airbyte.persistence.job.WorkspaceHelper;
+import io.airbyte.protocol.models.ConnectorSpecification;
+import io.airbyte.test.utils.DatabaseConnectionHelper;
+import io.airbyte.validation.json.JsonValidationException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Checks that the searches evaluated by the database return the same results as the in-memory
+ * matchers applied to every config, which is how searches used to be evaluated.
+ */
+class SearchPushDownEquivalenceTest {
+
+  private static final int SEARCH_COUNT = 500;
+  private static final List<String> NAMES = List.of("alpha", "beta", "gamma");
+  private static final List<String> DEFINITION_NAMES = List.of("faker", "pokeapi");
+  private static final List<String> NAMESPACE_FORMATS = List.of("", "ns_a", "ns_b");
+  private static final List<String> PREFIXES = List.of("", "p_a", "p_b");
+  private static final List<JsonNode> CONFIGURATIONS = List.of(
+      Jsons.deserialize("{}"),
+      Jsons.deserialize("{\"host\": \"a\"}"),
+      Jsons.deserialize("{\"host\": \"b\", \"port\": 1}"));
+
+  private static PostgreSQLContainer<?> container;
+  private static DataSource dataSource;
+  private static ConfigRepository configRepository;
+  private static ConnectionsHandler connectionsHandler;
+
+  private static final Random random = new Random(42);
+  private static final List<UUID> workspaceIds = new ArrayList<>();
+  private static final List<StandardSourceDefinition> sourceDefinitions = new ArrayList<>();
+  private static final List<StandardDestinationDefinition> destinationDefinitions = new ArrayList<>();
+  private static final List<SourceConnection> sources = new ArrayList<>();
+  private static final List<DestinationConnection> destinations = new ArrayList<>();
+  private static final List<StandardSync> connections = new ArrayList<>();
+
+  @BeforeAll
+  static void setUpAll() throws IOException, DatabaseInitializationException, JsonValidationException {
+    container = new PostgreSQLContainer<>("postgres:13-alpine");
+    container.start();
+
+    dataSource = DatabaseConnectionHelper.createDataSource(container);
+    final DSLContext dslContext = DSLContextFactory.create(dataSource, SQLDialect.POSTGRES);
+    final Database database = new TestDatabaseProviders(dataSource, dslContext).createNewConfigsDatabase();
+    configRepository = new ConfigRepository(database, () -> 3600L);
+    connectionsHandler = new ConnectionsHandler(configRepository, UUID::randomUUID, mock(WorkspaceHelper.class), mock(TrackingClient.class),
+        mock(EventRunner.class), mock(ConnectionHelper.class));
+
+    createConfigs();
+  }
+
+  @AfterAll
+  static void tearDownAll() throws Exception {
+    DataSourceFactory.close(dataSource);
+    container.close();
+  }
+
+  @Test
+  void testSearchConnections() throws IOException, JsonValidationException, ConfigNotFoundException {
+    for (int i = 0; i < SEARCH_COUNT; i++) {
+      final ConnectionSearch search = randomConnectionSearch();
+      final Set<UUID> expected = searchConnectionsInMemory(Jsons.clone(search));
+      final Set<UUID> actual = connectionsHandler.searchConnections(Jsons.clone(search)).getConnections().stream()
+          .map(ConnectionRead::getConnectionId)
+          .collect(Collectors.toSet());
+      assertEquals(expected, actual, "search: " + Jsons.serialize(search));
+    }
+  }
+
+  @Test
+  void testSearchSources() throws IOException, JsonValidationException, ConfigNotFoundException {
+    for (int i = 0; i < SEARCH_COUNT; i++) {
+      final SourceSearch search = randomSourceSearch();
+      final Set<UUID> expected = new HashSet<>();
+      for (final SourceConnection source : configRepository.listSourceConnection()) {
+        if (!source.getTombstone() && matchesSource(Jsons.clone(search), source)) {
+          expected.add(source.getSourceId());
+        }
+      }
+      final Set<UUID> actual = new HashSet<>();
+      for (final SourceConnection source : configRepository.searchSourceConnections(new SourceMatcher(search).toSearchQuery())) {
+        if (matchesSource(Jsons.clone(search), source)) {
+          actual.add(source.getSourceId());
+        }
+      }
+      assertEquals(expected, actual, "search: " + Jsons.serialize(search));
+    }
+  }
+
+  @Test
+  void testSearchDestinations() throws IOException, JsonValidationException, ConfigNotFoundException {
+    for (int i = 0; i < SEARCH_COUNT; i++) {
+      final DestinationSearch search = randomDestinationSearch();
+      final Set<UUID> expected = new HashSet<>();
+      for (final DestinationConnection destination : configRepository.listDestinationConnection()) {
+        if (!destination.getTombstone() && matchesDestination(Jsons.clone(search), destination)) {
+          expected.add(destination.getDestinationId());
+        }
+      }
+      final Set<UUID> actual = new HashSet<>();
+      for (final DestinationConnection destination : configRepository
+          .searchDestinationConnections(new DestinationMatcher(search).toSearchQuery())) {
+        if (matchesDestination(Jsons.clone(search), destination)) {
+          actual.add(destination.getDestinationId());
+        }
+      }
+      assertEquals(expected, actual, "search: " + Jsons.serialize(search));
+    }
+  }
+
+  /**
+   * Evaluate a search the way it was evaluated before it was pushed down to the database: load every
+   * connection and look up its source and destination one by one.
+   */
+  private static Set<UUID> searchConnectionsInMemory(final ConnectionSearch search)
+      throws IOException, JsonValidationException, ConfigNotFoundException {
+    final Set<UUID> connectionIds = new HashSet<>();
+    for (final StandardSync standardSync : configRepository.listStandardSyncs()) {
+      if (standardSync.getStatus() != StandardSync.Status.DEPRECATED) {
+        final ConnectionRead connectionRead = ApiPojoConverters.internalToConnectionRead(standardSync);
+        final ConnectionRead connectionReadFromSearch = new ConnectionMatcher(search).match(connectionRead);
+        if ((connectionReadFromSearch == null || connectionReadFromSearch.equals(connectionRead))
+            && matchesSource(search.getSource(), configRepository.getSourceConnection(standardSync.getSourceId()))
+            && matchesDestination(search.getDestination(), configRepository.getDestinationConnection(standardSync.getDestinationId()))) {
+          connectionIds.add(standardSync.getConnectionId());
+        }
+      }
+    }
+    return connectionIds;
+  }
+
+  private static boolean matchesSource(final SourceSearch search, final SourceConnection source)
+      throws IOException, JsonValidationException, ConfigNotFoundException {
+    final SourceRead sourceRead = SourceHandler.toSourceRead(source, configRepository.getStandardSourceDefinition(source.getSourceDefinitionId()));
+    return connectionsHandler.matchSearch(search, sourceRead);
+  }
+
+  private static boolean matchesDestination(final DestinationSearch search, final DestinationConnection destination)
+      throws IOException, JsonValidationException, ConfigNotFoundException {
+    final DestinationRead destinationRead = DestinationHandler.toDestinationRead(destination,
+        configRepository.getStandardDestinationDefinition(destination.getDestinationDefinitionId()));
+    return connectionsHandler.matchSearch(search, destinationRead);
+  }
+
+  private static ConnectionSearch randomConnectionSearch() {
+    return new ConnectionSearch()
+        .connectionId(randomId(connections.stream().map(StandardSync::getConnectionId).toList()))
+        .sourceId(randomId(sources.stream().map(SourceConnection::getSourceId).toList()))
+        .destinationId(randomId(destinations.stream().map(DestinationConnection::getDestinationId).toList()))
+        .name(randomName(NAMES))
+        .namespaceFormat(random.nextInt(8) == 0 ? "null" : randomName(NAMESPACE_FORMATS))
+        .namespaceDefinition(random.nextBoolean() ? null : randomElement(List.of(NamespaceDefinitionType.values())))
+        .prefix(randomName(PREFIXES))
+        .status(random.nextBoolean() ? null : randomElement(List.of(ConnectionStatus.values())))
+        .scheduleType(random.nextInt(4) == 0 ? randomElement(List.of(ConnectionScheduleType.values())) : null)
+        .source(random.nextBoolean() ? null : randomSourceSearch())
+        .destination(random.nextBoolean() ? null : randomDestinationSearch());
+  }
+
+  private static SourceSearch randomSourceSearch() {
+    return new SourceSearch()
+        .sourceId(randomId(sources.stream().map(SourceConnection::getSourceId).toList()))
+        .sourceDefinitionId(randomId(sourceDefinitions.stream().map(StandardSourceDefinition::getSourceDefinitionId).toList()))
+        .workspaceId(randomId(workspaceIds))
+        .name(randomName(NAMES))
+        .sourceName(randomName(DEFINITION_NAMES))
+        .connectionConfiguration(random.nextInt(4) == 0 ? Jsons.clone(randomElement(CONFIGURATIONS)) : null);
+  }
+
+  private static DestinationSearch randomDestinationSearch() {
+    return new DestinationSearch()
+        .destinationId(randomId(destinations.stream().map(DestinationConnection::getDestinationId).toList()))
+        .destinationDefinitionId(
+            randomId(destinationDefinitions.stream().map(StandardDestinationDefinition::getDestinationDefinitionId).toList()))
+        .workspaceId(randomId(workspaceIds))
+        .name(randomName(NAMES))
+        .destinationName(randomName(DEFINITION_NAMES))
+        .connectionConfiguration(random.nextInt(4) == 0 ? Jsons.clone(randomElement(CONFIGURATIONS)) : null);
+  }
+
+  /**
+   * Mostly no criteria, sometimes an existing id and rarely an unknown id.
+   */
+  private static UUID randomId(final List<UUID> ids) {
+    final int choice = random.nextInt(10);
+    if (choice < 6) {
+      return null;
+    }
+    return choice < 9 ? randomElement(ids) : UUID.randomUUID();
+  }
+
+  /**
+   * Mostly no criteria, sometimes an existing name and rarely a blank or unknown name.
+   */
+  private static String randomName(final List<String> names) {
+    final int choice = random.nextInt(10);
+    if (choice < 5) {
+      return null;
+    }
+    if (choice == 5) {
+      return " ";
+    }
+    return choice < 9 ? randomElement(names) : "unknown";
+  }
+
+  private static <T> T randomElement(final List<T> elements) {
+    return elements.get(random.nextInt(elements.size()));
+  }
+
+  private static void createConfigs() throws IOException, JsonValidationException {
+    for (int i = 0; i < 2; i++) {
+      final UUID workspaceId = UUID.randomUUID();
+      configRepository.writeStandardWorkspaceNoSecrets(new StandardWorkspace()
+          .withWorkspaceId(workspaceId)
+          .withName("workspace-" + i)
+          .withSlug("workspace-" + i)
+          .withInitialSetupComplete(true)
+          .withTombstone(false)
+          .withDefaultGeography(Geography.AUTO));
+      workspaceIds.add(workspaceId);
+    }
+
+    for (int i = 0; i < 3; i++) {
+      final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
+          .withSourceDefinitionId(UUID.randomUUID())
+          .withSourceType(SourceType.API)
+          .withName(randomElement(DEFINITION_NAMES))
+          .withDockerRepository("repository")
+          .withDockerImageTag("tag")
+          .withSpec(new ConnectorSpecification())
+          .withTombstone(false)
+          .withPublic(true)
+          .withCustom(false);
+      configRepository.writeStandardSourceDefinition(sourceDefinition);
+      sourceDefinitions.add(sourceDefinition);
+
+      final StandardDestinationDefinition destinationDefinition = new StandardDestinationDefinition()
+          .withDestinationDefinitionId(UUID.randomUUID())
+          .withName(randomElement(DEFINITION_NAMES))
+          .withDockerRepository("repository")
+          .withDockerImageTag("tag")
+          .withSpec(new ConnectorSpecification())
+          .withTombstone(false)
+          .withPublic(true)
+          .withCustom(false);
+      configRepository.writeStandardDestinationDefinition(destinationDefinition);
+      destinationDefinitions.add(destinationDefinition);
+    }
+
+    for (int i = 0; i < 8; i++) {
+      final SourceConnection source = new SourceConnection()
+          .withSourceId(UUID.randomUUID())
+          .withSourceDefinitionId(randomElement(sourceDefinitions).getSourceDefinitionId())
+          .withWorkspaceId(randomElement(workspaceIds))
+          .withName(randomElement(NAMES))
+          .withConfiguration(randomElement(CONFIGURATIONS))
+          .withTombstone(random.nextInt(5) == 0);
+      configRepository.writeSourceConnectionNoSecrets(source);
+      sources.add(source);
+
+      final DestinationConnection destination = new DestinationConnection()
+          .withDestinationId(UUID.randomUUID())
+          .withDestinationDefinitionId(randomElement(destinationDefinitions).getDestinationDefinitionId())
+          .withWorkspaceId(randomElement(workspaceIds))
+          .withName(randomElement(NAMES))
+          .withConfiguration(randomElement(CONFIGURATIONS))
+          .withTombstone(random.nextInt(5) == 0);
+      configRepository.writeDestinationConnectionNoSecrets(destination);
+      destinations.add(destination);
+    }
+
+    for (int i = 0; i < 40; i++) {
+      final StandardSync connection = new StandardSync()
+          .withConnectionId(UUID.randomUUID())
+          .withSourceId(randomElement(sources).getSourceId())
+          .withDestinationId(randomElement(destinations).getDestinationId())
+          .withName(randomElement(NAMES))
+          .withNamespaceDefinition(randomElement(List.of(JobSyncConfig.NamespaceDefinitionType.values())))
+          .withNamespaceFormat(random.nextInt(4) == 0 ? null : randomElement(NAMESPACE_FORMATS))
+          .withPrefix(random.nextInt(4) == 0 ? null : randomElement(PREFIXES))
+          .withStatus(random.nextInt(8) == 0 ? null : randomElement(List.of(StandardSync.Status.values())))
+          .withManual(true)
+          .withScheduleType(random.nextBoolean() ? ScheduleType.MANUAL : null)
+          .withGeography(Geography.AUTO)
+          .withNonBreakingChangesPreference(NonBreakingChangesPreference.IGNORE)
+          .withNotifySchemaChanges(false)
+          .withNotifySchemaChangesByEmail(false)
+          .withBreakingChange(false);
+      configRepository.writeStandardSync(connection);
+      connections.add(connection);
+    }
+  }
+
+}
@@ -20,6 +20,7 @@ import static org.mockito.Mockito.when;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.airbyte.api.model.generated.AirbyteCatalog;
 import io.airbyte.api.model.generated.AirbyteStream;
 import io.airbyte.api.model.generated.AirbyteStreamAndConfiguration;
@@ -169,7 +170,8 @@ class WebBackendConnectionsHandlerTest {
         schedulerHandler,
         operationsHandler,
         eventRunner,
-        configRepository);
+        configRepository,
+        MoreExecutors.newDirectExecutorService());
 
     final StandardSourceDefinition sourceDefinition = SourceDefinitionHelpers.generateSourceDefinition();
     sourceDefinition.setIcon(SOURCE_ICON);
@@ -186,7 +188,8 @@ class WebBackendConnectionsHandlerTest {
     final StandardSync brokenStandardSync =
         ConnectionHelpers.generateSyncWithSourceAndDestinationId(source.getSourceId(), destination.getDestinationId(), true, Status.INACTIVE);
 
-    when(configRepository.listWorkspaceStandardSyncs(new StandardSyncQuery(sourceRead.getWorkspaceId(), null, null, false)))
+    when(configRepository.listWorkspaceStandardSyncsForListView(
+        new StandardSyncQuery(sourceRead.getWorkspaceId(), null, null, false), null, null))
         .thenReturn(Collections.singletonList(standardSync));
     when(configRepository.getSourceAndDefinitionsFromSourceIds(Collections.singletonList(source.getSourceId())))
         .thenReturn(Collections.singletonList(new SourceAndDefinition(source, sourceDefinition)));
@@ -382,6 +385,22 @@ class WebBackendConnectionsHandlerTest {
     assertTrue(expectedListItem.getDestination().getIcon().startsWith(SVG));
   }
 
+  @Test
+  void testWebBackendListConnectionsForWorkspacePaginated() throws IOException {
+    final UUID afterConnectionId = UUID.randomUUID();
+    final WebBackendConnectionListRequestBody webBackendConnectionListRequestBody = new WebBackendConnectionListRequestBody()
+        .workspaceId(sourceRead.getWorkspaceId())
+        .afterConnectionId(afterConnectionId)
+        .pageSize(10);
+
+    final WebBackendConnectionReadList webBackendConnectionReadList =
+        wbHandler.webBackendListConnectionsForWorkspace(webBackendConnectionListRequestBody);
+
+    assertTrue(webBackendConnectionReadList.getConnections().isEmpty());
+    verify(configRepository).listWorkspaceStandardSyncsForListView(
+        new StandardSyncQuery(sourceRead.getWorkspaceId(), null, null, false), afterConnectionId, 10);
+  }
+
   @Test
   void testWebBackendGetConnection() throws ConfigNotFoundException, IOException, JsonValidationException {
     final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody();
@@ -6,6 +6,7 @@ package io.airbyte.commons.server.scheduler;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -14,6 +15,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -39,6 +42,10 @@ import io.airbyte.config.JobGetSpecConfig;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardCheckConnectionOutput;
 import io.airbyte.config.persistence.ConfigInjector;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.errorreporter.ConnectorJobReportingContext;
 import io.airbyte.persistence.job.errorreporter.JobErrorReporter;
 import io.airbyte.persistence.job.factory.OAuthConfigSupplier;
@@ -47,7 +54,16 @@ import io.airbyte.persistence.job.tracker.JobTracker.JobState;
 import io.airbyte.protocol.models.ConnectorSpecification;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
@@ -291,4 +307,111 @@ class DefaultSynchronousSchedulerClientTest {
 
   }
 
+  @Nested
+  @DisplayName("Test coalescing of identical jobs.")
+  class TestJobCoalescing {
+
+    private static final int CONCURRENT_REQUESTS = 8;
+    private static final Duration COALESCING_WINDOW = Duration.ofMinutes(1);
+
+    private MetricClient metricClient;
+    private AtomicLong currentTimeMillis;
+
+    @BeforeEach
+    void setup() {
+      metricClient = mock(MetricClient.class);
+      currentTimeMillis = new AtomicLong(1000);
+      when(oAuthConfigSupplier.injectSourceOAuthParameters(any(), any(), any(), any())).thenAnswer(i -> i.getArguments()[3]);
+      schedulerClient = new DefaultSynchronousSchedulerClient(temporalClient, jobTracker, jobErrorReporter, oAuthConfigSupplier, routerService,
+          configInjector, new SynchronousJobCoalescer(COALESCING_WINDOW, currentTimeMillis::get, () -> metricClient));
+    }
+
+    @Test
+    void testConcurrentIdenticalDiscoverJobsAreCoalesced() throws Exception {
+      final UUID expectedCatalogId = UUID.randomUUID();
+      final CountDownLatch jobSubmitted = new CountDownLatch(1);
+      final CountDownLatch jobCompleted = new CountDownLatch(1);
+      when(temporalClient.submitDiscoverSchema(any(UUID.class), eq(0), eq(DISCOVER_TASK_QUEUE), any(JobDiscoverCatalogConfig.class)))
+          .thenAnswer(invocation -> {
+            jobSubmitted.countDown();
+            assertTrue(jobCompleted.await(10, TimeUnit.SECONDS));
+            return new TemporalResponse<>(new ConnectorJobOutput().withDiscoverCatalogId(expectedCatalogId), createMetadata(true));
+          });
+
+      final ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+      try {
+        final List<Future<SynchronousResponse<UUID>>> responses = new ArrayList<>();
+        responses.add(executorService.submit(this::discover));
+        assertTrue(jobSubmitted.await(10, TimeUnit.SECONDS));
+        for (int i = 1; i < CONCURRENT_REQUESTS; i++) {
+          responses.add(executorService.submit(this::discover));
+        }
+        // the other requests are coalesced before they wait for the running job.
+        verify(metricClient, timeout(10_000).times(CONCURRENT_REQUESTS - 1)).count(OssMetricsRegistry.SYNCHRONOUS_JOB_REQUESTS_COALESCED, 1,
+            new MetricAttribute(MetricTags.CONFIG_TYPE, ConfigType.DISCOVER_SCHEMA.value()));
+        jobCompleted.countDown();
+
+        for (final Future<SynchronousResponse<UUID>> response : responses) {
+          assertEquals(expectedCatalogId, response.get(10, TimeUnit.SECONDS).getOutput());
+        }
+      } finally {
+        executorService.shutdownNow();
+      }
+      verify(temporalClient, times(1)).submitDiscoverSchema(any(UUID.class), eq(0), eq(DISCOVER_TASK_QUEUE), any(JobDiscoverCatalogConfig.class));
+      verify(jobTracker, times(1)).trackDiscover(any(UUID.class), any(), any(), any(), eq(JobState.STARTED), any());
+    }
+
+    @Test
+    void testSuccessfulJobIsSharedWithinTheWindow() throws IOException {
+      when(temporalClient.submitDiscoverSchema(any(UUID.class), eq(0), eq(DISCOVER_TASK_QUEUE), any(JobDiscoverCatalogConfig.class)))
+          .thenAnswer(invocation -> new TemporalResponse<>(new ConnectorJobOutput().withDiscoverCatalogId(UUID.randomUUID()), createMetadata(true)));
+
+      final UUID firstCatalogId = discover().getOutput();
+      currentTimeMillis.addAndGet(COALESCING_WINDOW.toMillis());
+      assertEquals(firstCatalogId, discover().getOutput());
+      currentTimeMillis.incrementAndGet();
+      final UUID secondCatalogId = discover().getOutput();
+
+      assertNotEquals(firstCatalogId, secondCatalogId);
+      verify(temporalClient, times(2)).submitDiscoverSchema(any(UUID.class), eq(0), eq(DISCOVER_TASK_QUEUE), any(JobDiscoverCatalogConfig.class));
+      verify(metricClient).count(OssMetricsRegistry.SYNCHRONOUS_JOB_REQUESTS_COALESCED, 1,
+          new MetricAttribute(MetricTags.CONFIG_TYPE, ConfigType.DISCOVER_SCHEMA.value()));
+    }
+
+    @Test
+    void testDifferentJobsAreNotCoalesced() throws IOException {
+      final StandardCheckConnectionOutput output = new StandardCheckConnectionOutput().withStatus(StandardCheckConnectionOutput.Status.SUCCEEDED);
+      when(temporalClient.submitCheckConnection(any(UUID.class), eq(0), eq(CHECK_TASK_QUEUE), any(JobCheckConnectionConfig.class)))
+          .thenReturn(new TemporalResponse<>(new ConnectorJobOutput().withCheckConnection(output), createMetadata(true)));
+      final SourceConnection otherSource = Jsons.clone(SOURCE_CONNECTION).withConfiguration(Jsons.jsonNode(ImmutableMap.of("username", "other")));
+
+      schedulerClient.createSourceCheckConnectionJob(SOURCE_CONNECTION, DOCKER_IMAGE, PROTOCOL_VERSION, false);
+      schedulerClient.createSourceCheckConnectionJob(otherSource, DOCKER_IMAGE, PROTOCOL_VERSION, false);
+      schedulerClient.createDestinationCheckConnectionJob(DESTINATION_CONNECTION, DOCKER_IMAGE, PROTOCOL_VERSION, false);
+
+      verify(temporalClient, times(3)).submitCheckConnection(any(UUID.class), eq(0), eq(CHECK_TASK_QUEUE), any(JobCheckConnectionConfig.class));
+      verifyNoInteractions(metricClient);
+    }
+
+    @Test
+    void testFailedJobIsNotShared() throws IOException {
+      when(temporalClient.submitDiscoverSchema(any(UUID.class), eq(0), eq(DISCOVER_TASK_QUEUE), any(JobDiscoverCatalogConfig.class)))
+          .thenThrow(new RuntimeException())
+          .thenReturn(new TemporalResponse<>(new ConnectorJobOutput().withFailureReason(new FailureReason()), createMetadata(false)))
+          .thenReturn(new TemporalResponse<>(new ConnectorJobOutput().withDiscoverCatalogId(UUID.randomUUID()), createMetadata(true)));
+
+      assertThrows(RuntimeException.class, this::discover);
+      assertFalse(discover().isSuccess());
+      assertTrue(discover().isSuccess());
+
+      verify(temporalClient, times(3)).submitDiscoverSchema(any(UUID.class), eq(0), eq(DISCOVER_TASK_QUEUE), any(JobDiscoverCatalogConfig.class));
+      verifyNoInteractions(metricClient);
+    }
+
+    private SynchronousResponse<UUID> discover() throws IOException {
+      return schedulerClient.createDiscoverSchemaJob(SOURCE_CONNECTION, DOCKER_IMAGE, DOCKER_IMAGE_TAG, PROTOCOL_VERSION, false);
+    }
+
+  }
+
 }
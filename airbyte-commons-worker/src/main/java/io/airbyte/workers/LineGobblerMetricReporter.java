@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.airbyte.commons.io.LineGobbler;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically reports the number of active {@link LineGobbler}s and the rate at which they consume
+ * lines.
+ */
+@Slf4j
+public class LineGobblerMetricReporter {
+
+  private static final long REPORT_INTERVAL_SECONDS = 30;
+
+  private static ScheduledExecutorService scheduler;
+
+  private final MetricClient metricClient;
+  private final IntSupplier activeGobblers;
+  private final LongSupplier gobbledLines;
+  private final LongSupplier nanoTime;
+  private long lastLineCount;
+  private long lastReportNanos;
+
+  @VisibleForTesting
+  LineGobblerMetricReporter(final MetricClient metricClient,
+                            final IntSupplier activeGobblers,
+                            final LongSupplier gobbledLines,
+                            final LongSupplier nanoTime) {
+    this.metricClient = metricClient;
+    this.activeGobblers = activeGobblers;
+    this.gobbledLines = gobbledLines;
+    this.nanoTime = nanoTime;
+    this.lastLineCount = gobbledLines.getAsLong();
+    this.lastReportNanos = nanoTime.getAsLong();
+  }
+
+  /**
+   * Start reporting line gobbler metrics in the background. Only the first call has an effect, as
+   * line gobblers are shared by the whole process.
+   *
+   * @param metricClient client used to report the metrics
+   */
+  public static synchronized void start(final MetricClient metricClient) {
+    if (scheduler != null) {
+      return;
+    }
+    final var reporter = new LineGobblerMetricReporter(metricClient, LineGobbler::getActiveGobblerCount, LineGobbler::getGobbledLineCount,
+        System::nanoTime);
+    scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("line-gobbler-metrics").setDaemon(true).build());
+    scheduler.scheduleAtFixedRate(reporter::report, REPORT_INTERVAL_SECONDS, REPORT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+  }
+
+  @VisibleForTesting
+  void report() {
+    try {
+      final long lineCount = gobbledLines.getAsLong();
+      final long now = nanoTime.getAsLong();
+      final double elapsedSeconds = (now - lastReportNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+
+      metricClient.gauge(OssMetricsRegistry.LINE_GOBBLER_ACTIVE, activeGobblers.getAsInt());
+      if (elapsedSeconds > 0) {
+        metricClient.gauge(OssMetricsRegistry.LINE_GOBBLER_LINES_PER_SECOND, (lineCount - lastLineCount) / elapsedSeconds);
+      }
+
+      lastLineCount = lineCount;
+      lastReportNanos = now;
+    } catch (final Exception e) {
+      // an exception would cancel the scheduled reports.
+      log.warn("Failed to report line gobbler metrics", e);
+    }
+  }
+
+}
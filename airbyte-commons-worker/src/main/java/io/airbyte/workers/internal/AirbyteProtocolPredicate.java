@@ -4,10 +4,7 @@
 
 package io.airbyte.workers.internal;
 
-import static io.airbyte.metrics.lib.ApmTraceConstants.WORKER_OPERATION_NAME;
-
 import com.fasterxml.jackson.databind.JsonNode;
-import datadog.trace.api.Trace;
 import io.airbyte.protocol.models.AirbyteProtocolSchema;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import java.util.function.Predicate;
@@ -27,7 +24,7 @@ public class AirbyteProtocolPredicate implements Predicate<JsonNode> {
     jsonSchemaValidator.initializeSchemaValidator(PROTOCOL_SCHEMA_NAME, schema);
   }
 
-  @Trace(operationName = WORKER_OPERATION_NAME)
+  // runs for every message, within the connectors' batch-traced reads.
   @Override
   public boolean test(final JsonNode s) {
     return jsonSchemaValidator.testInitializedSchema(PROTOCOL_SCHEMA_NAME, s);
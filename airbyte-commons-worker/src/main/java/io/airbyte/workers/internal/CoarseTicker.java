@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.google.common.base.Ticker;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A ticker that only moves when it is told to tick, so that reading it is a single volatile read.
+ * Meant for timestamps taken very often that don't need to be precise, e.g. heartbeats on every
+ * message.
+ * <p>
+ * {@link #monotonic()} returns a shared instance that follows {@link Ticker#systemTicker()} and is
+ * ticked every {@link #MONOTONIC_GRANULARITY} by a daemon thread.
+ */
+class CoarseTicker extends Ticker {
+
+  static final Duration MONOTONIC_GRANULARITY = Duration.ofMillis(100);
+
+  private final Ticker source;
+  private volatile long now;
+
+  CoarseTicker(final Ticker source) {
+    this.source = source;
+    this.now = source.read();
+  }
+
+  /**
+   * Update the time returned by {@link #read()} from the source.
+   */
+  void tick() {
+    now = source.read();
+  }
+
+  @Override
+  public long read() {
+    return now;
+  }
+
+  static CoarseTicker monotonic() {
+    return Monotonic.INSTANCE;
+  }
+
+  // holder class so that the ticking thread is only started when the shared ticker is first used.
+  private static class Monotonic {
+
+    private static final CoarseTicker INSTANCE = new CoarseTicker(Ticker.systemTicker());
+
+    static {
+      final ScheduledExecutorService scheduler =
+          Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("coarse-ticker").setDaemon(true).build());
+      scheduler.scheduleAtFixedRate(INSTANCE::tick, MONOTONIC_GRANULARITY.toNanos(), MONOTONIC_GRANULARITY.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+  }
+
+}
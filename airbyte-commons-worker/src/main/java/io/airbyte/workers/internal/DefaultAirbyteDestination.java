@@ -19,6 +19,7 @@ import io.airbyte.commons.logging.MdcScope.Builder;
 import io.airbyte.commons.protocol.DefaultProtocolSerializer;
 import io.airbyte.commons.protocol.ProtocolSerializer;
 import io.airbyte.config.WorkerDestinationConfig;
+import io.airbyte.metrics.lib.SampledBatchTracer;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.workers.WorkerConstants;
@@ -56,6 +57,10 @@ public class DefaultAirbyteDestination implements AirbyteDestination {
   private final AirbyteStreamFactory streamFactory;
   private final AirbyteMessageBufferedWriterFactory messageWriterFactory;
   private final ProtocolSerializer protocolSerializer;
+  // accept, isFinished and attemptRead run for every message, so they are traced in batches.
+  private final SampledBatchTracer acceptTracer = SampledBatchTracer.create(WORKER_OPERATION_NAME, "DefaultAirbyteDestination.accept");
+  private final SampledBatchTracer isFinishedTracer = SampledBatchTracer.create(WORKER_OPERATION_NAME, "DefaultAirbyteDestination.isFinished");
+  private final SampledBatchTracer attemptReadTracer = SampledBatchTracer.create(WORKER_OPERATION_NAME, "DefaultAirbyteDestination.attemptRead");
 
   private final AtomicBoolean inputHasEnded = new AtomicBoolean(false);
 
@@ -104,12 +109,16 @@ public class DefaultAirbyteDestination implements AirbyteDestination {
         .iterator();
   }
 
-  @Trace(operationName = WORKER_OPERATION_NAME)
   @Override
   public void accept(final AirbyteMessage message) throws IOException {
     Preconditions.checkState(destinationProcess != null && !inputHasEnded.get());
 
-    writer.write(message);
+    final long start = acceptTracer.start();
+    try {
+      writer.write(message);
+    } finally {
+      acceptTracer.end(start);
+    }
   }
 
   @Trace(operationName = WORKER_OPERATION_NAME)
@@ -117,6 +126,7 @@ public class DefaultAirbyteDestination implements AirbyteDestination {
   public void notifyEndOfInput() throws IOException {
     Preconditions.checkState(destinationProcess != null && !inputHasEnded.get());
 
+    acceptTracer.flush();
     writer.flush();
     writer.close();
     inputHasEnded.set(true);
@@ -125,6 +135,10 @@ public class DefaultAirbyteDestination implements AirbyteDestination {
   @Trace(operationName = WORKER_OPERATION_NAME)
   @Override
   public void close() throws Exception {
+    acceptTracer.flush();
+    isFinishedTracer.flush();
+    attemptReadTracer.flush();
+
     if (destinationProcess == null) {
       LOGGER.debug("Destination process already exited");
       return;
@@ -157,15 +171,21 @@ public class DefaultAirbyteDestination implements AirbyteDestination {
     }
   }
 
-  @Trace(operationName = WORKER_OPERATION_NAME)
   @Override
   public boolean isFinished() {
     Preconditions.checkState(destinationProcess != null);
-    /*
-     * As this check is done on every message read, it is important for this operation to be efficient.
-     * Short circuit early to avoid checking the underlying process. Note: hasNext is blocking.
-     */
-    return !messageIterator.hasNext() && !destinationProcess.isAlive();
+
+    final long start = isFinishedTracer.start();
+    try {
+      /*
+       * As this check is done on every message read, it is important for this operation to be
+       * efficient. Short circuit early to avoid checking the underlying process. Note: hasNext is
+       * blocking.
+       */
+      return !messageIterator.hasNext() && !destinationProcess.isAlive();
+    } finally {
+      isFinishedTracer.end(start);
+    }
   }
 
   @Trace(operationName = WORKER_OPERATION_NAME)
@@ -181,12 +201,16 @@ public class DefaultAirbyteDestination implements AirbyteDestination {
     return exitValue;
   }
 
-  @Trace(operationName = WORKER_OPERATION_NAME)
   @Override
   public Optional<AirbyteMessage> attemptRead() {
     Preconditions.checkState(destinationProcess != null);
 
-    return Optional.ofNullable(messageIterator.hasNext() ? messageIterator.next() : null);
+    final long start = attemptReadTracer.start();
+    try {
+      return Optional.ofNullable(messageIterator.hasNext() ? messageIterator.next() : null);
+    } finally {
+      attemptReadTracer.end(start);
+    }
   }
 
 }
@@ -4,6 +4,7 @@
 
 package io.airbyte.workers.internal;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.protocol.models.AirbyteMessage;
 import java.io.BufferedWriter;
@@ -11,28 +12,38 @@ import java.io.IOException;
 
 /**
  * Default writer that serializes airbyte messages to JSON.
+ * <p>
+ * Messages are serialized straight into the writer's buffer by a single {@link JsonGenerator}, one
+ * message per line, rather than building a String for each of them. Like the buffered writer, the
+ * generator only hands its output over once its buffer is full or when flushed.
  */
 public class DefaultAirbyteMessageBufferedWriter implements AirbyteMessageBufferedWriter {
 
+  // same line terminator as BufferedWriter#newLine
+  protected static final String NEW_LINE = System.lineSeparator();
+
   protected final BufferedWriter writer;
+  protected final JsonGenerator generator;
 
   public DefaultAirbyteMessageBufferedWriter(final BufferedWriter writer) {
     this.writer = writer;
+    this.generator = Jsons.createGenerator(writer);
   }
 
   @Override
   public void write(final AirbyteMessage message) throws IOException {
-    writer.write(Jsons.serialize(message));
-    writer.newLine();
+    Jsons.serialize(message, generator);
+    generator.writeRaw(NEW_LINE);
   }
 
   @Override
   public void flush() throws IOException {
-    writer.flush();
+    generator.flush();
   }
 
   @Override
   public void close() throws IOException {
+    generator.close();
     writer.close();
   }
 
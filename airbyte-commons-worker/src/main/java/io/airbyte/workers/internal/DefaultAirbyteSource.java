@@ -17,6 +17,7 @@ import io.airbyte.commons.logging.MdcScope;
 import io.airbyte.commons.logging.MdcScope.Builder;
 import io.airbyte.commons.protocol.ProtocolSerializer;
 import io.airbyte.config.WorkerSourceConfig;
+import io.airbyte.metrics.lib.SampledBatchTracer;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.workers.WorkerConstants;
@@ -55,6 +56,9 @@ public class DefaultAirbyteSource implements AirbyteSource {
   private final AirbyteStreamFactory streamFactory;
   private final ProtocolSerializer protocolSerializer;
   private final HeartbeatMonitor heartbeatMonitor;
+  // isFinished and attemptRead run for every message, so they are traced in batches.
+  private final SampledBatchTracer isFinishedTracer = SampledBatchTracer.create(WORKER_OPERATION_NAME, "DefaultAirbyteSource.isFinished");
+  private final SampledBatchTracer attemptReadTracer = SampledBatchTracer.create(WORKER_OPERATION_NAME, "DefaultAirbyteSource.attemptRead");
 
   private Process sourceProcess = null;
   private Iterator<AirbyteMessage> messageIterator = null;
@@ -98,16 +102,21 @@ public class DefaultAirbyteSource implements AirbyteSource {
         .iterator();
   }
 
-  @Trace(operationName = WORKER_OPERATION_NAME)
   @Override
   public boolean isFinished() {
     Preconditions.checkState(sourceProcess != null);
 
-    /*
-     * As this check is done on every message read, it is important for this operation to be efficient.
-     * Short circuit early to avoid checking the underlying process. note: hasNext is blocking.
-     */
-    return !messageIterator.hasNext() && !sourceProcess.isAlive();
+    final long start = isFinishedTracer.start();
+    try {
+      /*
+       * As this check is done on every message read, it is important for this operation to be
+       * efficient. Short circuit early to avoid checking the underlying process. note: hasNext is
+       * blocking.
+       */
+      return !messageIterator.hasNext() && !sourceProcess.isAlive();
+    } finally {
+      isFinishedTracer.end(start);
+    }
   }
 
   @Trace(operationName = WORKER_OPERATION_NAME)
@@ -123,17 +132,24 @@ public class DefaultAirbyteSource implements AirbyteSource {
     return exitValue;
   }
 
-  @Trace(operationName = WORKER_OPERATION_NAME)
   @Override
   public Optional<AirbyteMessage> attemptRead() {
     Preconditions.checkState(sourceProcess != null);
 
-    return Optional.ofNullable(messageIterator.hasNext() ? messageIterator.next() : null);
+    final long start = attemptReadTracer.start();
+    try {
+      return Optional.ofNullable(messageIterator.hasNext() ? messageIterator.next() : null);
+    } finally {
+      attemptReadTracer.end(start);
+    }
   }
 
   @Trace(operationName = WORKER_OPERATION_NAME)
   @Override
   public void close() throws Exception {
+    isFinishedTracer.flush();
+    attemptReadTracer.flush();
+
     if (sourceProcess == null) {
       LOGGER.debug("Source process already exited");
       return;
@@ -5,10 +5,11 @@
 package io.airbyte.workers.internal;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import lombok.Getter;
 
@@ -17,30 +18,63 @@ import lombok.Getter;
  * dead Jim!
  *
  * It is ThreadSafe.
+ * <p>
+ * {@link #beat()} is called for every message, so it only reads the clock and, if the clock moved
+ * since the previous beat, writes a volatile long. By default the clock is a monotonic
+ * {@link CoarseTicker}, which means a beat is only as precise as its
+ * {@link CoarseTicker#MONOTONIC_GRANULARITY}; that is well below any heartbeat threshold.
  */
 public class HeartbeatMonitor {
 
+  private static final long NO_BEAT = Long.MIN_VALUE;
+
   @Getter
   private final Duration heartbeatFreshnessThreshold;
-  private final Supplier<Instant> nowSupplier;
-  private final AtomicReference<Instant> lastBeat;
+  private final Ticker ticker;
+  private volatile long lastBeat = NO_BEAT;
 
   public HeartbeatMonitor(final Duration heartbeatFreshnessThreshold) {
-    this(heartbeatFreshnessThreshold, Instant::now);
+    this(heartbeatFreshnessThreshold, CoarseTicker.monotonic());
   }
 
+  /**
+   * Monitor using the wall clock, read on every beat.
+   */
   @VisibleForTesting
   public HeartbeatMonitor(final Duration heartbeatFreshnessThreshold, final Supplier<Instant> nowSupplier) {
+    this(heartbeatFreshnessThreshold, new Ticker() {
+
+      @Override
+      public long read() {
+        final Instant now = nowSupplier.get();
+        return TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+      }
+
+    });
+  }
+
+  /**
+   * Monitor using a given clock for both beats and checks, e.g. {@link Ticker#systemTicker()} for a
+   * precise monotonic clock.
+   *
+   * @param heartbeatFreshnessThreshold time without a beat after which the heart isn't beating
+   * @param ticker clock, in nanoseconds
+   */
+  public HeartbeatMonitor(final Duration heartbeatFreshnessThreshold, final Ticker ticker) {
     this.heartbeatFreshnessThreshold = heartbeatFreshnessThreshold;
-    this.nowSupplier = nowSupplier;
-    this.lastBeat = new AtomicReference<>(null);
+    this.ticker = ticker;
   }
 
   /**
    * Register a heartbeat.
    */
   public void beat() {
-    lastBeat.set(nowSupplier.get());
+    final long now = ticker.read();
+    // with a coarse clock, most beats happen at the same time as the previous one. Skipping the write
+    // keeps them from invalidating the field for the threads checking it.
+    if (now != lastBeat) {
+      lastBeat = now;
+    }
   }
 
   /**
@@ -57,12 +91,12 @@ public class HeartbeatMonitor {
    * Return the time since the last beat. It returns empty is no beat has been performed.
    */
   public Optional<Duration> getTimeSinceLastBeat() {
-    final Instant instantFetched = lastBeat.get();
+    final long beatFetched = lastBeat;
 
-    if (instantFetched == null) {
+    if (beatFetched == NO_BEAT) {
       return Optional.empty();
     } else {
-      return Optional.ofNullable(Duration.between(lastBeat.get(), nowSupplier.get()));
+      return Optional.of(Duration.ofNanos(ticker.read() - beatFetched));
     }
   }
 
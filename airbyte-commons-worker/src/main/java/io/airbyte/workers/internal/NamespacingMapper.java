@@ -35,9 +35,14 @@ public class NamespacingMapper implements AirbyteMapper {
     this.streamPrefix = streamPrefix;
   }
 
+  /**
+   * Map the namespace and name of every stream of the catalog. The input catalog is left untouched:
+   * the mapping is applied to a deep copy of it, made with {@link Jsons#deepCopy(Object)} rather than
+   * a JSON string round trip.
+   */
   @Override
   public ConfiguredAirbyteCatalog mapCatalog(final ConfiguredAirbyteCatalog inputCatalog) {
-    final ConfiguredAirbyteCatalog catalog = Jsons.clone(inputCatalog);
+    final ConfiguredAirbyteCatalog catalog = Jsons.deepCopy(inputCatalog);
     catalog.getStreams().forEach(s -> {
       final AirbyteStream stream = s.getStream();
       // Default behavior if namespaceDefinition is not set is to follow SOURCE
@@ -7,11 +7,11 @@ package io.airbyte.workers.internal.book_keeping;
 import static io.airbyte.metrics.lib.ApmTraceConstants.WORKER_OPERATION_NAME;
 
 import com.google.common.annotations.VisibleForTesting;
-import datadog.trace.api.Trace;
 import io.airbyte.commons.features.FeatureFlags;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.FailureReason;
 import io.airbyte.config.State;
+import io.airbyte.metrics.lib.SampledBatchTracer;
 import io.airbyte.protocol.models.AirbyteControlConnectorConfigMessage;
 import io.airbyte.protocol.models.AirbyteControlMessage;
 import io.airbyte.protocol.models.AirbyteEstimateTraceMessage;
@@ -46,6 +46,11 @@ public class AirbyteMessageTracker implements MessageTracker {
   private final StateAggregator stateAggregator;
   private final FeatureFlags featureFlags;
   private final boolean featureFlagLogConnectorMsgs;
+  // messages are accepted one at a time, so they are traced in batches.
+  private final SampledBatchTracer acceptFromSourceTracer =
+      SampledBatchTracer.create(WORKER_OPERATION_NAME, "AirbyteMessageTracker.acceptFromSource");
+  private final SampledBatchTracer acceptFromDestinationTracer =
+      SampledBatchTracer.create(WORKER_OPERATION_NAME, "AirbyteMessageTracker.acceptFromDestination");
 
   private enum ConnectorType {
     SOURCE,
@@ -79,30 +84,38 @@ public class AirbyteMessageTracker implements MessageTracker {
     this(stateAggregator, new DefaultSyncStatsTracker(stateDeltaTracker, stateMetricsTracker), featureFlags);
   }
 
-  @Trace(operationName = WORKER_OPERATION_NAME)
   @Override
   public void acceptFromSource(final AirbyteMessage message) {
-    logMessageAsJSON("source", message);
-
-    switch (message.getType()) {
-      case TRACE -> handleEmittedTrace(message.getTrace(), ConnectorType.SOURCE);
-      case RECORD -> handleSourceEmittedRecord(message.getRecord());
-      case STATE -> handleSourceEmittedState(message.getState());
-      case CONTROL -> handleEmittedOrchestratorMessage(message.getControl(), ConnectorType.SOURCE);
-      default -> log.warn("Invalid message type for message: {}", message);
+    final long start = acceptFromSourceTracer.start();
+    try {
+      logMessageAsJSON("source", message);
+
+      switch (message.getType()) {
+        case TRACE -> handleEmittedTrace(message.getTrace(), ConnectorType.SOURCE);
+        case RECORD -> handleSourceEmittedRecord(message.getRecord());
+        case STATE -> handleSourceEmittedState(message.getState());
+        case CONTROL -> handleEmittedOrchestratorMessage(message.getControl(), ConnectorType.SOURCE);
+        default -> log.warn("Invalid message type for message: {}", message);
+      }
+    } finally {
+      acceptFromSourceTracer.end(start);
     }
   }
 
-  @Trace(operationName = WORKER_OPERATION_NAME)
   @Override
   public void acceptFromDestination(final AirbyteMessage message) {
-    logMessageAsJSON("destination", message);
-
-    switch (message.getType()) {
-      case TRACE -> handleEmittedTrace(message.getTrace(), ConnectorType.DESTINATION);
-      case STATE -> handleDestinationEmittedState(message.getState());
-      case CONTROL -> handleEmittedOrchestratorMessage(message.getControl(), ConnectorType.DESTINATION);
-      default -> log.warn("Invalid message type for message: {}", message);
+    final long start = acceptFromDestinationTracer.start();
+    try {
+      logMessageAsJSON("destination", message);
+
+      switch (message.getType()) {
+        case TRACE -> handleEmittedTrace(message.getTrace(), ConnectorType.DESTINATION);
+        case STATE -> handleDestinationEmittedState(message.getState());
+        case CONTROL -> handleEmittedOrchestratorMessage(message.getControl(), ConnectorType.DESTINATION);
+        default -> log.warn("Invalid message type for message: {}", message);
+      }
+    } finally {
+      acceptFromDestinationTracer.end(start);
     }
   }
 
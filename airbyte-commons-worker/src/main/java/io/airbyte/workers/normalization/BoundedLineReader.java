@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.normalization;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads lines like {@link BufferedReader#readLine()}, but keeps at most a maximum number of
+ * characters of each line in memory. The rest of a longer line is skipped, so a process printing a
+ * huge line can't exhaust the memory of the worker.
+ */
+class BoundedLineReader {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  /**
+   * A line read by {@link BoundedLineReader}.
+   *
+   * @param text first characters of the line, without the line terminator
+   * @param skippedCharacters number of characters of the line that were not kept
+   */
+  record Line(String text, long skippedCharacters) {
+
+    boolean isTruncated() {
+      return skippedCharacters > 0;
+    }
+
+  }
+
+  private final Reader reader;
+  private final int maxLineLength;
+  private final char[] buffer = new char[BUFFER_SIZE];
+  private int position;
+  private int limit;
+  // set after a carriage return, so that a following line feed doesn't end an empty line.
+  private boolean skipLineFeed;
+
+  BoundedLineReader(final Reader reader, final int maxLineLength) {
+    this.reader = reader;
+    this.maxLineLength = maxLineLength;
+  }
+
+  /**
+   * Read the next line. A line is ended by a line feed, a carriage return or a carriage return
+   * followed by a line feed.
+   *
+   * @return the next line, or null at the end of the input
+   * @throws IOException if the reader fails
+   */
+  Line readLine() throws IOException {
+    StringBuilder line = null;
+    long skippedCharacters = 0;
+    while (true) {
+      if (position >= limit) {
+        position = 0;
+        limit = Math.max(0, reader.read(buffer, 0, BUFFER_SIZE));
+        if (limit == 0) {
+          return line == null ? null : new Line(line.toString(), skippedCharacters);
+        }
+      }
+      if (skipLineFeed) {
+        skipLineFeed = false;
+        if (buffer[position] == '\n') {
+          position++;
+          continue;
+        }
+      }
+      if (line == null) {
+        line = new StringBuilder();
+      }
+
+      final int start = position;
+      while (position < limit && buffer[position] != '\n' && buffer[position] != '\r') {
+        position++;
+      }
+      final int length = position - start;
+      final int kept = Math.min(length, maxLineLength - line.length());
+      line.append(buffer, start, kept);
+      skippedCharacters += length - kept;
+
+      if (position < limit) {
+        skipLineFeed = buffer[position] == '\r';
+        position++;
+        return new Line(line.toString(), skippedCharacters);
+      }
+    }
+  }
+
+}
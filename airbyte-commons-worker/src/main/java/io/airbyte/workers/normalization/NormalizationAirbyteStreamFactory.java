@@ -6,16 +6,29 @@ package io.airbyte.workers.normalization;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
+import com.google.common.collect.AbstractIterator;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.logging.MdcScope;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.protocol.models.AirbyteLogMessage;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.workers.internal.AirbyteStreamFactory;
+import io.airbyte.workers.normalization.BoundedLineReader.Line;
 import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,29 +41,44 @@ import org.slf4j.LoggerFactory;
  * If a line starts with a AirbyteMessage and then has other characters after it, that
  * AirbyteMessage will still be parsed. If there are multiple AirbyteMessage records on the same
  * line, only the first will be parsed.
+ *
+ * <p>
+ * Only lines starting with a JSON object are parsed: most of the output of dbt is plain text, which
+ * is logged as is. Lines longer than the maximum line length are truncated and logged as text.
  */
 @SuppressWarnings("PMD.MoreThanOneLogger")
 public class NormalizationAirbyteStreamFactory implements AirbyteStreamFactory {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(NormalizationAirbyteStreamFactory.class);
+  // messages from normalization are logs and traces, far shorter than this.
+  private static final int MAX_LINE_LENGTH = 1_000_000;
 
   private final MdcScope.Builder containerLogMdcBuilder;
   private final Logger logger;
+  // resolved when reporting, as the metric client may be initialized after this factory is created.
+  private final Supplier<MetricClient> metricClientSupplier;
+  private final int maxLineLength;
   private final List<String> dbtErrors = new ArrayList<>();
+  private long parseFailures;
+  private long truncatedLines;
 
   public NormalizationAirbyteStreamFactory(final MdcScope.Builder containerLogMdcBuilder) {
-    this(LOGGER, containerLogMdcBuilder);
+    this(LOGGER, containerLogMdcBuilder, MetricClientFactory::getMetricClient, MAX_LINE_LENGTH);
   }
 
-  NormalizationAirbyteStreamFactory(final Logger logger, final MdcScope.Builder containerLogMdcBuilder) {
+  NormalizationAirbyteStreamFactory(final Logger logger,
+                                    final MdcScope.Builder containerLogMdcBuilder,
+                                    final Supplier<MetricClient> metricClientSupplier,
+                                    final int maxLineLength) {
     this.logger = logger;
     this.containerLogMdcBuilder = containerLogMdcBuilder;
+    this.metricClientSupplier = metricClientSupplier;
+    this.maxLineLength = maxLineLength;
   }
 
   @Override
   public Stream<AirbyteMessage> create(final BufferedReader bufferedReader) {
-    return bufferedReader
-        .lines()
+    return readLines(bufferedReader)
         .flatMap(this::filterOutAndHandleNonJsonLines)
         .flatMap(this::filterOutAndHandleNonAirbyteMessageLines)
         // so now we are just left with AirbyteMessages
@@ -65,23 +93,95 @@ public class NormalizationAirbyteStreamFactory implements AirbyteStreamFactory {
         });
   }
 
-  private Stream<JsonNode> filterOutAndHandleNonJsonLines(final String line) {
-    final Optional<JsonNode> jsonLine = Jsons.tryDeserialize(line);
-    if (jsonLine.isEmpty()) {
-      // we log as info all the lines that are not valid json.
-      try (final var mdcScope = containerLogMdcBuilder.build()) {
-        logger.info(line);
-        // this is really hacky and vulnerable to picking up lines we don't want,
-        // however it is only for destinations that are using dbt version < 1.0.
-        // For v1 + we switch on JSON logging and parse those in the next block.
-        if (line.contains("[error]")) {
-          dbtErrors.add(line);
+  private Stream<Line> readLines(final BufferedReader bufferedReader) {
+    final BoundedLineReader lineReader = new BoundedLineReader(bufferedReader, maxLineLength);
+    final long startNanos = System.nanoTime();
+    final Iterator<Line> lines = new AbstractIterator<>() {
+
+      private long lineCount;
+
+      @Override
+      protected Line computeNext() {
+        final Line line;
+        try {
+          line = lineReader.readLine();
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        if (line == null) {
+          reportMetrics(lineCount, System.nanoTime() - startNanos);
+          return endOfData();
         }
+        lineCount++;
+        return line;
       }
+
+    };
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(lines, Spliterator.ORDERED | Spliterator.NONNULL), false);
+  }
+
+  private Stream<JsonNode> filterOutAndHandleNonJsonLines(final Line line) {
+    if (line.isTruncated()) {
+      truncatedLines++;
+      handleTextLine(line.text() + "... (" + line.skippedCharacters() + " more characters)");
+      return Stream.empty();
+    }
+    if (!startsWithJsonObject(line.text())) {
+      handleTextLine(line.text());
+      return Stream.empty();
+    }
+
+    final Optional<JsonNode> jsonLine = Jsons.tryDeserialize(line.text());
+    if (jsonLine.isEmpty()) {
+      parseFailures++;
+      handleTextLine(line.text());
     }
     return jsonLine.stream();
   }
 
+  private void handleTextLine(final String line) {
+    // we log as info all the lines that are not valid json.
+    try (final var mdcScope = containerLogMdcBuilder.build()) {
+      logger.info(line);
+      // this is really hacky and vulnerable to picking up lines we don't want,
+      // however it is only for destinations that are using dbt version < 1.0.
+      // For v1 + we switch on JSON logging and parse those in the next block.
+      if (line.contains("[error]")) {
+        dbtErrors.add(line);
+      }
+    }
+  }
+
+  /**
+   * Whether the first character of the line that isn't a whitespace opens a JSON object. Airbyte
+   * messages and dbt JSON logs are objects, so other lines are not worth parsing.
+   */
+  private static boolean startsWithJsonObject(final String line) {
+    for (int i = 0; i < line.length(); i++) {
+      final char c = line.charAt(i);
+      if (!Character.isWhitespace(c)) {
+        return c == '{';
+      }
+    }
+    return false;
+  }
+
+  private void reportMetrics(final long lineCount, final long elapsedNanos) {
+    final MetricClient metricClient = metricClientSupplier.get();
+    if (elapsedNanos > 0) {
+      metricClient.gauge(OssMetricsRegistry.NORMALIZATION_OUTPUT_LINES_PER_SECOND,
+          lineCount / ((double) elapsedNanos / TimeUnit.SECONDS.toNanos(1)));
+    }
+    if (parseFailures > 0) {
+      metricClient.count(OssMetricsRegistry.NORMALIZATION_OUTPUT_PARSE_FAILURES, parseFailures);
+    }
+    if (truncatedLines > 0) {
+      metricClient.count(OssMetricsRegistry.NORMALIZATION_OUTPUT_LINES_TRUNCATED, truncatedLines);
+    }
+    parseFailures = 0;
+    truncatedLines = 0;
+  }
+
   private Stream<AirbyteMessage> filterOutAndHandleNonAirbyteMessageLines(final JsonNode jsonLine) {
     final Optional<AirbyteMessage> m = Jsons.tryObject(jsonLine, AirbyteMessage.class);
     if (m.isEmpty()) {
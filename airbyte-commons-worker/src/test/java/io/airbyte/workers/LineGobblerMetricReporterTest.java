@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class LineGobblerMetricReporterTest {
+
+  @Test
+  void testReportsActiveGobblersAndLineRate() {
+    final MetricClient metricClient = mock(MetricClient.class);
+    final AtomicInteger activeGobblers = new AtomicInteger(3);
+    final AtomicLong gobbledLines = new AtomicLong(100);
+    final AtomicLong nanoTime = new AtomicLong(0);
+    final LineGobblerMetricReporter reporter =
+        new LineGobblerMetricReporter(metricClient, activeGobblers::get, gobbledLines::get, nanoTime::get);
+
+    gobbledLines.set(400);
+    nanoTime.set(TimeUnit.SECONDS.toNanos(10));
+    reporter.report();
+
+    verify(metricClient).gauge(OssMetricsRegistry.LINE_GOBBLER_ACTIVE, 3);
+    verify(metricClient).gauge(OssMetricsRegistry.LINE_GOBBLER_LINES_PER_SECOND, 30.0);
+
+    activeGobblers.set(1);
+    gobbledLines.set(500);
+    nanoTime.set(TimeUnit.SECONDS.toNanos(30));
+    reporter.report();
+
+    verify(metricClient).gauge(OssMetricsRegistry.LINE_GOBBLER_ACTIVE, 1);
+    verify(metricClient).gauge(OssMetricsRegistry.LINE_GOBBLER_LINES_PER_SECOND, 5.0);
+  }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.workers.test_utils.AirbyteMessageUtils;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the throughput of writing records to a destination: the previous way of serializing each
+ * message to a String before writing it, and {@link DefaultAirbyteMessageBufferedWriter#write}. The
+ * output is discarded after being encoded to UTF-8, like it would be before going to the destination
+ * process.
+ * <p>
+ * To use this, run the main method and look at the report printed at the end.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AirbyteMessageBufferedWriterBenchmark {
+
+  private static final int BATCH_SIZE = 1000;
+  private static final int COLUMNS = 20;
+
+  private List<AirbyteMessage> batch;
+  private BufferedWriter bufferedWriter;
+  private AirbyteMessageBufferedWriter writer;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    batch = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      final Map<String, Object> record = new HashMap<>();
+      for (int j = 0; j < COLUMNS; j++) {
+        record.put("column_" + j, j % 2 == 0 ? "value " + i + " " + j : i * j);
+      }
+      batch.add(AirbyteMessageUtils.createRecordMessage("stream", record));
+    }
+    bufferedWriter = new BufferedWriter(new OutputStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8));
+    writer = new DefaultAirbyteMessageBufferedWriter(bufferedWriter);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    writer.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void serializeToString() throws IOException {
+    for (final AirbyteMessage message : batch) {
+      bufferedWriter.write(Jsons.serialize(message));
+      bufferedWriter.newLine();
+    }
+    bufferedWriter.flush();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void write() throws IOException {
+    for (final AirbyteMessage message : batch) {
+      writer.write(message);
+    }
+    writer.flush();
+  }
+
+  public static void main(final String[] args) throws Exception {
+    org.openjdk.jmh.Main.main(new String[] {AirbyteMessageBufferedWriterBenchmark.class.getSimpleName()});
+  }
+
+}
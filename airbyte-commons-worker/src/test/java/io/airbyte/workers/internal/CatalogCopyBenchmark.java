@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
+import io.airbyte.protocol.models.AirbyteStream;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.DestinationSyncMode;
+import io.airbyte.protocol.models.SyncMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the ways a large catalog can be copied: the previous serialize/deserialize round trip,
+ * {@link Jsons#deepCopy(Object)}, and {@link NamespacingMapper#mapCatalog(ConfiguredAirbyteCatalog)},
+ * which maps a deep copy of the catalog.
+ * <p>
+ * To use this, run the main method and look at the report printed at the end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogCopyBenchmark {
+
+  private static final int COLUMNS_PER_STREAM = 40;
+
+  @Param({"1000", "5000"})
+  public int streamCount;
+
+  private ConfiguredAirbyteCatalog catalog;
+  private NamespacingMapper mapper;
+
+  @Setup
+  public void setup() {
+    final List<ConfiguredAirbyteStream> streams = new ArrayList<>(streamCount);
+    for (int i = 0; i < streamCount; i++) {
+      final ObjectNode properties = (ObjectNode) Jsons.emptyObject();
+      for (int j = 0; j < COLUMNS_PER_STREAM; j++) {
+        properties.set("column_" + j, Jsons.jsonNode(Map.of("type", List.of("null", j % 2 == 0 ? "string" : "number"))));
+      }
+      final JsonNode jsonSchema = Jsons.jsonNode(Map.of("type", "object", "properties", properties));
+      streams.add(new ConfiguredAirbyteStream()
+          .withStream(new AirbyteStream()
+              .withName("stream_" + i)
+              .withNamespace("public")
+              .withJsonSchema(jsonSchema)
+              .withSupportedSyncModes(List.of(SyncMode.FULL_REFRESH, SyncMode.INCREMENTAL))
+              .withSourceDefinedCursor(false)
+              .withDefaultCursorField(List.of("column_0"))
+              .withSourceDefinedPrimaryKey(List.of(List.of("column_1"))))
+          .withSyncMode(SyncMode.INCREMENTAL)
+          .withCursorField(List.of("column_0"))
+          .withDestinationSyncMode(DestinationSyncMode.APPEND_DEDUP)
+          .withPrimaryKey(List.of(List.of("column_1"))));
+    }
+    catalog = new ConfiguredAirbyteCatalog().withStreams(streams);
+    mapper = new NamespacingMapper(NamespaceDefinitionType.CUSTOMFORMAT, "${SOURCE_NAMESPACE}_raw", "prefix_");
+  }
+
+  @Benchmark
+  public ConfiguredAirbyteCatalog serializationRoundTrip() {
+    return Jsons.deserialize(Jsons.serialize(catalog), ConfiguredAirbyteCatalog.class);
+  }
+
+  @Benchmark
+  public ConfiguredAirbyteCatalog deepCopy() {
+    return Jsons.deepCopy(catalog);
+  }
+
+  @Benchmark
+  public ConfiguredAirbyteCatalog mapCatalog() {
+    return mapper.mapCatalog(catalog);
+  }
+
+  public static void main(final String[] args) throws Exception {
+    org.openjdk.jmh.Main.main(new String[] {CatalogCopyBenchmark.class.getSimpleName()});
+  }
+
+}
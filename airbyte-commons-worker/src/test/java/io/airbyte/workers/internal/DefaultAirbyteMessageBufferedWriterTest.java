@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.protocol.AirbyteMessageVersionedMigrator;
+import io.airbyte.commons.protocol.serde.AirbyteMessageV0Serializer;
+import io.airbyte.protocol.models.AirbyteLogMessage;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.workers.test_utils.AirbyteMessageUtils;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class DefaultAirbyteMessageBufferedWriterTest {
+
+  private static final List<AirbyteMessage> MESSAGES = List.of(
+      AirbyteMessageUtils.createRecordMessage("users", Map.of("id", 1, "name", "héllo \"world\"\n")),
+      AirbyteMessageUtils.createStateMessage(3),
+      AirbyteMessageUtils.createLogMessage(AirbyteLogMessage.Level.INFO, "a log"),
+      AirbyteMessageUtils.createRecordMessage("users", 2));
+
+  @Test
+  void testWritesOneSerializedMessagePerLine() throws IOException {
+    final StringWriter output = new StringWriter();
+    final AirbyteMessageBufferedWriter writer = new DefaultAirbyteMessageBufferedWriter(new BufferedWriter(output));
+
+    for (final AirbyteMessage message : MESSAGES) {
+      writer.write(message);
+    }
+    writer.close();
+
+    assertEquals(expectedOutput(), output.toString());
+  }
+
+  @Test
+  void testBuffersUntilFlushed() throws IOException {
+    final StringWriter output = new StringWriter();
+    final AirbyteMessageBufferedWriter writer = new DefaultAirbyteMessageBufferedWriter(new BufferedWriter(output));
+
+    writer.write(MESSAGES.get(0));
+    assertEquals("", output.toString());
+
+    writer.flush();
+    assertEquals(Jsons.serialize(MESSAGES.get(0)) + System.lineSeparator(), output.toString());
+  }
+
+  @Test
+  void testWritesOneMessagePerLine() throws IOException {
+    final StringWriter output = new StringWriter();
+    final AirbyteMessageBufferedWriter writer = new DefaultAirbyteMessageBufferedWriter(new BufferedWriter(output));
+
+    writeAll(writer);
+
+    assertEquals(expectedOutput(), output.toString());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testVersionedWriterWritesDowngradedMessages() throws IOException {
+    final AirbyteMessageVersionedMigrator<io.airbyte.protocol.models.v0.AirbyteMessage> migrator = mock(AirbyteMessageVersionedMigrator.class);
+    when(migrator.downgrade(any(), any()))
+        .thenAnswer(invocation -> Jsons.convertValue(invocation.getArgument(0), io.airbyte.protocol.models.v0.AirbyteMessage.class));
+    final StringWriter output = new StringWriter();
+    final AirbyteMessageBufferedWriter writer = new VersionedAirbyteMessageBufferedWriter<>(
+        new BufferedWriter(output),
+        new AirbyteMessageV0Serializer(),
+        migrator,
+        Optional.empty());
+
+    writeAll(writer);
+
+    assertEquals(expectedOutput(), output.toString());
+  }
+
+  private static void writeAll(final AirbyteMessageBufferedWriter writer) throws IOException {
+    for (final AirbyteMessage message : MESSAGES) {
+      writer.write(message);
+    }
+    writer.flush();
+  }
+
+  private static String expectedOutput() {
+    return MESSAGES.stream().map(message -> Jsons.serialize(message) + System.lineSeparator()).collect(Collectors.joining());
+  }
+
+}
@@ -7,8 +7,10 @@ package io.airbyte.workers.internal;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.google.common.base.Ticker;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -53,4 +55,72 @@ class HeartbeatMonitorTest {
     Assertions.assertThat(heartbeatMonitor.isBeating()).hasValue(false);
   }
 
+  @Test
+  void testMonotonicTicker() {
+    final FakeTicker ticker = new FakeTicker();
+    final HeartbeatMonitor monitor = new HeartbeatMonitor(HEART_BEAT_FRESH_DURATION, ticker);
+    Assertions.assertThat(monitor.isBeating()).isEmpty();
+
+    monitor.beat();
+    ticker.advance(Duration.ofSeconds(5));
+    Assertions.assertThat(monitor.getTimeSinceLastBeat()).hasValue(Duration.ofSeconds(5));
+    Assertions.assertThat(monitor.isBeating()).hasValue(true);
+
+    ticker.advance(Duration.ofSeconds(25));
+    Assertions.assertThat(monitor.isBeating()).hasValue(false);
+
+    monitor.beat();
+    Assertions.assertThat(monitor.getTimeSinceLastBeat()).hasValue(Duration.ZERO);
+    Assertions.assertThat(monitor.isBeating()).hasValue(true);
+  }
+
+  @Test
+  void testCoarseTickerOnlyMovesOnTick() {
+    final FakeTicker source = new FakeTicker();
+    final CoarseTicker coarseTicker = new CoarseTicker(source);
+    final HeartbeatMonitor monitor = new HeartbeatMonitor(HEART_BEAT_FRESH_DURATION, coarseTicker);
+
+    monitor.beat();
+    source.advance(Duration.ofSeconds(10));
+    // the source moved but the coarse clock wasn't ticked: beats and checks still see the same time.
+    monitor.beat();
+    Assertions.assertThat(monitor.getTimeSinceLastBeat()).hasValue(Duration.ZERO);
+
+    coarseTicker.tick();
+    Assertions.assertThat(monitor.getTimeSinceLastBeat()).hasValue(Duration.ofSeconds(10));
+
+    source.advance(Duration.ofSeconds(25));
+    coarseTicker.tick();
+    Assertions.assertThat(monitor.isBeating()).hasValue(false);
+
+    monitor.beat();
+    Assertions.assertThat(monitor.isBeating()).hasValue(true);
+  }
+
+  @Test
+  void testMonotonicCoarseTickerTicks() throws InterruptedException {
+    final CoarseTicker ticker = CoarseTicker.monotonic();
+    final long start = ticker.read();
+
+    Thread.sleep(CoarseTicker.MONOTONIC_GRANULARITY.multipliedBy(3).toMillis());
+
+    Assertions.assertThat(ticker.read()).isGreaterThan(start);
+  }
+
+  private static class FakeTicker extends Ticker {
+
+    // arbitrary origin, like System.nanoTime
+    private final AtomicLong nanos = new AtomicLong(-123_456_789L);
+
+    void advance(final Duration duration) {
+      nanos.addAndGet(duration.toNanos());
+    }
+
+    @Override
+    public long read() {
+      return nanos.get();
+    }
+
+  }
+
 }
@@ -5,15 +5,21 @@
 package io.airbyte.workers.internal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
 import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.DestinationSyncMode;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaType;
+import io.airbyte.protocol.models.SyncMode;
 import io.airbyte.workers.test_utils.AirbyteMessageUtils;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -211,4 +217,33 @@ class NamespacingMapperTest {
     assertEquals(expectedMessage, actualMessage);
   }
 
+  @Test
+  void testMappedCatalogIsADeepCopy() {
+    final NamespacingMapper mapper = new NamespacingMapper(NamespaceDefinitionType.SOURCE, null, null);
+    final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog().withStreams(List.of(new ConfiguredAirbyteStream()
+        .withStream(new AirbyteStream()
+            .withName(STREAM_NAME)
+            .withNamespace(INPUT_NAMESPACE)
+            .withJsonSchema(CatalogHelpers.fieldsToJsonSchema(Field.of(FIELD_NAME, JsonSchemaType.STRING)))
+            .withSupportedSyncModes(List.of(SyncMode.FULL_REFRESH, SyncMode.INCREMENTAL))
+            .withSourceDefinedCursor(true)
+            .withDefaultCursorField(List.of(FIELD_NAME))
+            .withSourceDefinedPrimaryKey(List.of(List.of(FIELD_NAME)))
+            .withAdditionalProperty("is_resumable", true))
+        .withSyncMode(SyncMode.INCREMENTAL)
+        .withCursorField(List.of(FIELD_NAME))
+        .withDestinationSyncMode(DestinationSyncMode.APPEND_DEDUP)
+        .withPrimaryKey(List.of(List.of(FIELD_NAME)))));
+
+    final ConfiguredAirbyteCatalog actualCatalog = mapper.mapCatalog(catalog);
+
+    assertEquals(catalog, actualCatalog);
+    final AirbyteStream originalStream = catalog.getStreams().get(0).getStream();
+    final AirbyteStream actualStream = actualCatalog.getStreams().get(0).getStream();
+    assertNotSame(originalStream, actualStream);
+    assertNotSame(catalog.getStreams().get(0).getCursorField(), actualCatalog.getStreams().get(0).getCursorField());
+    assertNotSame(originalStream.getJsonSchema(), actualStream.getJsonSchema());
+    assertEquals(true, actualStream.getAdditionalProperties().get("is_resumable"));
+  }
+
 }
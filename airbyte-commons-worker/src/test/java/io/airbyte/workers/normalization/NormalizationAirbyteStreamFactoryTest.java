@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.normalization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.airbyte.commons.logging.MdcScope.Builder;
+import io.airbyte.commons.resources.MoreResources;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteTraceMessage;
+import io.airbyte.workers.normalization.BoundedLineReader.Line;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+class NormalizationAirbyteStreamFactoryTest {
+
+  private static final int MAX_LINE_LENGTH = 1000;
+
+  private Logger logger;
+  private MetricClient metricClient;
+  private NormalizationAirbyteStreamFactory streamFactory;
+
+  @BeforeEach
+  void setup() {
+    logger = mock(Logger.class);
+    metricClient = mock(MetricClient.class);
+    streamFactory = new NormalizationAirbyteStreamFactory(logger, new Builder(), () -> metricClient, MAX_LINE_LENGTH);
+  }
+
+  @Test
+  void testDbtTextOutput() throws IOException {
+    final List<AirbyteMessage> messages = read(MoreResources.readResource("normalization/dbt_text_output.txt"));
+
+    assertEquals(List.of(), messages);
+    verify(logger).info("Running with dbt=0.21.1");
+    verify(logger).info("{{ config(materialized='incremental', unique_key='_airbyte_ab_id') }}");
+    verify(logger).info("  column \"updated_at\" does not exist");
+    verify(logger).info("");
+    assertEquals(List.of(
+        "[error] 2 of 4 ERROR creating incremental model public.users..................................... [ERROR in 0.12s]",
+        "[error] Completed with 1 error and 0 warnings:"),
+        streamFactory.getDbtErrors());
+    // the jinja line starts like a JSON object, so it is the only line that is parsed.
+    verify(metricClient).count(OssMetricsRegistry.NORMALIZATION_OUTPUT_PARSE_FAILURES, 1);
+    verify(metricClient).gauge(eq(OssMetricsRegistry.NORMALIZATION_OUTPUT_LINES_PER_SECOND), anyDouble());
+  }
+
+  @Test
+  void testDbtJsonOutput() throws IOException {
+    final List<AirbyteMessage> messages = read(MoreResources.readResource("normalization/dbt_json_output.txt"));
+
+    assertEquals(1, messages.size());
+    assertEquals(AirbyteMessage.Type.TRACE, messages.get(0).getType());
+    assertEquals(AirbyteTraceMessage.Type.ERROR, messages.get(0).getTrace().getType());
+    verify(logger).info("Running with dbt=1.0.0");
+    verify(logger).debug("Acquiring new postgres connection \"master\"");
+    verify(logger).warn("Deprecated functionality in model users");
+    verify(logger).error("Database Error in model users (models/generated/airbyte_incremental/public/users.sql)");
+    verify(logger).info("Traceback (most recent call last):");
+    verify(logger).info("{\"level\": \"info\", \"msg\": \"unterminated");
+    assertEquals(List.of("Database Error in model users (models/generated/airbyte_incremental/public/users.sql)"), streamFactory.getDbtErrors());
+    verify(metricClient).count(OssMetricsRegistry.NORMALIZATION_OUTPUT_PARSE_FAILURES, 1);
+    verify(metricClient, never()).count(eq(OssMetricsRegistry.NORMALIZATION_OUTPUT_LINES_TRUNCATED), eq(1L));
+  }
+
+  @Test
+  void testLongLinesAreTruncated() {
+    final String longJsonLine = "{\"level\": \"error\", \"msg\": \"" + "a".repeat(2 * MAX_LINE_LENGTH) + "\"}";
+    final String longTextLine = "[error] " + "b".repeat(2 * MAX_LINE_LENGTH);
+
+    final List<AirbyteMessage> messages = read(longJsonLine + "\n" + longTextLine + "\nnext line\n");
+
+    assertEquals(List.of(), messages);
+    final String truncatedJsonLine = longJsonLine.substring(0, MAX_LINE_LENGTH) + "... (" + (longJsonLine.length() - MAX_LINE_LENGTH)
+        + " more characters)";
+    final String truncatedTextLine = longTextLine.substring(0, MAX_LINE_LENGTH) + "... (" + (longTextLine.length() - MAX_LINE_LENGTH)
+        + " more characters)";
+    verify(logger).info(truncatedJsonLine);
+    verify(logger).info(truncatedTextLine);
+    verify(logger).info("next line");
+    assertEquals(List.of(truncatedTextLine), streamFactory.getDbtErrors());
+    verify(metricClient).count(OssMetricsRegistry.NORMALIZATION_OUTPUT_LINES_TRUNCATED, 2);
+    verify(metricClient, never()).count(eq(OssMetricsRegistry.NORMALIZATION_OUTPUT_PARSE_FAILURES), eq(1L));
+  }
+
+  @Test
+  void testBoundedLineReaderSplitsLinesLikeBufferedReader() throws IOException {
+    final String input = "a\r\nb\rc\n\n\r\rlast";
+    final BoundedLineReader lineReader = new BoundedLineReader(new StringReader(input), 10);
+
+    for (final String expected : new BufferedReader(new StringReader(input)).lines().toList()) {
+      assertEquals(new Line(expected, 0), lineReader.readLine());
+    }
+    assertNull(lineReader.readLine());
+  }
+
+  @Test
+  void testBoundedLineReaderSkipsTheEndOfLongLines() throws IOException {
+    final String longLine = "x".repeat(20_000);
+    final BoundedLineReader lineReader = new BoundedLineReader(new StringReader(longLine + "\nshort"), 10);
+
+    assertEquals(new Line("x".repeat(10), 19_990), lineReader.readLine());
+    assertEquals(new Line("short", 0), lineReader.readLine());
+    assertNull(lineReader.readLine());
+  }
+
+  private List<AirbyteMessage> read(final String output) {
+    return streamFactory.create(new BufferedReader(new StringReader(output))).toList();
+  }
+
+}
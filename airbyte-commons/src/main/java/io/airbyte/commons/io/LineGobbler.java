@@ -4,16 +4,25 @@
 
 package io.airbyte.commons.io;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.airbyte.commons.concurrency.VoidCallable;
 import io.airbyte.commons.logging.MdcScope;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,12 +30,32 @@ import org.slf4j.MDC;
 
 /**
  * Abstraction to consume an {@link InputStream} to completion.
+ * <p>
+ * All gobblers run on one shared executor. Each stream is consumed by a single task from start to
+ * end, so its lines are always handed to the consumer in order. The executor reuses up to
+ * LINE_GOBBLER_MAX_THREADS threads, which time out when idle. A gobbler never waits for a free
+ * thread, since it could then wait behind gobblers of processes that are blocked writing to the pipe
+ * it should drain: once all pooled threads are busy, gobblers run on a second, equally bounded pool of
+ * overflow threads, and once those are busy too, on the calling thread. On JDKs that support them, LINE_GOBBLER_USE_VIRTUAL_THREADS=true runs each gobbler on its own
+ * virtual thread instead.
  */
 public class LineGobbler implements VoidCallable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(LineGobbler.class);
   private static final String GENERIC = "generic";
 
+  private static final String MAX_THREADS_ENV_VAR = "LINE_GOBBLER_MAX_THREADS";
+  private static final String USE_VIRTUAL_THREADS_ENV_VAR = "LINE_GOBBLER_USE_VIRTUAL_THREADS";
+  private static final int DEFAULT_MAX_THREADS = 256;
+  private static final long THREAD_KEEP_ALIVE_SECONDS = 60;
+
+  private static final AtomicInteger ACTIVE_GOBBLERS = new AtomicInteger();
+  private static final LongAdder LINES_GOBBLED = new LongAdder();
+
+  private static final ExecutorService EXECUTOR = createExecutor(
+      Boolean.parseBoolean(System.getenv(USE_VIRTUAL_THREADS_ENV_VAR)),
+      getMaxThreads(System.getenv(MAX_THREADS_ENV_VAR)));
+
   /**
    * Connect an input stream to be consumed by consumer.
    *
@@ -68,10 +97,9 @@ public class LineGobbler implements VoidCallable {
    * @param mdcScopeBuilder mdc scope to be used during consumption
    */
   public static void gobble(final InputStream is, final Consumer<String> consumer, final String caller, final MdcScope.Builder mdcScopeBuilder) {
-    final ExecutorService executor = Executors.newSingleThreadExecutor();
     final Map<String, String> mdc = MDC.getCopyOfContextMap();
-    final var gobbler = new LineGobbler(is, consumer, executor, mdc, caller, mdcScopeBuilder);
-    executor.submit(gobbler);
+    final var gobbler = new LineGobbler(is, consumer, mdc, caller, mdcScopeBuilder);
+    EXECUTOR.submit(gobbler);
   }
 
   /**
@@ -103,37 +131,116 @@ public class LineGobbler implements VoidCallable {
     gobble("\r\n----- END " + message + " -----\r\n\r\n");
   }
 
+  /**
+   * Get the number of streams currently being consumed.
+   *
+   * @return number of active gobblers
+   */
+  public static int getActiveGobblerCount() {
+    return ACTIVE_GOBBLERS.get();
+  }
+
+  /**
+   * Get the total number of lines consumed by all gobblers since the start of the process. Sample it
+   * periodically to derive a rate.
+   *
+   * @return number of lines gobbled
+   */
+  public static long getGobbledLineCount() {
+    return LINES_GOBBLED.sum();
+  }
+
+  static ExecutorService createExecutor(final boolean useVirtualThreads, final int maxThreads) {
+    if (useVirtualThreads) {
+      if (Runtime.version().feature() >= 21) {
+        try {
+          // resolved reflectively so that this keeps compiling against JDKs without virtual threads.
+          return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+          LOGGER.warn("Could not create a virtual thread executor for line gobblers, falling back to platform threads", e);
+        }
+      } else {
+        LOGGER.warn("{} is set but virtual threads are not supported by Java {}, falling back to platform threads",
+            USE_VIRTUAL_THREADS_ENV_VAR, Runtime.version().feature());
+      }
+    }
+
+    final ThreadPoolExecutor overflowExecutor = new ThreadPoolExecutor(0, maxThreads, THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+        new SynchronousQueue<>(), new ThreadFactoryBuilder().setNameFormat("line-gobbler-overflow-%d").setDaemon(true).build(),
+        (task, executor) -> {
+          if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Line gobbler executor is shut down");
+          }
+          LOGGER.warn("All {} line gobbler threads are busy, consuming the stream on the calling thread", 2 * maxThreads);
+          task.run();
+        });
+    return new ThreadPoolExecutor(0, maxThreads, THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(),
+        new ThreadFactoryBuilder().setNameFormat("line-gobbler-%d").setDaemon(true).build(),
+        (task, executor) -> {
+          if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Line gobbler executor is shut down");
+          }
+          overflowExecutor.execute(task);
+        }) {
+
+      @Override
+      public void shutdown() {
+        super.shutdown();
+        overflowExecutor.shutdown();
+      }
+
+      @Override
+      public List<Runnable> shutdownNow() {
+        final List<Runnable> tasks = super.shutdownNow();
+        overflowExecutor.shutdownNow();
+        return tasks;
+      }
+
+    };
+  }
+
+  static int getMaxThreads(final String value) {
+    if (value == null || value.isBlank()) {
+      return DEFAULT_MAX_THREADS;
+    }
+    try {
+      final int maxThreads = Integer.parseInt(value.trim());
+      if (maxThreads > 0) {
+        return maxThreads;
+      }
+    } catch (final NumberFormatException e) {
+      // fall through to the default
+    }
+    LOGGER.warn("Invalid {} value {}, using {}", MAX_THREADS_ENV_VAR, value, DEFAULT_MAX_THREADS);
+    return DEFAULT_MAX_THREADS;
+  }
+
   private final BufferedReader is;
   private final Consumer<String> consumer;
-  private final ExecutorService executor;
   private final Map<String, String> mdc;
   private final String caller;
   private final MdcScope.Builder containerLogMdcBuilder;
 
   LineGobbler(final InputStream is,
               final Consumer<String> consumer,
-              final ExecutorService executor,
               final Map<String, String> mdc) {
-    this(is, consumer, executor, mdc, GENERIC, MdcScope.DEFAULT_BUILDER);
+    this(is, consumer, mdc, GENERIC, MdcScope.DEFAULT_BUILDER);
   }
 
   LineGobbler(final InputStream is,
               final Consumer<String> consumer,
-              final ExecutorService executor,
               final Map<String, String> mdc,
               final MdcScope.Builder mdcScopeBuilder) {
-    this(is, consumer, executor, mdc, GENERIC, mdcScopeBuilder);
+    this(is, consumer, mdc, GENERIC, mdcScopeBuilder);
   }
 
   LineGobbler(final InputStream is,
               final Consumer<String> consumer,
-              final ExecutorService executor,
               final Map<String, String> mdc,
               final String caller,
               final MdcScope.Builder mdcScopeBuilder) {
     this.is = IOs.newBufferedReader(is);
     this.consumer = consumer;
-    this.executor = executor;
     this.mdc = mdc;
     this.caller = caller;
     this.containerLogMdcBuilder = mdcScopeBuilder;
@@ -141,13 +248,17 @@ public class LineGobbler implements VoidCallable {
 
   @Override
   public void voidCall() {
-    MDC.setContextMap(mdc);
+    // threads are shared between gobblers, so the MDC of the thread is restored once done.
+    final Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+    setMdc(mdc);
+    ACTIVE_GOBBLERS.incrementAndGet();
     try {
       String line = is.readLine();
       while (line != null) {
         try (final var mdcScope = containerLogMdcBuilder.build()) {
           consumer.accept(line);
         }
+        LINES_GOBBLED.increment();
         line = is.readLine();
       }
     } catch (final IOException i) {
@@ -155,7 +266,16 @@ public class LineGobbler implements VoidCallable {
     } catch (final Exception e) {
       LOGGER.error("{} gobbler error when reading stream", caller, e);
     } finally {
-      executor.shutdown();
+      ACTIVE_GOBBLERS.decrementAndGet();
+      setMdc(previousMdc);
+    }
+  }
+
+  private static void setMdc(final Map<String, String> contextMap) {
+    if (contextMap == null) {
+      MDC.clear();
+    } else {
+      MDC.setContextMap(contextMap);
     }
   }
 
@@ -7,20 +7,35 @@ package io.airbyte.commons.json;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.core.util.Separators;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
 import io.airbyte.commons.jackson.MoreMappers;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -45,6 +60,13 @@ public class Jsons {
   // Object Mapper is thread-safe
   private static final ObjectMapper OBJECT_MAPPER = MoreMappers.initMapper();
   private static final ObjectWriter OBJECT_WRITER = OBJECT_MAPPER.writer(new JsonPrettyPrinter());
+  // the caller of serialize(object, generator) decides when to flush.
+  private static final ObjectWriter STREAMING_WRITER = OBJECT_MAPPER.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+  // sorts map entries and object fields, so that equal objects are written as the same bytes.
+  private static final ObjectWriter CANONICAL_WRITER = MoreMappers.initMapper()
+      .registerModule(new SimpleModule().addSerializer(JsonNode.class, new SortedJsonNodeSerializer()))
+      .writer()
+      .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
 
   /**
    * Serialize an object to a JSON string.
@@ -61,6 +83,57 @@ public class Jsons {
     }
   }
 
+  /**
+   * Create a generator that serializes objects straight into a writer, without building an
+   * intermediate String for each of them. The generator is meant to be reused for many objects
+   * written with {@link #serialize(Object, JsonGenerator)}. It doesn't write anything between
+   * objects, so that callers can delimit them, e.g. with new lines.
+   *
+   * @param writer to write to. Closed when the generator is closed.
+   * @return generator
+   */
+  public static JsonGenerator createGenerator(final Writer writer) {
+    try {
+      final JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(writer);
+      generator.setRootValueSeparator(null);
+      return generator;
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Serialize an object with a generator created by {@link #createGenerator(Writer)}. Writes the same
+   * JSON as {@link #serialize(Object)}. Does not flush the generator.
+   *
+   * @param object to serialize
+   * @param generator to write with
+   * @param <T> type of object
+   */
+  public static <T> void serialize(final T object, final JsonGenerator generator) throws IOException {
+    STREAMING_WRITER.writeValue(generator, object);
+  }
+
+  /**
+   * Hash the canonical JSON representation of an object: map entries and the fields of JSON objects
+   * are sorted, so objects that are equal but were built in a different order have the same hash.
+   * The JSON is streamed into the hash function instead of being serialized to a String first.
+   *
+   * @param object to hash
+   * @param hashFunction hash function to use
+   * @param <T> type of object
+   * @return hash of the object
+   */
+  public static <T> HashCode canonicalHash(final T object, final HashFunction hashFunction) {
+    final Hasher hasher = hashFunction.newHasher();
+    try (final OutputStream outputStream = Funnels.asOutputStream(hasher)) {
+      CANONICAL_WRITER.writeValue(outputStream, object);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+    return hasher.hash();
+  }
+
   /**
    * Deserialize a JSON string to an object with a type.
    *
@@ -279,6 +352,31 @@ public class Jsons {
     return (T) deserialize(serialize(object), object.getClass());
   }
 
+  /**
+   * Deep copy a JSON-compatible object (i.e. JsonNode or a class generated by json2pojo) without
+   * going through a JSON string. A JsonNode is copied node by node. Any other object is written to a
+   * {@link TokenBuffer} and read back from it, so the copy is equal to the one a serialize/deserialize
+   * round trip would produce, except that numbers keep their exact type.
+   *
+   * @param object to copy
+   * @param <T> type of object
+   * @return copied object
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T deepCopy(final T object) {
+    if (object instanceof JsonNode) {
+      return (T) ((JsonNode) object).deepCopy();
+    }
+    try (final TokenBuffer buffer = new TokenBuffer(OBJECT_MAPPER, false)) {
+      OBJECT_MAPPER.writeValue(buffer, object);
+      try (final JsonParser parser = buffer.asParser()) {
+        return (T) OBJECT_MAPPER.readValue(parser, object.getClass());
+      }
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   /**
    * Convert a {@link JsonNode} object to a byte array.
    *
@@ -657,4 +755,38 @@ public class Jsons {
     setNested(json, keys, (node, finalKey) -> node.set(finalKey, value));
   }
 
+  /**
+   * Writes JSON objects with their fields sorted by name.
+   */
+  private static class SortedJsonNodeSerializer extends StdSerializer<JsonNode> {
+
+    SortedJsonNodeSerializer() {
+      super(JsonNode.class);
+    }
+
+    @Override
+    public void serialize(final JsonNode node, final JsonGenerator generator, final SerializerProvider provider) throws IOException {
+      if (node.isObject()) {
+        final List<String> fieldNames = new ArrayList<>(node.size());
+        node.fieldNames().forEachRemaining(fieldNames::add);
+        Collections.sort(fieldNames);
+        generator.writeStartObject();
+        for (final String fieldName : fieldNames) {
+          generator.writeFieldName(fieldName);
+          serialize(node.get(fieldName), generator, provider);
+        }
+        generator.writeEndObject();
+      } else if (node.isArray()) {
+        generator.writeStartArray();
+        for (final JsonNode element : node) {
+          serialize(element, generator, provider);
+        }
+        generator.writeEndArray();
+      } else {
+        ((JsonSerializable) node).serialize(generator, provider);
+      }
+    }
+
+  }
+
 }
@@ -14,6 +14,8 @@ import java.nio.charset.Charset;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.Logger;
@@ -42,10 +44,19 @@ public class MaskedDataInterceptor implements RewritePolicy {
 
   protected static final Logger logger = StatusLogger.getLogger();
 
+  private static final String MASK_REPLACEMENT = "\"$1\":\"" + AirbyteSecretConstants.SECRETS_MASK + "\"";
+  private static final Pattern PLAIN_PROPERTY_NAME = Pattern.compile("[A-Za-z0-9_-]+");
+
   /**
    * The pattern used to determine if a message contains sensitive data.
    */
-  private final Optional<String> pattern;
+  private final Optional<Pattern> pattern;
+
+  /**
+   * Cheap pre-filter that tells whether a message can match the pattern at all. Empty if the
+   * properties cannot be matched by keyword, in which case the pattern is always evaluated.
+   */
+  private final Optional<SecretKeywordMatcher> keywordMatcher;
 
   @PluginFactory
   public static MaskedDataInterceptor createPolicy(
@@ -55,17 +66,26 @@ public class MaskedDataInterceptor implements RewritePolicy {
   }
 
   private MaskedDataInterceptor(final String specMaskFile) {
-    this.pattern = buildPattern(specMaskFile);
+    final Set<String> maskableProperties = getMaskableProperties(specMaskFile);
+    this.pattern = buildPattern(maskableProperties);
+    this.keywordMatcher = buildKeywordMatcher(maskableProperties);
   }
 
   @Override
   public LogEvent rewrite(final LogEvent source) {
+    final String message = source.getMessage().getFormattedMessage();
+    final String maskedMessage = applyMask(message);
+    // most messages contain no secret, so they are passed through without building a new event.
+    if (maskedMessage == message) {
+      return source;
+    }
+
     return Log4jLogEvent.newBuilder()
         .setLoggerName(source.getLoggerName())
         .setMarker(source.getMarker())
         .setLoggerFqcn(source.getLoggerFqcn())
         .setLevel(source.getLevel())
-        .setMessage(new SimpleMessage(applyMask(source.getMessage().getFormattedMessage())))
+        .setMessage(new SimpleMessage(maskedMessage))
         .setThrown(source.getThrown())
         .setContextMap(source.getContextMap())
         .setContextStack(source.getContextStack())
@@ -79,14 +99,27 @@ public class MaskedDataInterceptor implements RewritePolicy {
    * Applies the mask to the message, if necessary.
    *
    * @param message The log message.
-   * @return The possibly masked log message.
+   * @return The masked log message, or the same message instance if nothing was masked.
    */
-  private String applyMask(final String message) {
-    if (pattern.isPresent()) {
-      return message.replaceAll(pattern.get(), "\"$1\":\"" + AirbyteSecretConstants.SECRETS_MASK + "\"");
-    } else {
+  @SuppressWarnings("PMD.CompareObjectsWithEquals")
+  String applyMask(final String message) {
+    if (pattern.isEmpty() || message == null) {
+      return message;
+    }
+    if (keywordMatcher.isPresent() && !keywordMatcher.get().matches(message)) {
       return message;
     }
+
+    final Matcher matcher = pattern.get().matcher(message);
+    if (!matcher.find()) {
+      return message;
+    }
+    final StringBuilder builder = new StringBuilder(message.length());
+    do {
+      matcher.appendReplacement(builder, MASK_REPLACEMENT);
+    } while (matcher.find());
+    matcher.appendTail(builder);
+    return builder.toString();
   }
 
   /**
@@ -110,12 +143,27 @@ public class MaskedDataInterceptor implements RewritePolicy {
   /**
    * Builds the maskable property matching pattern.
    *
-   * @param specMaskFile The spec mask file.
-   * @return The regular expression pattern used to find maskable properties.
+   * @param maskableProperties The maskable properties.
+   * @return The compiled regular expression pattern used to find maskable properties.
    */
-  private Optional<String> buildPattern(final String specMaskFile) {
-    final Set<String> maskableProperties = getMaskableProperties(specMaskFile);
-    return !maskableProperties.isEmpty() ? Optional.of(generatePattern(maskableProperties)) : Optional.empty();
+  private Optional<Pattern> buildPattern(final Set<String> maskableProperties) {
+    return !maskableProperties.isEmpty() ? Optional.of(Pattern.compile(generatePattern(maskableProperties))) : Optional.empty();
+  }
+
+  /**
+   * Builds the keyword pre-filter for the maskable properties.
+   *
+   * @param maskableProperties The maskable properties.
+   * @return The keyword matcher, or empty if the properties cannot be matched by keyword.
+   */
+  private Optional<SecretKeywordMatcher> buildKeywordMatcher(final Set<String> maskableProperties) {
+    // property names are used as regular expressions by the pattern. Only plain names can be
+    // pre-filtered by keyword.
+    final boolean allPlainNames = maskableProperties.stream().allMatch(property -> PLAIN_PROPERTY_NAME.matcher(property).matches());
+    if (maskableProperties.isEmpty() || !allPlainNames) {
+      return Optional.empty();
+    }
+    return Optional.of(new SecretKeywordMatcher(maskableProperties));
   }
 
   /**
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.logging;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick automaton that finds out, in a single pass over a message, whether it contains any of
+ * a set of quoted property names, e.g. {@code "password"}. Matching is ASCII case-insensitive, like
+ * the {@code (?i)} flag of the masking pattern.
+ * <p>
+ * It is used as a cheap pre-filter so that the masking regular expression only runs on the rare
+ * messages that can actually contain a secret.
+ */
+class SecretKeywordMatcher {
+
+  private static final int ASCII_SIZE = 128;
+  // characters that do not appear in any keyword share this class, which always leads back to the
+  // root.
+  private static final int OTHER_CHARS = 0;
+
+  private final int[] charClasses = new int[ASCII_SIZE];
+  private final int numClasses;
+  // transitions[state * numClasses + charClass] is the next state. Failure links are folded into the
+  // transitions, so scanning is a single lookup per character.
+  private final int[] transitions;
+  private final boolean[] accepting;
+
+  /**
+   * Build a matcher for the given property names.
+   *
+   * @param properties property names, all made of ASCII characters
+   */
+  SecretKeywordMatcher(final Collection<String> properties) {
+    final List<String> keywords = new ArrayList<>();
+    for (final String property : properties) {
+      keywords.add('"' + property.toLowerCase(Locale.ROOT) + '"');
+    }
+
+    int nextClass = OTHER_CHARS + 1;
+    for (final String keyword : keywords) {
+      for (int i = 0; i < keyword.length(); i++) {
+        final char c = keyword.charAt(i);
+        if (c >= ASCII_SIZE) {
+          throw new IllegalArgumentException("Only ASCII property names are supported: " + keyword);
+        }
+        if (charClasses[c] == OTHER_CHARS) {
+          charClasses[c] = nextClass++;
+          if (Character.isLetter(c)) {
+            charClasses[Character.toUpperCase(c)] = charClasses[c];
+          }
+        }
+      }
+    }
+    numClasses = nextClass;
+
+    // build the trie.
+    final List<int[]> trie = new ArrayList<>();
+    final List<Boolean> terminal = new ArrayList<>();
+    trie.add(newState());
+    terminal.add(false);
+    for (final String keyword : keywords) {
+      int state = 0;
+      for (int i = 0; i < keyword.length(); i++) {
+        final int charClass = charClasses[keyword.charAt(i)];
+        if (trie.get(state)[charClass] <= 0) {
+          trie.add(newState());
+          terminal.add(false);
+          trie.get(state)[charClass] = trie.size() - 1;
+        }
+        state = trie.get(state)[charClass];
+      }
+      terminal.set(state, true);
+    }
+
+    // breadth-first pass to resolve failure links into plain transitions.
+    transitions = new int[trie.size() * numClasses];
+    accepting = new boolean[trie.size()];
+    final int[] failure = new int[trie.size()];
+    final Queue<Integer> queue = new ArrayDeque<>();
+    for (int charClass = 0; charClass < numClasses; charClass++) {
+      final int next = trie.get(0)[charClass];
+      if (next > 0 && charClass != OTHER_CHARS) {
+        transitions[charClass] = next;
+        failure[next] = 0;
+        queue.add(next);
+      } else {
+        transitions[charClass] = 0;
+      }
+    }
+    accepting[0] = terminal.get(0);
+    while (!queue.isEmpty()) {
+      final int state = queue.poll();
+      accepting[state] = terminal.get(state) || accepting[failure[state]];
+      for (int charClass = 0; charClass < numClasses; charClass++) {
+        final int next = trie.get(state)[charClass];
+        if (next > 0 && charClass != OTHER_CHARS) {
+          transitions[state * numClasses + charClass] = next;
+          failure[next] = transitions[failure[state] * numClasses + charClass];
+          queue.add(next);
+        } else {
+          transitions[state * numClasses + charClass] = transitions[failure[state] * numClasses + charClass];
+        }
+      }
+    }
+  }
+
+  /**
+   * Check whether the message contains any of the quoted property names.
+   *
+   * @param message message to scan
+   * @return true if at least one property name was found
+   */
+  boolean matches(final String message) {
+    int state = 0;
+    for (int i = 0; i < message.length(); i++) {
+      final char c = message.charAt(i);
+      final int charClass = c < ASCII_SIZE ? charClasses[c] : OTHER_CHARS;
+      state = transitions[state * numClasses + charClass];
+      if (accepting[state]) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private int[] newState() {
+    return new int[numClasses];
+  }
+
+}
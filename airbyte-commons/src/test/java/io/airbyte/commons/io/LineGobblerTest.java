@@ -4,61 +4,187 @@
 
 package io.airbyte.commons.io;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.common.util.concurrent.MoreExecutors;
+import io.airbyte.commons.logging.MdcScope;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.slf4j.MDC;
 
 class LineGobblerTest {
 
+  @AfterEach
+  void tearDown() {
+    MDC.clear();
+  }
+
   @Test
   @SuppressWarnings("unchecked")
   void readAllLines() {
     final Consumer<String> consumer = Mockito.mock(Consumer.class);
     final InputStream is = new ByteArrayInputStream("test\ntest2\n".getBytes(StandardCharsets.UTF_8));
-    final ExecutorService executor = spy(MoreExecutors.newDirectExecutorService());
+    final long linesBefore = LineGobbler.getGobbledLineCount();
 
-    executor.submit(new LineGobbler(is, consumer, executor, ImmutableMap.of()));
+    new LineGobbler(is, consumer, ImmutableMap.of()).voidCall();
 
     Mockito.verify(consumer).accept("test");
     Mockito.verify(consumer).accept("test2");
-    Mockito.verify(executor).shutdown();
+    assertTrue(LineGobbler.getGobbledLineCount() - linesBefore >= 2);
   }
 
   @Test
   @SuppressWarnings("unchecked")
-  void shutdownOnSuccess() {
+  void releasesActiveCountOnError() {
     final Consumer<String> consumer = Mockito.mock(Consumer.class);
+    Mockito.doThrow(RuntimeException.class).when(consumer).accept(anyString());
     final InputStream is = new ByteArrayInputStream("test\ntest2\n".getBytes(StandardCharsets.UTF_8));
-    final ExecutorService executor = spy(MoreExecutors.newDirectExecutorService());
+    final int activeBefore = LineGobbler.getActiveGobblerCount();
 
-    executor.submit(new LineGobbler(is, consumer, executor, ImmutableMap.of()));
+    new LineGobbler(is, consumer, ImmutableMap.of()).voidCall();
 
-    Mockito.verify(consumer, Mockito.times(2)).accept(anyString());
-    Mockito.verify(executor).shutdown();
+    verify(consumer).accept(anyString());
+    assertEquals(activeBefore, LineGobbler.getActiveGobblerCount());
   }
 
   @Test
-  @SuppressWarnings("unchecked")
-  void shutdownOnError() {
-    final Consumer<String> consumer = Mockito.mock(Consumer.class);
-    Mockito.doThrow(RuntimeException.class).when(consumer).accept(anyString());
-    final InputStream is = new ByteArrayInputStream("test\ntest2\n".getBytes(StandardCharsets.UTF_8));
-    final ExecutorService executor = spy(MoreExecutors.newDirectExecutorService());
+  void propagatesMdcAndRestoresThreadMdc() {
+    MDC.put("thread_key", "thread_value");
+    final List<Map<String, String>> seenMdc = new ArrayList<>();
+    final InputStream is = new ByteArrayInputStream("test\n".getBytes(StandardCharsets.UTF_8));
 
-    executor.submit(new LineGobbler(is, consumer, executor, ImmutableMap.of()));
+    new LineGobbler(is, line -> seenMdc.add(MDC.getCopyOfContextMap()), Map.of("job_id", "1"), MdcScope.DEFAULT_BUILDER).voidCall();
 
-    verify(consumer).accept(anyString());
-    Mockito.verify(executor).shutdown();
+    assertEquals(List.of(Map.of("job_id", "1")), seenMdc);
+    assertEquals(Map.of("thread_key", "thread_value"), MDC.getCopyOfContextMap());
+  }
+
+  @Test
+  void clearsMdcWhenCallerHasNone() {
+    MDC.put("thread_key", "thread_value");
+    final List<String> seenValues = new ArrayList<>();
+    final InputStream is = new ByteArrayInputStream("test\n".getBytes(StandardCharsets.UTF_8));
+
+    new LineGobbler(is, line -> seenValues.add(MDC.get("thread_key")), null).voidCall();
+
+    assertEquals(Collections.singletonList(null), seenValues);
+  }
+
+  @Test
+  void gobblesOnSharedExecutorInOrder() throws InterruptedException {
+    final int numStreams = 20;
+    final int numLines = 1000;
+    final List<List<String>> received = new ArrayList<>();
+    final CountDownLatch done = new CountDownLatch(numStreams);
+    MDC.put("job_id", "1");
+
+    for (int i = 0; i < numStreams; i++) {
+      final List<String> lines = Collections.synchronizedList(new ArrayList<>());
+      received.add(lines);
+      final String content = IntStream.range(0, numLines).mapToObj(Integer::toString).collect(Collectors.joining("\n"));
+      LineGobbler.gobble(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), line -> {
+        assertTrue(Thread.currentThread().getName().startsWith("line-gobbler-"));
+        assertEquals("1", MDC.get("job_id"));
+        lines.add(line);
+        if (lines.size() == numLines) {
+          done.countDown();
+        }
+      });
+    }
+
+    assertTrue(done.await(30, TimeUnit.SECONDS));
+    final List<String> expected = IntStream.range(0, numLines).mapToObj(Integer::toString).collect(Collectors.toList());
+    received.forEach(lines -> assertEquals(expected, lines));
+  }
+
+  @Test
+  void testGetMaxThreads() {
+    assertEquals(256, LineGobbler.getMaxThreads(null));
+    assertEquals(256, LineGobbler.getMaxThreads(" "));
+    assertEquals(256, LineGobbler.getMaxThreads("not-a-number"));
+    assertEquals(256, LineGobbler.getMaxThreads("0"));
+    assertEquals(16, LineGobbler.getMaxThreads("16"));
+  }
+
+  @Test
+  void testGobblersDoNotWaitForBusyThreads() throws Exception {
+    final ExecutorService executor = LineGobbler.createExecutor(false, 1);
+    final CountDownLatch blocked = new CountDownLatch(1);
+    final CountDownLatch overflowRan = new CountDownLatch(1);
+    try {
+      // the only pooled thread is busy until the second task ran, which would deadlock if it was queued.
+      executor.submit(() -> {
+        blocked.await();
+        return null;
+      });
+      executor.submit(() -> {
+        assertTrue(Thread.currentThread().getName().startsWith("line-gobbler-overflow-"));
+        overflowRan.countDown();
+        blocked.countDown();
+      });
+
+      assertTrue(overflowRan.await(30, TimeUnit.SECONDS));
+    } finally {
+      blocked.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testGobblersRunOnTheCallerOnceAllThreadsAreBusy() throws Exception {
+    final ExecutorService executor = LineGobbler.createExecutor(false, 1);
+    final CountDownLatch blocked = new CountDownLatch(1);
+    final CountDownLatch started = new CountDownLatch(2);
+    try {
+      // occupies both the pooled and the overflow thread.
+      for (int i = 0; i < 2; i++) {
+        executor.submit(() -> {
+          started.countDown();
+          blocked.await();
+          return null;
+        });
+      }
+      assertTrue(started.await(30, TimeUnit.SECONDS));
+
+      final Thread caller = Thread.currentThread();
+      assertTrue(executor.submit(() -> Thread.currentThread() == caller).get());
+    } finally {
+      blocked.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testVirtualThreadsOnlyWhenSupported() throws Exception {
+    final ExecutorService executor = LineGobbler.createExecutor(true, 2);
+    try {
+      final String threadName = executor.submit(() -> Thread.currentThread().getName()).get();
+      if (Runtime.version().feature() < 21) {
+        assertTrue(threadName.startsWith("line-gobbler-"));
+      } else {
+        // virtual threads are unnamed by default.
+        assertTrue(threadName.isEmpty());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
   }
 
 }
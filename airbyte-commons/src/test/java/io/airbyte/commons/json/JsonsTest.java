@@ -6,25 +6,38 @@ package io.airbyte.commons.json;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.BinaryNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
@@ -58,6 +71,45 @@ class JsonsTest {
                 TEST2, DEF)));
   }
 
+  @Test
+  void testSerializeWithGenerator() throws IOException {
+    final StringWriter writer = new StringWriter();
+    final List<Object> objects = List.of(
+        new ToClass(ABC, 999, 888L),
+        ImmutableMap.of(TEST, ABC, TEST2, DEF),
+        Jsons.jsonNode(List.of("a", 1, new BigDecimal("1E+3"))));
+    try (final JsonGenerator generator = Jsons.createGenerator(writer)) {
+      for (final Object object : objects) {
+        Jsons.serialize(object, generator);
+        generator.writeRaw('\n');
+      }
+    }
+
+    assertEquals(
+        objects.stream().map(object -> Jsons.serialize(object) + "\n").collect(Collectors.joining()),
+        writer.toString());
+  }
+
+  @Test
+  void testCanonicalHash() {
+    final JsonNode json = Jsons.deserialize("{\"b\": {\"y\": [1, {\"q\": 2, \"p\": null}], \"x\": \"abc\"}, \"a\": 1.5}");
+    final JsonNode reordered = Jsons.deserialize("{\"a\": 1.5, \"b\": {\"x\": \"abc\", \"y\": [1, {\"p\": null, \"q\": 2}]}}");
+    final String canonical = "{\"a\":1.5,\"b\":{\"x\":\"abc\",\"y\":[1,{\"p\":null,\"q\":2}]}}";
+
+    assertEquals(Hashing.murmur3_128().hashString(canonical, StandardCharsets.UTF_8), Jsons.canonicalHash(json, Hashing.murmur3_128()));
+    assertEquals(Jsons.canonicalHash(json, Hashing.murmur3_128()), Jsons.canonicalHash(reordered, Hashing.murmur3_128()));
+    assertNotEquals(Jsons.canonicalHash(json, Hashing.murmur3_128()),
+        Jsons.canonicalHash(Jsons.deserialize("{\"a\": 1.5, \"b\": {\"x\": \"abc\", \"y\": [{\"p\": null, \"q\": 2}, 1]}}"),
+            Hashing.murmur3_128()));
+
+    final Map<String, Object> map = new HashMap<>();
+    map.put(TEST2, DEF);
+    map.put(TEST, Jsons.deserialize("{\"b\": 2, \"a\": 1}"));
+    assertEquals(
+        Hashing.murmur3_128().hashString("{\"test\":{\"a\":1,\"b\":2},\"test2\":\"def\"}", StandardCharsets.UTF_8),
+        Jsons.canonicalHash(map, Hashing.murmur3_128()));
+  }
+
   @Test
   void testSerializeJsonNode() {
     assertEquals(
@@ -194,6 +246,46 @@ class JsonsTest {
     assertEquals(expected, actual);
   }
 
+  @Test
+  void testDeepCopyJsonNode() {
+    final JsonNode expected = Jsons.deserialize("{\"a\":{\"b\":[1,2.5,\"c\",null,true]},\"d\":{}}");
+    final JsonNode actual = Jsons.deepCopy(expected);
+    assertNotSame(expected, actual);
+    assertNotSame(expected.get("a"), actual.get("a"));
+    assertEquals(expected, actual);
+
+    ((ObjectNode) actual.get("a")).put("e", "f");
+    assertFalse(expected.get("a").has("e"));
+  }
+
+  @Test
+  void testDeepCopyPojoWithNestedCollections() {
+    final Map<String, Object> nested = new HashMap<>();
+    nested.put("list", new ArrayList<>(List.of("a", 1, 2.5, true)));
+    nested.put("map", new HashMap<>(Map.of("k", "v")));
+    nested.put("nullValue", null);
+    final Map<String, Object> actual = Jsons.deepCopy(nested);
+
+    assertNotSame(nested, actual);
+    assertNotSame(nested.get("list"), actual.get("list"));
+    assertEquals(nested, actual);
+  }
+
+  @Test
+  void testDeepCopyMatchesSerializationRoundTrip() {
+    final Random random = new Random(42);
+    for (int i = 0; i < 500; i++) {
+      final JsonNode tree = randomTree(random, 0);
+      assertEquals(legacyClone(tree), Jsons.deepCopy(tree));
+
+      final Map<String, Object> map = Jsons.object(tree.isObject() ? tree : Jsons.jsonNode(Map.of("value", tree)), new TypeReference<>() {});
+      assertEquals(legacyClone(map), Jsons.deepCopy(map));
+    }
+
+    final ToClass toClass = new ToClass("abc", null, Long.MAX_VALUE);
+    assertEquals(legacyClone(toClass), Jsons.deepCopy(toClass));
+  }
+
   @Test
   void testToBytes() {
     final String jsonString = "{\"test\":\"abc\",\"type\":[\"object\"]}";
@@ -347,6 +439,37 @@ class JsonsTest {
 
   }
 
+  @SuppressWarnings("unchecked")
+  private static <T> T legacyClone(final T object) {
+    return (T) Jsons.deserialize(Jsons.serialize(object), object.getClass());
+  }
+
+  private static JsonNode randomTree(final Random random, final int depth) {
+    final int kind = depth >= 4 ? 2 + random.nextInt(6) : random.nextInt(8);
+    return switch (kind) {
+      case 0 -> {
+        final ObjectNode node = (ObjectNode) Jsons.emptyObject();
+        for (int i = random.nextInt(5); i > 0; i--) {
+          node.set("field" + random.nextInt(10), randomTree(random, depth + 1));
+        }
+        yield node;
+      }
+      case 1 -> {
+        final ArrayNode node = Jsons.arrayNode();
+        for (int i = random.nextInt(5); i > 0; i--) {
+          node.add(randomTree(random, depth + 1));
+        }
+        yield node;
+      }
+      case 2 -> TextNode.valueOf("text\u00e9" + random.nextInt());
+      case 3 -> Jsons.jsonNode(random.nextInt());
+      case 4 -> Jsons.jsonNode(random.nextLong());
+      case 5 -> Jsons.jsonNode(random.nextDouble() * 1000);
+      case 6 -> Jsons.jsonNode(random.nextBoolean());
+      default -> NullNode.getInstance();
+    };
+  }
+
   private static class ToClass {
 
     @JsonProperty("str")
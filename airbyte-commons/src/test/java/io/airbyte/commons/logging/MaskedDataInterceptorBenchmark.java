@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.logging;
+
+import io.airbyte.commons.constants.AirbyteSecretConstants;
+import io.airbyte.commons.resources.MoreResources;
+import io.airbyte.commons.yaml.Yamls;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the masking of log events by {@link MaskedDataInterceptor} with the previous
+ * implementation, which ran {@link String#replaceAll(String, String)} and rebuilt the event for every
+ * message.
+ * <p>
+ * The log lines mimic what a replication job emits: mostly plain connector and worker output, some
+ * JSON without secrets, and the occasional configuration containing secrets.
+ * <p>
+ * To use this, run the main method and look at the report printed at the end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MaskedDataInterceptorBenchmark {
+
+  private static final String MASK_FILE = "/benchmark_spec_secret_mask.yaml";
+
+  private static final List<String> PLAIN_LINES = List.of(
+      "2023-03-14 10:15:42 INFO i.a.w.g.DefaultReplicationWorker(replicate):287 - Records read: 125000 (51 MB)",
+      "2023-03-14 10:15:42 source > Syncing stream: users ",
+      "2023-03-14 10:15:43 destination > Flushing buffer of stream users (24 MB)",
+      "2023-03-14 10:15:43 INFO i.a.w.i.b.AirbyteMessageTracker(handleSourceEmittedState):177 - Source state emitted for stream users",
+      "2023-03-14 10:15:44 source > Read 50000 records from users table");
+  private static final List<String> JSON_LINES = List.of(
+      "2023-03-14 10:15:44 source > {\"type\": \"LOG\", \"log\": {\"level\": \"INFO\", \"message\": \"Checkpointing state of stream users\"}}",
+      "2023-03-14 10:15:45 destination > {\"stream\":\"users\",\"namespace\":\"public\",\"cursor\":\"2023-03-14T10:15:44Z\",\"records\":50000}");
+  private static final List<String> SECRET_LINES = List.of(
+      "2023-03-14 10:15:40 INFO i.a.w.p.DockerProcessFactory(create):136 - Preparing command: {\"host\":\"db.internal\",\"port\":5432,"
+          + "\"username\":\"airbyte\",\"password\":\"hunter2\",\"ssl\":true,\"tunnel_method\":{\"tunnel_user_password\":\"secret\"}}",
+      "2023-03-14 10:15:41 source > {\"api_key\": \"sk_live_51H\", \"start_date\": \"2021-01-01T00:00:00Z\", \"client_secret\": \"abc\"}");
+
+  /**
+   * Kind of log lines being masked.
+   */
+  @Param({"plain", "json", "mixed"})
+  public String workload;
+
+  private MaskedDataInterceptor interceptor;
+  private String legacyPattern;
+  private LogEvent[] events;
+  private int next;
+
+  @Setup
+  public void setup() throws IOException {
+    interceptor = MaskedDataInterceptor.createPolicy(MASK_FILE);
+    final List<String> properties = new ArrayList<>();
+    Yamls.deserialize(MoreResources.readResource(MASK_FILE.substring(1))).get("properties").forEach(property -> properties.add(property.asText()));
+    legacyPattern = "(?i)\"(" + String.join("|", properties) + ")\"\\s*:\\s*(\"(?:[^\"\\\\]|\\\\.)*\"|\\[[^]\\[]*]|\\d+)";
+
+    final List<String> lines = switch (workload) {
+      case "plain" -> PLAIN_LINES;
+      case "json" -> JSON_LINES;
+      default -> {
+        // roughly 1 line in 20 contains secrets.
+        final List<String> mixed = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+          mixed.addAll(PLAIN_LINES);
+          mixed.addAll(JSON_LINES);
+        }
+        mixed.addAll(SECRET_LINES);
+        yield mixed;
+      }
+    };
+    events = lines.stream()
+        .map(line -> Log4jLogEvent.newBuilder()
+            .setLoggerName(MaskedDataInterceptorBenchmark.class.getName())
+            .setLevel(Level.INFO)
+            .setMessage(new SimpleMessage(line))
+            .setTimeMillis(System.currentTimeMillis())
+            .build())
+        .toArray(LogEvent[]::new);
+  }
+
+  @Benchmark
+  public void rewrite(final Blackhole blackhole) {
+    blackhole.consume(interceptor.rewrite(nextEvent()));
+  }
+
+  @Benchmark
+  public void legacyRewrite(final Blackhole blackhole) {
+    final LogEvent source = nextEvent();
+    blackhole.consume(Log4jLogEvent.newBuilder()
+        .setLoggerName(source.getLoggerName())
+        .setMarker(source.getMarker())
+        .setLoggerFqcn(source.getLoggerFqcn())
+        .setLevel(source.getLevel())
+        .setMessage(new SimpleMessage(source.getMessage().getFormattedMessage()
+            .replaceAll(legacyPattern, "\"$1\":\"" + AirbyteSecretConstants.SECRETS_MASK + "\"")))
+        .setThrown(source.getThrown())
+        .setContextMap(source.getContextMap())
+        .setContextStack(source.getContextStack())
+        .setThreadName(source.getThreadName())
+        .setSource(source.getSource())
+        .setTimeMillis(source.getTimeMillis())
+        .build());
+  }
+
+  private LogEvent nextEvent() {
+    final LogEvent event = events[next];
+    next = (next + 1) % events.length;
+    return event;
+  }
+
+  public static void main(final String[] args) throws Exception {
+    org.openjdk.jmh.Main.main(new String[] {MaskedDataInterceptorBenchmark.class.getSimpleName()});
+  }
+
+}
@@ -8,12 +8,15 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.constants.AirbyteSecretConstants;
 import io.airbyte.commons.json.Jsons;
+import java.util.List;
+import java.util.Random;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.message.Message;
 import org.junit.jupiter.api.Test;
@@ -125,4 +128,36 @@ class MaskedDataInterceptorTest {
     });
   }
 
+  @Test
+  void testUnmaskedEventIsReturnedUntouched() {
+    final Message message = mock(Message.class);
+    final LogEvent logEvent = mock(LogEvent.class);
+    when(message.getFormattedMessage()).thenReturn(JSON_WITHOUT_SECRETS);
+    when(logEvent.getMessage()).thenReturn(message);
+
+    final MaskedDataInterceptor interceptor = MaskedDataInterceptor.createPolicy(TEST_SPEC_SECRET_MASK_YAML);
+
+    assertSame(logEvent, interceptor.rewrite(logEvent));
+  }
+
+  @Test
+  void testMaskingMatchesRegexReplaceAll() {
+    final MaskedDataInterceptor interceptor = MaskedDataInterceptor.createPolicy(TEST_SPEC_SECRET_MASK_YAML);
+    final String legacyPattern = "(?i)\"(foo|bar|baz)\"\\s*:\\s*(\"(?:[^\"\\\\]|\\\\.)*\"|\\[[^]\\[]*]|\\d+)";
+    final String legacyReplacement = "\"$1\":\"" + AirbyteSecretConstants.SECRETS_MASK + "\"";
+    final List<String> tokens = List.of("\"foo\"", "\"BAR\"", "\"baz\"", "\"prop\"", ":", " ", "\"value\"", "1234", "[1, 2]", "{", "}", ",",
+        "\\\"", "foo", "text");
+    final Random random = new Random(42);
+
+    for (int i = 0; i < 10_000; i++) {
+      final StringBuilder message = new StringBuilder();
+      final int length = random.nextInt(15);
+      for (int j = 0; j < length; j++) {
+        message.append(tokens.get(random.nextInt(tokens.size())));
+      }
+      final String expected = message.toString().replaceAll(legacyPattern, legacyReplacement);
+      assertEquals(expected, interceptor.applyMask(message.toString()), message.toString());
+    }
+  }
+
 }
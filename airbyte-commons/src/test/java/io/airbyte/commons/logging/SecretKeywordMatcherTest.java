@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class SecretKeywordMatcherTest {
+
+  private static final Set<String> PROPERTIES = Set.of("password", "api_key", "key", "access_token", "token");
+
+  @Test
+  void testMatchesQuotedProperties() {
+    final SecretKeywordMatcher matcher = new SecretKeywordMatcher(PROPERTIES);
+
+    assertTrue(matcher.matches("{\"password\":\"hunter2\"}"));
+    assertTrue(matcher.matches("config: {\"host\": \"localhost\", \"API_Key\": \"abc\"}"));
+    assertTrue(matcher.matches("\"access_token\""));
+    // overlapping keywords, found through failure links.
+    assertTrue(matcher.matches("\"access_toke\"token\""));
+    assertTrue(matcher.matches("ünïcödé \"Token\" ünïcödé"));
+  }
+
+  @Test
+  void testDoesNotMatchUnquotedOrPartialProperties() {
+    final SecretKeywordMatcher matcher = new SecretKeywordMatcher(PROPERTIES);
+
+    assertFalse(matcher.matches(""));
+    assertFalse(matcher.matches("Reading the password from the configuration"));
+    assertFalse(matcher.matches("{\"passwords\":\"hunter2\"}"));
+    assertFalse(matcher.matches("{\"my_api_key\":\"abc\"}"));
+    assertFalse(matcher.matches("{\"pass word\":\"hunter2\"}"));
+  }
+
+  @Test
+  void testMatchesLikeContainsIgnoringCase() {
+    final List<String> keywords = List.of("ab", "abc", "bca", "c", "caab");
+    final SecretKeywordMatcher matcher = new SecretKeywordMatcher(keywords);
+    final String alphabet = "aAbBc\"x";
+    final Random random = new Random(42);
+
+    for (int i = 0; i < 10_000; i++) {
+      final StringBuilder message = new StringBuilder();
+      final int length = random.nextInt(20);
+      for (int j = 0; j < length; j++) {
+        message.append(alphabet.charAt(random.nextInt(alphabet.length())));
+      }
+      final String lowerCaseMessage = message.toString().toLowerCase();
+      final boolean expected = keywords.stream().anyMatch(keyword -> lowerCaseMessage.contains('"' + keyword + '"'));
+      assertEquals(expected, matcher.matches(message.toString()), message.toString());
+    }
+  }
+
+}
@@ -582,6 +582,18 @@ public interface Configs {
    */
   List<String> getDDConstantTags();
 
+  /**
+   * Number of calls of a per-message operation aggregated into a single APM span. Tracing of
+   * per-message operations is disabled if it is not positive. Mainly for Airbyte internal use.
+   */
+  int getTraceBatchSize();
+
+  /**
+   * Time one call out of every N calls of a per-message operation when aggregating them into APM
+   * spans. Mainly for Airbyte internal use.
+   */
+  int getTraceSampleInterval();
+
   /**
    * Define whether to publish tracking events to Segment or log-only. Airbyte internal use.
    */
@@ -127,6 +127,8 @@ public class EnvConfigs implements Configs {
   private static final String CONTAINER_ORCHESTRATOR_SECRET_MOUNT_PATH = "CONTAINER_ORCHESTRATOR_SECRET_MOUNT_PATH";
   private static final String CONTAINER_ORCHESTRATOR_IMAGE = "CONTAINER_ORCHESTRATOR_IMAGE";
   public static final String DD_CONSTANT_TAGS = "DD_CONSTANT_TAGS";
+  public static final String TRACE_BATCH_SIZE = "TRACE_BATCH_SIZE";
+  public static final String TRACE_SAMPLE_INTERVAL = "TRACE_SAMPLE_INTERVAL";
   public static final String STATE_STORAGE_S3_BUCKET_NAME = "STATE_STORAGE_S3_BUCKET_NAME";
   public static final String STATE_STORAGE_S3_REGION = "STATE_STORAGE_S3_REGION";
   public static final String STATE_STORAGE_S3_ACCESS_KEY = "STATE_STORAGE_S3_ACCESS_KEY";
@@ -222,6 +224,8 @@ public class EnvConfigs implements Configs {
   private static final long DEFAULT_MAX_DISCOVER_WORKERS = 5;
   private static final long DEFAULT_MAX_SYNC_WORKERS = 5;
   private static final long DEFAULT_MAX_NOTIFY_WORKERS = 5;
+  private static final int DEFAULT_TRACE_BATCH_SIZE = 10_000;
+  private static final int DEFAULT_TRACE_SAMPLE_INTERVAL = 100;
   private static final String DEFAULT_NETWORK = "host";
   private static final Version DEFAULT_AIRBYTE_PROTOCOL_VERSION_MAX = new Version("0.3.0");
   private static final Version DEFAULT_AIRBYTE_PROTOCOL_VERSION_MIN = new Version("0.0.0");
@@ -983,6 +987,16 @@ public class EnvConfigs implements Configs {
         .collect(Collectors.toList());
   }
 
+  @Override
+  public int getTraceBatchSize() {
+    return getEnvOrDefault(TRACE_BATCH_SIZE, DEFAULT_TRACE_BATCH_SIZE);
+  }
+
+  @Override
+  public int getTraceSampleInterval() {
+    return getEnvOrDefault(TRACE_SAMPLE_INTERVAL, DEFAULT_TRACE_SAMPLE_INTERVAL);
+  }
+
   @Override
   public TrackingStrategy getTrackingStrategy() {
     return getEnvOrDefault(TRACKING_STRATEGY, TrackingStrategy.LOGGING, s -> {
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Downloads the objects making up a cloud log into a single local file.
+ * <p>
+ * Objects are streamed straight to disk by a small shared pool of threads, a bounded number of
+ * objects ahead of the one being appended to the output, so that neither the objects nor the whole
+ * log are ever held in memory. Each object is written to its own part file, which is appended to the
+ * output in listing order with {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}
+ * and then deleted.
+ */
+class ConcurrentLogDownloader {
+
+  private static final int DOWNLOAD_THREADS = 4;
+  // number of objects downloaded ahead of the one being appended, which bounds the disk used by
+  // part files.
+  private static final int DOWNLOAD_WINDOW = DOWNLOAD_THREADS * 2;
+
+  private static final ExecutorService DOWNLOAD_EXECUTOR = Executors.newFixedThreadPool(DOWNLOAD_THREADS,
+      new ThreadFactoryBuilder().setNameFormat("cloud-log-download-%d").setDaemon(true).build());
+
+  /**
+   * Streams a single object to a local file.
+   *
+   * @param <T> type of the object handle
+   */
+  @FunctionalInterface
+  interface ObjectDownload<T> {
+
+    void downloadTo(T object, Path target) throws IOException;
+
+  }
+
+  /**
+   * Download all objects, in order, into the output file.
+   *
+   * @param objects objects in the order they should appear in the output
+   * @param download streams one object to a file
+   * @param output file the objects are concatenated into
+   * @param <T> type of the object handle
+   */
+  static <T> void downloadAll(final Iterable<T> objects, final ObjectDownload<T> download, final File output) throws IOException {
+    final Deque<Future<Path>> inFlight = new ArrayDeque<>();
+    final Iterator<T> iterator = objects.iterator();
+    try (final FileChannel out = FileChannel.open(output.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (iterator.hasNext() || !inFlight.isEmpty()) {
+        while (iterator.hasNext() && inFlight.size() < DOWNLOAD_WINDOW) {
+          final T object = iterator.next();
+          inFlight.addLast(DOWNLOAD_EXECUTOR.submit(() -> {
+            final Path part = Files.createTempFile("log-part", null);
+            try {
+              download.downloadTo(object, part);
+            } catch (final IOException | RuntimeException e) {
+              Files.deleteIfExists(part);
+              throw e;
+            }
+            return part;
+          }));
+        }
+        appendPart(await(inFlight.removeFirst()), out);
+      }
+    } finally {
+      cancelAndCleanUp(inFlight);
+    }
+  }
+
+  private static void appendPart(final Path part, final FileChannel out) throws IOException {
+    try (final FileChannel in = FileChannel.open(part, StandardOpenOption.READ)) {
+      final long size = in.size();
+      long position = 0;
+      while (position < size) {
+        position += in.transferTo(position, size - position, out);
+      }
+    } finally {
+      Files.deleteIfExists(part);
+    }
+  }
+
+  private static Path await(final Future<Path> future) throws IOException {
+    try {
+      return future.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while downloading logs", e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException("Failed to download logs", e.getCause());
+    }
+  }
+
+  private static void cancelAndCleanUp(final Deque<Future<Path>> inFlight) {
+    for (final Future<Path> future : inFlight) {
+      // parts of downloads that already completed are deleted here, running ones delete their own part
+      // once interrupted.
+      if (!future.cancel(true)) {
+        try {
+          Files.deleteIfExists(future.get());
+        } catch (final IOException | ExecutionException | CancellationException e) {
+          // nothing to clean up
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+  }
+
+}
@@ -5,17 +5,16 @@
 package io.airbyte.config.helpers;
 
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Blob.BlobSourceOption;
 import com.google.cloud.storage.Storage;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import io.airbyte.commons.string.Strings;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
@@ -25,7 +24,7 @@ import org.slf4j.LoggerFactory;
 /**
  * GCS Logs.
  */
-@SuppressWarnings({"PMD.AvoidFileStream", "PMD.ShortVariable", "PMD.CloseResource", "PMD.AvoidInstantiatingObjectsInLoops"})
+@SuppressWarnings({"PMD.ShortVariable", "PMD.CloseResource", "PMD.AvoidInstantiatingObjectsInLoops"})
 public class GcsLogs implements CloudLogs {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(GcsLogs.class);
@@ -58,13 +57,10 @@ public class GcsLogs implements CloudLogs {
 
     final var randomName = Strings.addRandomSuffix("logs", "-", 5);
     final var tmpOutputFile = new File("/tmp/" + randomName);
-    final var os = new FileOutputStream(tmpOutputFile);
     LOGGER.debug("Start getting GCS objects.");
-    // Objects are returned in lexicographical order.
-    for (final Blob blob : blobs.iterateAll()) {
-      blob.downloadTo(os);
-    }
-    os.close();
+    // Objects are returned in lexicographical order. Pages are listed lazily as the download
+    // progresses.
+    ConcurrentLogDownloader.downloadAll(blobs.iterateAll(), (blob, target) -> blob.downloadTo(target), tmpOutputFile);
     LOGGER.debug("Done retrieving GCS logs: {}.", logPath);
     return tmpOutputFile;
   }
@@ -86,28 +82,19 @@ public class GcsLogs implements CloudLogs {
     }
     final var descendingTimestampBlobs = Lists.reverse(ascendingTimestampBlobs);
 
-    final var lines = new ArrayList<String>();
-    int linesRead = 0;
+    final var assembler = new LogTailAssembler(numLines);
 
     LOGGER.debug("Start getting GCS objects.");
-    while (linesRead <= numLines && !descendingTimestampBlobs.isEmpty()) {
-      final var poppedBlob = descendingTimestampBlobs.remove(0);
-      try (final var inMemoryData = new ByteArrayOutputStream()) {
-        poppedBlob.downloadTo(inMemoryData);
-        final var currFileLines = inMemoryData.toString(StandardCharsets.UTF_8).split("\n");
-        final List<String> currFileLinesReversed = Lists.reverse(List.of(currFileLines));
-        for (final var line : currFileLinesReversed) {
-          if (linesRead == numLines) {
-            break;
-          }
-          lines.add(0, line);
-          linesRead++;
-        }
+    // Only the tail of the newest objects is requested, one byte range at a time.
+    for (final Blob blob : descendingTimestampBlobs) {
+      if (assembler.isFull()) {
+        break;
       }
+      assembler.prependObject(blob.getSize(), (offset, buffer, length) -> readRange(blob, offset, buffer, length));
     }
 
     LOGGER.debug("Done retrieving GCS logs: {}.", logPath);
-    return lines;
+    return assembler.getLines();
   }
 
   @Override
@@ -130,4 +117,18 @@ public class GcsLogs implements CloudLogs {
     return gcs;
   }
 
+  private static int readRange(final Blob blob, final long offset, final byte[] buffer, final int length) throws IOException {
+    try (final ReadChannel reader = blob.reader()) {
+      reader.seek(offset);
+      reader.setChunkSize(length);
+      final ByteBuffer target = ByteBuffer.wrap(buffer, 0, length);
+      int read = 0;
+      // keep reading until the range is complete or the object ends
+      while (target.hasRemaining() && read >= 0) {
+        read = reader.read(target);
+      }
+      return target.position();
+    }
+  }
+
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads logs written to local disk without loading whole files in memory, so that serving the logs
+ * of attempts that produced gigabytes of output doesn't depend on their size.
+ * <p>
+ * Tails are read backwards from the end of the file with positional reads, one
+ * {@link LogTailAssembler#RANGE_SIZE} range at a time.
+ */
+public class LocalLogReader {
+
+  private LocalLogReader() {}
+
+  /**
+   * Get the last lines of a log.
+   *
+   * @param path path of the log
+   * @param numLines maximum number of lines to return
+   * @return last lines of the log, in the order they appear in it. Empty if the log doesn't exist.
+   * @throws IOException if the log could not be read
+   */
+  public static List<String> tail(final Path path, final int numLines) throws IOException {
+    if (path == null || !Files.exists(path)) {
+      return Collections.emptyList();
+    }
+
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final LogTailAssembler assembler = new LogTailAssembler(numLines);
+      assembler.prependObject(channel.size(), (offset, buffer, length) -> readFully(channel, offset, ByteBuffer.wrap(buffer, 0, length)));
+      return assembler.getLines();
+    }
+  }
+
+  private static int readFully(final FileChannel channel, final long offset, final ByteBuffer buffer) throws IOException {
+    final int length = buffer.remaining();
+    while (buffer.hasRemaining()) {
+      final int read = channel.read(buffer, offset + length - buffer.remaining());
+      if (read < 0) {
+        throw new IOException(String.format("Expected %d bytes at offset %d but the log ended", length, offset));
+      }
+    }
+    return length;
+  }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Assembles the last lines of a log that is read backwards, i.e. from the end of its newest object
+ * to the start of its oldest one, one byte range at a time.
+ * <p>
+ * Each object is split into lines the same way a {@link java.io.BufferedReader} would: a trailing
+ * line terminator does not produce an empty last line, and a line never spans two objects. Lines are
+ * only decoded once complete, so multi-byte characters split across two ranges are handled
+ * correctly.
+ * <p>
+ * Usage: for each object, from newest to oldest, call {@link #prependObject(long, RangeReader)}, or
+ * {@link #prepend(byte[], int)} with the object's byte ranges from last to first followed by
+ * {@link #endOfObject()}. Stop as soon as {@link #isFull()} returns true.
+ */
+class LogTailAssembler {
+
+  // size of the byte ranges requested from the end of each object.
+  static final int RANGE_SIZE = 64 * 1024;
+
+  private static final byte LINE_FEED = '\n';
+  private static final byte CARRIAGE_RETURN = '\r';
+
+  private final int maxLines;
+  private final Deque<String> lines = new ArrayDeque<>();
+  // segments of the line currently being assembled, in order. Ranges are read backwards, so new
+  // segments are added at the front.
+  private final Deque<byte[]> partialLine = new ArrayDeque<>();
+  private int partialLineLength = 0;
+  private boolean atEndOfObject = true;
+
+  LogTailAssembler(final int maxLines) {
+    this.maxLines = maxLines;
+  }
+
+  /**
+   * Reads a byte range of a single cloud object.
+   */
+  @FunctionalInterface
+  interface RangeReader {
+
+    /**
+     * Read the bytes of the object in [offset, offset + length).
+     *
+     * @return number of bytes copied into the buffer
+     */
+    int read(long offset, byte[] buffer, int length) throws IOException;
+
+  }
+
+  /**
+   * Feed a whole object, requesting it backwards one {@link #RANGE_SIZE} range at a time and stopping
+   * as soon as enough lines were assembled, so that only the tail of large objects is downloaded.
+   *
+   * @param objectSize size of the object in bytes
+   * @param reader reads byte ranges of the object
+   */
+  void prependObject(final long objectSize, final RangeReader reader) throws IOException {
+    final byte[] buffer = new byte[(int) Math.min(RANGE_SIZE, Math.max(objectSize, 0))];
+    long end = objectSize;
+    while (end > 0 && !isFull()) {
+      final long start = Math.max(0, end - RANGE_SIZE);
+      final int length = (int) (end - start);
+      final int read = reader.read(start, buffer, length);
+      if (read != length) {
+        throw new IOException(String.format("Expected %d bytes at offset %d but read %d", length, start, read));
+      }
+      prepend(buffer, length);
+      end = start;
+    }
+    endOfObject();
+  }
+
+  /**
+   * Feed the byte range that immediately precedes all the bytes fed so far for the current object.
+   *
+   * @param bytes buffer holding the range
+   * @param length number of valid bytes in the buffer, starting at 0
+   */
+  void prepend(final byte[] bytes, final int length) {
+    int end = length;
+    if (end > 0 && atEndOfObject) {
+      atEndOfObject = false;
+      // the terminator of the last line of an object does not start a new line.
+      if (bytes[end - 1] == LINE_FEED) {
+        end--;
+      }
+    }
+
+    for (int i = end - 1; i >= 0 && !isFull(); i--) {
+      if (bytes[i] == LINE_FEED) {
+        addPartial(bytes, i + 1, end);
+        completeLine();
+        end = i;
+      }
+    }
+    if (!isFull()) {
+      addPartial(bytes, 0, end);
+    }
+  }
+
+  /**
+   * Signal that the start of the current object was reached. Whatever was read before the first line
+   * terminator of the object forms its first line.
+   */
+  void endOfObject() {
+    if (!atEndOfObject && !isFull()) {
+      completeLine();
+    }
+    partialLine.clear();
+    partialLineLength = 0;
+    atEndOfObject = true;
+  }
+
+  boolean isFull() {
+    return lines.size() >= maxLines;
+  }
+
+  /**
+   * Get the assembled lines.
+   *
+   * @return lines in the order they appear in the log
+   */
+  List<String> getLines() {
+    return new ArrayList<>(lines);
+  }
+
+  private void addPartial(final byte[] bytes, final int from, final int to) {
+    if (to > from) {
+      final byte[] segment = new byte[to - from];
+      System.arraycopy(bytes, from, segment, 0, segment.length);
+      partialLine.addFirst(segment);
+      partialLineLength += segment.length;
+    }
+  }
+
+  private void completeLine() {
+    final byte[] line = new byte[partialLineLength];
+    int offset = 0;
+    for (final byte[] segment : partialLine) {
+      System.arraycopy(segment, 0, line, offset, segment.length);
+      offset += segment.length;
+    }
+    int length = line.length;
+    if (length > 0 && line[length - 1] == CARRIAGE_RETURN) {
+      length--;
+    }
+    lines.addFirst(new String(line, 0, length, StandardCharsets.UTF_8));
+    partialLine.clear();
+    partialLineLength = 0;
+  }
+
+}
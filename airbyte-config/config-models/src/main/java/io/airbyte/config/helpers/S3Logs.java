@@ -10,30 +10,28 @@ import io.airbyte.commons.string.Strings;
 import io.airbyte.config.storage.CloudStorageConfigs;
 import io.airbyte.config.storage.CloudStorageConfigs.S3ApiWorkerStorageConfig;
 import io.airbyte.config.storage.CloudStorageConfigs.WorkerStorageType;
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Object;
 
 /**
  * S3 logs.
  */
-@SuppressWarnings({"PMD.ShortVariable", "PMD.CloseResource", "PMD.AvoidFileStream"})
+@SuppressWarnings({"PMD.ShortVariable", "PMD.CloseResource"})
 public class S3Logs implements CloudLogs {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(S3Logs.class);
@@ -74,24 +72,23 @@ public class S3Logs implements CloudLogs {
     final var s3Bucket = getBucketName(configs.getStorageConfigs());
     final var randomName = Strings.addRandomSuffix("logs", "-", 5);
     final var tmpOutputFile = new File("/tmp/" + randomName);
-    final var os = new FileOutputStream(tmpOutputFile);
 
     LOGGER.debug("Start S3 list request.");
     final var listObjReq = ListObjectsV2Request.builder().bucket(s3Bucket)
         .prefix(logPath).maxKeys(pageSize).build();
     LOGGER.debug("Start getting S3 objects.");
-    // Objects are returned in lexicographical order.
-    for (final var page : s3Client.listObjectsV2Paginator(listObjReq)) {
-      for (final var objMetadata : page.contents()) {
-        final var getObjReq = GetObjectRequest.builder()
-            .key(objMetadata.key())
-            .bucket(s3Bucket)
-            .build();
-        final var data = s3Client.getObjectAsBytes(getObjReq).asByteArray();
-        os.write(data);
-      }
-    }
-    os.close();
+    // Objects are returned in lexicographical order. Pages are listed lazily as the download
+    // progresses.
+    final Iterable<S3Object> objects = s3Client.listObjectsV2Paginator(listObjReq).contents();
+    ConcurrentLogDownloader.downloadAll(objects, (object, target) -> {
+      final var getObjReq = GetObjectRequest.builder()
+          .key(object.key())
+          .bucket(s3Bucket)
+          .build();
+      // the SDK refuses to overwrite an existing file.
+      Files.delete(target);
+      s3Client.getObject(getObjReq, ResponseTransformer.toFile(target));
+    }, tmpOutputFile);
 
     LOGGER.debug("Done retrieving S3 logs: {}.", logPath);
     return tmpOutputFile;
@@ -99,32 +96,31 @@ public class S3Logs implements CloudLogs {
 
   @Override
   public List<String> tailCloudLog(final LogConfigs configs, final String logPath, final int numLines) throws IOException {
+    return tailCloudLog(getOrCreateS3Client(), configs, logPath, numLines);
+  }
+
+  @VisibleForTesting
+  static List<String> tailCloudLog(final S3Client s3Client, final LogConfigs configs, final String logPath, final int numLines)
+      throws IOException {
     LOGGER.debug("Tailing logs from S3 path: {}", logPath);
-    final S3Client s3Client = getOrCreateS3Client();
 
     final var s3Bucket = getBucketName(configs.getStorageConfigs());
     LOGGER.debug("Start making S3 list request.");
-    final List<String> ascendingTimestampKeys = getAscendingObjectKeys(s3Client, logPath, s3Bucket);
-    final var descendingTimestampKeys = Lists.reverse(ascendingTimestampKeys);
+    final List<S3Object> descendingTimestampObjs = Lists.reverse(getAscendingObjects(s3Client, logPath, s3Bucket));
 
-    final var lines = new ArrayList<String>();
-    int linesRead = 0;
+    final var assembler = new LogTailAssembler(numLines);
 
     LOGGER.debug("Start getting S3 objects.");
-    while (linesRead <= numLines && !descendingTimestampKeys.isEmpty()) {
-      final var poppedKey = descendingTimestampKeys.remove(0);
-      final List<String> currFileLinesReversed = Lists.reverse(getCurrFile(s3Client, s3Bucket, poppedKey));
-      for (final var line : currFileLinesReversed) {
-        if (linesRead == numLines) {
-          break;
-        }
-        lines.add(0, line);
-        linesRead++;
+    // Only the tail of the newest objects is requested, one byte range at a time.
+    for (final S3Object object : descendingTimestampObjs) {
+      if (assembler.isFull()) {
+        break;
       }
+      assembler.prependObject(object.size(), (offset, buffer, length) -> readRange(s3Client, s3Bucket, object.key(), offset, buffer, length));
     }
 
     LOGGER.debug("Done retrieving S3 logs: {}.", logPath);
-    return lines;
+    return assembler.getLines();
   }
 
   @Override
@@ -156,35 +152,36 @@ public class S3Logs implements CloudLogs {
   }
 
   private static List<String> getAscendingObjectKeys(final S3Client s3Client, final String logPath, final String s3Bucket) {
+    return getAscendingObjects(s3Client, logPath, s3Bucket).stream().map(S3Object::key).collect(Collectors.toList());
+  }
+
+  private static List<S3Object> getAscendingObjects(final S3Client s3Client, final String logPath, final String s3Bucket) {
     final var listObjReq = ListObjectsV2Request.builder().bucket(s3Bucket).prefix(logPath).build();
-    final var ascendingTimestampObjs = new ArrayList<String>();
+    final var ascendingTimestampObjs = new ArrayList<S3Object>();
 
     // Objects are returned in lexicographical order.
     for (final var page : s3Client.listObjectsV2Paginator(listObjReq)) {
-      for (final var objMetadata : page.contents()) {
-        ascendingTimestampObjs.add(objMetadata.key());
-      }
+      ascendingTimestampObjs.addAll(page.contents());
     }
     return ascendingTimestampObjs;
   }
 
-  private static List<String> getCurrFile(final S3Client s3Client, final String s3Bucket, final String poppedKey) throws IOException {
+  private static int readRange(final S3Client s3Client,
+                               final String s3Bucket,
+                               final String key,
+                               final long offset,
+                               final byte[] buffer,
+                               final int length) {
     final var getObjReq = GetObjectRequest.builder()
-        .key(poppedKey)
+        .key(key)
         .bucket(s3Bucket)
+        // HTTP ranges are inclusive.
+        .range(String.format("bytes=%d-%d", offset, offset + length - 1))
         .build();
-
-    final var data = s3Client.getObjectAsBytes(getObjReq).asByteArray();
-    final var is = new ByteArrayInputStream(data);
-    final var currentFileLines = new ArrayList<String>();
-    try (final var reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-      String temp = reader.readLine();
-      while (temp != null) {
-        currentFileLines.add(temp);
-        temp = reader.readLine();
-      }
-    }
-    return currentFileLines;
+    final var data = s3Client.getObjectAsBytes(getObjReq).asByteBuffer();
+    final int read = Math.min(data.remaining(), length);
+    data.get(buffer, 0, read);
+    return read;
   }
 
 }
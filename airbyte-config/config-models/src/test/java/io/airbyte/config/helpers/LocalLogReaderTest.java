@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LocalLogReaderTest {
+
+  // larger than the 2 GiB that int offsets and byte arrays can address. The file is sparse, so this
+  // takes no disk space.
+  private static final long HOLE_SIZE = 3L * 1024 * 1024 * 1024;
+  private static final String LOG_END = "\nline 1\nline 2\r\nline 3\n";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void testTailOfMultiGigabyteLog() throws IOException {
+    final Path sparseLog = tempDir.resolve("sparse.log");
+    try (final RandomAccessFile file = new RandomAccessFile(sparseLog.toFile(), "rw")) {
+      file.seek(HOLE_SIZE);
+      file.write(LOG_END.getBytes(StandardCharsets.UTF_8));
+    }
+
+    assertEquals(List.of("line 1", "line 2", "line 3"), LocalLogReader.tail(sparseLog, 3));
+    assertEquals(List.of("line 3"), LocalLogReader.tail(sparseLog, 1));
+  }
+
+  @Test
+  void testTailOfSmallLog() throws IOException {
+    final Path log = tempDir.resolve("small.log");
+    Files.writeString(log, "héllo\r\n\nwörld");
+
+    assertEquals(List.of("héllo", "", "wörld"), LocalLogReader.tail(log, 10));
+  }
+
+  @Test
+  void testMissingLog() throws IOException {
+    assertEquals(Collections.emptyList(), LocalLogReader.tail(tempDir.resolve("missing.log"), 10));
+  }
+
+}
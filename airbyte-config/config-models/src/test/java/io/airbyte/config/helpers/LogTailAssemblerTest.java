@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LogTailAssemblerTest {
+
+  private static final List<String> TOKENS = List.of("a", "b", "é", "\n", "\r\n");
+
+  @Test
+  void testTailAcrossObjects() throws IOException {
+    final LogTailAssembler assembler = new LogTailAssembler(4);
+    feed(assembler, "Line 7\nLine 8\nLine 9\n", 3);
+    assertFalse(assembler.isFull());
+    feed(assembler, "Line 4\nLine 5\nLine 6\n", 3);
+
+    assertTrue(assembler.isFull());
+    assertEquals(List.of("Line 6", "Line 7", "Line 8", "Line 9"), assembler.getLines());
+  }
+
+  @Test
+  void testLinesDoNotSpanObjects() throws IOException {
+    final LogTailAssembler assembler = new LogTailAssembler(10);
+    feed(assembler, "second\n", 2);
+    feed(assembler, "first without terminator", 5);
+
+    assertEquals(List.of("first without terminator", "second"), assembler.getLines());
+  }
+
+  @Test
+  void testEmptyObjectsAndLines() throws IOException {
+    final LogTailAssembler assembler = new LogTailAssembler(10);
+    feed(assembler, "", 1);
+    feed(assembler, "a\r\n\nb\n", 1);
+    feed(assembler, "", 1);
+
+    assertEquals(List.of("a", "", "b"), assembler.getLines());
+  }
+
+  @Test
+  void testMultiByteCharactersSplitAcrossRanges() throws IOException {
+    final String content = "héllo wörld\n日本語のログ\n🚀 launched\n";
+    for (int rangeSize = 1; rangeSize < 8; rangeSize++) {
+      final LogTailAssembler assembler = new LogTailAssembler(10);
+      feed(assembler, content, rangeSize);
+      assertEquals(List.of("héllo wörld", "日本語のログ", "🚀 launched"), assembler.getLines());
+    }
+  }
+
+  @Test
+  void testOnlyTailOfLargeObjectIsRead() throws IOException {
+    final StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 100_000; i++) {
+      content.append("Line ").append(i).append('\n');
+    }
+    final byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+    final AtomicInteger rangesRead = new AtomicInteger();
+
+    final LogTailAssembler assembler = new LogTailAssembler(3);
+    assembler.prependObject(bytes.length, (offset, buffer, length) -> {
+      rangesRead.incrementAndGet();
+      System.arraycopy(bytes, (int) offset, buffer, 0, length);
+      return length;
+    });
+
+    assertEquals(List.of("Line 99997", "Line 99998", "Line 99999"), assembler.getLines());
+    assertEquals(1, rangesRead.get());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 7, 64})
+  void testMatchesBufferedReader(final int rangeSize) throws IOException {
+    final Random random = new Random(rangeSize);
+    final List<String> objects = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      final StringBuilder object = new StringBuilder();
+      final int length = random.nextInt(40);
+      for (int j = 0; j < length; j++) {
+        object.append(TOKENS.get(random.nextInt(TOKENS.size())));
+      }
+      objects.add(object.toString());
+    }
+
+    final List<String> allLines = new ArrayList<>();
+    for (final String object : objects) {
+      try (final BufferedReader reader = new BufferedReader(new StringReader(object))) {
+        reader.lines().forEach(allLines::add);
+      }
+    }
+
+    for (final int numLines : List.of(1, 5, allLines.size(), allLines.size() + 10)) {
+      final LogTailAssembler assembler = new LogTailAssembler(numLines);
+      for (int i = objects.size() - 1; i >= 0 && !assembler.isFull(); i--) {
+        feed(assembler, objects.get(i), rangeSize);
+      }
+      final List<String> expected = allLines.subList(Math.max(0, allLines.size() - numLines), allLines.size());
+      assertEquals(expected, assembler.getLines());
+    }
+  }
+
+  private static void feed(final LogTailAssembler assembler, final String object, final int rangeSize) throws IOException {
+    final byte[] bytes = object.getBytes(StandardCharsets.UTF_8);
+    int end = bytes.length;
+    while (end > 0 && !assembler.isFull()) {
+      final int start = Math.max(0, end - rangeSize);
+      final byte[] range = new byte[end - start];
+      System.arraycopy(bytes, start, range, 0, range.length);
+      assembler.prepend(range, range.length);
+      end = start;
+    }
+    assembler.endOfObject();
+  }
+
+}
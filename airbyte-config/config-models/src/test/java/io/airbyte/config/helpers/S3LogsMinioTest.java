@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.airbyte.config.storage.CloudStorageConfigs;
+import io.airbyte.config.storage.CloudStorageConfigs.MinioConfig;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.HttpWaitStrategy;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+/**
+ * Runs {@link S3Logs} against a local MinIO server, so that ranged tails and concurrent downloads
+ * are exercised without access to a real bucket.
+ */
+class S3LogsMinioTest {
+
+  private static final String ACCESS_KEY = "minio";
+  private static final String SECRET_KEY = "minio123";
+  private static final String BUCKET_NAME = "airbyte-logs";
+  private static final int MINIO_PORT = 9000;
+
+  private static GenericContainer<?> minio;
+  private static S3Client s3Client;
+  private static LogConfigs logConfigs;
+
+  private String logPath;
+
+  @BeforeAll
+  static void setup() {
+    minio = new GenericContainer<>(DockerImageName.parse("minio/minio:latest"))
+        .withEnv("MINIO_ROOT_USER", ACCESS_KEY)
+        .withEnv("MINIO_ROOT_PASSWORD", SECRET_KEY)
+        .withCommand("server", "/data")
+        .withExposedPorts(MINIO_PORT)
+        .waitingFor(new HttpWaitStrategy().forPath("/minio/health/live").forPort(MINIO_PORT));
+    minio.start();
+
+    final String endpoint = String.format("http://%s:%d", minio.getHost(), minio.getMappedPort(MINIO_PORT));
+    s3Client = S3Client.builder()
+        .endpointOverride(URI.create(endpoint))
+        .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(ACCESS_KEY, SECRET_KEY)))
+        .region(Region.US_EAST_1)
+        // the bucket cannot be addressed as a subdomain of the container host.
+        .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+        .build();
+    s3Client.createBucket(CreateBucketRequest.builder().bucket(BUCKET_NAME).build());
+    logConfigs = new LogConfigs(Optional.of(CloudStorageConfigs.minio(new MinioConfig(BUCKET_NAME, ACCESS_KEY, SECRET_KEY, endpoint))));
+  }
+
+  @AfterAll
+  static void tearDown() {
+    s3Client.close();
+    minio.stop();
+  }
+
+  @BeforeEach
+  void beforeEach() {
+    logPath = "job-logs/" + UUID.randomUUID();
+  }
+
+  @Test
+  void testTail() throws IOException {
+    putObject("1-file", "Line 1\nLine 2\nLine 3\n");
+    putObject("2-file", "Line 4\nLine 5\nLine 6\n");
+    putObject("3-file", "Line 7\nLine 8\nLine 9\n");
+
+    assertEquals(List.of("Line 4", "Line 5", "Line 6", "Line 7", "Line 8", "Line 9"), S3Logs.tailCloudLog(s3Client, logConfigs, logPath, 6));
+    assertEquals(List.of("Line 9"), S3Logs.tailCloudLog(s3Client, logConfigs, logPath, 1));
+    assertEquals(9, S3Logs.tailCloudLog(s3Client, logConfigs, logPath, 100).size());
+  }
+
+  @Test
+  void testTailOfObjectsLargerThanOneRange() throws IOException {
+    final List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      final StringBuilder content = new StringBuilder();
+      for (int j = 0; j < 20_000; j++) {
+        final String line = String.format("File %d – line %d", i, j);
+        content.append(line).append('\n');
+        expected.add(line);
+      }
+      putObject(i + "-file", content.toString());
+    }
+
+    final int numLines = 30_000;
+    assertEquals(expected.subList(expected.size() - numLines, expected.size()), S3Logs.tailCloudLog(s3Client, logConfigs, logPath, numLines));
+  }
+
+  @Test
+  void testTailOfEmptyLog() throws IOException {
+    putObject("1-file", "");
+
+    assertEquals(List.of(), S3Logs.tailCloudLog(s3Client, logConfigs, logPath, 10));
+    assertEquals(List.of(), S3Logs.tailCloudLog(s3Client, logConfigs, "missing/" + logPath, 10));
+  }
+
+  /**
+   * Uses a small page size so that the listing is paginated while objects are being downloaded.
+   */
+  @Test
+  void testRetrieveAllLogs() throws IOException {
+    final List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      final String line = "Line " + i;
+      putObject(String.format("%02d-file", i), line + "\n");
+      expected.add(line);
+    }
+
+    final File data = S3Logs.getFile(s3Client, logConfigs, logPath, 6);
+    try {
+      assertEquals(expected, Files.readAllLines(data.toPath(), StandardCharsets.UTF_8));
+    } finally {
+      Files.delete(data.toPath());
+    }
+  }
+
+  private void putObject(final String name, final String content) {
+    final PutObjectRequest objectRequest = PutObjectRequest.builder()
+        .bucket(BUCKET_NAME)
+        .key(logPath + "/" + name)
+        .build();
+    s3Client.putObject(objectRequest, RequestBody.fromString(content, StandardCharsets.UTF_8));
+  }
+
+}
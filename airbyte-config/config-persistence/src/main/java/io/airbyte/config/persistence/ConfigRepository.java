@@ -32,7 +32,6 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
 import com.google.common.collect.Sets;
-import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.json.Jsons;
@@ -51,6 +50,7 @@ import io.airbyte.config.DeclarativeManifest;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.DestinationOAuthParameter;
 import io.airbyte.config.Geography;
+import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
 import io.airbyte.config.OperatorDbt;
 import io.airbyte.config.OperatorNormalization;
 import io.airbyte.config.OperatorWebhook;
@@ -69,6 +69,8 @@ import io.airbyte.db.instance.configs.jooq.generated.Tables;
 import io.airbyte.db.instance.configs.jooq.generated.enums.ActorType;
 import io.airbyte.db.instance.configs.jooq.generated.enums.ReleaseStage;
 import io.airbyte.db.instance.configs.jooq.generated.enums.StatusType;
+import io.airbyte.db.instance.configs.jooq.generated.tables.Actor;
+import io.airbyte.db.instance.configs.jooq.generated.tables.ActorDefinition;
 import io.airbyte.db.instance.configs.jooq.generated.tables.records.NotificationConfigurationRecord;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.HeartbeatMaxSecondsBetweenMessages;
@@ -84,6 +86,7 @@ import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -134,6 +137,46 @@ public class ConfigRepository {
 
   }
 
+  /**
+   * Query object for searching sources or destinations. Null criteria match any value.
+   *
+   * @param actorId search actors with this id
+   * @param actorDefinitionId search actors with this definition id
+   * @param workspaceId search actors in this workspace
+   * @param name search actors with this name
+   * @param actorDefinitionName search actors whose definition has this name
+   */
+  public record ActorSearchQuery(UUID actorId, UUID actorDefinitionId, UUID workspaceId, String name, String actorDefinitionName) {
+
+  }
+
+  /**
+   * Query object for searching connections. Null criteria match any value.
+   *
+   * @param connectionId search connections with this id
+   * @param sourceId search connections with this source id
+   * @param destinationId search connections with this destination id
+   * @param name search connections with this name
+   * @param namespaceFormat search connections with this namespace format
+   * @param namespaceDefinition search connections with this namespace definition
+   * @param prefix search connections with this prefix
+   * @param status search connections with this status
+   * @param source search connections whose source matches this query
+   * @param destination search connections whose destination matches this query
+   */
+  public record StandardSyncSearchQuery(UUID connectionId,
+                                        UUID sourceId,
+                                        UUID destinationId,
+                                        String name,
+                                        String namespaceFormat,
+                                        NamespaceDefinitionType namespaceDefinition,
+                                        String prefix,
+                                        StandardSync.Status status,
+                                        ActorSearchQuery source,
+                                        ActorSearchQuery destination) {
+
+  }
+
   /**
    * Query object for paginated querying of connections in multiple workspaces.
    *
@@ -175,6 +218,10 @@ public class ConfigRepository {
           CONNECTOR_BUILDER_PROJECT.ACTOR_DEFINITION_ID, CONNECTOR_BUILDER_PROJECT.TOMBSTONE,
           field(CONNECTOR_BUILDER_PROJECT.MANIFEST_DRAFT.isNotNull()).as("hasDraft"));
   private static final UUID VOID_UUID = new UUID(0, 0);
+  private static final List<Field<?>> LIST_VIEW_CONNECTION_FIELDS =
+      Arrays.asList(CONNECTION.ID, CONNECTION.NAME, CONNECTION.SOURCE_ID, CONNECTION.DESTINATION_ID, CONNECTION.STATUS,
+          CONNECTION.SCHEDULE, CONNECTION.MANUAL, CONNECTION.SCHEDULE_TYPE, CONNECTION.SCHEDULE_DATA, CONNECTION.SOURCE_CATALOG_ID,
+          CONNECTION.BREAKING_CHANGE);
 
   private final ExceptionWrappingDatabase database;
   private final ActorDefinitionMigrator actorDefinitionMigrator;
@@ -554,6 +601,19 @@ public class ConfigRepository {
     });
   }
 
+  /**
+   * Write source definitions in a single transaction.
+   *
+   * @param sourceDefinitions source definitions
+   * @throws IOException - you never know when you IO
+   */
+  public void writeStandardSourceDefinitions(final List<StandardSourceDefinition> sourceDefinitions) throws IOException {
+    database.transaction(ctx -> {
+      ConfigWriter.writeStandardSourceDefinition(sourceDefinitions, ctx);
+      return null;
+    });
+  }
+
   /**
    * Update the docker image tag for multiple actor definitions at once.
    *
@@ -728,6 +788,19 @@ public class ConfigRepository {
     });
   }
 
+  /**
+   * Write destination definitions in a single transaction.
+   *
+   * @param destinationDefinitions destination definitions
+   * @throws IOException - you never know when you IO
+   */
+  public void writeStandardDestinationDefinitions(final List<StandardDestinationDefinition> destinationDefinitions) throws IOException {
+    database.transaction(ctx -> {
+      ConfigWriter.writeStandardDestinationDefinition(destinationDefinitions, ctx);
+      return null;
+    });
+  }
+
   /**
    * Write custom destination definition.
    *
@@ -982,6 +1055,18 @@ public class ConfigRepository {
     return listSourceQuery(Optional.empty()).toList();
   }
 
+  /**
+   * Search sources that are not tombstoned. Does not contain secrets.
+   *
+   * @param searchQuery query
+   * @return sources matching the query
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  public List<SourceConnection> searchSourceConnections(final ActorSearchQuery searchQuery) throws IOException {
+    final Result<Record> result = searchActors(ActorType.source, searchQuery);
+    return result.stream().map(DbConverter::buildSourceConnection).collect(Collectors.toList());
+  }
+
   /**
    * Returns all sources for a workspace. Does not contain secrets.
    *
@@ -1110,6 +1195,28 @@ public class ConfigRepository {
     return listDestinationQuery(Optional.empty()).toList();
   }
 
+  /**
+   * Search destinations that are not tombstoned. Does not contain secrets.
+   *
+   * @param searchQuery query
+   * @return destinations matching the query
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  public List<DestinationConnection> searchDestinationConnections(final ActorSearchQuery searchQuery) throws IOException {
+    final Result<Record> result = searchActors(ActorType.destination, searchQuery);
+    return result.stream().map(DbConverter::buildDestinationConnection).collect(Collectors.toList());
+  }
+
+  private Result<Record> searchActors(final ActorType actorType, final ActorSearchQuery searchQuery) throws IOException {
+    return database.query(ctx -> ctx.select(ACTOR.asterisk())
+        .from(ACTOR)
+        .join(ACTOR_DEFINITION).on(ACTOR.ACTOR_DEFINITION_ID.eq(ACTOR_DEFINITION.ID))
+        .where(ACTOR.ACTOR_TYPE.eq(actorType))
+        .andNot(ACTOR.TOMBSTONE)
+        .and(actorSearchCondition(searchQuery, ACTOR, ACTOR_DEFINITION))
+        .fetch());
+  }
+
   /**
    * Returns all destinations for a workspace. Does not contain secrets.
    *
@@ -1328,6 +1435,108 @@ public class ConfigRepository {
     return getStandardSyncsFromResult(connectionAndOperationIdsResult, getNotificationConfigurationByConnectionIds(connectionIds));
   }
 
+  /**
+   * Search connections that are not deprecated. The criteria of the query are evaluated by the
+   * database, joining the source and destination of each connection.
+   *
+   * @param searchQuery query
+   * @return connections matching the query
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  public List<StandardSync> searchStandardSyncs(final StandardSyncSearchQuery searchQuery) throws IOException {
+    // Table aliasing to help have a readable join
+    final Actor source = ACTOR.as("source");
+    final Actor destination = ACTOR.as("destination");
+    final ActorDefinition sourceDef = ACTOR_DEFINITION.as("sourceDef");
+    final ActorDefinition destDef = ACTOR_DEFINITION.as("destDef");
+
+    final Result<Record> connectionAndOperationIdsResult = database.query(ctx -> ctx
+        // SELECT connection.* plus the connection's associated operationIds as a concatenated list
+        .select(
+            CONNECTION.asterisk(),
+            groupConcat(CONNECTION_OPERATION.OPERATION_ID).separator(OPERATION_IDS_AGG_DELIMITER).as(OPERATION_IDS_AGG_FIELD))
+        .from(CONNECTION)
+
+        // left join includes connections that don't have any connection_operations
+        .leftJoin(CONNECTION_OPERATION).on(CONNECTION_OPERATION.CONNECTION_ID.eq(CONNECTION.ID))
+        .join(source).on(CONNECTION.SOURCE_ID.eq(source.ID))
+        .join(sourceDef).on(source.ACTOR_DEFINITION_ID.eq(sourceDef.ID))
+        .join(destination).on(CONNECTION.DESTINATION_ID.eq(destination.ID))
+        .join(destDef).on(destination.ACTOR_DEFINITION_ID.eq(destDef.ID))
+        // connections without a status are not deprecated
+        .where(CONNECTION.STATUS.isDistinctFrom(StatusType.deprecated)
+            .and(searchQuery.connectionId == null ? noCondition() : CONNECTION.ID.eq(searchQuery.connectionId))
+            .and(searchQuery.sourceId == null ? noCondition() : CONNECTION.SOURCE_ID.eq(searchQuery.sourceId))
+            .and(searchQuery.destinationId == null ? noCondition() : CONNECTION.DESTINATION_ID.eq(searchQuery.destinationId))
+            .and(searchQuery.name == null ? noCondition() : CONNECTION.NAME.eq(searchQuery.name))
+            .and(searchQuery.namespaceFormat == null ? noCondition() : CONNECTION.NAMESPACE_FORMAT.eq(searchQuery.namespaceFormat))
+            .and(searchQuery.namespaceDefinition == null ? noCondition()
+                : CONNECTION.NAMESPACE_DEFINITION.eq(Enums.toEnum(searchQuery.namespaceDefinition.value(),
+                    io.airbyte.db.instance.configs.jooq.generated.enums.NamespaceDefinitionType.class).orElseThrow()))
+            .and(searchQuery.prefix == null ? noCondition() : CONNECTION.PREFIX.eq(searchQuery.prefix))
+            .and(searchQuery.status == null ? noCondition()
+                : CONNECTION.STATUS.eq(Enums.toEnum(searchQuery.status.value(), StatusType.class).orElseThrow()))
+            .and(actorSearchCondition(searchQuery.source, source, sourceDef))
+            .and(actorSearchCondition(searchQuery.destination, destination, destDef)))
+
+        // group by connection.id so that the groupConcat above works
+        .groupBy(CONNECTION.ID)).fetch();
+
+    final List<UUID> connectionIds = connectionAndOperationIdsResult.map(record -> record.get(CONNECTION.ID));
+
+    return getStandardSyncsFromResult(connectionAndOperationIdsResult, getNotificationConfigurationByConnectionIds(connectionIds));
+  }
+
+  private static Condition actorSearchCondition(final ActorSearchQuery searchQuery, final Actor actor, final ActorDefinition actorDefinition) {
+    if (searchQuery == null) {
+      return noCondition();
+    }
+    return (searchQuery.actorId == null ? noCondition() : actor.ID.eq(searchQuery.actorId))
+        .and(searchQuery.actorDefinitionId == null ? noCondition() : actor.ACTOR_DEFINITION_ID.eq(searchQuery.actorDefinitionId))
+        .and(searchQuery.workspaceId == null ? noCondition() : actor.WORKSPACE_ID.eq(searchQuery.workspaceId))
+        .and(searchQuery.name == null ? noCondition() : actor.NAME.eq(searchQuery.name))
+        .and(searchQuery.actorDefinitionName == null ? noCondition() : actorDefinition.NAME.eq(searchQuery.actorDefinitionName));
+  }
+
+  /**
+   * List connections for workspace via a query, projecting only the columns needed to render the
+   * connection list view. The configured catalog, field selection, resource requirements, operation
+   * ids and notification settings are NOT populated on the returned syncs, which keeps this query
+   * cheap for workspaces with many (or very large) connections.
+   * <p>
+   * Results are ordered by connection id, which enables keyset pagination: pass the id of the last
+   * connection of the previous page as {@code afterConnectionId} to get the next page.
+   *
+   * @param standardSyncQuery query
+   * @param afterConnectionId only return connections with an id strictly greater than this one. null
+   *        to start from the beginning.
+   * @param pageSize max number of connections to return. null to return all connections.
+   * @return list of partially populated connections
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  public List<StandardSync> listWorkspaceStandardSyncsForListView(final StandardSyncQuery standardSyncQuery,
+                                                                  final UUID afterConnectionId,
+                                                                  final Integer pageSize)
+      throws IOException {
+    final Result<Record> result = database.query(ctx -> ctx
+        .select(LIST_VIEW_CONNECTION_FIELDS)
+        .from(CONNECTION)
+        // join with source actors so that we can filter by workspaceId
+        .join(ACTOR).on(CONNECTION.SOURCE_ID.eq(ACTOR.ID))
+        .where(ACTOR.WORKSPACE_ID.eq(standardSyncQuery.workspaceId)
+            .and(standardSyncQuery.destinationId == null || standardSyncQuery.destinationId.isEmpty() ? noCondition()
+                : CONNECTION.DESTINATION_ID.in(standardSyncQuery.destinationId))
+            .and(standardSyncQuery.sourceId == null || standardSyncQuery.sourceId.isEmpty() ? noCondition()
+                : CONNECTION.SOURCE_ID.in(standardSyncQuery.sourceId))
+            .and(standardSyncQuery.includeDeleted ? noCondition() : CONNECTION.STATUS.notEqual(StatusType.deprecated))
+            .and(afterConnectionId == null ? noCondition() : CONNECTION.ID.gt(afterConnectionId)))
+        .orderBy(CONNECTION.ID)
+        .limit(pageSize == null ? Integer.MAX_VALUE : pageSize)
+        .fetch());
+
+    return result.map(DbConverter::buildStandardSyncForListView);
+  }
+
   /**
    * List connections. Paginated.
    */
@@ -1502,6 +1711,77 @@ public class ConfigRepository {
         .orElseThrow(() -> new ConfigNotFoundException(ConfigSchema.STANDARD_SYNC_OPERATION, operationId));
   }
 
+  /**
+   * Get the workspaces of sources with a single query.
+   *
+   * @param sourceIds source ids
+   * @return map of source id to workspace id. sources that don't exist are left out.
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  public Map<UUID, UUID> getWorkspaceIdsForSources(final Collection<UUID> sourceIds) throws IOException {
+    return getWorkspaceIdsForActors(sourceIds, ActorType.source);
+  }
+
+  /**
+   * Get the workspaces of destinations with a single query.
+   *
+   * @param destinationIds destination ids
+   * @return map of destination id to workspace id. destinations that don't exist are left out.
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  public Map<UUID, UUID> getWorkspaceIdsForDestinations(final Collection<UUID> destinationIds) throws IOException {
+    return getWorkspaceIdsForActors(destinationIds, ActorType.destination);
+  }
+
+  private Map<UUID, UUID> getWorkspaceIdsForActors(final Collection<UUID> actorIds, final ActorType actorType) throws IOException {
+    if (actorIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    return database.query(ctx -> ctx.select(ACTOR.ID, ACTOR.WORKSPACE_ID)
+        .from(ACTOR)
+        .where(ACTOR.ACTOR_TYPE.eq(actorType), ACTOR.ID.in(actorIds))
+        .fetchMap(ACTOR.ID, ACTOR.WORKSPACE_ID));
+  }
+
+  /**
+   * Get the workspaces of connections with a single query.
+   *
+   * @param connectionIds connection ids
+   * @return map of connection id to workspace id. connections that don't exist, or whose source and
+   *         destination are not in the same workspace, are left out.
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  public Map<UUID, UUID> getWorkspaceIdsForConnections(final Collection<UUID> connectionIds) throws IOException {
+    if (connectionIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    final Actor source = ACTOR.as("source");
+    final Actor destination = ACTOR.as("destination");
+    return database.query(ctx -> ctx.select(CONNECTION.ID, source.WORKSPACE_ID)
+        .from(CONNECTION)
+        .join(source).on(CONNECTION.SOURCE_ID.eq(source.ID))
+        .join(destination).on(CONNECTION.DESTINATION_ID.eq(destination.ID))
+        .where(CONNECTION.ID.in(connectionIds), source.WORKSPACE_ID.eq(destination.WORKSPACE_ID))
+        .fetchMap(CONNECTION.ID, source.WORKSPACE_ID));
+  }
+
+  /**
+   * Get the workspaces of operations with a single query.
+   *
+   * @param operationIds operation ids
+   * @return map of operation id to workspace id. operations that don't exist are left out.
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  public Map<UUID, UUID> getWorkspaceIdsForOperations(final Collection<UUID> operationIds) throws IOException {
+    if (operationIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    return database.query(ctx -> ctx.select(OPERATION.ID, OPERATION.WORKSPACE_ID)
+        .from(OPERATION)
+        .where(OPERATION.ID.in(operationIds))
+        .fetchMap(OPERATION.ID, OPERATION.WORKSPACE_ID));
+  }
+
   /**
    * Write standard sync operation.
    *
@@ -1806,10 +2086,23 @@ public class ConfigRepository {
     return listDestinationOauthParamQuery(Optional.empty()).toList();
   }
 
+  private Optional<UUID> findCatalogByContentHash(final String catalogContentHash, final DSLContext context) {
+    return context.select(ACTOR_CATALOG.ID)
+        .from(ACTOR_CATALOG)
+        .where(ACTOR_CATALOG.CATALOG_CONTENT_HASH.eq(catalogContentHash))
+        .limit(1)
+        .fetchOptional(ACTOR_CATALOG.ID);
+  }
+
+  /**
+   * Find the catalogs stored before the content hash was introduced that have the given hash. As
+   * that hash is only 32 bits, the catalogs still need to be compared.
+   */
   private Map<UUID, AirbyteCatalog> findCatalogByHash(final String catalogHash, final DSLContext context) {
     final Result<Record2<UUID, JSONB>> records = context.select(ACTOR_CATALOG.ID, ACTOR_CATALOG.CATALOG)
         .from(ACTOR_CATALOG)
-        .where(ACTOR_CATALOG.CATALOG_HASH.eq(catalogHash)).fetch();
+        .where(ACTOR_CATALOG.CATALOG_HASH.eq(catalogHash))
+        .and(ACTOR_CATALOG.CATALOG_CONTENT_HASH.isNull()).fetch();
 
     final Map<UUID, AirbyteCatalog> result = new HashMap<>();
     for (final Record record : records) {
@@ -1940,6 +2233,10 @@ public class ConfigRepository {
    *
    * Checks in the config DB if the catalog is present already, if so returns it identifier. It is not
    * present, it is inserted in DB with a new identifier and that identifier is returned.
+   * <p>
+   * Catalogs are looked up by a 128-bit hash of their canonical JSON, so existing catalogs don't need
+   * to be read. Catalogs stored before that hash was introduced are compared with the catalog, and
+   * get their content hash set when they match.
    *
    * @param airbyteCatalog An Airbyte catalog to cache
    * @param context - db context
@@ -1948,13 +2245,22 @@ public class ConfigRepository {
   private UUID getOrInsertActorCatalog(final AirbyteCatalog airbyteCatalog,
                                        final DSLContext context,
                                        final OffsetDateTime timestamp) {
-    final HashFunction hashFunction = Hashing.murmur3_32_fixed();
-    final String catalogHash = hashFunction.hashBytes(Jsons.serialize(airbyteCatalog).getBytes(
-        Charsets.UTF_8)).toString();
+    final String catalogContentHash = Jsons.canonicalHash(airbyteCatalog, Hashing.murmur3_128()).toString();
+    final Optional<UUID> existingCatalogId = findCatalogByContentHash(catalogContentHash, context);
+    if (existingCatalogId.isPresent()) {
+      return existingCatalogId.get();
+    }
+
+    final String serializedCatalog = Jsons.serialize(airbyteCatalog);
+    final String catalogHash = Hashing.murmur3_32_fixed().hashBytes(serializedCatalog.getBytes(Charsets.UTF_8)).toString();
     final Map<UUID, AirbyteCatalog> catalogs = findCatalogByHash(catalogHash, context);
 
     for (final Map.Entry<UUID, AirbyteCatalog> entry : catalogs.entrySet()) {
       if (entry.getValue().equals(airbyteCatalog)) {
+        context.update(ACTOR_CATALOG)
+            .set(ACTOR_CATALOG.CATALOG_CONTENT_HASH, catalogContentHash)
+            .where(ACTOR_CATALOG.ID.eq(entry.getKey()))
+            .execute();
         return entry.getKey();
       }
     }
@@ -1962,8 +2268,9 @@ public class ConfigRepository {
     final UUID catalogId = UUID.randomUUID();
     context.insertInto(ACTOR_CATALOG)
         .set(ACTOR_CATALOG.ID, catalogId)
-        .set(ACTOR_CATALOG.CATALOG, JSONB.valueOf(Jsons.serialize(airbyteCatalog)))
+        .set(ACTOR_CATALOG.CATALOG, JSONB.valueOf(serializedCatalog))
         .set(ACTOR_CATALOG.CATALOG_HASH, catalogHash)
+        .set(ACTOR_CATALOG.CATALOG_CONTENT_HASH, catalogContentHash)
         .set(ACTOR_CATALOG.CREATED_AT, timestamp)
         .set(ACTOR_CATALOG.MODIFIED_AT, timestamp).execute();
     return catalogId;
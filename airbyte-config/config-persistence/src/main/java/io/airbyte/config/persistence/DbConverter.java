@@ -68,6 +68,34 @@ import org.jooq.Record;
  */
 public class DbConverter {
 
+  /**
+   * Build a partially populated connection from a record that only contains the columns needed by
+   * the connection list view. See ConfigRepository#listWorkspaceStandardSyncsForListView.
+   *
+   * @param record db record
+   * @return connection with only list view fields populated
+   */
+  public static StandardSync buildStandardSyncForListView(final Record record) {
+    return new StandardSync()
+        .withConnectionId(record.get(CONNECTION.ID))
+        .withName(record.get(CONNECTION.NAME))
+        .withSourceId(record.get(CONNECTION.SOURCE_ID))
+        .withDestinationId(record.get(CONNECTION.DESTINATION_ID))
+        .withStatus(
+            record.get(CONNECTION.STATUS) == null ? null
+                : Enums.toEnum(record.get(CONNECTION.STATUS, String.class), Status.class).orElseThrow())
+        .withSchedule(record.get(CONNECTION.SCHEDULE) == null ? null
+            : Jsons.deserialize(record.get(CONNECTION.SCHEDULE).data(), Schedule.class))
+        .withManual(record.get(CONNECTION.MANUAL))
+        .withScheduleType(record.get(CONNECTION.SCHEDULE_TYPE) == null ? null
+            : Enums.toEnum(record.get(CONNECTION.SCHEDULE_TYPE, String.class), ScheduleType.class).orElseThrow())
+        .withScheduleData(
+            record.get(CONNECTION.SCHEDULE_DATA) == null ? null
+                : Jsons.deserialize(record.get(CONNECTION.SCHEDULE_DATA).data(), ScheduleData.class))
+        .withSourceCatalogId(record.get(CONNECTION.SOURCE_CATALOG_ID))
+        .withBreakingChange(record.get(CONNECTION.BREAKING_CHANGE));
+  }
+
   /**
    * Build connection (a.k.a. StandardSync) from db record.
    *
@@ -7,6 +7,8 @@ package io.airbyte.config.persistence;
 import static io.airbyte.db.instance.configs.jooq.generated.Tables.STATE;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.State;
@@ -22,14 +24,19 @@ import io.airbyte.protocol.models.AirbyteStreamState;
 import io.airbyte.protocol.models.StreamDescriptor;
 import java.io.IOException;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.jooq.DSLContext;
+import org.jooq.InsertValuesStep9;
 import org.jooq.JSONB;
+import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.RecordMapper;
 import org.jooq.impl.DSL;
@@ -41,9 +48,14 @@ import org.jooq.impl.DSL;
  *
  * Supports migration from Legacy to Global or Stream. Other type migrations need to go through a
  * reset. (an exception will be thrown)
+ *
+ * Each row stores a hash of its state, so that saving a state only writes the streams whose state
+ * changed.
  */
 public class StatePersistence {
 
+  private static final HashFunction STATE_HASH_FUNCTION = Hashing.murmur3_128();
+
   private final ExceptionWrappingDatabase database;
 
   public StatePersistence(final Database database) {
@@ -59,12 +71,31 @@ public class StatePersistence {
    */
   public Optional<StateWrapper> getCurrentState(final UUID connectionId) throws IOException {
     final List<StateRecord> records = this.database.query(ctx -> getStateRecords(ctx, connectionId));
+    return buildState(connectionId, records);
+  }
+
+  /**
+   * Get the current State of some streams of a Connection. Only the rows of the requested streams
+   * are read, which is much cheaper than reading the whole state of a connection with many streams.
+   * The shared state of a Global state is always included. A Legacy state is not split by stream,
+   * so it is returned as a whole.
+   *
+   * @param connectionId connection id
+   * @param streams streams whose state should be returned
+   * @return current state of the requested streams
+   * @throws IOException if there is an issue while interacting with the db.
+   */
+  public Optional<StateWrapper> getCurrentState(final UUID connectionId, final Set<StreamDescriptor> streams) throws IOException {
+    final List<StateRecord> records = this.database.query(ctx -> getStateRecords(ctx, connectionId, streams));
+    return buildState(connectionId, records);
+  }
 
+  private static Optional<StateWrapper> buildState(final UUID connectionId, final List<StateRecord> records) {
     if (records.isEmpty()) {
       return Optional.empty();
     }
 
-    return switch (getStateType(connectionId, records)) {
+    return switch (getStateType(connectionId, records.stream().map(StateRecord::type).collect(Collectors.toSet()))) {
       case GLOBAL -> Optional.of(buildGlobalState(records));
       case STREAM -> Optional.of(buildStreamState(records));
       default -> Optional.of(buildLegacyState(records));
@@ -84,129 +115,152 @@ public class StatePersistence {
    */
   public void updateOrCreateState(final UUID connectionId, final StateWrapper state)
       throws IOException {
-    final Optional<StateWrapper> previousState = getCurrentState(connectionId);
-    final StateType currentStateType = state.getStateType();
-    final boolean isMigration = StateMessageHelper.isMigration(currentStateType, previousState);
-
-    // The only case where we allow a state migration is moving from LEGACY.
-    // We expect any other migration to go through an explicit reset.
-    if (!isMigration && previousState.isPresent() && previousState.get().getStateType() != currentStateType) {
-      throw new IllegalStateException("Unexpected type migration from '" + previousState.get().getStateType() + "' to '" + currentStateType
-          + "'. Migration of StateType need to go through an explicit reset.");
-    }
-
     this.database.transaction(ctx -> {
-      if (isMigration) {
-        clearLegacyState(ctx, connectionId);
+      final List<StoredStateRow> storedRows = getStoredStateRows(ctx, connectionId);
+      final StateType previousStateType = storedRows.isEmpty()
+          ? null
+          : toStateType(getStateType(connectionId, storedRows.stream().map(StoredStateRow::type).collect(Collectors.toSet())));
+      final StateType currentStateType = state.getStateType();
+      final boolean isMigration = StateMessageHelper.isMigration(currentStateType, previousStateType);
+
+      // The only case where we allow a state migration is moving from LEGACY.
+      // We expect any other migration to go through an explicit reset.
+      if (!isMigration && previousStateType != null && previousStateType != currentStateType) {
+        throw new IllegalStateException("Unexpected type migration from '" + previousStateType + "' to '" + currentStateType
+            + "'. Migration of StateType need to go through an explicit reset.");
       }
-      switch (state.getStateType()) {
-        case GLOBAL -> saveGlobalState(ctx, connectionId, state.getGlobal().getGlobal());
-        case STREAM -> saveStreamState(ctx, connectionId, state.getStateMessages());
-        case LEGACY -> saveLegacyState(ctx, connectionId, state.getLegacyState());
-        default -> {
-          // no op
-        }
+
+      final List<StateRow> rows = switch (currentStateType) {
+        case GLOBAL -> getGlobalStateRows(state.getGlobal().getGlobal());
+        case STREAM -> getStreamStateRows(state.getStateMessages());
+        case LEGACY -> List.of(new StateRow(null, null, StateType.LEGACY, state.getLegacyState()));
+        default -> List.of();
+      };
+      // a migration replaces the single legacy row, which is deleted like any stored row without a new
+      // state.
+      if (isMigration) {
+        deleteStateRows(ctx, connectionId, storedRows.stream().map(StoredStateRow::id).toList());
       }
+      writeStateRows(ctx, connectionId, rows, isMigration ? List.of() : storedRows);
       return null;
     });
   }
 
-  private static void clearLegacyState(final DSLContext ctx, final UUID connectionId) {
-    writeStateToDb(ctx, connectionId, null, null, StateType.LEGACY, null);
-  }
-
-  private static void saveGlobalState(final DSLContext ctx, final UUID connectionId, final AirbyteGlobalState globalState) {
-    writeStateToDb(ctx, connectionId, null, null, StateType.GLOBAL, globalState.getSharedState());
+  private static List<StateRow> getGlobalStateRows(final AirbyteGlobalState globalState) {
+    final List<StateRow> rows = new ArrayList<>();
+    rows.add(new StateRow(null, null, StateType.GLOBAL, globalState.getSharedState()));
     for (final AirbyteStreamState streamState : globalState.getStreamStates()) {
-      writeStateToDb(ctx,
-          connectionId,
+      rows.add(new StateRow(
           streamState.getStreamDescriptor().getName(),
           streamState.getStreamDescriptor().getNamespace(),
           StateType.GLOBAL,
-          streamState.getStreamState());
+          streamState.getStreamState()));
     }
+    return rows;
   }
 
-  private static void saveStreamState(final DSLContext ctx, final UUID connectionId, final List<AirbyteStateMessage> stateMessages) {
-    for (final AirbyteStateMessage stateMessage : stateMessages) {
-      final AirbyteStreamState streamState = stateMessage.getStream();
-      writeStateToDb(ctx,
-          connectionId,
-          streamState.getStreamDescriptor().getName(),
-          streamState.getStreamDescriptor().getNamespace(),
-          StateType.STREAM,
-          streamState.getStreamState());
-    }
-  }
-
-  private static void saveLegacyState(final DSLContext ctx, final UUID connectionId, final JsonNode state) {
-    writeStateToDb(ctx, connectionId, null, null, StateType.LEGACY, state);
+  private static List<StateRow> getStreamStateRows(final List<AirbyteStateMessage> stateMessages) {
+    return stateMessages.stream()
+        .map(AirbyteStateMessage::getStream)
+        .map(streamState -> new StateRow(
+            streamState.getStreamDescriptor().getName(),
+            streamState.getStreamDescriptor().getNamespace(),
+            StateType.STREAM,
+            streamState.getStreamState()))
+        .toList();
   }
 
   /**
-   * Performs the actual SQL operation depending on the state.
+   * Performs the actual SQL operations for the rows of a state. A row with a null state is deleted.
+   * Other rows are inserted, or updated if their hash differs from the stored one. Rows whose state
+   * didn't change are not written at all. All inserts are sent as one statement, as are all deletes,
+   * and the updates are sent as one batch.
    *
-   * If the state is null, it will delete the row, otherwise do an insert or update on conflict
+   * @param ctx A valid DSL context to use for the queries
+   * @param connectionId the ID of the connection
+   * @param rows the rows to write, the last one wins if a stream has more than one
+   * @param storedRows the rows currently stored for the connection
    */
-  static void writeStateToDb(final DSLContext ctx,
-                             final UUID connectionId,
-                             final String streamName,
-                             final String namespace,
-                             final StateType stateType,
-                             final JsonNode state) {
-    if (state != null) {
-      final boolean hasState = ctx.selectFrom(STATE)
-          .where(
-              STATE.CONNECTION_ID.eq(connectionId),
-              PersistenceHelpers.isNullOrEquals(STATE.STREAM_NAME, streamName),
-              PersistenceHelpers.isNullOrEquals(STATE.NAMESPACE, namespace))
-          .fetch().isNotEmpty();
+  private static void writeStateRows(final DSLContext ctx,
+                                     final UUID connectionId,
+                                     final List<StateRow> rows,
+                                     final List<StoredStateRow> storedRows) {
+    final Map<StreamKey, StoredStateRow> storedRowsByKey = storedRows.stream()
+        .collect(Collectors.toMap(StoredStateRow::key, Function.identity(), (first, second) -> second));
+    final Map<StreamKey, StateRow> rowsByKey = new LinkedHashMap<>();
+    rows.forEach(row -> rowsByKey.put(row.key(), row));
+
+    final OffsetDateTime now = OffsetDateTime.now();
+    final List<UUID> deletedIds = new ArrayList<>();
+    InsertValuesStep9<?, UUID, OffsetDateTime, OffsetDateTime, UUID, String, String, JSONB, String,
+        io.airbyte.db.instance.configs.jooq.generated.enums.StateType> insert = null;
+    final List<Query> updates = new ArrayList<>();
+
+    for (final StateRow row : rowsByKey.values()) {
+      final StoredStateRow storedRow = storedRowsByKey.get(row.key());
+      if (row.state() == null) {
+        // If the state is null, we remove the state instead of keeping a null row
+        if (storedRow != null) {
+          deletedIds.add(storedRow.id());
+        }
+        continue;
+      }
 
       // NOTE: the legacy code was storing a State object instead of just the State data field. We kept
       // the same behavior for consistency.
-      final JSONB jsonbState = JSONB.valueOf(Jsons.serialize(stateType != StateType.LEGACY ? state : new State().withState(state)));
-      final OffsetDateTime now = OffsetDateTime.now();
-
-      if (!hasState) {
-        ctx.insertInto(STATE)
-            .columns(
-                STATE.ID,
-                STATE.CREATED_AT,
-                STATE.UPDATED_AT,
-                STATE.CONNECTION_ID,
-                STATE.STREAM_NAME,
-                STATE.NAMESPACE,
-                STATE.STATE_,
-                STATE.TYPE)
-            .values(
-                UUID.randomUUID(),
-                now,
-                now,
-                connectionId,
-                streamName,
-                namespace,
-                jsonbState,
-                Enums.convertTo(stateType, io.airbyte.db.instance.configs.jooq.generated.enums.StateType.class))
-            .execute();
+      final Object storedState = row.stateType() != StateType.LEGACY ? row.state() : new State().withState(row.state());
+      final String stateHash = Jsons.canonicalHash(storedState, STATE_HASH_FUNCTION).toString();
+      if (storedRow != null && stateHash.equals(storedRow.stateHash())) {
+        continue;
+      }
 
+      final JSONB jsonbState = JSONB.valueOf(Jsons.serialize(storedState));
+      if (storedRow == null) {
+        if (insert == null) {
+          insert = ctx.insertInto(STATE)
+              .columns(
+                  STATE.ID,
+                  STATE.CREATED_AT,
+                  STATE.UPDATED_AT,
+                  STATE.CONNECTION_ID,
+                  STATE.STREAM_NAME,
+                  STATE.NAMESPACE,
+                  STATE.STATE_,
+                  STATE.STATE_HASH,
+                  STATE.TYPE);
+        }
+        insert = insert.values(
+            UUID.randomUUID(),
+            now,
+            now,
+            connectionId,
+            row.streamName(),
+            row.namespace(),
+            jsonbState,
+            stateHash,
+            Enums.convertTo(row.stateType(), io.airbyte.db.instance.configs.jooq.generated.enums.StateType.class));
       } else {
-        ctx.update(STATE)
+        updates.add(ctx.update(STATE)
             .set(STATE.UPDATED_AT, now)
             .set(STATE.STATE_, jsonbState)
-            .where(
-                STATE.CONNECTION_ID.eq(connectionId),
-                PersistenceHelpers.isNullOrEquals(STATE.STREAM_NAME, streamName),
-                PersistenceHelpers.isNullOrEquals(STATE.NAMESPACE, namespace))
-            .execute();
+            .set(STATE.STATE_HASH, stateHash)
+            .where(STATE.CONNECTION_ID.eq(connectionId), STATE.ID.eq(storedRow.id())));
       }
+    }
 
-    } else {
-      // If the state is null, we remove the state instead of keeping a null row
+    deleteStateRows(ctx, connectionId, deletedIds);
+    if (insert != null) {
+      insert.execute();
+    }
+    if (!updates.isEmpty()) {
+      ctx.batch(updates).execute();
+    }
+  }
+
+  private static void deleteStateRows(final DSLContext ctx, final UUID connectionId, final List<UUID> ids) {
+    if (!ids.isEmpty()) {
       ctx.deleteFrom(STATE)
-          .where(
-              STATE.CONNECTION_ID.eq(connectionId),
-              PersistenceHelpers.isNullOrEquals(STATE.STREAM_NAME, streamName),
-              PersistenceHelpers.isNullOrEquals(STATE.NAMESPACE, namespace))
+          .where(STATE.CONNECTION_ID.eq(connectionId), STATE.ID.in(ids))
           .execute();
     }
   }
@@ -216,16 +270,15 @@ public class StatePersistence {
    *
    * @param connectionId The connectionId of the records, used to add more debugging context if an
    *        error is detected
-   * @param records The list of StateRecords to process, must not be empty
+   * @param types The types of the records to process, must not be empty
    * @return the StateType of the records
    * @throws IllegalStateException If StateRecords have inconsistent types
    */
   @SuppressWarnings("PMD.AvoidLiteralsInIfCondition")
   private static io.airbyte.db.instance.configs.jooq.generated.enums.StateType getStateType(
                                                                                             final UUID connectionId,
-                                                                                            final List<StateRecord> records) {
-    final Set<io.airbyte.db.instance.configs.jooq.generated.enums.StateType> types =
-        records.stream().map(r -> r.type).collect(Collectors.toSet());
+                                                                                            final Set<
+                                                                                                io.airbyte.db.instance.configs.jooq.generated.enums.StateType> types) {
     if (types.size() == 1) {
       return types.stream().findFirst().get();
     }
@@ -249,6 +302,60 @@ public class StatePersistence {
         .stream().toList();
   }
 
+  /**
+   * Get the state records of some streams from the DB, along with the record without a stream, which
+   * holds a Legacy state or the shared part of a Global state. Rows are selected by stream name,
+   * namespaces are matched before any state is deserialized.
+   *
+   * @param ctx A valid DSL context to use for the query
+   * @param connectionId the ID of the connection
+   * @param streams the streams to get the records of
+   * @return The StateRecords of the streams
+   */
+  private static List<StateRecord> getStateRecords(final DSLContext ctx, final UUID connectionId, final Set<StreamDescriptor> streams) {
+    final Set<String> streamNames = streams.stream().map(StreamDescriptor::getName).collect(Collectors.toSet());
+    final Set<StreamKey> streamKeys = streams.stream()
+        .map(stream -> new StreamKey(stream.getName(), stream.getNamespace()))
+        .collect(Collectors.toSet());
+    return ctx.select(STATE.TYPE, STATE.STREAM_NAME, STATE.NAMESPACE, STATE.STATE_)
+        .from(STATE)
+        .where(STATE.CONNECTION_ID.eq(connectionId), STATE.STREAM_NAME.isNull().or(STATE.STREAM_NAME.in(streamNames)))
+        .fetch()
+        .stream()
+        .filter(record -> {
+          final StreamKey key = new StreamKey(record.get(STATE.STREAM_NAME), record.get(STATE.NAMESPACE));
+          return key.equals(StreamKey.NO_STREAM) || streamKeys.contains(key);
+        })
+        .map(getStateRecordMapper()::map)
+        .toList();
+  }
+
+  /**
+   * Get what is needed to update the state of a connection, without reading any state.
+   *
+   * @param ctx A valid DSL context to use for the query
+   * @param connectionId the ID of the connection
+   * @return The stored rows of the connection
+   */
+  private static List<StoredStateRow> getStoredStateRows(final DSLContext ctx, final UUID connectionId) {
+    return ctx.select(STATE.ID, STATE.TYPE, STATE.STREAM_NAME, STATE.NAMESPACE, STATE.STATE_HASH)
+        .from(STATE)
+        .where(STATE.CONNECTION_ID.eq(connectionId))
+        .fetch(record -> new StoredStateRow(
+            record.get(STATE.ID),
+            record.get(STATE.TYPE),
+            new StreamKey(record.get(STATE.STREAM_NAME), record.get(STATE.NAMESPACE)),
+            record.get(STATE.STATE_HASH)));
+  }
+
+  private static StateType toStateType(final io.airbyte.db.instance.configs.jooq.generated.enums.StateType type) {
+    return switch (type) {
+      case GLOBAL -> StateType.GLOBAL;
+      case STREAM -> StateType.STREAM;
+      default -> StateType.LEGACY;
+    };
+  }
+
   /**
    * Build Global state.
    *
@@ -324,4 +431,33 @@ public class StatePersistence {
                              String namespace,
                              JsonNode state) {}
 
+  /**
+   * Identifies a row of the state of a connection. Both fields are null for the row of a Legacy state
+   * or of the shared part of a Global state.
+   */
+  private record StreamKey(String streamName, String namespace) {
+
+    private static final StreamKey NO_STREAM = new StreamKey(null, null);
+
+  }
+
+  /**
+   * A row of the state of a connection to write. A null state deletes the row.
+   */
+  private record StateRow(String streamName, String namespace, StateType stateType, JsonNode state) {
+
+    StreamKey key() {
+      return new StreamKey(streamName, namespace);
+    }
+
+  }
+
+  /**
+   * A stored row of the state of a connection, without its state.
+   */
+  private record StoredStateRow(UUID id,
+                                io.airbyte.db.instance.configs.jooq.generated.enums.StateType type,
+                                StreamKey key,
+                                String stateHash) {}
+
 }
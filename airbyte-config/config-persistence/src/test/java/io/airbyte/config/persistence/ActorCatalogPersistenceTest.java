@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence;
+
+import static io.airbyte.db.instance.configs.jooq.generated.Tables.ACTOR_CATALOG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.spy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hashing;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.SourceConnection;
+import io.airbyte.config.StandardSourceDefinition;
+import io.airbyte.config.StandardSourceDefinition.SourceType;
+import io.airbyte.config.StandardWorkspace;
+import io.airbyte.db.ExceptionWrappingDatabase;
+import io.airbyte.protocol.models.AirbyteCatalog;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import io.airbyte.validation.json.JsonValidationException;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.jooq.JSONB;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ActorCatalogPersistenceTest extends BaseConfigDatabaseTest {
+
+  private static final String DOCKER_IMAGE_TAG = "1.2.0";
+  private static final String CONFIG_HASH = "ConfigHash";
+
+  private ConfigRepository configRepository;
+  private UUID sourceId;
+
+  @BeforeEach
+  void setup() throws IOException, JsonValidationException, SQLException {
+    truncateAllTables();
+
+    configRepository = spy(new ConfigRepository(
+        database,
+        new ActorDefinitionMigrator(new ExceptionWrappingDatabase(database)),
+        null,
+        MockData.MAX_SECONDS_BETWEEN_MESSAGE_SUPPLIER));
+
+    final StandardWorkspace workspace = MockData.standardWorkspaces().get(0);
+    configRepository.writeStandardWorkspaceNoSecrets(workspace);
+    final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
+        .withSourceDefinitionId(UUID.randomUUID())
+        .withSourceType(SourceType.DATABASE)
+        .withDockerRepository("docker-repo")
+        .withDockerImageTag(DOCKER_IMAGE_TAG)
+        .withName("sourceDefinition");
+    configRepository.writeStandardSourceDefinition(sourceDefinition);
+    sourceId = UUID.randomUUID();
+    configRepository.writeSourceConnectionNoSecrets(new SourceConnection()
+        .withSourceDefinitionId(sourceDefinition.getSourceDefinitionId())
+        .withSourceId(sourceId)
+        .withName("SomeConnector")
+        .withWorkspaceId(workspace.getWorkspaceId())
+        .withConfiguration(Jsons.deserialize("{}")));
+  }
+
+  @Test
+  void testEqualCatalogsAreStoredOnce() throws IOException, SQLException {
+    final AirbyteCatalog catalog = createCatalog();
+    final AirbyteCatalog reorderedCatalog = createCatalog();
+    reorderedCatalog.getStreams().get(0).setJsonSchema(reverseFieldOrder(reorderedCatalog.getStreams().get(0).getJsonSchema()));
+
+    final UUID catalogId = configRepository.writeActorCatalogFetchEvent(catalog, sourceId, DOCKER_IMAGE_TAG, CONFIG_HASH);
+    assertEquals(catalogId, configRepository.writeActorCatalogFetchEvent(reorderedCatalog, sourceId, "1.3.0", CONFIG_HASH));
+
+    assertEquals(1, countCatalogs());
+    assertEquals(Jsons.canonicalHash(catalog, Hashing.murmur3_128()).toString(), getCatalogContentHash(catalogId));
+  }
+
+  @Test
+  void testDifferentCatalogsAreStoredSeparately() throws IOException, SQLException {
+    final UUID catalogId = configRepository.writeActorCatalogFetchEvent(createCatalog(), sourceId, DOCKER_IMAGE_TAG, CONFIG_HASH);
+    final AirbyteCatalog otherCatalog = CatalogHelpers.createAirbyteCatalog("clothes", Field.of("size", JsonSchemaType.STRING));
+
+    assertNotEquals(catalogId, configRepository.writeActorCatalogFetchEvent(otherCatalog, sourceId, DOCKER_IMAGE_TAG, CONFIG_HASH));
+    assertEquals(2, countCatalogs());
+  }
+
+  @Test
+  void testCatalogsWithoutContentHashAreReused() throws IOException, SQLException {
+    final AirbyteCatalog catalog = createCatalog();
+    final String serializedCatalog = Jsons.serialize(catalog);
+    final UUID legacyCatalogId = UUID.randomUUID();
+    database.transaction(ctx -> ctx.insertInto(ACTOR_CATALOG)
+        .set(ACTOR_CATALOG.ID, legacyCatalogId)
+        .set(ACTOR_CATALOG.CATALOG, JSONB.valueOf(serializedCatalog))
+        .set(ACTOR_CATALOG.CATALOG_HASH, Hashing.murmur3_32_fixed().hashBytes(serializedCatalog.getBytes(Charsets.UTF_8)).toString())
+        .set(ACTOR_CATALOG.CREATED_AT, OffsetDateTime.now())
+        .set(ACTOR_CATALOG.MODIFIED_AT, OffsetDateTime.now())
+        .execute());
+
+    assertEquals(legacyCatalogId, configRepository.writeActorCatalogFetchEvent(catalog, sourceId, DOCKER_IMAGE_TAG, CONFIG_HASH));
+    assertEquals(Jsons.canonicalHash(catalog, Hashing.murmur3_128()).toString(), getCatalogContentHash(legacyCatalogId));
+
+    // once its content hash is set, the catalog is found without being compared.
+    assertEquals(legacyCatalogId, configRepository.writeActorCatalogFetchEvent(catalog, sourceId, "1.3.0", CONFIG_HASH));
+    assertEquals(1, countCatalogs());
+  }
+
+  private static AirbyteCatalog createCatalog() {
+    return CatalogHelpers.createAirbyteCatalog("clothes",
+        Field.of("name", JsonSchemaType.STRING),
+        Field.of("price", JsonSchemaType.NUMBER));
+  }
+
+  private static JsonNode reverseFieldOrder(final JsonNode json) {
+    if (!json.isObject()) {
+      return json;
+    }
+    final List<String> fieldNames = new ArrayList<>();
+    json.fieldNames().forEachRemaining(fieldNames::add);
+    Collections.reverse(fieldNames);
+    final ObjectNode reversed = JsonNodeFactory.instance.objectNode();
+    for (final String fieldName : fieldNames) {
+      reversed.set(fieldName, reverseFieldOrder(json.get(fieldName)));
+    }
+    return reversed;
+  }
+
+  private static int countCatalogs() throws SQLException {
+    return database.query(ctx -> ctx.selectCount().from(ACTOR_CATALOG)).fetchOne().into(int.class);
+  }
+
+  private static String getCatalogContentHash(final UUID catalogId) throws SQLException {
+    return database.query(ctx -> ctx.select(ACTOR_CATALOG.CATALOG_CONTENT_HASH)
+        .from(ACTOR_CATALOG)
+        .where(ACTOR_CATALOG.ID.eq(catalogId))
+        .fetchOne(ACTOR_CATALOG.CATALOG_CONTENT_HASH));
+  }
+
+}
@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.jooq.impl.DSL.select;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.spy;
 
@@ -42,6 +43,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -263,6 +265,54 @@ class ConfigRepositoryE2EReadWriteTest extends BaseConfigDatabaseTest {
     assertSyncsMatch(expectedSyncs, actualSyncs);
   }
 
+  @Test
+  void testListWorkspaceStandardSyncsForListView() throws IOException {
+    final UUID workspaceId = MockData.standardWorkspaces().get(0).getWorkspaceId();
+    final StandardSyncQuery query = new StandardSyncQuery(workspaceId, null, null, false);
+    final Map<UUID, StandardSync> fullSyncsById = configRepository.listWorkspaceStandardSyncs(query).stream()
+        .collect(Collectors.toMap(StandardSync::getConnectionId, sync -> sync));
+
+    final List<StandardSync> listViewSyncs = configRepository.listWorkspaceStandardSyncsForListView(query, null, null);
+
+    assertEquals(fullSyncsById.size(), listViewSyncs.size());
+    for (final StandardSync actual : listViewSyncs) {
+      final StandardSync expected = fullSyncsById.get(actual.getConnectionId());
+      assertEquals(expected.getConnectionId(), actual.getConnectionId());
+      assertEquals(expected.getName(), actual.getName());
+      assertEquals(expected.getSourceId(), actual.getSourceId());
+      assertEquals(expected.getDestinationId(), actual.getDestinationId());
+      assertEquals(expected.getStatus(), actual.getStatus());
+      assertEquals(expected.getSchedule(), actual.getSchedule());
+      assertEquals(expected.getManual(), actual.getManual());
+      assertEquals(expected.getScheduleType(), actual.getScheduleType());
+      assertEquals(expected.getScheduleData(), actual.getScheduleData());
+      assertEquals(expected.getSourceCatalogId(), actual.getSourceCatalogId());
+      assertEquals(expected.getBreakingChange(), actual.getBreakingChange());
+      assertNull(actual.getCatalog());
+    }
+  }
+
+  @Test
+  void testListWorkspaceStandardSyncsForListViewKeysetPagination() throws IOException {
+    final UUID workspaceId = MockData.standardWorkspaces().get(0).getWorkspaceId();
+    final StandardSyncQuery query = new StandardSyncQuery(workspaceId, null, null, true);
+    final List<UUID> allConnectionIds = configRepository.listWorkspaceStandardSyncsForListView(query, null, null).stream()
+        .map(StandardSync::getConnectionId)
+        .toList();
+
+    final List<UUID> pagedConnectionIds = new ArrayList<>();
+    UUID afterConnectionId = null;
+    List<StandardSync> page;
+    do {
+      page = configRepository.listWorkspaceStandardSyncsForListView(query, afterConnectionId, 1);
+      assertTrue(page.size() <= 1);
+      page.forEach(sync -> pagedConnectionIds.add(sync.getConnectionId()));
+      afterConnectionId = page.isEmpty() ? afterConnectionId : page.get(page.size() - 1).getConnectionId();
+    } while (!page.isEmpty());
+
+    assertEquals(allConnectionIds, pagedConnectionIds);
+  }
+
   @Test
   void testGetWorkspaceBySlug() throws IOException {
     final StandardWorkspace workspace = MockData.standardWorkspaces().get(0);
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.DestinationConnection;
+import io.airbyte.config.Geography;
+import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
+import io.airbyte.config.SourceConnection;
+import io.airbyte.config.StandardDestinationDefinition;
+import io.airbyte.config.StandardSourceDefinition;
+import io.airbyte.config.StandardSourceDefinition.SourceType;
+import io.airbyte.config.StandardSync;
+import io.airbyte.config.StandardSync.NonBreakingChangesPreference;
+import io.airbyte.config.StandardSync.Status;
+import io.airbyte.config.StandardWorkspace;
+import io.airbyte.config.persistence.ConfigRepository.StandardSyncQuery;
+import io.airbyte.protocol.models.AirbyteStream;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.ConnectorSpecification;
+import io.airbyte.protocol.models.DestinationSyncMode;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import io.airbyte.protocol.models.SyncMode;
+import io.airbyte.validation.json.JsonValidationException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Benchmark of the connection list view query against a workspace holding thousands of
+ * connections, each with a realistically sized catalog. Compares the full
+ * {@link ConfigRepository#listWorkspaceStandardSyncs(StandardSyncQuery)} with the projection used
+ * by the list view, and reports the time taken by each in the logs.
+ * <p>
+ * This is not part of the test suite. To use it, run the main method and look at the logs.
+ */
+@Slf4j
+public class ConnectionListViewBenchmark {
+
+  private static final int NUM_CONNECTIONS = 2_000;
+  private static final int NUM_STREAMS_PER_CONNECTION = 50;
+  private static final int NUM_RUNS = 5;
+
+  public static void main(final String[] args) throws Exception {
+    BaseConfigDatabaseTest.dbSetup();
+    try {
+      final ConfigRepository configRepository = new ConfigRepository(BaseConfigDatabaseTest.database,
+          MockData.MAX_SECONDS_BETWEEN_MESSAGE_SUPPLIER);
+      final UUID workspaceId = UUID.randomUUID();
+      createLargeWorkspace(configRepository, workspaceId);
+      benchmarkListView(configRepository, workspaceId);
+      benchmarkListViewKeysetPagination(configRepository, workspaceId);
+    } finally {
+      BaseConfigDatabaseTest.dbDown();
+    }
+  }
+
+  private static void benchmarkListView(final ConfigRepository configRepository, final UUID workspaceId) throws IOException {
+    final StandardSyncQuery query = new StandardSyncQuery(workspaceId, null, null, false);
+
+    // warm up both code paths once so that the first measured run is not penalized.
+    assertEquals(NUM_CONNECTIONS, configRepository.listWorkspaceStandardSyncs(query).size());
+    assertEquals(NUM_CONNECTIONS, configRepository.listWorkspaceStandardSyncsForListView(query, null, null).size());
+
+    long fullQueryNanos = 0;
+    long listViewQueryNanos = 0;
+    for (int i = 0; i < NUM_RUNS; i++) {
+      final long fullQueryStart = System.nanoTime();
+      configRepository.listWorkspaceStandardSyncs(query);
+      fullQueryNanos += System.nanoTime() - fullQueryStart;
+
+      final long listViewQueryStart = System.nanoTime();
+      configRepository.listWorkspaceStandardSyncsForListView(query, null, null);
+      listViewQueryNanos += System.nanoTime() - listViewQueryStart;
+    }
+
+    log.info("Listing {} connections with {} streams each. Full query avg: {} ms, list view query avg: {} ms",
+        NUM_CONNECTIONS,
+        NUM_STREAMS_PER_CONNECTION,
+        fullQueryNanos / NUM_RUNS / 1_000_000,
+        listViewQueryNanos / NUM_RUNS / 1_000_000);
+  }
+
+  private static void benchmarkListViewKeysetPagination(final ConfigRepository configRepository, final UUID workspaceId) throws IOException {
+    final StandardSyncQuery query = new StandardSyncQuery(workspaceId, null, null, false);
+    final int pageSize = 100;
+
+    final long start = System.nanoTime();
+    int numConnections = 0;
+    int numPages = 0;
+    UUID afterConnectionId = null;
+    List<StandardSync> page = configRepository.listWorkspaceStandardSyncsForListView(query, null, pageSize);
+    while (!page.isEmpty()) {
+      numConnections += page.size();
+      numPages++;
+      afterConnectionId = page.get(page.size() - 1).getConnectionId();
+      page = configRepository.listWorkspaceStandardSyncsForListView(query, afterConnectionId, pageSize);
+    }
+
+    assertEquals(NUM_CONNECTIONS, numConnections);
+    log.info("Paginated through {} connections in {} pages of {} in {} ms",
+        numConnections,
+        numPages,
+        pageSize,
+        (System.nanoTime() - start) / 1_000_000);
+  }
+
+  private static void createLargeWorkspace(final ConfigRepository configRepository, final UUID workspaceId)
+      throws IOException, JsonValidationException {
+    configRepository.writeStandardWorkspaceNoSecrets(new StandardWorkspace()
+        .withWorkspaceId(workspaceId)
+        .withName("large-workspace")
+        .withSlug("large-workspace")
+        .withInitialSetupComplete(true)
+        .withTombstone(false)
+        .withDefaultGeography(Geography.AUTO));
+
+    final UUID sourceDefinitionId = UUID.randomUUID();
+    configRepository.writeStandardSourceDefinition(new StandardSourceDefinition()
+        .withSourceDefinitionId(sourceDefinitionId)
+        .withSourceType(SourceType.DATABASE)
+        .withName("source-definition")
+        .withDockerRepository("repository-1")
+        .withDockerImageTag("tag-1")
+        .withSpec(new ConnectorSpecification())
+        .withTombstone(false)
+        .withPublic(true)
+        .withCustom(false));
+    final UUID destinationDefinitionId = UUID.randomUUID();
+    configRepository.writeStandardDestinationDefinition(new StandardDestinationDefinition()
+        .withDestinationDefinitionId(destinationDefinitionId)
+        .withName("destination-definition")
+        .withDockerRepository("repository-2")
+        .withDockerImageTag("tag-2")
+        .withSpec(new ConnectorSpecification())
+        .withTombstone(false)
+        .withPublic(true)
+        .withCustom(false));
+
+    final ConfiguredAirbyteCatalog catalog = createCatalog();
+    for (int i = 0; i < NUM_CONNECTIONS; i++) {
+      final SourceConnection source = new SourceConnection()
+          .withSourceId(UUID.randomUUID())
+          .withSourceDefinitionId(sourceDefinitionId)
+          .withWorkspaceId(workspaceId)
+          .withName("source-" + i)
+          .withTombstone(false)
+          .withConfiguration(Jsons.deserialize("{}"));
+      configRepository.writeSourceConnectionNoSecrets(source);
+      final DestinationConnection destination = new DestinationConnection()
+          .withDestinationId(UUID.randomUUID())
+          .withDestinationDefinitionId(destinationDefinitionId)
+          .withWorkspaceId(workspaceId)
+          .withName("destination-" + i)
+          .withTombstone(false)
+          .withConfiguration(Jsons.deserialize("{}"));
+      configRepository.writeDestinationConnectionNoSecrets(destination);
+
+      final UUID connectionId = UUID.randomUUID();
+      configRepository.writeStandardSync(new StandardSync()
+          .withConnectionId(connectionId)
+          .withSourceId(source.getSourceId())
+          .withDestinationId(destination.getDestinationId())
+          .withName("connection-" + i)
+          .withCatalog(catalog)
+          .withManual(true)
+          .withNamespaceDefinition(NamespaceDefinitionType.SOURCE)
+          .withStatus(Status.ACTIVE)
+          .withGeography(Geography.AUTO)
+          .withNonBreakingChangesPreference(NonBreakingChangesPreference.IGNORE)
+          .withNotifySchemaChanges(false)
+          .withNotifySchemaChangesByEmail(false)
+          .withBreakingChange(false));
+    }
+  }
+
+  private static ConfiguredAirbyteCatalog createCatalog() {
+    final List<ConfiguredAirbyteStream> streams = new ArrayList<>();
+    IntStream.range(0, NUM_STREAMS_PER_CONNECTION).forEach(i -> streams.add(new ConfiguredAirbyteStream()
+        .withStream(new AirbyteStream()
+            .withName("stream_" + i)
+            .withNamespace("public")
+            .withJsonSchema(CatalogHelpers.fieldsToJsonSchema(
+                Field.of("id", JsonSchemaType.NUMBER),
+                Field.of("name", JsonSchemaType.STRING),
+                Field.of("updated_at", JsonSchemaType.STRING)))
+            .withSupportedSyncModes(List.of(SyncMode.FULL_REFRESH, SyncMode.INCREMENTAL)))
+        .withSyncMode(SyncMode.INCREMENTAL)
+        .withCursorField(List.of("updated_at"))
+        .withDestinationSyncMode(DestinationSyncMode.APPEND_DEDUP)
+        .withPrimaryKey(List.of(List.of("id")))));
+    return new ConfiguredAirbyteCatalog().withStreams(streams);
+  }
+
+}
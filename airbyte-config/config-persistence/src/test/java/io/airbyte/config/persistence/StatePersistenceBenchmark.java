@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.StandardSync;
+import io.airbyte.config.StateType;
+import io.airbyte.config.StateWrapper;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage.AirbyteStateType;
+import io.airbyte.protocol.models.AirbyteStreamState;
+import io.airbyte.protocol.models.StreamDescriptor;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Benchmark of the state persistence of a connection with thousands of streams. Compares saving the
+ * whole state with saving a state where only a few streams changed, and reading the whole state
+ * with reading a few streams, and reports the time taken by each in the logs.
+ * <p>
+ * This is not part of the test suite. To use it, run the main method and look at the logs.
+ */
+@Slf4j
+public class StatePersistenceBenchmark {
+
+  private static final int NUM_STREAMS = 5_000;
+  private static final int NUM_CHANGED_STREAMS = 10;
+  private static final int NUM_RUNS = 5;
+
+  public static void main(final String[] args) throws Exception {
+    BaseConfigDatabaseTest.dbSetup();
+    try {
+      final StatePersistence statePersistence = new StatePersistence(BaseConfigDatabaseTest.database);
+      benchmarkSaveState(statePersistence, createConnection());
+      benchmarkReadSomeStreams(statePersistence, createConnection());
+    } finally {
+      BaseConfigDatabaseTest.dbDown();
+    }
+  }
+
+  private static UUID createConnection() throws Exception {
+    BaseConfigDatabaseTest.truncateAllTables();
+    final ConfigRepository configRepository = new ConfigRepository(BaseConfigDatabaseTest.database,
+        MockData.MAX_SECONDS_BETWEEN_MESSAGE_SUPPLIER);
+    configRepository.writeStandardWorkspaceNoSecrets(MockData.standardWorkspaces().get(0));
+    configRepository.writeStandardSourceDefinition(MockData.publicSourceDefinition());
+    configRepository.writeSourceConnectionNoSecrets(MockData.sourceConnections().get(0));
+    configRepository.writeStandardDestinationDefinition(MockData.publicDestinationDefinition());
+    configRepository.writeDestinationConnectionNoSecrets(MockData.destinationConnections().get(0));
+    final StandardSync sync = Jsons.clone(MockData.standardSyncs().get(0)).withOperationIds(Collections.emptyList());
+    configRepository.writeStandardSync(sync);
+    return sync.getConnectionId();
+  }
+
+  private static void benchmarkSaveState(final StatePersistence statePersistence, final UUID connectionId) throws Exception {
+    final long firstSaveStart = System.nanoTime();
+    statePersistence.updateOrCreateState(connectionId, createState(0));
+    final long firstSaveNanos = System.nanoTime() - firstSaveStart;
+
+    long unchangedSaveNanos = 0;
+    long changedSaveNanos = 0;
+    for (int i = 1; i <= NUM_RUNS; i++) {
+      final long unchangedSaveStart = System.nanoTime();
+      statePersistence.updateOrCreateState(connectionId, createState(i - 1));
+      unchangedSaveNanos += System.nanoTime() - unchangedSaveStart;
+
+      final long changedSaveStart = System.nanoTime();
+      statePersistence.updateOrCreateState(connectionId, createState(i));
+      changedSaveNanos += System.nanoTime() - changedSaveStart;
+    }
+
+    final StateWrapper savedState = statePersistence.getCurrentState(connectionId, Set.of(getStreamDescriptor(0))).orElseThrow();
+    assertEquals(createState(NUM_RUNS).getStateMessages().get(0), savedState.getStateMessages().get(0));
+    log.info("Saving the state of {} streams. First save: {} ms, unchanged save avg: {} ms, save with {} changed streams avg: {} ms",
+        NUM_STREAMS,
+        firstSaveNanos / 1_000_000,
+        unchangedSaveNanos / NUM_RUNS / 1_000_000,
+        NUM_CHANGED_STREAMS,
+        changedSaveNanos / NUM_RUNS / 1_000_000);
+  }
+
+  private static void benchmarkReadSomeStreams(final StatePersistence statePersistence, final UUID connectionId) throws Exception {
+    statePersistence.updateOrCreateState(connectionId, createState(0));
+    final Set<StreamDescriptor> streams = IntStream.range(0, NUM_CHANGED_STREAMS)
+        .mapToObj(StatePersistenceBenchmark::getStreamDescriptor)
+        .collect(Collectors.toSet());
+
+    // warm up both code paths once so that the first measured run is not penalized.
+    assertEquals(NUM_STREAMS, statePersistence.getCurrentState(connectionId).orElseThrow().getStateMessages().size());
+    assertEquals(NUM_CHANGED_STREAMS, statePersistence.getCurrentState(connectionId, streams).orElseThrow().getStateMessages().size());
+
+    long fullReadNanos = 0;
+    long partialReadNanos = 0;
+    for (int i = 0; i < NUM_RUNS; i++) {
+      final long fullReadStart = System.nanoTime();
+      statePersistence.getCurrentState(connectionId);
+      fullReadNanos += System.nanoTime() - fullReadStart;
+
+      final long partialReadStart = System.nanoTime();
+      statePersistence.getCurrentState(connectionId, streams);
+      partialReadNanos += System.nanoTime() - partialReadStart;
+    }
+
+    log.info("Reading the state of {} streams. Full read avg: {} ms, read of {} streams avg: {} ms",
+        NUM_STREAMS,
+        fullReadNanos / NUM_RUNS / 1_000_000,
+        NUM_CHANGED_STREAMS,
+        partialReadNanos / NUM_RUNS / 1_000_000);
+  }
+
+  /**
+   * Create the state of all the streams, where the first streams have the state of the given
+   * version and the others never change.
+   */
+  private static StateWrapper createState(final int version) {
+    final List<AirbyteStateMessage> stateMessages = IntStream.range(0, NUM_STREAMS)
+        .mapToObj(i -> new AirbyteStateMessage()
+            .withType(AirbyteStateType.STREAM)
+            .withStream(new AirbyteStreamState()
+                .withStreamDescriptor(getStreamDescriptor(i))
+                .withStreamState(Jsons.jsonNode(Map.of("cursor", i < NUM_CHANGED_STREAMS ? version : 0)))))
+        .toList();
+    return new StateWrapper().withStateType(StateType.STREAM).withStateMessages(stateMessages);
+  }
+
+  private static StreamDescriptor getStreamDescriptor(final int i) {
+    return new StreamDescriptor().withName("stream_" + i).withNamespace("public");
+  }
+
+}
@@ -26,12 +26,17 @@ import io.airbyte.protocol.models.StreamDescriptor;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import org.jooq.Field;
 import org.jooq.JSONB;
+import org.jooq.Record;
 import org.jooq.impl.DSL;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,6 +52,10 @@ class StatePersistenceTest extends BaseConfigDatabaseTest {
   private static final String STREAM_STATE_2 = "\"state s2\"";
   private static final String GLOBAL_STATE = "\"my global state\"";
   private static final String STATE = "state";
+  private static final Field<UUID> ID = DSL.field("id", UUID.class);
+  private static final Field<String> STREAM_NAME = DSL.field("stream_name", String.class);
+  private static final Field<String> STATE_HASH = DSL.field("state_hash", String.class);
+  private static final Field<OffsetDateTime> UPDATED_AT = DSL.field("updated_at", OffsetDateTime.class);
 
   @BeforeEach
   void beforeEach() throws DatabaseInitializationException, IOException, JsonValidationException, SQLException {
@@ -516,6 +525,115 @@ class StatePersistenceTest extends BaseConfigDatabaseTest {
     Assertions.assertThrows(IllegalStateException.class, () -> statePersistence.getCurrentState(connectionId));
   }
 
+  @Test
+  void testOnlyChangedStreamsAreWritten() throws IOException, SQLException {
+    final StateWrapper state0 = new StateWrapper()
+        .withStateType(StateType.STREAM)
+        .withStateMessages(Arrays.asList(
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s1").withNamespace("n1"))
+                    .withStreamState(Jsons.deserialize(STATE_WITH_NAMESPACE))),
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s2"))
+                    .withStreamState(Jsons.deserialize(STREAM_STATE_2)))));
+    statePersistence.updateOrCreateState(connectionId, state0);
+    final Map<String, Record> rows0 = getStateRows();
+    Assertions.assertNotNull(rows0.get("s1").get(STATE_HASH));
+    Assertions.assertNotNull(rows0.get("s2").get(STATE_HASH));
+
+    // Saving the same state again doesn't write anything
+    statePersistence.updateOrCreateState(connectionId, clone(state0));
+    Assertions.assertEquals(rows0, getStateRows());
+
+    // Only the stream whose state changed is written
+    final StateWrapper state1 = clone(state0);
+    state1.getStateMessages().get(1).getStream().withStreamState(Jsons.deserialize("\"updated state s2\""));
+    statePersistence.updateOrCreateState(connectionId, state1);
+    final Map<String, Record> rows1 = getStateRows();
+    Assertions.assertEquals(rows0.get("s1"), rows1.get("s1"));
+    Assertions.assertEquals(rows0.get("s2").get(ID), rows1.get("s2").get(ID));
+    Assertions.assertNotEquals(rows0.get("s2").get(STATE_HASH), rows1.get("s2").get(STATE_HASH));
+    assertEquals(state1, statePersistence.getCurrentState(connectionId).orElseThrow());
+  }
+
+  @Test
+  void testRowsWithoutHashAreRewritten() throws IOException, SQLException {
+    final StateWrapper state0 = new StateWrapper()
+        .withStateType(StateType.LEGACY)
+        .withLegacyState(Jsons.deserialize("{\"woot\": \"legacy states is passthrough\"}"));
+    statePersistence.updateOrCreateState(connectionId, state0);
+    final String stateHash = getStateRows().get(null).get(STATE_HASH);
+
+    // Rows written before hashes were stored don't have one
+    database.transaction(ctx -> ctx.update(DSL.table(STATE)).set(STATE_HASH, (String) null).execute());
+    statePersistence.updateOrCreateState(connectionId, clone(state0));
+
+    Assertions.assertEquals(stateHash, getStateRows().get(null).get(STATE_HASH));
+    Assertions.assertEquals(state0.getLegacyState(), statePersistence.getCurrentState(connectionId).orElseThrow().getLegacyState());
+  }
+
+  @Test
+  void testStreamReadSomeStreams() throws IOException {
+    final AirbyteStateMessage s1n1 = new AirbyteStateMessage()
+        .withType(AirbyteStateType.STREAM)
+        .withStream(new AirbyteStreamState()
+            .withStreamDescriptor(new StreamDescriptor().withName("s1").withNamespace("n1"))
+            .withStreamState(Jsons.deserialize(STATE_WITH_NAMESPACE)));
+    final AirbyteStateMessage s1 = new AirbyteStateMessage()
+        .withType(AirbyteStateType.STREAM)
+        .withStream(new AirbyteStreamState()
+            .withStreamDescriptor(new StreamDescriptor().withName("s1"))
+            .withStreamState(Jsons.deserialize(STATE_ONE)));
+    final AirbyteStateMessage s2 = new AirbyteStateMessage()
+        .withType(AirbyteStateType.STREAM)
+        .withStream(new AirbyteStreamState()
+            .withStreamDescriptor(new StreamDescriptor().withName("s2"))
+            .withStreamState(Jsons.deserialize(STREAM_STATE_2)));
+    statePersistence.updateOrCreateState(connectionId, new StateWrapper()
+        .withStateType(StateType.STREAM)
+        .withStateMessages(Arrays.asList(s1n1, s1, s2)));
+
+    final StateWrapper state = statePersistence.getCurrentState(connectionId, Set.of(
+        new StreamDescriptor().withName("s1").withNamespace("n1"),
+        new StreamDescriptor().withName("s2"),
+        new StreamDescriptor().withName("s3"))).orElseThrow();
+    assertEquals(new StateWrapper().withStateType(StateType.STREAM).withStateMessages(Arrays.asList(s1n1, s2)), state);
+
+    Assertions.assertTrue(statePersistence.getCurrentState(connectionId, Set.of(new StreamDescriptor().withName("s3"))).isEmpty());
+  }
+
+  @Test
+  void testGlobalReadSomeStreams() throws IOException {
+    final AirbyteStreamState s1 = new AirbyteStreamState()
+        .withStreamDescriptor(new StreamDescriptor().withName("s1").withNamespace("n1"))
+        .withStreamState(Jsons.deserialize(STATE_ONE));
+    final AirbyteStreamState s2 = new AirbyteStreamState()
+        .withStreamDescriptor(new StreamDescriptor().withName("s2"))
+        .withStreamState(Jsons.deserialize(STATE_TWO));
+    statePersistence.updateOrCreateState(connectionId, new StateWrapper()
+        .withStateType(StateType.GLOBAL)
+        .withGlobal(new AirbyteStateMessage()
+            .withType(AirbyteStateType.GLOBAL)
+            .withGlobal(new AirbyteGlobalState()
+                .withSharedState(Jsons.deserialize(GLOBAL_STATE))
+                .withStreamStates(Arrays.asList(s1, s2)))));
+
+    // The shared state is always read
+    final StateWrapper state = statePersistence.getCurrentState(connectionId, Set.of(new StreamDescriptor().withName("s2"))).orElseThrow();
+    assertEquals(new StateWrapper()
+        .withStateType(StateType.GLOBAL)
+        .withGlobal(new AirbyteStateMessage()
+            .withType(AirbyteStateType.GLOBAL)
+            .withGlobal(new AirbyteGlobalState()
+                .withSharedState(Jsons.deserialize(GLOBAL_STATE))
+                .withStreamStates(List.of(s2)))),
+        state);
+  }
+
   @Test
   void testEnumsConversion() {
     // Making sure StateType we write to the DB and the StateType from the protocols are aligned.
@@ -542,6 +660,13 @@ class StatePersistenceTest extends BaseConfigDatabaseTest {
     Assertions.assertEquals(readStates.get(0).getState(), stateWrapper.getLegacyState());
   }
 
+  private Map<String, Record> getStateRows() throws SQLException {
+    return database.query(ctx -> ctx.select(ID, STREAM_NAME, STATE_HASH, UPDATED_AT)
+        .from(DSL.table(STATE))
+        .where(DSL.field("connection_id").eq(connectionId))
+        .fetchMap(STREAM_NAME));
+  }
+
   private StateWrapper clone(final StateWrapper state) {
     return switch (state.getStateType()) {
       case LEGACY -> new StateWrapper()
@@ -21,11 +21,18 @@ import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.StandardSourceDefinition.ReleaseStage;
 import io.airbyte.config.StandardSync;
+import io.airbyte.config.StandardSyncOperation;
 import io.airbyte.config.StandardWorkspace;
 import io.airbyte.db.ExceptionWrappingDatabase;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -207,4 +214,61 @@ class WorkspacePersistenceTest extends BaseConfigDatabaseTest {
     assertFalse(configRepository.getWorkspaceHasAlphaOrBetaConnector(WORKSPACE_ID));
   }
 
+  @Test
+  void testGetWorkspaceIdsForResources() throws SQLException, IOException, JsonValidationException {
+    truncateAllTables();
+    configRepository = new ConfigRepository(
+        database,
+        new ActorDefinitionMigrator(new ExceptionWrappingDatabase(database)),
+        new StandardSyncPersistence(database),
+        MockData.MAX_SECONDS_BETWEEN_MESSAGE_SUPPLIER);
+    for (final StandardWorkspace workspace : MockData.standardWorkspaces()) {
+      configRepository.writeStandardWorkspaceNoSecrets(workspace);
+    }
+    for (final StandardSourceDefinition sourceDefinition : MockData.standardSourceDefinitions()) {
+      configRepository.writeStandardSourceDefinition(sourceDefinition);
+    }
+    for (final StandardDestinationDefinition destinationDefinition : MockData.standardDestinationDefinitions()) {
+      configRepository.writeStandardDestinationDefinition(destinationDefinition);
+    }
+    for (final SourceConnection source : MockData.sourceConnections()) {
+      configRepository.writeSourceConnectionNoSecrets(source);
+    }
+    for (final DestinationConnection destination : MockData.destinationConnections()) {
+      configRepository.writeDestinationConnectionNoSecrets(destination);
+    }
+    for (final StandardSyncOperation operation : MockData.standardSyncOperations()) {
+      configRepository.writeStandardSyncOperation(operation);
+    }
+    for (final StandardSync sync : MockData.standardSyncs()) {
+      configRepository.writeStandardSync(sync);
+    }
+
+    final Map<UUID, UUID> sourceWorkspaces = MockData.sourceConnections().stream()
+        .collect(Collectors.toMap(SourceConnection::getSourceId, SourceConnection::getWorkspaceId));
+    final Map<UUID, UUID> destinationWorkspaces = MockData.destinationConnections().stream()
+        .collect(Collectors.toMap(DestinationConnection::getDestinationId, DestinationConnection::getWorkspaceId));
+    final Map<UUID, UUID> operationWorkspaces = MockData.standardSyncOperations().stream()
+        .collect(Collectors.toMap(StandardSyncOperation::getOperationId, StandardSyncOperation::getWorkspaceId));
+    // connections whose source and destination are in different workspaces have no workspace.
+    final Map<UUID, UUID> connectionWorkspaces = MockData.standardSyncs().stream()
+        .filter(sync -> sourceWorkspaces.get(sync.getSourceId()).equals(destinationWorkspaces.get(sync.getDestinationId())))
+        .collect(Collectors.toMap(StandardSync::getConnectionId, sync -> sourceWorkspaces.get(sync.getSourceId())));
+
+    assertEquals(sourceWorkspaces, configRepository.getWorkspaceIdsForSources(withUnknownId(sourceWorkspaces.keySet())));
+    assertEquals(destinationWorkspaces, configRepository.getWorkspaceIdsForDestinations(withUnknownId(destinationWorkspaces.keySet())));
+    assertEquals(operationWorkspaces, configRepository.getWorkspaceIdsForOperations(withUnknownId(operationWorkspaces.keySet())));
+    assertEquals(connectionWorkspaces, configRepository.getWorkspaceIdsForConnections(
+        withUnknownId(MockData.standardSyncs().stream().map(StandardSync::getConnectionId).collect(Collectors.toSet()))));
+    // sources are not destinations.
+    assertEquals(Map.of(), configRepository.getWorkspaceIdsForDestinations(sourceWorkspaces.keySet()));
+    assertEquals(Map.of(), configRepository.getWorkspaceIdsForSources(List.of()));
+  }
+
+  private static Set<UUID> withUnknownId(final Set<UUID> ids) {
+    final Set<UUID> idsWithUnknownId = new HashSet<>(ids);
+    idsWithUnknownId.add(UUID.randomUUID());
+    return idsWithUnknownId;
+  }
+
 }
@@ -4,6 +4,8 @@
 
 package io.airbyte.config.init;
 
+import com.google.common.collect.Lists;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.version.AirbyteProtocolVersion;
 import io.airbyte.commons.version.AirbyteProtocolVersionRange;
 import io.airbyte.config.StandardDestinationDefinition;
@@ -15,7 +17,11 @@ import io.micronaut.context.annotation.Requires;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -28,6 +34,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ApplyDefinitionsHelper {
 
+  // number of definitions written per transaction.
+  private static final int WRITE_BATCH_SIZE = 100;
+
   private final ConfigRepository configRepository;
   private final Optional<DefinitionsProvider> definitionsProviderOptional;
   private final JobPersistence jobPersistence;
@@ -47,7 +56,8 @@ public class ApplyDefinitionsHelper {
   /**
    * Apply the latest definitions from the provider to the repository.
    *
-   * @param updateAll - Whether we should overwrite all stored definitions
+   * @param updateAll - Whether we should overwrite all stored definitions. Only the definitions that
+   *        differ from the stored ones are written, in batches.
    */
   public void apply(final boolean updateAll) throws JsonValidationException, IOException {
     if (definitionsProviderOptional.isPresent()) {
@@ -55,15 +65,28 @@ public class ApplyDefinitionsHelper {
       final Optional<AirbyteProtocolVersionRange> currentProtocolRange = getCurrentProtocolRange();
 
       if (updateAll) {
-        final List<StandardSourceDefinition> latestSourceDefinitions = definitionsProvider.getSourceDefinitions();
-        for (final StandardSourceDefinition def : filterStandardSourceDefinitions(currentProtocolRange, latestSourceDefinitions)) {
-          configRepository.writeStandardSourceDefinition(def);
+        final Map<UUID, StandardSourceDefinition> storedSourceDefinitions = configRepository.listStandardSourceDefinitions(true).stream()
+            .collect(Collectors.toMap(StandardSourceDefinition::getSourceDefinitionId, Function.identity()));
+        final List<StandardSourceDefinition> changedSourceDefinitions =
+            filterStandardSourceDefinitions(currentProtocolRange, definitionsProvider.getSourceDefinitions()).stream()
+                .filter(def -> isChanged(storedSourceDefinitions.get(def.getSourceDefinitionId()), def))
+                .toList();
+        for (final List<StandardSourceDefinition> batch : Lists.partition(changedSourceDefinitions, WRITE_BATCH_SIZE)) {
+          configRepository.writeStandardSourceDefinitions(batch);
         }
 
-        final List<StandardDestinationDefinition> latestDestinationDefinitions = definitionsProvider.getDestinationDefinitions();
-        for (final StandardDestinationDefinition def : filterStandardDestinationDefinitions(currentProtocolRange, latestDestinationDefinitions)) {
-          configRepository.writeStandardDestinationDefinition(def);
+        final Map<UUID, StandardDestinationDefinition> storedDestinationDefinitions = configRepository.listStandardDestinationDefinitions(true).stream()
+            .collect(Collectors.toMap(StandardDestinationDefinition::getDestinationDefinitionId, Function.identity()));
+        final List<StandardDestinationDefinition> changedDestinationDefinitions =
+            filterStandardDestinationDefinitions(currentProtocolRange, definitionsProvider.getDestinationDefinitions()).stream()
+                .filter(def -> isChanged(storedDestinationDefinitions.get(def.getDestinationDefinitionId()), def))
+                .toList();
+        for (final List<StandardDestinationDefinition> batch : Lists.partition(changedDestinationDefinitions, WRITE_BATCH_SIZE)) {
+          configRepository.writeStandardDestinationDefinitions(batch);
         }
+
+        log.info("Updated {} source definitions and {} destination definitions.", changedSourceDefinitions.size(),
+            changedDestinationDefinitions.size());
       } else {
         // todo (pedroslopez): Logic to apply definitions should be moved outside of the
         // DatabaseConfigPersistence class and behavior standardized
@@ -76,6 +99,37 @@ public class ApplyDefinitionsHelper {
     }
   }
 
+  /**
+   * Whether writing the latest source definition would change the stored one. Fields the repository
+   * defaults on read are defaulted the same way on the latest definition before comparing.
+   */
+  private boolean isChanged(final StandardSourceDefinition stored, final StandardSourceDefinition latest) {
+    if (stored == null) {
+      return true;
+    }
+    final StandardSourceDefinition normalized = Jsons.clone(latest)
+        .withProtocolVersion(AirbyteProtocolVersion.getWithDefault(latest.getProtocolVersion()).serialize())
+        .withTombstone(latest.getTombstone() != null && latest.getTombstone());
+    if (normalized.getMaxSecondsBetweenMessages() == null) {
+      normalized.setMaxSecondsBetweenMessages(stored.getMaxSecondsBetweenMessages());
+    }
+    return !normalized.equals(stored);
+  }
+
+  /**
+   * Whether writing the latest destination definition would change the stored one. Fields the
+   * repository defaults on read are defaulted the same way on the latest definition before comparing.
+   */
+  private boolean isChanged(final StandardDestinationDefinition stored, final StandardDestinationDefinition latest) {
+    if (stored == null) {
+      return true;
+    }
+    final StandardDestinationDefinition normalized = Jsons.clone(latest)
+        .withProtocolVersion(AirbyteProtocolVersion.getWithDefault(latest.getProtocolVersion()).serialize())
+        .withTombstone(latest.getTombstone() != null && latest.getTombstone());
+    return !normalized.equals(stored);
+  }
+
   private List<StandardDestinationDefinition> filterStandardDestinationDefinitions(final Optional<AirbyteProtocolVersionRange> protocolVersionRange,
                                                                                    final List<StandardDestinationDefinition> destDefs) {
     if (protocolVersionRange.isEmpty()) {
@@ -5,11 +5,14 @@
 package io.airbyte.config.init;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.version.AirbyteProtocolVersionRange;
 import io.airbyte.commons.version.Version;
 import io.airbyte.config.StandardDestinationDefinition;
@@ -19,10 +22,12 @@ import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.protocol.models.ConnectorSpecification;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -73,6 +78,9 @@ class ApplyDefinitionsHelperTest {
       .withDocumentationUrl(DOCUMENTATION_URL)
       .withSpec(new ConnectorSpecification().withProtocolVersion(PROTOCOL_VERSION_1));
 
+  private static final int MANY_DEFINITIONS = 400;
+  private static final long MAX_SECONDS_BETWEEN_MESSAGES = 10_800L;
+
   private ConfigRepository configRepository;
   private DefinitionsProvider definitionsProvider;
   private JobPersistence jobPersistence;
@@ -100,8 +108,10 @@ class ApplyDefinitionsHelperTest {
 
     applyDefinitionsHelper.apply(true);
 
-    verify(configRepository).writeStandardSourceDefinition(SOURCE_DEF1);
-    verify(configRepository).writeStandardDestinationDefinition(DEST_DEF1);
+    verify(configRepository).listStandardSourceDefinitions(true);
+    verify(configRepository).listStandardDestinationDefinitions(true);
+    verify(configRepository).writeStandardSourceDefinitions(List.of(SOURCE_DEF1));
+    verify(configRepository).writeStandardDestinationDefinitions(List.of(DEST_DEF1));
     verify(definitionsProvider).getDestinationDefinitions();
     verify(definitionsProvider).getSourceDefinitions();
     verifyNoMoreInteractions(configRepository);
@@ -118,8 +128,10 @@ class ApplyDefinitionsHelperTest {
 
     applyDefinitionsHelper.apply(true);
 
-    verify(configRepository).writeStandardSourceDefinition(SOURCE_DEF1);
-    verify(configRepository).writeStandardDestinationDefinition(DEST_DEF1);
+    verify(configRepository).listStandardSourceDefinitions(true);
+    verify(configRepository).listStandardDestinationDefinitions(true);
+    verify(configRepository).writeStandardSourceDefinitions(List.of(SOURCE_DEF1));
+    verify(configRepository).writeStandardDestinationDefinitions(List.of(DEST_DEF1));
     verify(definitionsProvider).getDestinationDefinitions();
     verify(definitionsProvider).getSourceDefinitions();
     verifyNoMoreInteractions(configRepository);
@@ -133,12 +145,58 @@ class ApplyDefinitionsHelperTest {
 
     applyDefinitionsHelper.apply(true);
 
+    verify(configRepository).listStandardSourceDefinitions(true);
+    verify(configRepository).listStandardDestinationDefinitions(true);
     verify(definitionsProvider).getDestinationDefinitions();
     verify(definitionsProvider).getSourceDefinitions();
     verifyNoMoreInteractions(configRepository);
     verifyNoMoreInteractions(definitionsProvider);
   }
 
+  @Test
+  void testUpdateAllNoOpUpgradeWritesNothing() throws JsonValidationException, IOException {
+    final List<StandardSourceDefinition> latestSourceDefinitions = IntStream.range(0, MANY_DEFINITIONS).mapToObj(i -> sourceDefinition()).toList();
+    final List<StandardDestinationDefinition> latestDestinationDefinitions =
+        IntStream.range(0, MANY_DEFINITIONS).mapToObj(i -> destinationDefinition()).toList();
+    when(definitionsProvider.getSourceDefinitions()).thenReturn(latestSourceDefinitions);
+    when(definitionsProvider.getDestinationDefinitions()).thenReturn(latestDestinationDefinitions);
+    // the repository fills in the defaults of the fields the catalog leaves out.
+    when(configRepository.listStandardSourceDefinitions(true)).thenReturn(latestSourceDefinitions.stream()
+        .map(def -> Jsons.clone(def).withTombstone(false).withMaxSecondsBetweenMessages(MAX_SECONDS_BETWEEN_MESSAGES))
+        .toList());
+    when(configRepository.listStandardDestinationDefinitions(true)).thenReturn(latestDestinationDefinitions.stream()
+        .map(def -> Jsons.clone(def).withTombstone(false))
+        .toList());
+
+    applyDefinitionsHelper.apply(true);
+
+    assertEquals(0, countWrites());
+  }
+
+  @Test
+  void testUpdateAllWritesOnlyChangedDefinitionsInBatches() throws JsonValidationException, IOException {
+    final List<StandardSourceDefinition> storedSourceDefinitions =
+        IntStream.range(0, MANY_DEFINITIONS).mapToObj(i -> sourceDefinition()).toList();
+    final List<StandardSourceDefinition> latestSourceDefinitions = new ArrayList<>();
+    for (int i = 0; i < MANY_DEFINITIONS; i++) {
+      // bump the image tag of every other definition.
+      final StandardSourceDefinition stored = storedSourceDefinitions.get(i);
+      latestSourceDefinitions.add(i % 2 == 0 ? Jsons.clone(stored).withDockerImageTag("0.2.0") : Jsons.clone(stored));
+    }
+    when(configRepository.listStandardSourceDefinitions(true)).thenReturn(storedSourceDefinitions);
+    when(definitionsProvider.getSourceDefinitions()).thenReturn(latestSourceDefinitions);
+
+    applyDefinitionsHelper.apply(true);
+
+    final List<StandardSourceDefinition> changed = IntStream.range(0, MANY_DEFINITIONS)
+        .filter(i -> i % 2 == 0)
+        .mapToObj(latestSourceDefinitions::get)
+        .toList();
+    verify(configRepository).writeStandardSourceDefinitions(changed.subList(0, 100));
+    verify(configRepository).writeStandardSourceDefinitions(changed.subList(100, changed.size()));
+    assertEquals(2, countWrites());
+  }
+
   @Test
   void testApplyOSS() throws JsonValidationException, IOException {
     when(definitionsProvider.getSourceDefinitions()).thenReturn(List.of(SOURCE_DEF1));
@@ -165,8 +223,10 @@ class ApplyDefinitionsHelperTest {
     applyDefinitionsHelper.apply(updateAll);
 
     if (updateAll) {
-      verify(configRepository).writeStandardSourceDefinition(SOURCE_DEF2);
-      verify(configRepository).writeStandardDestinationDefinition(DEST_DEF1);
+      verify(configRepository).listStandardSourceDefinitions(true);
+      verify(configRepository).listStandardDestinationDefinitions(true);
+      verify(configRepository).writeStandardSourceDefinitions(List.of(SOURCE_DEF2));
+      verify(configRepository).writeStandardDestinationDefinitions(List.of(DEST_DEF1));
       verifyNoMoreInteractions(configRepository);
     } else {
       verify(configRepository).seedActorDefinitions(List.of(SOURCE_DEF2), List.of(DEST_DEF1));
@@ -179,4 +239,32 @@ class ApplyDefinitionsHelperTest {
     assertDoesNotThrow(() -> helper.apply());
   }
 
+  private static StandardSourceDefinition sourceDefinition() {
+    return new StandardSourceDefinition()
+        .withSourceDefinitionId(UUID.randomUUID())
+        .withDockerRepository(DOCKER_REPOSITORY)
+        .withDockerImageTag(DOCKER_TAG)
+        .withName(CONNECT_NAME1)
+        .withDocumentationUrl(DOCUMENTATION_URL)
+        .withProtocolVersion(PROTOCOL_VERSION_1)
+        .withSpec(new ConnectorSpecification().withProtocolVersion(PROTOCOL_VERSION_1));
+  }
+
+  private static StandardDestinationDefinition destinationDefinition() {
+    return new StandardDestinationDefinition()
+        .withDestinationDefinitionId(UUID.randomUUID())
+        .withDockerRepository(DOCKER_REPOSITORY)
+        .withDockerImageTag(DOCKER_TAG)
+        .withName(CONNECT_NAME1)
+        .withDocumentationUrl(DOCUMENTATION_URL)
+        .withProtocolVersion(PROTOCOL_VERSION_1)
+        .withSpec(new ConnectorSpecification().withProtocolVersion(PROTOCOL_VERSION_1));
+  }
+
+  private long countWrites() {
+    return mockingDetails(configRepository).getInvocations().stream()
+        .filter(invocation -> invocation.getMethod().getName().startsWith("write"))
+        .count();
+  }
+
 }
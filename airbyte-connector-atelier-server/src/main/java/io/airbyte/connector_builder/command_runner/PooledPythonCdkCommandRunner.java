@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import io.airbyte.connector_builder.command_runner.PythonCdkWorkerPool.WorkerResponse;
+import io.airbyte.connector_builder.command_runner.PythonCdkWorkerPool.WorkerUnavailableException;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.workers.internal.AirbyteStreamFactory;
+import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Communicates with the CDK's Connector Builder handler through a pool of warm Python workers.
+ * <p>
+ * If no worker could be started, the request is run by the one-shot
+ * {@link SynchronousPythonCdkCommandRunner} instead. A request that a worker already received is
+ * never run again, even if the worker crashed while handling it.
+ */
+public class PooledPythonCdkCommandRunner implements SynchronousCdkCommandRunner {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PooledPythonCdkCommandRunner.class);
+
+  private final PythonCdkWorkerPool pool;
+  private final SynchronousCdkCommandRunner fallback;
+  private final AirbyteStreamFactory streamFactory;
+
+  public PooledPythonCdkCommandRunner(final PythonCdkWorkerPool pool,
+                                      final SynchronousCdkCommandRunner fallback,
+                                      final AirbyteStreamFactory streamFactory) {
+    this.pool = pool;
+    this.fallback = fallback;
+    this.streamFactory = streamFactory;
+  }
+
+  @Override
+  public AirbyteRecordMessage runCommand(final String cdkCommand, final String configContents, final String catalogContents) throws IOException {
+    final WorkerResponse response;
+    try {
+      response = pool.execute(cdkCommand, configContents, catalogContents);
+    } catch (final WorkerUnavailableException e) {
+      LOGGER.warn("CDK worker pool failed to handle {}, falling back to a one-shot process: {}", cdkCommand, e.getMessage());
+      return fallback.runCommand(cdkCommand, configContents, catalogContents);
+    }
+    return new ProcessOutputParser().parse(response.output(), response.exitCode(), streamFactory, cdkCommand);
+  }
+
+}
@@ -17,10 +17,12 @@ import io.airbyte.workers.internal.AirbyteStreamFactory;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,6 +47,33 @@ public class ProcessOutputParser {
       checkProcessError(process, cdkCommand);
     }
 
+    return extractRecord(messagesByType, cdkCommand);
+  }
+
+  /**
+   * Parse the output printed by a CDK request that ran in a pooled worker.
+   */
+  AirbyteRecordMessage parse(
+                             final String output,
+                             final int exitCode,
+                             final AirbyteStreamFactory streamFactory,
+                             final String cdkCommand) {
+    final Map<Type, List<AirbyteMessage>> messagesByType;
+    try (final BufferedReader reader = new BufferedReader(new StringReader(output))) {
+      messagesByType = streamFactory.create(reader).collect(Collectors.groupingBy(AirbyteMessage::getType));
+    } catch (final IOException e) {
+      // reading from a string does not fail.
+      throw new CdkProcessException(String.format("Failed to read the output of the %s request: %s", cdkCommand, e.getMessage()));
+    }
+
+    if (messagesByType.isEmpty() && exitCode != 0) {
+      throw new CdkProcessException(
+          String.format("CDK worker for %s finished with exit code %d.", cdkCommand, exitCode));
+    }
+    return extractRecord(messagesByType, cdkCommand);
+  }
+
+  private AirbyteRecordMessage extractRecord(final Map<Type, List<AirbyteMessage>> messagesByType, final String cdkCommand) {
     if (messagesByType == null) {
       throw new AirbyteCdkInvalidInputException(
           String.format("No records found for %s request.", cdkCommand));
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.io.IOs;
+import io.airbyte.commons.io.LineGobbler;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.logging.MdcScope;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A long-lived Python process running the CDK worker script, which handles one request at a time
+ * over a line-delimited JSON protocol on its stdin and stdout. See {@code python/cdk_worker.py}.
+ * <p>
+ * Not thread-safe: a worker is used by a single request at a time, see {@link PythonCdkWorkerPool}.
+ */
+class PythonCdkWorker implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PythonCdkWorker.class);
+
+  private final Process process;
+  private final BufferedWriter stdin;
+  // lines read from the worker's stdout. An empty value signals the end of the stream.
+  private final BlockingQueue<Optional<String>> responses = new LinkedBlockingQueue<>();
+  private int requestCount = 0;
+  private long lastUsedNanos = System.nanoTime();
+
+  private PythonCdkWorker(final Process process) {
+    this.process = process;
+    this.stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Start a worker process and the thread reading its responses.
+   *
+   * @param command command launching the worker script
+   * @return the started worker
+   */
+  static PythonCdkWorker start(final List<String> command) throws IOException {
+    final Process process = new ProcessBuilder(command).start();
+    final PythonCdkWorker worker = new PythonCdkWorker(process);
+    LineGobbler.gobble(process.getErrorStream(), LOGGER::info, "cdk-worker", MdcScope.DEFAULT_BUILDER);
+
+    final Thread reader = new Thread(worker::readResponses, "cdk-worker-reader-" + process.pid());
+    reader.setDaemon(true);
+    reader.start();
+    LOGGER.debug("Started CDK worker process {}", process.pid());
+    return worker;
+  }
+
+  /**
+   * Send a command request and wait for its response.
+   *
+   * @param command connector builder command, only used in logs since the entrypoint reads it from
+   *        the {@code __command} of the config
+   * @param config config contents
+   * @param catalog catalog contents
+   * @param timeout maximum time to wait for the response
+   * @return the response
+   * @throws IOException if the worker died or answered with something unexpected
+   * @throws TimeoutException if the worker did not answer in time
+   */
+  JsonNode execute(final String command, final String config, final String catalog, final Duration timeout)
+      throws IOException, TimeoutException, InterruptedException {
+    final ObjectNode request = (ObjectNode) Jsons.emptyObject();
+    request.put("type", "command");
+    request.put("config", config);
+    request.put("catalog", catalog);
+    requestCount++;
+    LOGGER.debug("Sending {} request to CDK worker process {}", command, process.pid());
+    return send(request, timeout);
+  }
+
+  /**
+   * Check that the worker is alive and responsive.
+   *
+   * @param timeout maximum time to wait for the answer
+   * @return true if the worker answered the health check
+   */
+  boolean isHealthy(final Duration timeout) {
+    if (!process.isAlive()) {
+      return false;
+    }
+    final ObjectNode request = (ObjectNode) Jsons.emptyObject();
+    request.put("type", "health");
+    try {
+      return "ok".equals(send(request, timeout).path("status").asText());
+    } catch (final IOException | TimeoutException e) {
+      LOGGER.warn("CDK worker process {} failed its health check: {}", process.pid(), e.getMessage());
+      return false;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  boolean isAlive() {
+    return process.isAlive();
+  }
+
+  int getRequestCount() {
+    return requestCount;
+  }
+
+  /**
+   * Get the time elapsed since the worker last answered a request.
+   */
+  Duration getIdleTime() {
+    return Duration.ofNanos(System.nanoTime() - lastUsedNanos);
+  }
+
+  long getPid() {
+    return process.pid();
+  }
+
+  @Override
+  public void close() {
+    LOGGER.debug("Stopping CDK worker process {}", process.pid());
+    try {
+      stdin.close();
+    } catch (final IOException e) {
+      // the process is destroyed right after.
+    }
+    process.destroyForcibly();
+  }
+
+  private JsonNode send(final ObjectNode request, final Duration timeout) throws IOException, TimeoutException, InterruptedException {
+    final String id = UUID.randomUUID().toString();
+    request.put("id", id);
+    stdin.write(Jsons.serialize(request));
+    stdin.newLine();
+    stdin.flush();
+
+    final Optional<String> line = responses.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    if (line == null) {
+      throw new TimeoutException(String.format("CDK worker process %d did not answer within %s", process.pid(), timeout));
+    }
+    if (line.isEmpty()) {
+      throw new IOException(String.format("CDK worker process %d exited while handling a request", process.pid()));
+    }
+    final JsonNode response = Jsons.tryDeserialize(line.get())
+        .orElseThrow(() -> new IOException(String.format("CDK worker process %d sent an invalid response: %s", process.pid(), line.get())));
+    if (!id.equals(response.path("id").asText())) {
+      throw new IOException(String.format("CDK worker process %d answered request %s instead of %s", process.pid(), response.path("id"), id));
+    }
+    lastUsedNanos = System.nanoTime();
+    return response;
+  }
+
+  private void readResponses() {
+    try (final BufferedReader stdout = IOs.newBufferedReader(process.getInputStream())) {
+      String line = stdout.readLine();
+      while (line != null) {
+        responses.add(Optional.of(line));
+        line = stdout.readLine();
+      }
+    } catch (final IOException e) {
+      LOGGER.debug("Stopped reading from CDK worker process {}: {}", process.pid(), e.getMessage());
+    } finally {
+      responses.add(Optional.empty());
+    }
+  }
+
+}
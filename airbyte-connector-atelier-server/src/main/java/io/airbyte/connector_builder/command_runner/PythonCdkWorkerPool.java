@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.resources.MoreResources;
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of long-lived {@link PythonCdkWorker}s, so that CDK requests do not pay for the
+ * interpreter start-up and the CDK imports.
+ * <p>
+ * Workers are started lazily, up to the pool size. A worker idle for longer than the health check
+ * interval is checked before being reused. A worker is recycled once it has handled its maximum
+ * number of requests, and discarded if it crashes or times out.
+ */
+public class PythonCdkWorkerPool implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PythonCdkWorkerPool.class);
+  private static final String WORKER_SCRIPT_RESOURCE = "python/cdk_worker.py";
+  private static final Duration HEALTH_CHECK_TIMEOUT = Duration.ofSeconds(10);
+
+  /**
+   * Response of a worker to a command request.
+   *
+   * @param output what the CDK entrypoint printed
+   * @param exitCode exit code the entrypoint would have exited with
+   */
+  public record WorkerResponse(String output, int exitCode) {}
+
+  /**
+   * Thrown when no worker could be started to handle a request, i.e. before the request was sent to
+   * any process. Running the request somewhere else is then safe.
+   */
+  public static class WorkerUnavailableException extends IOException {
+
+    public WorkerUnavailableException(final String message, final Throwable cause) {
+      super(message, cause);
+    }
+
+  }
+
+  private final List<String> workerCommand;
+  private final int maxRequestsPerWorker;
+  private final Duration requestTimeout;
+  private final Duration healthCheckInterval;
+  private final Semaphore available;
+  private final Deque<PythonCdkWorker> idleWorkers = new ArrayDeque<>();
+  private volatile boolean closed = false;
+
+  /**
+   * Create a pool running the CDK entrypoint with the given Python interpreter.
+   *
+   * @param python path to the Python interpreter with the CDK installed
+   * @param cdkEntrypoint path to the CDK connector builder main.py
+   * @param size maximum number of workers
+   * @param maxRequestsPerWorker number of requests after which a worker is replaced
+   * @param requestTimeout maximum time to wait for a worker and for its response
+   * @param healthCheckInterval idle time after which a worker is checked before being reused
+   */
+  public static PythonCdkWorkerPool create(final String python,
+                                           final String cdkEntrypoint,
+                                           final int size,
+                                           final int maxRequestsPerWorker,
+                                           final Duration requestTimeout,
+                                           final Duration healthCheckInterval)
+      throws IOException {
+    // the script is shipped in the jar and must be on disk for the interpreter to run it.
+    final Path script = Files.createTempFile("cdk_worker", ".py");
+    Files.writeString(script, MoreResources.readResource(WORKER_SCRIPT_RESOURCE), StandardCharsets.UTF_8);
+    script.toFile().deleteOnExit();
+    return new PythonCdkWorkerPool(List.of(python, "-u", script.toString(), cdkEntrypoint), size, maxRequestsPerWorker, requestTimeout,
+        healthCheckInterval);
+  }
+
+  PythonCdkWorkerPool(final List<String> workerCommand,
+                      final int size,
+                      final int maxRequestsPerWorker,
+                      final Duration requestTimeout,
+                      final Duration healthCheckInterval) {
+    this.workerCommand = workerCommand;
+    this.maxRequestsPerWorker = maxRequestsPerWorker;
+    this.requestTimeout = requestTimeout;
+    this.healthCheckInterval = healthCheckInterval;
+    this.available = new Semaphore(size, true);
+  }
+
+  /**
+   * Start one worker ahead of the first request, so that it does not pay for the start-up.
+   */
+  public void warmUp() {
+    try {
+      release(PythonCdkWorker.start(workerCommand));
+    } catch (final IOException e) {
+      LOGGER.warn("Failed to start a CDK worker ahead of time: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Run a CDK command on a pooled worker.
+   *
+   * @param command CDK command
+   * @param config config contents
+   * @param catalog catalog contents
+   * @return the worker's response
+   * @throws WorkerUnavailableException if no worker could be started, before the request was sent
+   * @throws IOException if interrupted while waiting for a worker or its response
+   * @throws CdkProcessException if the worker crashed while handling the request or the request timed
+   *         out
+   */
+  public WorkerResponse execute(final String command, final String config, final String catalog) throws IOException {
+    try {
+      if (!available.tryAcquire(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        throw new CdkProcessException(String.format("Timed out after %s waiting for a CDK worker to handle %s.", requestTimeout, command));
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for a CDK worker", e);
+    }
+
+    PythonCdkWorker worker = null;
+    try {
+      try {
+        worker = acquireWorker();
+      } catch (final IOException e) {
+        throw new WorkerUnavailableException(String.format("Failed to start a CDK worker to handle %s", command), e);
+      }
+      final JsonNode response = worker.execute(command, config, catalog, requestTimeout);
+      final WorkerResponse workerResponse = new WorkerResponse(response.path("output").asText(), response.path("exit_code").asInt());
+      if (worker.getRequestCount() >= maxRequestsPerWorker) {
+        LOGGER.debug("Recycling CDK worker process {} after {} requests", worker.getPid(), worker.getRequestCount());
+        worker.close();
+      } else {
+        release(worker);
+      }
+      worker = null;
+      return workerResponse;
+    } catch (final WorkerUnavailableException e) {
+      throw e;
+    } catch (final TimeoutException e) {
+      throw new CdkProcessException(String.format("CDK request %s timed out after %s.", command, requestTimeout));
+    } catch (final IOException e) {
+      // the request may have had side effects before the crash, so it is not run again.
+      throw new CdkProcessException(String.format("CDK worker failed while handling %s: %s", command, e.getMessage()));
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for a CDK worker response", e);
+    } finally {
+      // a worker that failed, timed out or was interrupted may be in any state, so it is not reused.
+      if (worker != null) {
+        worker.close();
+      }
+      available.release();
+    }
+  }
+
+  @Override
+  public void close() {
+    synchronized (idleWorkers) {
+      closed = true;
+      idleWorkers.forEach(PythonCdkWorker::close);
+      idleWorkers.clear();
+    }
+  }
+
+  int getIdleWorkerCount() {
+    synchronized (idleWorkers) {
+      return idleWorkers.size();
+    }
+  }
+
+  private PythonCdkWorker acquireWorker() throws IOException {
+    while (true) {
+      final PythonCdkWorker idle;
+      synchronized (idleWorkers) {
+        idle = idleWorkers.pollFirst();
+      }
+      if (idle == null) {
+        return PythonCdkWorker.start(workerCommand);
+      }
+      final boolean needsHealthCheck = idle.getIdleTime().compareTo(healthCheckInterval) >= 0;
+      if (idle.isAlive() && (!needsHealthCheck || idle.isHealthy(HEALTH_CHECK_TIMEOUT))) {
+        return idle;
+      }
+      LOGGER.info("Discarding unhealthy CDK worker process {}", idle.getPid());
+      idle.close();
+    }
+  }
+
+  private void release(final PythonCdkWorker worker) {
+    synchronized (idleWorkers) {
+      if (closed) {
+        worker.close();
+      } else {
+        // the most recently used worker is reused first, so that the others can be health checked and
+        // recycled.
+        idleWorkers.addFirst(worker);
+      }
+    }
+  }
+
+}
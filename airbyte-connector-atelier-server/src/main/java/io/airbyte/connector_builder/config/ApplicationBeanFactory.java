@@ -5,13 +5,21 @@
 package io.airbyte.connector_builder.config;
 
 import io.airbyte.config.EnvConfigs;
+import io.airbyte.connector_builder.command_runner.PooledPythonCdkCommandRunner;
+import io.airbyte.connector_builder.command_runner.PythonCdkWorkerPool;
 import io.airbyte.connector_builder.command_runner.SynchronousCdkCommandRunner;
 import io.airbyte.connector_builder.command_runner.SynchronousPythonCdkCommandRunner;
 import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
 import io.airbyte.connector_builder.file_writer.AirbyteFileWriterImpl;
 import io.airbyte.workers.internal.DefaultAirbyteStreamFactory;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Defines the instantiation of handler classes.
@@ -19,6 +27,8 @@ import jakarta.inject.Singleton;
 @Factory
 public class ApplicationBeanFactory {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationBeanFactory.class);
+
   private String getPython() {
     final EnvConfigs configs = new EnvConfigs();
     if (configs.getCdkPython() == null) {
@@ -36,15 +46,40 @@ public class ApplicationBeanFactory {
   }
 
   /**
-   * Defines the instantiation of the SynchronousPythonCdkCommandRunner.
+   * Defines the instantiation of the SynchronousCdkCommandRunner. Requests are handled by a pool of
+   * warm Python workers when it is enabled, with the one-shot SynchronousPythonCdkCommandRunner as a
+   * fallback.
    */
   @Singleton
-  public SynchronousCdkCommandRunner synchronousPythonCdkCommandRunner() {
-    return new SynchronousPythonCdkCommandRunner(
+  public SynchronousCdkCommandRunner synchronousPythonCdkCommandRunner(
+                                                                      @Value("${airbyte.connector-builder-server.worker-pool.enabled}") final boolean poolEnabled,
+                                                                      @Value("${airbyte.connector-builder-server.worker-pool.size}") final int poolSize,
+                                                                      @Value("${airbyte.connector-builder-server.worker-pool.max-requests-per-worker}") final int maxRequestsPerWorker,
+                                                                      @Value("${airbyte.connector-builder-server.worker-pool.request-timeout}") final Duration requestTimeout,
+                                                                      @Value("${airbyte.connector-builder-server.worker-pool.health-check-interval}") final Duration healthCheckInterval) {
+    final SynchronousPythonCdkCommandRunner oneShotRunner = new SynchronousPythonCdkCommandRunner(
         new AirbyteFileWriterImpl(),
         new DefaultAirbyteStreamFactory(),
         this.getPython(),
         this.getCdkEntrypoint());
+    if (!poolEnabled) {
+      return oneShotRunner;
+    }
+
+    try {
+      final PythonCdkWorkerPool pool = PythonCdkWorkerPool.create(
+          this.getPython(),
+          this.getCdkEntrypoint(),
+          poolSize,
+          maxRequestsPerWorker,
+          requestTimeout,
+          healthCheckInterval);
+      CompletableFuture.runAsync(pool::warmUp);
+      return new PooledPythonCdkCommandRunner(pool, oneShotRunner, new DefaultAirbyteStreamFactory());
+    } catch (final IOException e) {
+      LOGGER.warn("Failed to set up the CDK worker pool, using one-shot processes: {}", e.getMessage());
+      return oneShotRunner;
+    }
   }
 
 }
@@ -0,0 +1,80 @@
+#
+# Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+#
+
+"""
+Long-lived worker used by the connector builder server to run CDK connector builder requests
+without starting a new interpreter for each of them.
+
+Usage: python cdk_worker.py <path to the CDK connector builder main.py>
+
+Requests are read from stdin and responses written to stdout, one JSON object per line:
+  {"id": "...", "type": "health"}
+      -> {"id": "...", "status": "ok", "pid": 123}
+  {"id": "...", "type": "command", "config": "<json>", "catalog": "<json>"}
+      -> {"id": "...", "output": "<what the entrypoint printed>", "exit_code": 0}
+
+The entrypoint is run exactly as it would be from the command line, i.e. with the `read` subcommand
+and the connector builder command in the `__command` of the config, but in this interpreter, so
+that the CDK is only imported once. Everything it prints is captured and returned in the response,
+which keeps stdout reserved for the protocol.
+"""
+
+import contextlib
+import io
+import json
+import os
+import runpy
+import sys
+import tempfile
+import traceback
+
+
+def _write_temp_file(prefix, contents):
+    fd, path = tempfile.mkstemp(prefix=prefix, suffix=".tmp")
+    with os.fdopen(fd, "w", encoding="utf-8") as f:
+        f.write(contents)
+    return path
+
+
+def _run_command(entrypoint, request):
+    config_path = _write_temp_file("config", request.get("config") or "")
+    catalog_path = _write_temp_file("catalog", request.get("catalog") or "")
+    output = io.StringIO()
+    exit_code = 0
+    previous_argv = sys.argv
+    sys.argv = [entrypoint, "read", "--config", config_path, "--catalog", catalog_path]
+    try:
+        with contextlib.redirect_stdout(output):
+            runpy.run_path(entrypoint, run_name="__main__")
+    except SystemExit as e:
+        exit_code = e.code if isinstance(e.code, int) else (0 if e.code is None else 1)
+    except Exception:
+        traceback.print_exc(file=sys.stderr)
+        exit_code = 1
+    finally:
+        sys.argv = previous_argv
+        os.remove(config_path)
+        os.remove(catalog_path)
+    return {"output": output.getvalue(), "exit_code": exit_code}
+
+
+def main():
+    entrypoint = sys.argv[1]
+    protocol_out = sys.stdout
+    for line in sys.stdin:
+        line = line.strip()
+        if not line:
+            continue
+        request = json.loads(line)
+        if request.get("type") == "health":
+            response = {"status": "ok", "pid": os.getpid()}
+        else:
+            response = _run_command(entrypoint, request)
+        response["id"] = request.get("id")
+        protocol_out.write(json.dumps(response) + "\n")
+        protocol_out.flush()
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.connector_builder.command_runner.PythonCdkWorkerPool.WorkerResponse;
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.workers.internal.DefaultAirbyteStreamFactory;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the pool against real Python workers, with a stub in place of the CDK entrypoint.
+ */
+class PythonCdkWorkerPoolTest {
+
+  private static final String PYTHON = "python3";
+  private static final String STUB_ENTRYPOINT =
+      Path.of("src/test/resources/stub_cdk_entrypoint.py").toAbsolutePath().toString();
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+  private static final String CATALOG = "{}";
+
+  private PythonCdkWorkerPool pool;
+
+  @BeforeAll
+  static void checkPython() throws InterruptedException {
+    boolean available;
+    try {
+      final Process process = new ProcessBuilder(PYTHON, "--version").start();
+      available = process.waitFor(10, TimeUnit.SECONDS) && process.exitValue() == 0;
+    } catch (final IOException e) {
+      available = false;
+    }
+    Assumptions.assumeTrue(available, "python3 is required to run the CDK worker");
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (pool != null) {
+      pool.close();
+    }
+  }
+
+  @Test
+  void testWarmWorkerIsReused() throws IOException {
+    pool = createPool(1, 100, Duration.ofMinutes(1));
+
+    final long firstPid = runAndGetPid("list_streams");
+    final long secondPid = runAndGetPid("list_streams");
+
+    assertEquals(firstPid, secondPid);
+    assertEquals(1, pool.getIdleWorkerCount());
+  }
+
+  @Test
+  void testIdleWorkerIsHealthCheckedBeforeReuse() throws IOException {
+    pool = createPool(1, 100, Duration.ZERO);
+
+    assertEquals(runAndGetPid("list_streams"), runAndGetPid("list_streams"));
+  }
+
+  @Test
+  void testWorkerIsRecycledAfterMaxRequests() throws IOException {
+    pool = createPool(1, 2, Duration.ofMinutes(1));
+
+    final long firstPid = runAndGetPid("list_streams");
+    assertEquals(firstPid, runAndGetPid("list_streams"));
+    assertNotEquals(firstPid, runAndGetPid("list_streams"));
+  }
+
+  @Test
+  void testCrashedWorkerIsReplaced() throws IOException {
+    pool = createPool(1, 100, Duration.ofMinutes(1));
+    final long firstPid = runAndGetPid("list_streams");
+
+    assertThrows(CdkProcessException.class, () -> pool.execute("crash", config("crash"), CATALOG));
+
+    assertEquals(0, pool.getIdleWorkerCount());
+    assertNotEquals(firstPid, runAndGetPid("list_streams"));
+  }
+
+  @Test
+  void testTimedOutRequestThrowsAndWorkerIsReplaced() throws IOException {
+    pool = new PythonCdkWorkerPool(workerCommand(), 1, 100, Duration.ofSeconds(1), Duration.ofMinutes(1));
+
+    assertThrows(CdkProcessException.class, () -> pool.execute("sleep", config("sleep"), CATALOG));
+
+    assertEquals(0, pool.getIdleWorkerCount());
+    assertEquals("list_streams", runCommand("list_streams").get("command").asText());
+  }
+
+  @Test
+  void testFailingCommandReportsExitCode() throws IOException {
+    pool = createPool(1, 100, Duration.ofMinutes(1));
+
+    final WorkerResponse response = pool.execute("fail", config("fail"), CATALOG);
+
+    assertEquals(1, response.exitCode());
+    assertEquals("", response.output());
+  }
+
+  @Test
+  void testRunnerParsesRecordFromWorker() throws IOException {
+    pool = createPool(2, 100, Duration.ofMinutes(1));
+    final SynchronousCdkCommandRunner fallback = mock(SynchronousCdkCommandRunner.class);
+    final PooledPythonCdkCommandRunner runner = new PooledPythonCdkCommandRunner(pool, fallback, new DefaultAirbyteStreamFactory());
+
+    final AirbyteRecordMessage record = runner.runCommand("resolve_manifest", config("resolve_manifest"), CATALOG);
+
+    assertEquals("stub", record.getStream());
+    assertEquals("resolve_manifest", record.getData().get("command").asText());
+    verifyNoInteractions(fallback);
+  }
+
+  @Test
+  void testRunnerThrowsWhenCommandFailsWithoutOutput() {
+    pool = createPool(1, 100, Duration.ofMinutes(1));
+    final SynchronousCdkCommandRunner fallback = mock(SynchronousCdkCommandRunner.class);
+    final PooledPythonCdkCommandRunner runner = new PooledPythonCdkCommandRunner(pool, fallback, new DefaultAirbyteStreamFactory());
+
+    assertThrows(CdkProcessException.class, () -> runner.runCommand("fail", config("fail"), CATALOG));
+    verifyNoInteractions(fallback);
+  }
+
+  @Test
+  void testRunnerDoesNotRetryWhenWorkerCrashes() {
+    pool = createPool(1, 100, Duration.ofMinutes(1));
+    final SynchronousCdkCommandRunner fallback = mock(SynchronousCdkCommandRunner.class);
+    final PooledPythonCdkCommandRunner runner = new PooledPythonCdkCommandRunner(pool, fallback, new DefaultAirbyteStreamFactory());
+
+    assertThrows(CdkProcessException.class, () -> runner.runCommand("crash", config("crash"), CATALOG));
+    verifyNoInteractions(fallback);
+  }
+
+  @Test
+  void testRunnerFallsBackWhenNoWorkerCanStart() throws IOException {
+    pool = new PythonCdkWorkerPool(List.of("/nonexistent/python3"), 1, 100, REQUEST_TIMEOUT, Duration.ofMinutes(1));
+    final SynchronousCdkCommandRunner fallback = mock(SynchronousCdkCommandRunner.class);
+    final AirbyteRecordMessage expected = new AirbyteRecordMessage().withStream("fallback");
+    when(fallback.runCommand("list_streams", config("list_streams"), CATALOG)).thenReturn(expected);
+    final PooledPythonCdkCommandRunner runner = new PooledPythonCdkCommandRunner(pool, fallback, new DefaultAirbyteStreamFactory());
+
+    assertSame(expected, runner.runCommand("list_streams", config("list_streams"), CATALOG));
+    verify(fallback).runCommand("list_streams", config("list_streams"), CATALOG);
+  }
+
+  private PythonCdkWorkerPool createPool(final int size, final int maxRequestsPerWorker, final Duration healthCheckInterval) {
+    return new PythonCdkWorkerPool(workerCommand(), size, maxRequestsPerWorker, REQUEST_TIMEOUT, healthCheckInterval);
+  }
+
+  private static List<String> workerCommand() {
+    final String script = Path.of("src/main/resources/python/cdk_worker.py").toAbsolutePath().toString();
+    return List.of(PYTHON, "-u", script, STUB_ENTRYPOINT);
+  }
+
+  private long runAndGetPid(final String command) throws IOException {
+    return runCommand(command).get("pid").asLong();
+  }
+
+  private JsonNode runCommand(final String command) throws IOException {
+    final WorkerResponse response = pool.execute(command, config(command), CATALOG);
+    assertEquals(0, response.exitCode());
+    final AirbyteRecordMessage record = new ProcessOutputParser()
+        .parse(response.output(), response.exitCode(), new DefaultAirbyteStreamFactory(), command);
+    return record.getData();
+  }
+
+  private static String config(final String command) {
+    return Jsons.serialize(Map.of("__command", command));
+  }
+
+}
@@ -0,0 +1,30 @@
+#
+# Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+#
+
+# Stands in for the CDK connector builder main.py in tests. Like the real entrypoint, it only accepts
+# the `read` subcommand, reads the `__command` of the config and behaves accordingly.
+
+import json
+import os
+import sys
+import time
+
+if sys.argv[1] != "read":
+    sys.stderr.write("unsupported subcommand " + sys.argv[1] + "\n")
+    sys.exit(2)
+
+config_path = sys.argv[sys.argv.index("--config") + 1]
+with open(config_path) as f:
+    config = json.load(f)
+command = config.get("__command")
+
+if command == "crash":
+    os._exit(3)
+elif command == "sleep":
+    time.sleep(30)
+elif command == "fail":
+    sys.exit(1)
+
+print(json.dumps({"type": "LOG", "log": {"level": "INFO", "message": "handling " + command}}))
+print(json.dumps({"type": "RECORD", "record": {"stream": "stub", "emitted_at": 0, "data": {"pid": os.getpid(), "command": command}}}))
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Add a 128-bit content hash of the catalog to the actor catalog table, so that catalogs can be
+ * de-duplicated without comparing them. Existing catalogs keep a null content hash until they are
+ * matched against a newly discovered catalog.
+ */
+public class V0_42_01_001__AddCatalogContentHashToActorCatalog extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_42_01_001__AddCatalogContentHashToActorCatalog.class);
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    addCatalogContentHashColumn(ctx);
+  }
+
+  static void addCatalogContentHashColumn(final DSLContext ctx) {
+    ctx.alterTable("actor_catalog")
+        .addColumnIfNotExists(DSL.field("catalog_content_hash", SQLDataType.VARCHAR(32).nullable(true)))
+        .execute();
+    ctx.createIndexIfNotExists("actor_catalog_catalog_content_hash_idx").on("actor_catalog", "catalog_content_hash").execute();
+  }
+
+}
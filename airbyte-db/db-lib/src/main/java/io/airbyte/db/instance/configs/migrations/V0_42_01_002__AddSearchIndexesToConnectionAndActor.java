@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Add indexes on the names of connections and actors. Connection, source and destination searches
+ * filter on these columns in the database instead of loading every config into memory.
+ */
+public class V0_42_01_002__AddSearchIndexesToConnectionAndActor extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_42_01_002__AddSearchIndexesToConnectionAndActor.class);
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    addSearchIndexes(ctx);
+  }
+
+  static void addSearchIndexes(final DSLContext ctx) {
+    ctx.createIndexIfNotExists("connection_name_idx").on("connection", "name").execute();
+    ctx.createIndexIfNotExists("actor_actor_type_name_idx").on("actor", "actor_type", "name").execute();
+  }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Add a 128-bit content hash of the state to the state table, so that saving the state of a
+ * connection only rewrites the streams whose state changed. Existing states keep a null hash until
+ * they are saved again.
+ */
+public class V0_42_01_003__AddStateHashToState extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_42_01_003__AddStateHashToState.class);
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    addStateHashColumn(ctx);
+  }
+
+  static void addStateHashColumn(final DSLContext ctx) {
+    ctx.alterTable("state")
+        .addColumnIfNotExists(DSL.field("state_hash", SQLDataType.VARCHAR(32).nullable(true)))
+        .execute();
+  }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Add a narrow non_terminal_jobs table that only holds the jobs that are pending, running or
+ * incomplete. It is kept in sync with the jobs table by a trigger on every job status transition, so
+ * that the metrics reporter can compute its job gauges without scanning the full jobs history.
+ */
+public class V0_42_1_001__AddNonTerminalJobsTable extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_42_1_001__AddNonTerminalJobsTable.class);
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    addNonTerminalJobsTable(ctx);
+  }
+
+  static void addNonTerminalJobsTable(final DSLContext ctx) {
+    createNonTerminalJobsTable(ctx);
+    createSyncTrigger(ctx);
+    backfill(ctx);
+  }
+
+  private static void createNonTerminalJobsTable(final DSLContext ctx) {
+    ctx.execute("""
+                CREATE TABLE IF NOT EXISTS non_terminal_jobs (
+                  job_id BIGINT PRIMARY KEY REFERENCES jobs(id) ON DELETE CASCADE,
+                  scope VARCHAR(255),
+                  config_type JOB_CONFIG_TYPE,
+                  status JOB_STATUS NOT NULL,
+                  created_at TIMESTAMP WITH TIME ZONE
+                )
+                """);
+    ctx.createIndexIfNotExists("non_terminal_jobs_status_idx").on("non_terminal_jobs", "status").execute();
+  }
+
+  private static void createSyncTrigger(final DSLContext ctx) {
+    // deletes from jobs are propagated by the foreign key, so the trigger only needs to handle inserts
+    // and updates.
+    ctx.execute("""
+                CREATE OR REPLACE FUNCTION sync_non_terminal_jobs() RETURNS TRIGGER AS $$
+                BEGIN
+                  IF NEW.status IN ('pending', 'running', 'incomplete') THEN
+                    INSERT INTO non_terminal_jobs(job_id, scope, config_type, status, created_at)
+                    VALUES (NEW.id, NEW.scope, NEW.config_type, NEW.status, NEW.created_at)
+                    ON CONFLICT (job_id) DO UPDATE SET
+                      scope = EXCLUDED.scope,
+                      config_type = EXCLUDED.config_type,
+                      status = EXCLUDED.status,
+                      created_at = EXCLUDED.created_at;
+                  ELSE
+                    DELETE FROM non_terminal_jobs WHERE job_id = NEW.id;
+                  END IF;
+                  RETURN NEW;
+                END;
+                $$ LANGUAGE plpgsql
+                """);
+    ctx.execute("DROP TRIGGER IF EXISTS jobs_sync_non_terminal_jobs ON jobs");
+    ctx.execute("""
+                CREATE TRIGGER jobs_sync_non_terminal_jobs
+                AFTER INSERT OR UPDATE OF status, scope, config_type, created_at ON jobs
+                FOR EACH ROW EXECUTE FUNCTION sync_non_terminal_jobs()
+                """);
+  }
+
+  private static void backfill(final DSLContext ctx) {
+    ctx.execute("""
+                INSERT INTO non_terminal_jobs(job_id, scope, config_type, status, created_at)
+                SELECT id, scope, config_type, status, created_at FROM jobs
+                WHERE status IN ('pending', 'running', 'incomplete')
+                ON CONFLICT (job_id) DO NOTHING
+                """);
+  }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.db.factory.FlywayFactory;
+import io.airbyte.db.instance.configs.AbstractConfigsDatabaseTest;
+import io.airbyte.db.instance.configs.ConfigsDatabaseMigrator;
+import io.airbyte.db.instance.development.DevDatabaseMigrator;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class V0_42_01_001__AddCatalogContentHashToActorCatalogTest extends AbstractConfigsDatabaseTest {
+
+  @BeforeEach
+  void beforeEach() {
+    final Flyway flyway =
+        FlywayFactory.create(dataSource, "V0_42_01_001__AddCatalogContentHashToActorCatalogTest", ConfigsDatabaseMigrator.DB_IDENTIFIER,
+            ConfigsDatabaseMigrator.MIGRATION_FILE_LOCATION);
+    final ConfigsDatabaseMigrator configsDbMigrator = new ConfigsDatabaseMigrator(database, flyway);
+
+    final BaseJavaMigration previousMigration = new V0_41_02_002__AddNotificationConfigurationExternalTable();
+    final DevDatabaseMigrator devConfigsDbMigrator = new DevDatabaseMigrator(configsDbMigrator, previousMigration.getVersion());
+    devConfigsDbMigrator.createBaseline();
+  }
+
+  @Test
+  void test() {
+    final DSLContext context = getDslContext();
+    assertFalse(columnExists(context));
+    assertFalse(indexExists(context));
+
+    V0_42_01_001__AddCatalogContentHashToActorCatalog.addCatalogContentHashColumn(context);
+
+    assertTrue(columnExists(context));
+    assertTrue(indexExists(context));
+  }
+
+  private static boolean columnExists(final DSLContext ctx) {
+    return ctx.fetchExists(DSL.select()
+        .from("information_schema.columns")
+        .where(DSL.field("table_name").eq("actor_catalog")
+            .and(DSL.field("column_name").eq("catalog_content_hash"))));
+  }
+
+  private static boolean indexExists(final DSLContext ctx) {
+    return ctx.fetchExists(DSL.select()
+        .from("pg_indexes")
+        .where(DSL.field("tablename").eq("actor_catalog")
+            .and(DSL.field("indexname").eq("actor_catalog_catalog_content_hash_idx"))));
+  }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.db.factory.FlywayFactory;
+import io.airbyte.db.instance.configs.AbstractConfigsDatabaseTest;
+import io.airbyte.db.instance.configs.ConfigsDatabaseMigrator;
+import io.airbyte.db.instance.development.DevDatabaseMigrator;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class V0_42_01_002__AddSearchIndexesToConnectionAndActorTest extends AbstractConfigsDatabaseTest {
+
+  @BeforeEach
+  void beforeEach() {
+    final Flyway flyway =
+        FlywayFactory.create(dataSource, "V0_42_01_002__AddSearchIndexesToConnectionAndActorTest", ConfigsDatabaseMigrator.DB_IDENTIFIER,
+            ConfigsDatabaseMigrator.MIGRATION_FILE_LOCATION);
+    final ConfigsDatabaseMigrator configsDbMigrator = new ConfigsDatabaseMigrator(database, flyway);
+
+    final BaseJavaMigration previousMigration = new V0_42_01_001__AddCatalogContentHashToActorCatalog();
+    final DevDatabaseMigrator devConfigsDbMigrator = new DevDatabaseMigrator(configsDbMigrator, previousMigration.getVersion());
+    devConfigsDbMigrator.createBaseline();
+  }
+
+  @Test
+  void test() {
+    final DSLContext context = getDslContext();
+    assertFalse(indexExists(context, "connection", "connection_name_idx"));
+    assertFalse(indexExists(context, "actor", "actor_actor_type_name_idx"));
+
+    V0_42_01_002__AddSearchIndexesToConnectionAndActor.addSearchIndexes(context);
+
+    assertTrue(indexExists(context, "connection", "connection_name_idx"));
+    assertTrue(indexExists(context, "actor", "actor_actor_type_name_idx"));
+  }
+
+  private static boolean indexExists(final DSLContext ctx, final String tableName, final String indexName) {
+    return ctx.fetchExists(DSL.select()
+        .from("pg_indexes")
+        .where(DSL.field("tablename").eq(tableName)
+            .and(DSL.field("indexname").eq(indexName))));
+  }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.db.factory.FlywayFactory;
+import io.airbyte.db.instance.development.DevDatabaseMigrator;
+import io.airbyte.db.instance.jobs.AbstractJobsDatabaseTest;
+import io.airbyte.db.instance.jobs.JobsDatabaseMigrator;
+import java.util.Set;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class V0_42_1_001__AddNonTerminalJobsTableTest extends AbstractJobsDatabaseTest {
+
+  @BeforeEach
+  void beforeEach() {
+    final Flyway flyway =
+        FlywayFactory.create(dataSource, "V0_42_1_001__AddNonTerminalJobsTableTest", JobsDatabaseMigrator.DB_IDENTIFIER,
+            JobsDatabaseMigrator.MIGRATION_FILE_LOCATION);
+    final JobsDatabaseMigrator jobsDbMigrator = new JobsDatabaseMigrator(database, flyway);
+
+    final BaseJavaMigration previousMigration = new V0_42_0_001__AddBytesCommittedToStatsTables();
+    final DevDatabaseMigrator devJobsDbMigrator = new DevDatabaseMigrator(jobsDbMigrator, previousMigration.getVersion());
+    devJobsDbMigrator.createBaseline();
+  }
+
+  @Test
+  void test() {
+    final DSLContext context = getDslContext();
+    assertFalse(tableExists(context));
+    insertJob(context, 1L, "pending");
+    insertJob(context, 2L, "running");
+    insertJob(context, 3L, "succeeded");
+
+    V0_42_1_001__AddNonTerminalJobsTable.addNonTerminalJobsTable(context);
+
+    // existing non terminal jobs are backfilled.
+    assertTrue(tableExists(context));
+    assertEquals(Set.of(1L, 2L), getNonTerminalJobIds(context));
+
+    // the trigger keeps the table in sync with new jobs and status transitions.
+    insertJob(context, 4L, "pending");
+    context.execute("UPDATE jobs SET status = 'running' WHERE id = 1");
+    context.execute("UPDATE jobs SET status = 'failed' WHERE id = 2");
+    assertEquals(Set.of(1L, 4L), getNonTerminalJobIds(context));
+    assertEquals("running", context.fetchValue("SELECT status::text FROM non_terminal_jobs WHERE job_id = 1"));
+
+    // deleted jobs are removed by the foreign key.
+    context.execute("DELETE FROM jobs WHERE id = 4");
+    assertEquals(Set.of(1L), getNonTerminalJobIds(context));
+  }
+
+  private static void insertJob(final DSLContext ctx, final long id, final String status) {
+    ctx.execute("INSERT INTO jobs(id, config_type, scope, config, status, created_at, updated_at) "
+        + "VALUES (?, 'sync', 'connection-id', '{}'::jsonb, ?::job_status, now(), now())", id, status);
+  }
+
+  private static Set<Long> getNonTerminalJobIds(final DSLContext ctx) {
+    return ctx.fetch("SELECT job_id FROM non_terminal_jobs").intoSet(0, Long.class);
+  }
+
+  private static boolean tableExists(final DSLContext ctx) {
+    return ctx.fetchExists(DSL.select()
+        .from("information_schema.tables")
+        .where(DSL.field("table_name").eq("non_terminal_jobs")));
+  }
+
+}
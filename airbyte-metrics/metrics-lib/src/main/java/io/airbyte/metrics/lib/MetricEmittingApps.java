@@ -17,13 +17,18 @@ import lombok.AllArgsConstructor;
  * - Use dashes to delimit application names with multiple words.
  * <p>
  * - Use lowercase.
+ * <p>
+ * Metrics emitted by code shared between several applications are linked to the combination of
+ * those applications, e.g. server-and-worker.
  */
 @AllArgsConstructor
 public enum MetricEmittingApps implements MetricEmittingApp {
 
+  BOOTLOADER("bootloader"),
   METRICS_REPORTER("metrics-reporter"),
   ORCHESTRATOR("orchestrator"),
   SERVER("server"),
+  SERVER_AND_WORKER("server-and-worker"),
   WORKER("worker");
 
   private String applicationName;
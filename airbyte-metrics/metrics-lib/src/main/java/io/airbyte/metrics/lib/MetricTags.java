@@ -14,16 +14,20 @@ import io.airbyte.db.instance.jobs.jooq.generated.enums.JobStatus;
  */
 public class MetricTags {
 
+  public static final String ACTOR_TYPE = "actor_type";
   public static final String ATTEMPT_QUEUE = "attempt_queue";
   public static final String AUTHENTICATION_RESPONSE = "authentication_response";
   public static final String AUTHENTICATION_RESPONSE_FAILURE_REASON = "authentication_response_failure_reason";
   public static final String AUTHENTICATION_REQUEST_URI_ATTRIBUTE_KEY = "request_uri";
+  public static final String CACHE_NAME = "cache_name";
+  public static final String CONFIG_TYPE = "config_type";
   public static final String CONNECTION_ID = "connection_id";
   public static final String FAILURE_ORIGIN = "failure_origin";
   public static final String FAILURE_TYPE = "failure_type";
   public static final String GEOGRAPHY = "geography";
   public static final String JOB_ID = "job_id";
   public static final String JOB_STATUS = "job_status";
+  public static final String NOTIFICATION_TYPE = "notification_type";
   public static final String RELEASE_STAGE = "release_stage";
   public static final String RESET_WORKFLOW_FAILURE_CAUSE = "failure_cause";
   public static final String UNKNOWN = "unknown";
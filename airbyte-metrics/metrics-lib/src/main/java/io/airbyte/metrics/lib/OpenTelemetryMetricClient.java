@@ -26,6 +26,11 @@ import io.opentelemetry.sdk.metrics.export.PeriodicMetricReader;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Implementation of the {@link MetricClient} that sends the provided metric data to an
@@ -33,35 +38,53 @@ import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
  * <p>
  * Any {@link MetricAttribute}s provided along with the metric data are passed as key/value pairs
  * annotating the metric.
+ * <p>
+ * Instruments are built once per metric and reused. Gauges are registered with a single callback per
+ * metric, which reports the latest value recorded for each attribute set.
  */
 public class OpenTelemetryMetricClient implements MetricClient {
 
+  // attribute sets are cached per label combination, up to this many combinations. Beyond that, e.g.
+  // for labels with a high cardinality, they are built on every call.
+  private static final int MAX_CACHED_ATTRIBUTE_SETS = 10_000;
+
   private Meter meter;
   private SdkMeterProvider meterProvider;
 
+  private final ConcurrentMap<String, LongCounter> counters = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, DoubleHistogram> histograms = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, ConcurrentMap<Attributes, Double>> gaugeValues = new ConcurrentHashMap<>();
+  private final ConcurrentMap<List<MetricAttribute>, Attributes> attributeSets = new ConcurrentHashMap<>();
+  private final AtomicLong gaugeCallbackInvocations = new AtomicLong();
+
   @Override
   public void count(final MetricsRegistry metric, final long val, final MetricAttribute... attributes) {
-    final LongCounter counter = meter
-        .counterBuilder(metric.getMetricName())
+    final LongCounter counter = counters.computeIfAbsent(metric.getMetricName(), name -> meter
+        .counterBuilder(name)
         .setDescription(metric.getMetricDescription())
-        .build();
-
-    final AttributesBuilder attributesBuilder = buildAttributes(attributes);
-    counter.add(val, attributesBuilder.build());
+        .build());
+    counter.add(val, getAttributes(attributes));
   }
 
   @Override
   public void gauge(final MetricsRegistry metric, final double val, final MetricAttribute... attributes) {
-    final AttributesBuilder attributesBuilder = buildAttributes(attributes);
-    meter.gaugeBuilder(metric.getMetricName()).setDescription(metric.getMetricDescription())
-        .buildWithCallback(measurement -> measurement.record(val, attributesBuilder.build()));
+    final ConcurrentMap<Attributes, Double> values = gaugeValues.computeIfAbsent(metric.getMetricName(), name -> {
+      final ConcurrentMap<Attributes, Double> latestValues = new ConcurrentHashMap<>();
+      meter.gaugeBuilder(name).setDescription(metric.getMetricDescription())
+          .buildWithCallback(measurement -> {
+            gaugeCallbackInvocations.incrementAndGet();
+            latestValues.forEach((gaugeAttributes, value) -> measurement.record(value, gaugeAttributes));
+          });
+      return latestValues;
+    });
+    values.put(getAttributes(attributes), val);
   }
 
   @Override
   public void distribution(final MetricsRegistry metric, final double val, final MetricAttribute... attributes) {
-    final DoubleHistogram histogramMeter = meter.histogramBuilder(metric.getMetricName()).setDescription(metric.getMetricDescription()).build();
-    final AttributesBuilder attributesBuilder = buildAttributes(attributes);
-    histogramMeter.record(val, attributesBuilder.build());
+    final DoubleHistogram histogramMeter = histograms.computeIfAbsent(metric.getMetricName(),
+        name -> meter.histogramBuilder(name).setDescription(metric.getMetricDescription()).build());
+    histogramMeter.record(val, getAttributes(attributes));
   }
 
   /**
@@ -102,6 +125,7 @@ public class OpenTelemetryMetricClient implements MetricClient {
         .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
         .buildAndRegisterGlobal();
 
+    clearInstruments();
     meter = openTelemetry.meterBuilder(metricEmittingApp.getApplicationName())
         .build();
   }
@@ -111,17 +135,49 @@ public class OpenTelemetryMetricClient implements MetricClient {
     return meterProvider;
   }
 
+  /**
+   * Get the number of times gauge callbacks were invoked by metric collections.
+   */
+  @VisibleForTesting
+  long getGaugeCallbackInvocations() {
+    return gaugeCallbackInvocations.get();
+  }
+
   @Override
   public void shutdown() {
     resetForTest();
+    clearInstruments();
+  }
+
+  private void clearInstruments() {
+    counters.clear();
+    histograms.clear();
+    gaugeValues.clear();
+    attributeSets.clear();
+  }
+
+  private Attributes getAttributes(final MetricAttribute... attributes) {
+    if (attributes.length == 0) {
+      return Attributes.empty();
+    }
+    // the array is only wrapped for the lookup, and copied if the attribute set is cached.
+    final Attributes cached = attributeSets.get(Arrays.asList(attributes));
+    if (cached != null) {
+      return cached;
+    }
+    final Attributes built = buildAttributes(attributes);
+    if (attributeSets.size() < MAX_CACHED_ATTRIBUTE_SETS) {
+      attributeSets.putIfAbsent(List.of(attributes), built);
+    }
+    return built;
   }
 
-  private AttributesBuilder buildAttributes(final MetricAttribute... attributes) {
+  private static Attributes buildAttributes(final MetricAttribute... attributes) {
     final AttributesBuilder attributesBuilder = Attributes.builder();
     for (final MetricAttribute attribute : attributes) {
       attributesBuilder.put(stringKey(attribute.key()), attribute.value());
     }
-    return attributesBuilder;
+    return attributesBuilder.build();
   }
 
 }
@@ -199,6 +199,79 @@ public enum OssMetricsRegistry implements MetricsRegistry {
       "number of attempts to commit states from the PersistState activity",
       MetricTags.GEOGRAPHY),
 
+  SECRET_MIGRATION_ACTORS_MIGRATED(MetricEmittingApps.BOOTLOADER,
+      "secret_migration_actors_migrated",
+      "increments when the secrets of a source or destination are migrated to the secret persistence"),
+  SECRET_MIGRATION_ACTORS_REMAINING(MetricEmittingApps.BOOTLOADER,
+      "secret_migration_actors_remaining",
+      "number of sources or destinations whose secrets are still to be migrated"),
+  LINE_GOBBLER_ACTIVE(MetricEmittingApps.WORKER,
+      "line_gobbler_active",
+      "number of process output streams currently being consumed by line gobblers"),
+  LINE_GOBBLER_LINES_PER_SECOND(MetricEmittingApps.WORKER,
+      "line_gobbler_lines_per_second",
+      "rate of lines consumed by all line gobblers since the previous report"),
+  NORMALIZATION_OUTPUT_LINES_PER_SECOND(MetricEmittingApps.WORKER,
+      "normalization_output_lines_per_second",
+      "rate of lines read from the output of a normalization or dbt process"),
+  NORMALIZATION_OUTPUT_PARSE_FAILURES(MetricEmittingApps.WORKER,
+      "normalization_output_parse_failures",
+      "number of normalization output lines that looked like JSON but could not be parsed"),
+  NORMALIZATION_OUTPUT_LINES_TRUNCATED(MetricEmittingApps.WORKER,
+      "normalization_output_lines_truncated",
+      "number of normalization output lines that were truncated because they were too long"),
+  SYNCHRONOUS_JOB_REQUESTS_COALESCED(MetricEmittingApps.SERVER,
+      "synchronous_job_requests_coalesced",
+      "number of check and discover requests answered by an identical job instead of starting their own job",
+      MetricTags.CONFIG_TYPE),
+  TRACKING_EVENTS_DROPPED(MetricEmittingApps.SERVER_AND_WORKER,
+      "tracking_events_dropped",
+      "number of job tracking events dropped because the tracking queue was full"),
+  TEMPORAL_ATTEMPT_RUNNING(MetricEmittingApps.WORKER,
+      "temporal_attempt_running",
+      "number of attempts currently running in the worker"),
+  TEMPORAL_ATTEMPT_THREADS(MetricEmittingApps.WORKER,
+      "temporal_attempt_threads",
+      "number of platform threads running attempts and their cancellation checks"),
+  TEMPORAL_ATTEMPT_CHECK_LAG_MILLIS(MetricEmittingApps.WORKER,
+      "temporal_attempt_check_lag_millis",
+      "longest delay of an attempt heartbeat and cancellation check since the previous report"),
+  NOTIFICATIONS_DELIVERED(MetricEmittingApps.SERVER_AND_WORKER,
+      "notifications_delivered",
+      "number of notifications delivered",
+      MetricTags.NOTIFICATION_TYPE),
+  NOTIFICATION_DELIVERY_FAILURES(MetricEmittingApps.SERVER_AND_WORKER,
+      "notification_delivery_failures",
+      "number of notifications that could not be delivered after all their retries",
+      MetricTags.NOTIFICATION_TYPE),
+  NOTIFICATION_DELIVERY_RETRIES(MetricEmittingApps.SERVER_AND_WORKER,
+      "notification_delivery_retries",
+      "number of notification deliveries retried after a failed attempt",
+      MetricTags.NOTIFICATION_TYPE),
+  NOTIFICATION_DELIVERY_DURATION_MILLIS(MetricEmittingApps.SERVER_AND_WORKER,
+      "notification_delivery_duration_millis",
+      "time from queuing a notification to its delivery or failure, including rate limiting and retries",
+      MetricTags.NOTIFICATION_TYPE),
+  NOTIFICATIONS_DROPPED(MetricEmittingApps.SERVER_AND_WORKER,
+      "notifications_dropped",
+      "number of notifications dropped by the notification dispatcher because too many deliveries were pending",
+      MetricTags.NOTIFICATION_TYPE),
+  JOB_NOTIFICATIONS_DROPPED(MetricEmittingApps.SERVER_AND_WORKER,
+      "job_notifications_dropped",
+      "number of job notifications dropped because the job notifier queue was full"),
+  WORKSPACE_CACHE_HITS(MetricEmittingApps.SERVER,
+      "workspace_cache_hits",
+      "number of lookups of the workspace of a resource that were served from the cache",
+      MetricTags.CACHE_NAME),
+  WORKSPACE_CACHE_MISSES(MetricEmittingApps.SERVER,
+      "workspace_cache_misses",
+      "number of lookups of the workspace of a resource that had to be loaded",
+      MetricTags.CACHE_NAME),
+  WORKSPACE_CACHE_LOAD_DURATION_MILLIS(MetricEmittingApps.SERVER,
+      "workspace_cache_load_duration_millis",
+      "time to load the workspaces of one or more resources missing from the cache",
+      MetricTags.CACHE_NAME),
+
   ATTEMPTS_CREATED(
       MetricEmittingApps.WORKER,
       "attempt_created",
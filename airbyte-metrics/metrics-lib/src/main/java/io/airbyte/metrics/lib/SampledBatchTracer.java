@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.lib;
+
+import com.google.common.annotations.VisibleForTesting;
+import datadog.trace.api.DDTags;
+import io.airbyte.config.Configs;
+import io.airbyte.config.EnvConfigs;
+import io.opentracing.Span;
+import io.opentracing.Tracer;
+import io.opentracing.util.GlobalTracer;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Traces an operation that runs for every message, e.g. reading a message from a source, without
+ * creating a span for each call.
+ * <p>
+ * Calls are aggregated into batch spans: a span is emitted once a batch holds batch size calls, or
+ * once it is older than {@link #MAX_BATCH_AGE}, and on {@link #flush()}. It spans the whole batch
+ * and carries the number of calls and the distribution of their durations. Only one call out of
+ * every sample interval is timed. The other calls only increment an atomic counter and only take
+ * the lock to start a batch or once they alone fill one, so a batch can hold up to one sample
+ * interval more calls than the batch size.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * final long start = tracer.start();
+ * try {
+ *   ...
+ * } finally {
+ *   tracer.end(start);
+ * }
+ * </pre>
+ *
+ * Coarse operations, e.g. starting or closing a connector, should keep using regular spans.
+ */
+public class SampledBatchTracer {
+
+  /**
+   * Prefix of the tags added to batch spans.
+   */
+  public static final String BATCH_TAG_PREFIX = "batch";
+
+  static final Duration MAX_BATCH_AGE = Duration.ofMinutes(1);
+
+  private static final long NOT_SAMPLED = Long.MIN_VALUE;
+  // power of two buckets: bucket i holds durations in [2^(i-1), 2^i) nanoseconds.
+  private static final int HISTOGRAM_BUCKETS = Long.SIZE;
+  private static final double[] PERCENTILES = {0.5, 0.9, 0.99};
+
+  private static Configs configs;
+
+  private final Supplier<Tracer> tracerSupplier;
+  private final String operationName;
+  private final String resourceName;
+  private final int batchSize;
+  private final int sampleInterval;
+
+  // only decides which calls are timed, so races between threads are harmless.
+  private int callsUntilSample;
+
+  private final AtomicLong untimedCount = new AtomicLong();
+
+  // guarded by this
+  private boolean batchStarted;
+  private long batchStartMillis;
+  private long batchStartNanos;
+  private long sampledCount;
+  private long totalNanos;
+  private long minNanos;
+  private long maxNanos;
+  private final long[] histogram = new long[HISTOGRAM_BUCKETS];
+
+  /**
+   * Create a tracer reporting to the global tracer, using the batch size and sample interval from
+   * the environment.
+   *
+   * @param operationName operation name of the batch spans
+   * @param resourceName resource name of the batch spans, i.e. what operation is traced
+   * @return tracer
+   */
+  public static SampledBatchTracer create(final String operationName, final String resourceName) {
+    final Configs envConfigs = getConfigs();
+    return new SampledBatchTracer(GlobalTracer::get, operationName, resourceName, envConfigs.getTraceBatchSize(),
+        envConfigs.getTraceSampleInterval());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param tracerSupplier tracer the batch spans are reported to
+   * @param operationName operation name of the batch spans
+   * @param resourceName resource name of the batch spans
+   * @param batchSize number of calls per span. Tracing is disabled if it is not positive.
+   * @param sampleInterval one call out of every sampleInterval is timed
+   */
+  @VisibleForTesting
+  public SampledBatchTracer(final Supplier<Tracer> tracerSupplier,
+                            final String operationName,
+                            final String resourceName,
+                            final int batchSize,
+                            final int sampleInterval) {
+    this.tracerSupplier = tracerSupplier;
+    this.operationName = operationName;
+    this.resourceName = resourceName;
+    this.batchSize = batchSize;
+    this.sampleInterval = Math.max(1, sampleInterval);
+    resetBatch();
+  }
+
+  /**
+   * Called when the traced operation starts.
+   *
+   * @return token to pass to {@link #end(long)}
+   */
+  public long start() {
+    if (batchSize <= 0 || --callsUntilSample > 0) {
+      return NOT_SAMPLED;
+    }
+    callsUntilSample = sampleInterval;
+    return System.nanoTime();
+  }
+
+  /**
+   * Called when the traced operation ends.
+   *
+   * @param start token returned by {@link #start()}
+   */
+  public void end(final long start) {
+    if (batchSize <= 0) {
+      return;
+    }
+    if (start == NOT_SAMPLED) {
+      final long untimed = untimedCount.incrementAndGet();
+      if (untimed == 1 || untimed >= batchSize) {
+        synchronized (this) {
+          startBatchIfNeeded(System.nanoTime());
+          if (getCount() >= batchSize) {
+            emitBatch();
+          }
+        }
+      }
+      return;
+    }
+
+    final long now = System.nanoTime();
+    final long duration = Math.max(0, now - start);
+    synchronized (this) {
+      startBatchIfNeeded(start);
+      sampledCount++;
+      totalNanos += duration;
+      minNanos = Math.min(minNanos, duration);
+      maxNanos = Math.max(maxNanos, duration);
+      histogram[Long.SIZE - Long.numberOfLeadingZeros(duration)]++;
+      // the age of the batch is only checked on timed calls, to avoid reading the clock on every call.
+      if (getCount() >= batchSize || now - batchStartNanos >= MAX_BATCH_AGE.toNanos()) {
+        emitBatch();
+      }
+    }
+  }
+
+  /**
+   * Emit the current batch, if it isn't empty. Should be called once the traced operation won't run
+   * anymore, e.g. when closing a connector.
+   */
+  public synchronized void flush() {
+    if (getCount() > 0) {
+      emitBatch();
+    }
+  }
+
+  private void startBatchIfNeeded(final long startNanos) {
+    if (!batchStarted) {
+      batchStarted = true;
+      batchStartMillis = System.currentTimeMillis();
+      batchStartNanos = startNanos;
+    }
+  }
+
+  private long getCount() {
+    return sampledCount + untimedCount.get();
+  }
+
+  private void emitBatch() {
+    // untimed calls made from now on belong to the next batch.
+    final long count = sampledCount + untimedCount.getAndSet(0);
+    final Span span = tracerSupplier.get().buildSpan(operationName)
+        .withStartTimestamp(TimeUnit.MILLISECONDS.toMicros(batchStartMillis))
+        .start();
+    span.setTag(DDTags.RESOURCE_NAME, resourceName);
+    ApmTraceUtils.addTagsToTrace(span, getBatchTags(count), BATCH_TAG_PREFIX);
+    span.finish(TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()));
+    resetBatch();
+  }
+
+  @VisibleForTesting
+  synchronized Map<String, Object> getBatchTags() {
+    return getBatchTags(getCount());
+  }
+
+  private Map<String, Object> getBatchTags(final long count) {
+    final Map<String, Object> tags = new LinkedHashMap<>();
+    tags.put("count", count);
+    tags.put("sampled_count", sampledCount);
+    if (sampledCount > 0) {
+      tags.put("duration_ns.min", minNanos);
+      tags.put("duration_ns.mean", totalNanos / sampledCount);
+      tags.put("duration_ns.max", maxNanos);
+      for (final double percentile : PERCENTILES) {
+        tags.put("duration_ns.p" + Math.round(percentile * 100), getPercentileUpperBound(percentile));
+      }
+    }
+    return tags;
+  }
+
+  /**
+   * Upper bound of the bucket holding the given percentile, capped by the maximum duration.
+   */
+  private long getPercentileUpperBound(final double percentile) {
+    final long rank = (long) Math.ceil(percentile * sampledCount);
+    long seen = 0;
+    for (int bucket = 0; bucket < HISTOGRAM_BUCKETS; bucket++) {
+      seen += histogram[bucket];
+      if (seen >= rank) {
+        return Math.min((1L << bucket) - 1, maxNanos);
+      }
+    }
+    return maxNanos;
+  }
+
+  private void resetBatch() {
+    batchStarted = false;
+    sampledCount = 0;
+    totalNanos = 0;
+    minNanos = Long.MAX_VALUE;
+    maxNanos = 0;
+    for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+      histogram[i] = 0;
+    }
+  }
+
+  private static synchronized Configs getConfigs() {
+    if (configs == null) {
+      configs = new EnvConfigs();
+    }
+    return configs;
+  }
+
+}
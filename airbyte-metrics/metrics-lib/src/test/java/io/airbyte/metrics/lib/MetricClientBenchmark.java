@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.lib;
+
+import static io.opentelemetry.semconv.resource.attributes.ResourceAttributes.SERVICE_NAME;
+
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-call overhead of emitting metrics through the {@link OpenTelemetryMetricClient}
+ * and the {@link DogStatsDMetricClient}.
+ * <p>
+ * The OpenTelemetry client exports to memory and the DogStatsD client sends to a local port nobody
+ * listens on, so that only the cost paid by the calling thread is measured.
+ * <p>
+ * To use this, run the main method and look at the report printed at the end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricClientBenchmark {
+
+  private static final MetricEmittingApp APP = MetricEmittingApps.WORKER;
+  private static final MetricsRegistry METRIC = OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS;
+  private static final MetricAttribute[] ATTRIBUTES = {
+    new MetricAttribute(MetricTags.CONNECTION_ID, "a4b2e7c4-4b36-4d1f-8a7e-2f0c1b0b6a3e"),
+    new MetricAttribute(MetricTags.RELEASE_STAGE, "generally_available")
+  };
+
+  @Param({"otel", "dogstatsd"})
+  public String client;
+
+  private MetricClient metricClient;
+
+  @Setup
+  public void setup() {
+    if ("otel".equals(client)) {
+      final OpenTelemetryMetricClient openTelemetryMetricClient = new OpenTelemetryMetricClient();
+      final Resource resource = Resource.getDefault().toBuilder().put(SERVICE_NAME, APP.getApplicationName()).build();
+      openTelemetryMetricClient.initialize(APP, InMemoryMetricExporter.create(), SdkTracerProvider.builder().setResource(resource).build(),
+          resource);
+      metricClient = openTelemetryMetricClient;
+    } else {
+      final DogStatsDMetricClient dogStatsDMetricClient = new DogStatsDMetricClient();
+      dogStatsDMetricClient.initialize(APP, new DatadogClientConfiguration("localhost", "18125", true, List.of()));
+      metricClient = dogStatsDMetricClient;
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    metricClient.shutdown();
+  }
+
+  @Benchmark
+  public void count() {
+    metricClient.count(METRIC, 1, ATTRIBUTES);
+  }
+
+  @Benchmark
+  public void gauge() {
+    metricClient.gauge(METRIC, 42.0, ATTRIBUTES);
+  }
+
+  @Benchmark
+  public void distribution() {
+    metricClient.distribution(METRIC, 42.0, ATTRIBUTES);
+  }
+
+  public static void main(final String[] args) throws Exception {
+    org.openjdk.jmh.Main.main(new String[] {MetricClientBenchmark.class.getSimpleName()});
+  }
+
+}
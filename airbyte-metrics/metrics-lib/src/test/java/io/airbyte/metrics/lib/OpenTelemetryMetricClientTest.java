@@ -10,10 +10,13 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import com.google.common.collect.Iterables;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.DoublePointData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.testing.exporter.InMemoryMetricExporter;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import java.util.Comparator;
 import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -108,4 +111,39 @@ class OpenTelemetryMetricClientTest {
     assertThat(data.getHistogramData().getPoints().stream().anyMatch(histogramPointData -> histogramPointData.getMin() == 10.0));
   }
 
+  @Test
+  @DisplayName("Repeated gauge calls should keep a single callback per metric reporting the latest values")
+  void testGaugeCallbacksDoNotAccumulate() {
+    for (int i = 0; i < 1000; i++) {
+      openTelemetryMetricClient.gauge(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, i);
+      openTelemetryMetricClient.gauge(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, -i, new MetricAttribute(TAG, TAG));
+    }
+
+    metricProvider.forceFlush();
+    assertThat(openTelemetryMetricClient.getGaugeCallbackInvocations()).isEqualTo(1L);
+    metricProvider.forceFlush();
+    assertThat(openTelemetryMetricClient.getGaugeCallbackInvocations()).isEqualTo(2L);
+
+    final MetricData data = Iterables.getLast(metricExporter.getFinishedMetricItems());
+    final List<Double> values = data.getDoubleGaugeData().getPoints().stream()
+        .sorted(Comparator.comparing(point -> point.getAttributes().size()))
+        .map(DoublePointData::getValue)
+        .toList();
+    assertThat(values).isEqualTo(List.of(999.0, -999.0));
+  }
+
+  @Test
+  @DisplayName("Count instruments should be reused across calls")
+  void testCountInstrumentIsReused() {
+    for (int i = 0; i < 10; i++) {
+      openTelemetryMetricClient.count(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, 1, new MetricAttribute(TAG, TAG));
+    }
+
+    metricProvider.forceFlush();
+    final MetricData data = Iterables.getOnlyElement(metricExporter.getFinishedMetricItems());
+    final LongPointData point = Iterables.getOnlyElement(data.getLongSumData().getPoints());
+    assertThat(point.getValue()).isEqualTo(10L);
+    assertThat(point.getAttributes().get(AttributeKey.stringKey(TAG))).isEqualTo(TAG);
+  }
+
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.lib;
+
+import io.opentracing.Span;
+import io.opentracing.Tracer;
+import io.opentracing.noop.NoopTracerFactory;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the per-call overhead of tracing a per-message operation with a span per call, as
+ * {@code @Trace} does, and with a {@link SampledBatchTracer}.
+ * <p>
+ * Both report to a no-op tracer, so that only the cost paid by the calling thread is measured; a
+ * real tracer makes spans per call far more expensive.
+ * <p>
+ * To use this, run the main method and look at the report printed at the end.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SampledBatchTracerBenchmark {
+
+  private Tracer tracer;
+  private SampledBatchTracer batchTracer;
+
+  @Setup
+  public void setup() {
+    tracer = NoopTracerFactory.create();
+    batchTracer = new SampledBatchTracer(() -> tracer, ApmTraceConstants.WORKER_OPERATION_NAME, "benchmark", 10_000, 100);
+  }
+
+  @Benchmark
+  public void untraced(final Blackhole blackhole) {
+    blackhole.consume(operation());
+  }
+
+  @Benchmark
+  public void spanPerCall(final Blackhole blackhole) {
+    final Span span = tracer.buildSpan(ApmTraceConstants.WORKER_OPERATION_NAME).start();
+    try {
+      blackhole.consume(operation());
+    } finally {
+      span.finish();
+    }
+  }
+
+  @Benchmark
+  public void sampledBatch(final Blackhole blackhole) {
+    final long start = batchTracer.start();
+    try {
+      blackhole.consume(operation());
+    } finally {
+      batchTracer.end(start);
+    }
+  }
+
+  private static int operation() {
+    return 42;
+  }
+
+  public static void main(final String[] args) throws Exception {
+    org.openjdk.jmh.Main.main(new String[] {SampledBatchTracerBenchmark.class.getSimpleName()});
+  }
+
+}
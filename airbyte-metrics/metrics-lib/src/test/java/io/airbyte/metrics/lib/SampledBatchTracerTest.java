@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.lib;
+
+import static io.airbyte.metrics.lib.ApmTraceUtils.TAG_FORMAT;
+import static io.airbyte.metrics.lib.SampledBatchTracer.BATCH_TAG_PREFIX;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import datadog.trace.api.DDTags;
+import io.opentracing.Span;
+import io.opentracing.Tracer;
+import io.opentracing.Tracer.SpanBuilder;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test suite for the {@link SampledBatchTracer} class.
+ */
+class SampledBatchTracerTest {
+
+  private static final String OPERATION_NAME = "operation";
+  private static final String RESOURCE_NAME = "Resource.method";
+
+  private Tracer tracer;
+  private Span span;
+
+  @BeforeEach
+  void setup() {
+    tracer = mock(Tracer.class);
+    span = mock(Span.class);
+    final SpanBuilder spanBuilder = mock(SpanBuilder.class, RETURNS_SELF);
+    when(spanBuilder.start()).thenReturn(span);
+    when(tracer.buildSpan(OPERATION_NAME)).thenReturn(spanBuilder);
+  }
+
+  @Test
+  void testEmitsOneSpanPerBatch() {
+    final SampledBatchTracer batchTracer = new SampledBatchTracer(() -> tracer, OPERATION_NAME, RESOURCE_NAME, 10, 1);
+
+    for (int i = 0; i < 25; i++) {
+      batchTracer.end(batchTracer.start());
+    }
+    verify(tracer, times(2)).buildSpan(OPERATION_NAME);
+    verify(span, times(2)).setTag(tag("count"), "10");
+    verify(span, times(2)).setTag(tag("sampled_count"), "10");
+    verify(span, times(2)).setTag(DDTags.RESOURCE_NAME, RESOURCE_NAME);
+    verify(span, times(2)).finish(anyLong());
+
+    batchTracer.flush();
+    verify(span, times(1)).setTag(tag("count"), "5");
+    verify(span, times(3)).finish(anyLong());
+
+    // nothing left to emit
+    batchTracer.flush();
+    verify(span, times(3)).finish(anyLong());
+  }
+
+  @Test
+  void testOnlyTimesSampledCalls() {
+    final SampledBatchTracer batchTracer = new SampledBatchTracer(() -> tracer, OPERATION_NAME, RESOURCE_NAME, 100, 4);
+
+    for (int i = 0; i < 10; i++) {
+      batchTracer.end(batchTracer.start());
+    }
+
+    final Map<String, Object> tags = batchTracer.getBatchTags();
+    assertEquals(10L, tags.get("count"));
+    // the 1st, 5th and 9th calls
+    assertEquals(3L, tags.get("sampled_count"));
+    final long min = (long) tags.get("duration_ns.min");
+    final long max = (long) tags.get("duration_ns.max");
+    for (final String statistic : new String[] {"duration_ns.mean", "duration_ns.p50", "duration_ns.p90", "duration_ns.p99"}) {
+      final long value = (long) tags.get(statistic);
+      assertTrue(value >= min && value <= max, statistic);
+    }
+    verify(tracer, never()).buildSpan(anyString());
+  }
+
+  @Test
+  void testUntimedCallsEmitBatches() {
+    final SampledBatchTracer batchTracer = new SampledBatchTracer(() -> tracer, OPERATION_NAME, RESOURCE_NAME, 10, 1000);
+
+    for (int i = 0; i < 25; i++) {
+      batchTracer.end(batchTracer.start());
+    }
+    // the first call is timed, then every 10 untimed calls fill a batch.
+    verify(span).setTag(tag("count"), "11");
+    verify(span).setTag(tag("count"), "10");
+    verify(span, times(2)).finish(anyLong());
+
+    batchTracer.flush();
+    verify(span).setTag(tag("count"), "4");
+    verify(span, times(3)).finish(anyLong());
+  }
+
+  @Test
+  void testDisabledWithoutBatchSize() {
+    final SampledBatchTracer batchTracer = new SampledBatchTracer(() -> tracer, OPERATION_NAME, RESOURCE_NAME, 0, 1);
+
+    for (int i = 0; i < 10; i++) {
+      batchTracer.end(batchTracer.start());
+    }
+    batchTracer.flush();
+
+    verify(tracer, never()).buildSpan(anyString());
+  }
+
+  private static String tag(final String key) {
+    return String.format(TAG_FORMAT, BATCH_TAG_PREFIX, key);
+  }
+
+}
@@ -6,7 +6,7 @@ package io.airbyte.metrics.reporter;
 
 import static io.airbyte.db.instance.configs.jooq.generated.Tables.CONNECTION;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.ATTEMPTS;
-import static io.airbyte.db.instance.jobs.jooq.generated.Tables.JOBS;
+import static io.airbyte.db.instance.jobs.jooq.generated.Tables.NON_TERMINAL_JOBS;
 import static org.jooq.impl.DSL.asterisk;
 import static org.jooq.impl.DSL.count;
 import static org.jooq.impl.DSL.name;
@@ -23,6 +23,14 @@ import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.impl.DSL;
 
+/**
+ * Queries backing the metrics reporter's emitters.
+ * <p>
+ * Queries about pending and running jobs read from the non_terminal_jobs table rather than from
+ * jobs. That table is kept in sync with jobs by a trigger on every status transition and only holds
+ * in-flight jobs, so these queries stay cheap regardless of the size of the job history and do not
+ * compete with the scheduler for the jobs table.
+ */
 @Singleton
 class MetricRepository {
 
@@ -43,10 +51,10 @@ class MetricRepository {
     String geographyResultAlias = "geography";
     String countResultAlias = "result";
     var result = ctx.select(CONNECTION.GEOGRAPHY.cast(String.class).as(geographyResultAlias), count(asterisk()).as(countResultAlias))
-        .from(JOBS)
+        .from(NON_TERMINAL_JOBS)
         .join(CONNECTION)
-        .on(CONNECTION.ID.cast(VARCHAR(255)).eq(JOBS.SCOPE))
-        .where(JOBS.STATUS.eq(JobStatus.pending))
+        .on(CONNECTION.ID.cast(VARCHAR(255)).eq(NON_TERMINAL_JOBS.SCOPE))
+        .where(NON_TERMINAL_JOBS.STATUS.eq(JobStatus.pending))
         .groupBy(CONNECTION.GEOGRAPHY);
     Field<String> geographyResultField = DSL.field(name(geographyResultAlias), String.class);
     Field<Integer> countResultField = DSL.field(name(countResultAlias), Integer.class);
@@ -62,12 +70,12 @@ class MetricRepository {
   Map<String, Integer> numberOfRunningJobsByTaskQueue() {
     String countFieldName = "count";
     var result = ctx.select(ATTEMPTS.PROCESSING_TASK_QUEUE, count(asterisk()).as(countFieldName))
-        .from(JOBS)
+        .from(NON_TERMINAL_JOBS)
         .join(CONNECTION)
-        .on(CONNECTION.ID.cast(VARCHAR(255)).eq(JOBS.SCOPE))
+        .on(CONNECTION.ID.cast(VARCHAR(255)).eq(NON_TERMINAL_JOBS.SCOPE))
         .join(ATTEMPTS)
-        .on(ATTEMPTS.JOB_ID.eq(JOBS.ID))
-        .where(JOBS.STATUS.eq(JobStatus.running).and(CONNECTION.STATUS.eq(StatusType.active)))
+        .on(ATTEMPTS.JOB_ID.eq(NON_TERMINAL_JOBS.JOB_ID))
+        .where(NON_TERMINAL_JOBS.STATUS.eq(JobStatus.running).and(CONNECTION.STATUS.eq(StatusType.active)))
         .and(ATTEMPTS.STATUS.eq(AttemptStatus.running))
         .groupBy(ATTEMPTS.PROCESSING_TASK_QUEUE);
 
@@ -85,10 +93,10 @@ class MetricRepository {
   // whole.
   int numberOfOrphanRunningJobs() {
     return ctx.selectCount()
-        .from(JOBS)
+        .from(NON_TERMINAL_JOBS)
         .join(CONNECTION)
-        .on(CONNECTION.ID.cast(VARCHAR(255)).eq(JOBS.SCOPE))
-        .where(JOBS.STATUS.eq(JobStatus.running).and(CONNECTION.STATUS.ne(StatusType.active)))
+        .on(CONNECTION.ID.cast(VARCHAR(255)).eq(NON_TERMINAL_JOBS.SCOPE))
+        .where(NON_TERMINAL_JOBS.STATUS.eq(JobStatus.running).and(CONNECTION.STATUS.ne(StatusType.active)))
         .fetchOne(0, int.class);
   }
 
@@ -97,11 +105,11 @@ class MetricRepository {
         """
         SELECT
           cast(connection.geography as varchar) AS geography,
-          MAX(EXTRACT(EPOCH FROM (current_timestamp - jobs.created_at))) AS run_duration_seconds
-        FROM jobs
+          MAX(EXTRACT(EPOCH FROM (current_timestamp - non_terminal_jobs.created_at))) AS run_duration_seconds
+        FROM non_terminal_jobs
         JOIN connection
-        ON jobs.scope::uuid = connection.id
-        WHERE jobs.status = 'pending'
+        ON non_terminal_jobs.scope::uuid = connection.id
+        WHERE non_terminal_jobs.status = 'pending'
         GROUP BY geography;
         """;
     final var result = ctx.fetch(query);
@@ -119,11 +127,13 @@ class MetricRepository {
   Map<String, Double> oldestRunningJobAgeSecsByTaskQueue() {
     final var query =
         """
-        SELECT attempts.processing_task_queue AS task_queue, MAX(EXTRACT(EPOCH FROM (current_timestamp - jobs.created_at))) AS run_duration_seconds
-        FROM jobs
+        SELECT
+          attempts.processing_task_queue AS task_queue,
+          MAX(EXTRACT(EPOCH FROM (current_timestamp - non_terminal_jobs.created_at))) AS run_duration_seconds
+        FROM non_terminal_jobs
         JOIN attempts
-        ON jobs.id = attempts.job_id
-        WHERE jobs.status = 'running' AND attempts.status = 'running'
+        ON non_terminal_jobs.job_id = attempts.job_id
+        WHERE non_terminal_jobs.status = 'running' AND attempts.status = 'running'
         GROUP BY task_queue;
         """;
     final var result = ctx.fetch(query);
@@ -237,16 +247,16 @@ class MetricRepository {
              -- Sub-query-1: query the currently running attempt's running time.
                 (
                   select
-                    jobs.scope as connection_id,
+                    non_terminal_jobs.scope as connection_id,
                     extract(epoch from age(NOW(), attempts.created_at)) as running_time
                   from
-                    jobs
+                    non_terminal_jobs
                   join attempts on
-                    jobs.id = attempts.job_id
+                    non_terminal_jobs.job_id = attempts.job_id
                   where
-                    jobs.status = 'running'
+                    non_terminal_jobs.status = 'running'
                     and attempts.status = 'running'
-                    and jobs.config_type = 'sync' )
+                    and non_terminal_jobs.config_type = 'sync' )
                         as current_running_attempts
               join
             -- Sub-query-2: query historic attempts' average running time within last week.
@@ -15,6 +15,10 @@ import static io.airbyte.db.instance.configs.jooq.generated.Tables.CONNECTION;
 import static io.airbyte.db.instance.configs.jooq.generated.Tables.WORKSPACE;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.ATTEMPTS;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.JOBS;
+import static io.airbyte.db.instance.jobs.jooq.generated.Tables.NON_TERMINAL_JOBS;
+import static org.jooq.impl.DSL.asterisk;
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.SQLDataType.VARCHAR;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -34,7 +38,10 @@ import java.io.IOException;
 import java.sql.SQLException;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.UUID;
 import org.jooq.DSLContext;
 import org.jooq.JSONB;
@@ -205,6 +212,146 @@ class MetricRepositoryTest {
 
   }
 
+  @Nested
+  class NonTerminalJobs {
+
+    private static final List<JobStatus> ALL_JOB_STATUSES = List.of(JobStatus.values());
+    private static final List<String> TASK_QUEUES = List.of(SYNC_QUEUE, AWS_SYNC_QUEUE);
+    private static final List<GeographyType> GEOGRAPHIES = List.of(GeographyType.AUTO, GeographyType.EU, GeographyType.US);
+
+    @Test
+    void shouldTrackJobStatusTransitions() {
+      ctx.insertInto(JOBS, JOBS.ID, JOBS.SCOPE, JOBS.STATUS, JOBS.CONFIG_TYPE)
+          .values(1L, "scope", JobStatus.pending, JobConfigType.sync)
+          .values(2L, "scope", JobStatus.succeeded, JobConfigType.sync)
+          .execute();
+      assertEquals(List.of(1L), ctx.select(NON_TERMINAL_JOBS.JOB_ID).from(NON_TERMINAL_JOBS).fetch(NON_TERMINAL_JOBS.JOB_ID));
+
+      ctx.update(JOBS).set(JOBS.STATUS, JobStatus.running).where(JOBS.ID.eq(1L)).execute();
+      assertEquals(JobStatus.running, ctx.select(NON_TERMINAL_JOBS.STATUS).from(NON_TERMINAL_JOBS).fetchOne(NON_TERMINAL_JOBS.STATUS));
+
+      ctx.update(JOBS).set(JOBS.STATUS, JobStatus.incomplete).where(JOBS.ID.eq(1L)).execute();
+      assertEquals(JobStatus.incomplete, ctx.select(NON_TERMINAL_JOBS.STATUS).from(NON_TERMINAL_JOBS).fetchOne(NON_TERMINAL_JOBS.STATUS));
+
+      ctx.update(JOBS).set(JOBS.STATUS, JobStatus.failed).where(JOBS.ID.eq(1L)).execute();
+      assertEquals(0, ctx.fetchCount(NON_TERMINAL_JOBS));
+
+      ctx.insertInto(JOBS, JOBS.ID, JOBS.SCOPE, JOBS.STATUS, JOBS.CONFIG_TYPE)
+          .values(3L, "scope", JobStatus.running, JobConfigType.sync)
+          .execute();
+      ctx.deleteFrom(JOBS).where(JOBS.ID.eq(3L)).execute();
+      assertEquals(0, ctx.fetchCount(NON_TERMINAL_JOBS));
+    }
+
+    @Test
+    void shouldMatchQueriesOverFullJobsTable() {
+      final Random random = new Random(42);
+      final List<UUID> connectionIds = new ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+        final UUID connectionId = UUID.randomUUID();
+        connectionIds.add(connectionId);
+        ctx.insertInto(CONNECTION, CONNECTION.ID, CONNECTION.NAMESPACE_DEFINITION, CONNECTION.SOURCE_ID, CONNECTION.DESTINATION_ID,
+            CONNECTION.NAME, CONNECTION.CATALOG, CONNECTION.MANUAL, CONNECTION.STATUS, CONNECTION.GEOGRAPHY)
+            .values(connectionId, NamespaceDefinitionType.source, UUID.randomUUID(), UUID.randomUUID(), CONN, JSONB.valueOf("{}"), true,
+                random.nextInt(4) == 0 ? StatusType.inactive : StatusType.active, GEOGRAPHIES.get(random.nextInt(GEOGRAPHIES.size())))
+            .execute();
+      }
+
+      for (long jobId = 1; jobId <= 500; jobId++) {
+        ctx.insertInto(JOBS, JOBS.ID, JOBS.SCOPE, JOBS.STATUS, JOBS.CONFIG_TYPE, JOBS.CREATED_AT)
+            .values(jobId, connectionIds.get(random.nextInt(connectionIds.size())).toString(), JobStatus.pending, JobConfigType.sync,
+                OffsetDateTime.now().minus(random.nextInt(100_000), ChronoUnit.SECONDS))
+            .execute();
+        ctx.insertInto(ATTEMPTS, ATTEMPTS.ID, ATTEMPTS.JOB_ID, ATTEMPTS.STATUS, ATTEMPTS.PROCESSING_TASK_QUEUE)
+            .values(jobId, jobId, random.nextBoolean() ? AttemptStatus.running : AttemptStatus.failed,
+                TASK_QUEUES.get(random.nextInt(TASK_QUEUES.size())))
+            .execute();
+        // walk each job through a few random status transitions.
+        for (int transition = random.nextInt(4); transition > 0; transition--) {
+          ctx.update(JOBS).set(JOBS.STATUS, ALL_JOB_STATUSES.get(random.nextInt(ALL_JOB_STATUSES.size()))).where(JOBS.ID.eq(jobId)).execute();
+        }
+      }
+      // purge some of the jobs.
+      ctx.deleteFrom(JOBS).where(JOBS.ID.le(50L)).execute();
+
+      assertEquals(legacyNumberOfPendingJobsByGeography(), withoutZeroes(db.numberOfPendingJobsByGeography()));
+      assertEquals(legacyNumberOfRunningJobsByTaskQueue(), withoutZeroes(db.numberOfRunningJobsByTaskQueue()));
+      assertEquals(legacyNumberOfOrphanRunningJobs(), db.numberOfOrphanRunningJobs());
+      assertAgesMatch(legacyOldestPendingJobAgeSecsByGeography(), db.oldestPendingJobAgeSecsByGeography());
+      assertAgesMatch(legacyOldestRunningJobAgeSecsByTaskQueue(), db.oldestRunningJobAgeSecsByTaskQueue());
+    }
+
+    private static <T extends Number> Map<String, T> withoutZeroes(final Map<String, T> map) {
+      map.values().removeIf(value -> value.doubleValue() == 0);
+      return map;
+    }
+
+    private static void assertAgesMatch(final Map<String, Double> expected, final Map<String, Double> actual) {
+      assertEquals(expected.keySet(), withoutZeroes(actual).keySet());
+      // ages are computed from current_timestamp, so allow for timing differences between queries.
+      expected.forEach((key, age) -> assertTrue(Math.abs(age - actual.get(key)) < 5, key));
+    }
+
+    // the queries below are the ones MetricRepository used to run over the full jobs table.
+
+    private static Map<String, Integer> legacyNumberOfPendingJobsByGeography() {
+      return ctx.select(CONNECTION.GEOGRAPHY.cast(String.class), count(asterisk()))
+          .from(JOBS)
+          .join(CONNECTION)
+          .on(CONNECTION.ID.cast(VARCHAR(255)).eq(JOBS.SCOPE))
+          .where(JOBS.STATUS.eq(JobStatus.pending))
+          .groupBy(CONNECTION.GEOGRAPHY)
+          .fetchMap(r -> r.value1(), r -> r.value2());
+    }
+
+    private static Map<String, Integer> legacyNumberOfRunningJobsByTaskQueue() {
+      return ctx.select(ATTEMPTS.PROCESSING_TASK_QUEUE, count(asterisk()))
+          .from(JOBS)
+          .join(CONNECTION)
+          .on(CONNECTION.ID.cast(VARCHAR(255)).eq(JOBS.SCOPE))
+          .join(ATTEMPTS)
+          .on(ATTEMPTS.JOB_ID.eq(JOBS.ID))
+          .where(JOBS.STATUS.eq(JobStatus.running).and(CONNECTION.STATUS.eq(StatusType.active)))
+          .and(ATTEMPTS.STATUS.eq(AttemptStatus.running))
+          .groupBy(ATTEMPTS.PROCESSING_TASK_QUEUE)
+          .fetchMap(r -> r.value1(), r -> r.value2());
+    }
+
+    private static int legacyNumberOfOrphanRunningJobs() {
+      return ctx.selectCount()
+          .from(JOBS)
+          .join(CONNECTION)
+          .on(CONNECTION.ID.cast(VARCHAR(255)).eq(JOBS.SCOPE))
+          .where(JOBS.STATUS.eq(JobStatus.running).and(CONNECTION.STATUS.ne(StatusType.active)))
+          .fetchOne(0, int.class);
+    }
+
+    private static Map<String, Double> legacyOldestPendingJobAgeSecsByGeography() {
+      return ctx.select(CONNECTION.GEOGRAPHY.cast(String.class), JOBS.CREATED_AT.min())
+          .from(JOBS)
+          .join(CONNECTION)
+          .on(CONNECTION.ID.cast(VARCHAR(255)).eq(JOBS.SCOPE))
+          .where(JOBS.STATUS.eq(JobStatus.pending))
+          .groupBy(CONNECTION.GEOGRAPHY)
+          .fetchMap(r -> r.value1(), r -> ageSecs(r.value2()));
+    }
+
+    private static Map<String, Double> legacyOldestRunningJobAgeSecsByTaskQueue() {
+      return ctx.select(ATTEMPTS.PROCESSING_TASK_QUEUE, JOBS.CREATED_AT.min())
+          .from(JOBS)
+          .join(ATTEMPTS)
+          .on(JOBS.ID.eq(ATTEMPTS.JOB_ID))
+          .where(JOBS.STATUS.eq(JobStatus.running).and(ATTEMPTS.STATUS.eq(AttemptStatus.running)))
+          .groupBy(ATTEMPTS.PROCESSING_TASK_QUEUE)
+          .fetchMap(r -> r.value1(), r -> ageSecs(r.value2()));
+    }
+
+    private static double ageSecs(final OffsetDateTime createdAt) {
+      return ChronoUnit.MILLIS.between(createdAt, OffsetDateTime.now()) / 1000.0;
+    }
+
+  }
+
   @Nested
   class OldestPendingJob {
 
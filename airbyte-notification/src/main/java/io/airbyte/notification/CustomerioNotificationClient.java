@@ -7,16 +7,13 @@ package io.airbyte.notification;
 import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.commons.resources.MoreResources;
 import io.airbyte.config.Notification;
+import io.airbyte.config.Notification.NotificationType;
 import io.airbyte.config.SlackNotificationConfiguration;
 import java.io.IOException;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.UUID;
 import org.apache.commons.lang3.NotImplementedException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Notification client that uses customer.io API send emails.
@@ -31,36 +28,37 @@ import org.slf4j.LoggerFactory;
  */
 public class CustomerioNotificationClient extends NotificationClient {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(CustomerioNotificationClient.class);
-
   private static final String AUTO_DISABLE_TRANSACTION_MESSAGE_ID = "7";
   private static final String AUTO_DISABLE_WARNING_TRANSACTION_MESSAGE_ID = "8";
 
-  private static final String CUSTOMERIO_EMAIL_API_ENDPOINT = "https://api.customer.io/v1/send/email";
+  static final String CUSTOMERIO_EMAIL_API_ENDPOINT = "https://api.customer.io/v1/send/email";
   private static final String AUTO_DISABLE_NOTIFICATION_TEMPLATE_PATH = "customerio/auto_disable_notification_template.json";
 
-  private final HttpClient httpClient;
+  private final NotificationDispatcher dispatcher;
   private final String apiToken;
   private final String emailApiEndpoint;
 
   public CustomerioNotificationClient(final Notification notification) {
-    super(notification);
-    this.apiToken = System.getenv("CUSTOMERIO_API_KEY");
-    this.emailApiEndpoint = CUSTOMERIO_EMAIL_API_ENDPOINT;
-    this.httpClient = HttpClient.newBuilder()
-        .version(HttpClient.Version.HTTP_2)
-        .build();
+    this(notification, System.getenv("CUSTOMERIO_API_KEY"), CUSTOMERIO_EMAIL_API_ENDPOINT, NotificationDispatcher.getInstance());
   }
 
   @VisibleForTesting
   public CustomerioNotificationClient(final Notification notification,
                                       final String apiToken,
                                       final String emailApiEndpoint,
-                                      final HttpClient httpClient) {
-    super(notification);
+                                      final NotificationDispatcher dispatcher) {
+    this(notification, apiToken, emailApiEndpoint, dispatcher, true);
+  }
+
+  CustomerioNotificationClient(final Notification notification,
+                               final String apiToken,
+                               final String emailApiEndpoint,
+                               final NotificationDispatcher dispatcher,
+                               final boolean waitForDelivery) {
+    super(notification, waitForDelivery);
     this.apiToken = apiToken;
     this.emailApiEndpoint = emailApiEndpoint;
-    this.httpClient = httpClient;
+    this.dispatcher = dispatcher;
   }
 
   @Override
@@ -134,26 +132,12 @@ public class CustomerioNotificationClient extends NotificationClient {
     final HttpRequest request = HttpRequest.newBuilder()
         .POST(HttpRequest.BodyPublishers.ofString(requestBody))
         .uri(URI.create(emailApiEndpoint))
+        .timeout(NotificationDispatcher.REQUEST_TIMEOUT)
         .header("Content-Type", "application/json")
         .header("Authorization", "Bearer " + apiToken)
         .build();
 
-    final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-    if (isSuccessfulHttpResponse(response.statusCode())) {
-      LOGGER.info("Successful notification ({}): {}", response.statusCode(), response.body());
-      return true;
-    } else {
-      final String errorMessage = String.format("Failed to deliver notification (%s): %s", response.statusCode(), response.body());
-      throw new IOException(errorMessage);
-    }
-  }
-
-  /**
-   * Use an integer division to check successful HTTP status codes (i.e., those from 200-299), not
-   * just 200. https://www.w3.org/Protocols/rfc2616/rfc2616-sec10.html
-   */
-  private static boolean isSuccessfulHttpResponse(final int httpStatusCode) {
-    return httpStatusCode / 100 == 2;
+    return send(dispatcher, NotificationType.CUSTOMERIO.value(), request);
   }
 
   @Override
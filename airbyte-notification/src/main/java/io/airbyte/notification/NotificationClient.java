@@ -8,19 +8,32 @@ import io.airbyte.commons.resources.MoreResources;
 import io.airbyte.config.Notification;
 import io.airbyte.config.SlackNotificationConfiguration;
 import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Client for trigger notifications (regardless of notification type e.g. slack or email).
  */
 public abstract class NotificationClient {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(NotificationClient.class);
+
   protected boolean sendOnSuccess;
   protected boolean sendOnFailure;
+  // when false, notifications are only queued for delivery, and their outcome is logged once known.
+  protected final boolean waitForDelivery;
 
   public NotificationClient(final Notification notification) {
+    this(notification, true);
+  }
+
+  protected NotificationClient(final Notification notification, final boolean waitForDelivery) {
     this.sendOnSuccess = notification.getSendOnSuccess();
     this.sendOnFailure = notification.getSendOnFailure();
+    this.waitForDelivery = waitForDelivery;
   }
 
   public abstract boolean notifyJobFailure(
@@ -72,13 +85,67 @@ public abstract class NotificationClient {
    * @return notification client
    */
   public static NotificationClient createNotificationClient(final Notification notification) {
+    return createNotificationClient(notification, true);
+  }
+
+  /**
+   * Create a notification client that doesn't wait for its notifications to be delivered. Its notify
+   * methods return as soon as the notification is queued, so that a slow or rate limited destination
+   * doesn't hold up the caller's thread. Delivery failures are logged instead of being thrown.
+   *
+   * @param notification type of notification
+   * @return notification client
+   */
+  public static NotificationClient createBackgroundNotificationClient(final Notification notification) {
+    return createNotificationClient(notification, false);
+  }
+
+  private static NotificationClient createNotificationClient(final Notification notification, final boolean waitForDelivery) {
     return switch (notification.getNotificationType()) {
-      case SLACK -> new SlackNotificationClient(notification);
-      case CUSTOMERIO -> new CustomerioNotificationClient(notification);
+      case SLACK -> new SlackNotificationClient(notification, NotificationDispatcher.getInstance(), waitForDelivery);
+      case CUSTOMERIO -> new CustomerioNotificationClient(notification, System.getenv("CUSTOMERIO_API_KEY"),
+          CustomerioNotificationClient.CUSTOMERIO_EMAIL_API_ENDPOINT, NotificationDispatcher.getInstance(), waitForDelivery);
       default -> throw new IllegalArgumentException("Unknown notification type:" + notification.getNotificationType());
     };
   }
 
+  /**
+   * Send a notification request through the dispatcher.
+   *
+   * @param dispatcher dispatcher to deliver the request with
+   * @param notificationType type of the notification
+   * @param request request to deliver
+   * @return true once the request is delivered, or once it is queued if this client doesn't wait for
+   *         delivery
+   * @throws IOException if the delivery failed
+   * @throws InterruptedException if interrupted while waiting for the delivery
+   */
+  boolean send(final NotificationDispatcher dispatcher, final String notificationType, final HttpRequest request)
+      throws IOException, InterruptedException {
+    if (!waitForDelivery) {
+      dispatcher.dispatch(notificationType, request).whenComplete((response, e) -> {
+        if (e != null) {
+          LOGGER.error("Failed to deliver {} notification to {}", notificationType, request.uri().getHost(), e);
+        } else if (NotificationDispatcher.isSuccessfulHttpResponse(response.statusCode())) {
+          LOGGER.info("Successful notification ({}): {}", response.statusCode(), response.body());
+        } else {
+          LOGGER.error("Failed to deliver {} notification to {} ({}): {}", notificationType, request.uri().getHost(), response.statusCode(),
+              response.body());
+        }
+      });
+      return true;
+    }
+
+    final HttpResponse<String> response = dispatcher.deliver(notificationType, request);
+    if (NotificationDispatcher.isSuccessfulHttpResponse(response.statusCode())) {
+      LOGGER.info("Successful notification ({}): {}", response.statusCode(), response.body());
+      return true;
+    } else {
+      final String errorMessage = String.format("Failed to deliver notification (%s): %s", response.statusCode(), response.body());
+      throw new IOException(errorMessage);
+    }
+  }
+
   String renderTemplate(final String templateFile, final String... data) throws IOException {
     final String template = MoreResources.readResource(templateFile);
     return String.format(template, data);
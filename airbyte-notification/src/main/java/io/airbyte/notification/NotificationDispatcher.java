@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.notification;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers the HTTP requests of notifications. All the notification clients share one dispatcher,
+ * and so one pooled HTTP client, instead of each creating its own.
+ *
+ * Deliveries are asynchronous. Requests to the same destination are spaced out so that they don't
+ * exceed its rate limit, requests that fail with a network error, a 429 or a 5xx are retried with a
+ * jittered exponential backoff, and a delivery is rejected right away when too many deliveries are
+ * already pending.
+ */
+public class NotificationDispatcher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+  private static final int HTTP_THREADS = 4;
+  private static final int MAX_PENDING_DELIVERIES = 1000;
+  private static final int MAX_ATTEMPTS = 3;
+  // Slack allows one message per second to each incoming webhook.
+  private static final Duration MIN_INTERVAL_PER_DESTINATION = Duration.ofSeconds(1);
+  private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+  private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+  static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+  private static final Duration IDLE_DESTINATION_EXPIRY = Duration.ofMinutes(10);
+  private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+  private static final NotificationDispatcher INSTANCE = create();
+
+  private final HttpClient httpClient;
+  private final ScheduledExecutorService scheduler;
+  private final Supplier<MetricClient> metricClientSupplier;
+  private final int maxPendingDeliveries;
+  private final int maxAttempts;
+  private final long minIntervalNanos;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+  private final AtomicInteger pendingDeliveries = new AtomicInteger();
+  // earliest time at which the next request may be sent to each destination.
+  private final Cache<String, Long> nextSendNanos = CacheBuilder.newBuilder().expireAfterAccess(IDLE_DESTINATION_EXPIRY).build();
+
+  @VisibleForTesting
+  NotificationDispatcher(final HttpClient httpClient,
+                         final ScheduledExecutorService scheduler,
+                         final Supplier<MetricClient> metricClientSupplier,
+                         final int maxPendingDeliveries,
+                         final int maxAttempts,
+                         final Duration minIntervalPerDestination,
+                         final Duration initialBackoff,
+                         final Duration maxBackoff) {
+    this.httpClient = httpClient;
+    this.scheduler = scheduler;
+    this.metricClientSupplier = metricClientSupplier;
+    this.maxPendingDeliveries = maxPendingDeliveries;
+    this.maxAttempts = maxAttempts;
+    this.minIntervalNanos = minIntervalPerDestination.toNanos();
+    this.initialBackoff = initialBackoff;
+    this.maxBackoff = maxBackoff;
+  }
+
+  /**
+   * Get the dispatcher shared by all the notification clients.
+   *
+   * @return shared dispatcher
+   */
+  public static NotificationDispatcher getInstance() {
+    return INSTANCE;
+  }
+
+  private static NotificationDispatcher create() {
+    final HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_2)
+        .connectTimeout(CONNECT_TIMEOUT)
+        .executor(Executors.newFixedThreadPool(HTTP_THREADS,
+            new ThreadFactoryBuilder().setNameFormat("notification-http-%d").setDaemon(true).build()))
+        .build();
+    final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("notification-dispatcher-%d").setDaemon(true).build());
+    return new NotificationDispatcher(httpClient, scheduler, MetricClientFactory::getMetricClient, MAX_PENDING_DELIVERIES, MAX_ATTEMPTS,
+        MIN_INTERVAL_PER_DESTINATION, INITIAL_BACKOFF, MAX_BACKOFF);
+  }
+
+  /**
+   * Deliver a request and wait for its response.
+   *
+   * @param notificationType type of the notification, used to tag metrics
+   * @param request request to deliver
+   * @return last response received, which isn't successful if the delivery failed
+   * @throws IOException if the request could not be sent, or was rejected because too many
+   *         deliveries are pending
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public HttpResponse<String> deliver(final String notificationType, final HttpRequest request) throws IOException, InterruptedException {
+    try {
+      return dispatch(notificationType, request).get();
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException("Failed to deliver notification to " + request.uri().getHost(), e.getCause());
+    }
+  }
+
+  /**
+   * Queue a request for delivery.
+   *
+   * @param notificationType type of the notification, used to tag metrics
+   * @param request request to deliver
+   * @return future of the last response received, which isn't successful if the delivery failed. It
+   *         completes exceptionally if the request could not be sent, or was rejected because too
+   *         many deliveries are pending.
+   */
+  public CompletableFuture<HttpResponse<String>> dispatch(final String notificationType, final HttpRequest request) {
+    final MetricAttribute typeAttribute = new MetricAttribute(MetricTags.NOTIFICATION_TYPE, notificationType);
+    final String destination = getDestination(request.uri());
+    if (pendingDeliveries.incrementAndGet() > maxPendingDeliveries) {
+      pendingDeliveries.decrementAndGet();
+      LOGGER.warn("Dropping {} notification to {}, too many notifications are pending", notificationType, request.uri().getHost());
+      metricClientSupplier.get().count(OssMetricsRegistry.NOTIFICATIONS_DROPPED, 1, typeAttribute);
+      return CompletableFuture.failedFuture(new RejectedExecutionException("Too many notifications are pending"));
+    }
+
+    final long startNanos = System.nanoTime();
+    final CompletableFuture<HttpResponse<String>> delivery = new CompletableFuture<>();
+    scheduleAttempt(request, destination, 1, 0, delivery, typeAttribute);
+    return delivery.whenComplete((response, e) -> {
+      pendingDeliveries.decrementAndGet();
+      final MetricClient metricClient = metricClientSupplier.get();
+      if (e == null && isSuccessfulHttpResponse(response.statusCode())) {
+        metricClient.count(OssMetricsRegistry.NOTIFICATIONS_DELIVERED, 1, typeAttribute);
+      } else {
+        metricClient.count(OssMetricsRegistry.NOTIFICATION_DELIVERY_FAILURES, 1, typeAttribute);
+      }
+      metricClient.distribution(OssMetricsRegistry.NOTIFICATION_DELIVERY_DURATION_MILLIS,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), typeAttribute);
+    });
+  }
+
+  private void scheduleAttempt(final HttpRequest request,
+                               final String destination,
+                               final int attemptNumber,
+                               final long minDelayNanos,
+                               final CompletableFuture<HttpResponse<String>> delivery,
+                               final MetricAttribute typeAttribute) {
+    try {
+      scheduler.schedule(() -> sendAttempt(request, destination, attemptNumber, delivery, typeAttribute),
+          reserveSendDelayNanos(destination, minDelayNanos), TimeUnit.NANOSECONDS);
+    } catch (final RejectedExecutionException e) {
+      delivery.completeExceptionally(e);
+    }
+  }
+
+  private void sendAttempt(final HttpRequest request,
+                           final String destination,
+                           final int attemptNumber,
+                           final CompletableFuture<HttpResponse<String>> delivery,
+                           final MetricAttribute typeAttribute) {
+    httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, e) -> {
+      if (e == null && !isRetryableHttpResponse(response.statusCode())) {
+        delivery.complete(response);
+      } else if (attemptNumber < maxAttempts) {
+        LOGGER.info("Notification to {} failed ({}), retrying", request.uri().getHost(), e == null ? response.statusCode() : e.toString());
+        metricClientSupplier.get().count(OssMetricsRegistry.NOTIFICATION_DELIVERY_RETRIES, 1, typeAttribute);
+        scheduleAttempt(request, destination, attemptNumber + 1, getBackoffNanos(attemptNumber, response), delivery, typeAttribute);
+      } else if (e == null) {
+        delivery.complete(response);
+      } else {
+        delivery.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+      }
+    });
+  }
+
+  /**
+   * Reserve the next slot to send a request to a destination.
+   *
+   * @return delay before the request may be sent
+   */
+  private long reserveSendDelayNanos(final String destination, final long minDelayNanos) {
+    final long earliestSendNanos = System.nanoTime() + minDelayNanos;
+    final long sendNanos = nextSendNanos.asMap().merge(destination, earliestSendNanos + minIntervalNanos,
+        (next, earliestNext) -> Math.max(next + minIntervalNanos, earliestNext)) - minIntervalNanos;
+    return Math.max(0, sendNanos - System.nanoTime());
+  }
+
+  /**
+   * Exponential backoff with jitter, so that the retries of notifications that failed together don't
+   * all hit the destination at once. A Retry-After header sent with a 429 is respected.
+   */
+  private long getBackoffNanos(final int attemptNumber, final HttpResponse<String> response) {
+    final long maxBackoffNanos = Math.min(maxBackoff.toNanos(), initialBackoff.toNanos() << Math.min(attemptNumber - 1, 30));
+    final long backoffNanos = maxBackoffNanos / 2 + ThreadLocalRandom.current().nextLong(maxBackoffNanos / 2 + 1);
+    if (response != null && response.statusCode() == HTTP_TOO_MANY_REQUESTS) {
+      final long retryAfterSeconds = response.headers().firstValueAsLong("Retry-After").orElse(0);
+      return Math.max(backoffNanos, TimeUnit.SECONDS.toNanos(Math.min(retryAfterSeconds, maxBackoff.toSeconds())));
+    }
+    return backoffNanos;
+  }
+
+  // requests to different paths of the same host, such as Slack webhooks, are rate limited separately.
+  // webhook paths hold secrets, so only the host is logged.
+  private static String getDestination(final URI uri) {
+    return uri.getScheme() + "://" + uri.getAuthority() + uri.getPath();
+  }
+
+  private static boolean isRetryableHttpResponse(final int httpStatusCode) {
+    return httpStatusCode == HTTP_TOO_MANY_REQUESTS || httpStatusCode / 100 == 5;
+  }
+
+  /**
+   * Use an integer division to check successful HTTP status codes (i.e., those from 200-299), not
+   * just 200. https://www.w3.org/Protocols/rfc2616/rfc2616-sec10.html
+   */
+  static boolean isSuccessfulHttpResponse(final int httpStatusCode) {
+    return httpStatusCode / 100 == 2;
+  }
+
+}
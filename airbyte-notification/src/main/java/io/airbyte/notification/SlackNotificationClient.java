@@ -5,20 +5,18 @@
 package io.airbyte.notification;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.Notification;
+import io.airbyte.config.Notification.NotificationType;
 import io.airbyte.config.SlackNotificationConfiguration;
 import java.io.IOException;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.UUID;
 import org.apache.logging.log4j.util.Strings;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Notification client that uses Slack API for Incoming Webhook to send messages.
@@ -32,14 +30,23 @@ import org.slf4j.LoggerFactory;
  */
 public class SlackNotificationClient extends NotificationClient {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(SlackNotificationClient.class);
-
   private final SlackNotificationConfiguration config;
+  private final NotificationDispatcher dispatcher;
 
   @JsonCreator
   public SlackNotificationClient(final Notification notification) {
-    super(notification);
+    this(notification, NotificationDispatcher.getInstance());
+  }
+
+  @VisibleForTesting
+  SlackNotificationClient(final Notification notification, final NotificationDispatcher dispatcher) {
+    this(notification, dispatcher, true);
+  }
+
+  SlackNotificationClient(final Notification notification, final NotificationDispatcher dispatcher, final boolean waitForDelivery) {
+    super(notification, waitForDelivery);
     this.config = notification.getSlackConfiguration();
+    this.dispatcher = dispatcher;
   }
 
   @Override
@@ -135,25 +142,16 @@ public class SlackNotificationClient extends NotificationClient {
   }
 
   private boolean notify(final String message) throws IOException, InterruptedException {
-    final HttpClient httpClient = HttpClient.newBuilder()
-        .version(HttpClient.Version.HTTP_2)
-        .build();
     final ImmutableMap<String, String> body = new Builder<String, String>()
         .put("text", message)
         .build();
     final HttpRequest request = HttpRequest.newBuilder()
         .POST(HttpRequest.BodyPublishers.ofString(Jsons.serialize(body)))
         .uri(URI.create(config.getWebhook()))
+        .timeout(NotificationDispatcher.REQUEST_TIMEOUT)
         .header("Content-Type", "application/json")
         .build();
-    final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-    if (isSuccessfulHttpResponse(response.statusCode())) {
-      LOGGER.info("Successful notification ({}): {}", response.statusCode(), response.body());
-      return true;
-    } else {
-      final String errorMessage = String.format("Failed to deliver notification (%s): %s", response.statusCode(), response.body());
-      throw new IOException(errorMessage);
-    }
+    return send(dispatcher, NotificationType.SLACK.value(), request);
   }
 
   @Override
@@ -174,12 +172,4 @@ public class SlackNotificationClient extends NotificationClient {
     return false;
   }
 
-  /**
-   * Use an integer division to check successful HTTP status codes (i.e., those from 200-299), not
-   * just 200. https://www.w3.org/Protocols/rfc2616/rfc2616-sec10.html
-   */
-  private static boolean isSuccessfulHttpResponse(final int httpStatusCode) {
-    return httpStatusCode / 100 == 2;
-  }
-
 }
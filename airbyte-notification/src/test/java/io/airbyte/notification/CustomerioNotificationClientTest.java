@@ -10,12 +10,18 @@ import static org.mockito.Mockito.mock;
 import io.airbyte.config.Notification;
 import io.airbyte.config.Notification.NotificationType;
 import io.airbyte.config.StandardWorkspace;
+import io.airbyte.metrics.lib.MetricClient;
 import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -35,10 +41,17 @@ class CustomerioNotificationClientTest {
 
   @Mock
   private HttpClient mHttpClient;
+  private ScheduledExecutorService scheduler;
 
   @BeforeEach
   void setUp() {
     mHttpClient = mock(HttpClient.class);
+    scheduler = Executors.newSingleThreadScheduledExecutor();
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.shutdownNow();
   }
 
   // this only tests that the headers are set correctly and that a http post request is sent to the
@@ -46,8 +59,10 @@ class CustomerioNotificationClientTest {
   // this test does _not_ check the body of the request.
   @Test
   void notifyConnectionDisabled() throws IOException, InterruptedException {
+    final NotificationDispatcher dispatcher = new NotificationDispatcher(mHttpClient, scheduler,
+        () -> mock(MetricClient.class), 10, 1, Duration.ZERO, Duration.ZERO, Duration.ZERO);
     final CustomerioNotificationClient customerioNotificationClient = new CustomerioNotificationClient(new Notification()
-        .withNotificationType(NotificationType.CUSTOMERIO), API_KEY, URI_BASE, mHttpClient);
+        .withNotificationType(NotificationType.CUSTOMERIO), API_KEY, URI_BASE, dispatcher);
 
     final HttpRequest expectedRequest = HttpRequest.newBuilder()
         .POST(HttpRequest.BodyPublishers.ofString(""))
@@ -57,13 +72,13 @@ class CustomerioNotificationClientTest {
         .build();
 
     final HttpResponse httpResponse = mock(HttpResponse.class);
-    Mockito.when(mHttpClient.send(Mockito.any(), Mockito.any())).thenReturn(httpResponse);
+    Mockito.when(mHttpClient.sendAsync(Mockito.any(), Mockito.any())).thenReturn(CompletableFuture.completedFuture(httpResponse));
     Mockito.when(httpResponse.statusCode()).thenReturn(200);
 
     final boolean result =
         customerioNotificationClient.notifyConnectionDisabled(WORKSPACE.getEmail(), RANDOM_INPUT, RANDOM_INPUT, RANDOM_INPUT, WORKSPACE_ID,
             CONNECTION_ID);
-    Mockito.verify(mHttpClient).send(expectedRequest, HttpResponse.BodyHandlers.ofString());
+    Mockito.verify(mHttpClient).sendAsync(expectedRequest, HttpResponse.BodyHandlers.ofString());
 
     assertTrue(result);
   }
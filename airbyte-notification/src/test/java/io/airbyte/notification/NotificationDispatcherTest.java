@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NotificationDispatcherTest {
+
+  private static final String NOTIFICATION_TYPE = "slack";
+  private static final MetricAttribute TYPE_ATTRIBUTE = new MetricAttribute(MetricTags.NOTIFICATION_TYPE, NOTIFICATION_TYPE);
+  private static final Duration BACKOFF = Duration.ofMillis(10);
+
+  private HttpServer server;
+  private ScheduledExecutorService scheduler;
+  private MetricClient metricClient;
+
+  @BeforeEach
+  void setup() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.start();
+    scheduler = Executors.newSingleThreadScheduledExecutor();
+    metricClient = mock(MetricClient.class);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  void testRetriesServerErrors() throws IOException, InterruptedException {
+    final AtomicInteger requests = new AtomicInteger();
+    server.createContext("/retry", exchange -> respond(exchange, requests.incrementAndGet() < 3 ? 503 : 200));
+
+    final HttpResponse<String> response = createDispatcher(10, Duration.ZERO).deliver(NOTIFICATION_TYPE, createRequest("/retry"));
+
+    assertEquals(200, response.statusCode());
+    assertEquals(3, requests.get());
+    verify(metricClient, times(2)).count(OssMetricsRegistry.NOTIFICATION_DELIVERY_RETRIES, 1, TYPE_ATTRIBUTE);
+    verify(metricClient).count(OssMetricsRegistry.NOTIFICATIONS_DELIVERED, 1, TYPE_ATTRIBUTE);
+  }
+
+  @Test
+  void testGivesUpAfterTheLastAttempt() throws IOException, InterruptedException {
+    final AtomicInteger requests = new AtomicInteger();
+    server.createContext("/unavailable", exchange -> {
+      requests.incrementAndGet();
+      respond(exchange, 503);
+    });
+
+    final HttpResponse<String> response = createDispatcher(10, Duration.ZERO).deliver(NOTIFICATION_TYPE, createRequest("/unavailable"));
+
+    assertEquals(503, response.statusCode());
+    assertEquals(3, requests.get());
+    verify(metricClient).count(OssMetricsRegistry.NOTIFICATION_DELIVERY_FAILURES, 1, TYPE_ATTRIBUTE);
+  }
+
+  @Test
+  void testDoesNotRetryClientErrors() throws IOException, InterruptedException {
+    final AtomicInteger requests = new AtomicInteger();
+    server.createContext("/missing", exchange -> {
+      requests.incrementAndGet();
+      respond(exchange, 404);
+    });
+
+    final HttpResponse<String> response = createDispatcher(10, Duration.ZERO).deliver(NOTIFICATION_TYPE, createRequest("/missing"));
+
+    assertEquals(404, response.statusCode());
+    assertEquals(1, requests.get());
+    verify(metricClient).count(OssMetricsRegistry.NOTIFICATION_DELIVERY_FAILURES, 1, TYPE_ATTRIBUTE);
+  }
+
+  @Test
+  void testRateLimitsEachDestination() throws ExecutionException, InterruptedException {
+    final Duration interval = Duration.ofMillis(200);
+    final List<String> arrivals = new CopyOnWriteArrayList<>();
+    final List<Long> slowArrivalNanos = new CopyOnWriteArrayList<>();
+    server.createContext("/slow", exchange -> {
+      slowArrivalNanos.add(System.nanoTime());
+      arrivals.add("slow");
+      respond(exchange, 200);
+    });
+    server.createContext("/other", exchange -> {
+      arrivals.add("other");
+      respond(exchange, 200);
+    });
+
+    final NotificationDispatcher dispatcher = createDispatcher(10, interval);
+    final List<CompletableFuture<HttpResponse<String>>> deliveries = List.of(
+        dispatcher.dispatch(NOTIFICATION_TYPE, createRequest("/slow")),
+        dispatcher.dispatch(NOTIFICATION_TYPE, createRequest("/slow")),
+        dispatcher.dispatch(NOTIFICATION_TYPE, createRequest("/slow")),
+        dispatcher.dispatch(NOTIFICATION_TYPE, createRequest("/other")));
+    for (final CompletableFuture<HttpResponse<String>> delivery : deliveries) {
+      assertEquals(200, delivery.get().statusCode());
+    }
+
+    // the other destination doesn't wait for the slow one.
+    assertTrue(arrivals.indexOf("other") < arrivals.lastIndexOf("slow"));
+    assertEquals(3, slowArrivalNanos.size());
+    for (int i = 1; i < slowArrivalNanos.size(); i++) {
+      // the scheduler may run a little early or late, the spacing is what matters.
+      assertTrue(slowArrivalNanos.get(i) - slowArrivalNanos.get(i - 1) >= interval.toNanos() / 2);
+    }
+  }
+
+  @Test
+  void testDropsDeliveriesWhenTooManyArePending() throws InterruptedException {
+    final CountDownLatch released = new CountDownLatch(1);
+    server.createContext("/blocked", exchange -> {
+      try {
+        released.await(10, TimeUnit.SECONDS);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      respond(exchange, 200);
+    });
+
+    final NotificationDispatcher dispatcher = createDispatcher(1, Duration.ZERO);
+    final CompletableFuture<HttpResponse<String>> pending = dispatcher.dispatch(NOTIFICATION_TYPE, createRequest("/blocked"));
+    final CompletableFuture<HttpResponse<String>> dropped = dispatcher.dispatch(NOTIFICATION_TYPE, createRequest("/blocked"));
+
+    final ExecutionException e = assertThrows(ExecutionException.class, dropped::get);
+    assertInstanceOf(RejectedExecutionException.class, e.getCause());
+    verify(metricClient).count(OssMetricsRegistry.NOTIFICATIONS_DROPPED, 1, TYPE_ATTRIBUTE);
+
+    released.countDown();
+    assertEquals(200, pending.join().statusCode());
+  }
+
+  private NotificationDispatcher createDispatcher(final int maxPendingDeliveries, final Duration minIntervalPerDestination) {
+    return new NotificationDispatcher(HttpClient.newHttpClient(), scheduler, () -> metricClient, maxPendingDeliveries, 3,
+        minIntervalPerDestination, BACKOFF, BACKOFF);
+  }
+
+  private HttpRequest createRequest(final String path) {
+    return HttpRequest.newBuilder()
+        .POST(HttpRequest.BodyPublishers.ofString("{}"))
+        .uri(URI.create("http://localhost:" + server.getAddress().getPort() + path))
+        .build();
+  }
+
+  private static void respond(final HttpExchange exchange, final int statusCode) throws IOException {
+    final byte[] response = String.valueOf(statusCode).getBytes(StandardCharsets.UTF_8);
+    exchange.getRequestBody().readAllBytes();
+    exchange.sendResponseHeaders(statusCode, response.length);
+    try (final OutputStream os = exchange.getResponseBody()) {
+      os.write(response);
+    }
+  }
+
+}
@@ -23,6 +23,8 @@ import java.net.InetSocketAddress;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -176,6 +178,32 @@ class SlackNotificationClientTest {
     assertTrue(client.notifyConnectionDisableWarning("", SOURCE_TEST, DESTINATION_TEST, "job description.", WORKSPACE_ID, CONNECTION_ID));
   }
 
+  @Test
+  void testBackgroundClientDoesNotWaitForDelivery() throws IOException, InterruptedException {
+    final String message = UUID.randomUUID().toString();
+    final CountDownLatch received = new CountDownLatch(1);
+    final CountDownLatch respond = new CountDownLatch(1);
+    final ServerHandler handler = new ServerHandler(message);
+    server.createContext(TEST_PATH, exchange -> {
+      received.countDown();
+      try {
+        respond.await();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      handler.handle(exchange);
+    });
+    final NotificationClient client = NotificationClient.createBackgroundNotificationClient(new Notification()
+        .withNotificationType(NotificationType.SLACK)
+        .withSendOnFailure(true)
+        .withSlackConfiguration(new SlackNotificationConfiguration().withWebhook(WEBHOOK_URL + server.getAddress().getPort() + TEST_PATH)));
+
+    // the webhook doesn't respond until the client has returned.
+    assertTrue(client.notifyFailure(message));
+    respond.countDown();
+    assertTrue(received.await(10, TimeUnit.SECONDS));
+  }
+
   static class ServerHandler implements HttpHandler {
 
     private final String expectedMessage;
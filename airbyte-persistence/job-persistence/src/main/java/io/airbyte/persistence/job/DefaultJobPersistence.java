@@ -77,6 +77,7 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.InsertValuesStepN;
@@ -123,6 +124,11 @@ public class DefaultJobPersistence implements JobPersistence {
       "ORDER BY jobs.created_at DESC, jobs.id DESC, attempts.created_at ASC, attempts.id ASC ";
   public static final String ORDER_BY_JOB_CREATED_AT_DESC = "ORDER BY jobs.created_at DESC ";
   public static final String LIMIT_1 = "LIMIT 1 ";
+  // projection for the lookups that only need to find a job before hydrating it.
+  private static final String JOB_ID_SELECT = "SELECT jobs.id AS job_id FROM jobs ";
+  // rows read per round trip when streaming jobs, each row can hold a large catalog and output.
+  @VisibleForTesting
+  static final int JOB_FETCH_SIZE = 100;
   private static final String JOB_STATUS_IS_NON_TERMINAL = String.format("status IN (%s) ",
       JobStatus.NON_TERMINAL_STATUSES.stream()
           .map(DefaultJobPersistence::toSqlName)
@@ -715,6 +721,17 @@ public class DefaultJobPersistence implements JobPersistence {
         .fetchOne().into(Long.class));
   }
 
+  @Override
+  public Map<Long, String> getJobScopes(final Collection<Long> jobIds, final Set<ConfigType> configTypes) throws IOException {
+    if (jobIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    return jobDatabase.query(ctx -> ctx.select(JOBS.ID, JOBS.SCOPE).from(JOBS)
+        .where(JOBS.ID.in(jobIds))
+        .and(JOBS.CONFIG_TYPE.in(toSqlNames(configTypes)))
+        .fetchMap(JOBS.ID, JOBS.SCOPE));
+  }
+
   @Override
   public List<Job> listJobs(final ConfigType configType, final String configId, final int pagesize, final int offset) throws IOException {
     return listJobs(Set.of(configType), configId, pagesize, offset);
@@ -722,7 +739,7 @@ public class DefaultJobPersistence implements JobPersistence {
 
   @Override
   public List<Job> listJobs(final Set<ConfigType> configTypes, final String configId, final int pagesize, final int offset) throws IOException {
-    return jobDatabase.query(ctx -> {
+    return jobDatabase.transaction(ctx -> {
       final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
           .where(JOBS.CONFIG_TYPE.in(toSqlNames(configTypes)))
           .and(JOBS.SCOPE.eq(configId))
@@ -731,18 +748,18 @@ public class DefaultJobPersistence implements JobPersistence {
           .offset(offset)
           .getSQL(ParamType.INLINED) + ") AS jobs";
 
-      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery) + ORDER_BY_JOB_TIME_ATTEMPT_TIME));
+      return fetchJobs(ctx, jobSelectAndJoin(jobsSubquery) + ORDER_BY_JOB_TIME_ATTEMPT_TIME);
     });
   }
 
   @Override
   public List<Job> listJobs(final ConfigType configType, final Instant attemptEndedAtTimestamp) throws IOException {
     final LocalDateTime timeConvertedIntoLocalDateTime = LocalDateTime.ofInstant(attemptEndedAtTimestamp, ZoneOffset.UTC);
-    return jobDatabase.query(ctx -> getJobsFromResult(ctx
-        .fetch(BASE_JOB_SELECT_AND_JOIN + WHERE
+    return jobDatabase.transaction(ctx -> fetchJobs(ctx,
+        BASE_JOB_SELECT_AND_JOIN + WHERE
             + "CAST(config_type AS VARCHAR) =  ? AND "
             + " attempts.ended_at > ? ORDER BY jobs.created_at ASC, attempts.created_at ASC", toSqlName(configType),
-            timeConvertedIntoLocalDateTime)));
+        timeConvertedIntoLocalDateTime));
   }
 
   @Override
@@ -779,12 +796,12 @@ public class DefaultJobPersistence implements JobPersistence {
 
   @Override
   public List<Job> listJobsWithStatus(final Set<ConfigType> configTypes, final JobStatus status) throws IOException {
-    return jobDatabase.query(ctx -> getJobsFromResult(ctx
-        .fetch(BASE_JOB_SELECT_AND_JOIN + WHERE
+    return jobDatabase.transaction(ctx -> fetchJobs(ctx,
+        BASE_JOB_SELECT_AND_JOIN + WHERE
             + "CAST(config_type AS VARCHAR) IN " + toSqlInFragment(configTypes) + AND
             + "CAST(jobs.status AS VARCHAR) = ? "
             + ORDER_BY_JOB_TIME_ATTEMPT_TIME,
-            toSqlName(status))));
+        toSqlName(status)));
   }
 
   @Override
@@ -795,13 +812,13 @@ public class DefaultJobPersistence implements JobPersistence {
   @Override
   public List<Job> listJobsForConnectionWithStatuses(final UUID connectionId, final Set<ConfigType> configTypes, final Set<JobStatus> statuses)
       throws IOException {
-    return jobDatabase.query(ctx -> getJobsFromResult(ctx
-        .fetch(BASE_JOB_SELECT_AND_JOIN + WHERE
+    return jobDatabase.transaction(ctx -> fetchJobs(ctx,
+        BASE_JOB_SELECT_AND_JOIN + WHERE
             + SCOPE_CLAUSE
             + "config_type IN " + toSqlInFragment(configTypes) + AND
             + "jobs.status IN " + toSqlInFragment(statuses) + " "
             + ORDER_BY_JOB_TIME_ATTEMPT_TIME,
-            connectionId.toString())));
+        connectionId.toString()));
   }
 
   @Override
@@ -829,7 +846,7 @@ public class DefaultJobPersistence implements JobPersistence {
   @Override
   public Optional<Job> getLastReplicationJob(final UUID connectionId) throws IOException {
     return jobDatabase.query(ctx -> ctx
-        .fetch(BASE_JOB_SELECT_AND_JOIN + WHERE
+        .fetch(JOB_ID_SELECT + WHERE
             + "CAST(jobs.config_type AS VARCHAR) in " + toSqlInFragment(Job.REPLICATION_TYPES) + AND
             + SCOPE_CLAUSE
             + "CAST(jobs.status AS VARCHAR) <> ? "
@@ -844,7 +861,7 @@ public class DefaultJobPersistence implements JobPersistence {
   @Override
   public Optional<Job> getLastSyncJob(final UUID connectionId) throws IOException {
     return jobDatabase.query(ctx -> ctx
-        .fetch(BASE_JOB_SELECT_AND_JOIN + WHERE
+        .fetch(JOB_ID_SELECT + WHERE
             + "CAST(jobs.config_type AS VARCHAR) = ? " + AND
             + "scope = ? "
             + ORDER_BY_JOB_CREATED_AT_DESC + LIMIT_1,
@@ -865,15 +882,13 @@ public class DefaultJobPersistence implements JobPersistence {
       return Collections.emptyList();
     }
 
-    return jobDatabase.query(ctx -> ctx
-        .fetch("SELECT DISTINCT ON (scope) * FROM jobs "
+    return jobDatabase.transaction(ctx -> getJobsById(ctx, ctx
+        .fetch("SELECT DISTINCT ON (scope) jobs.id AS job_id FROM jobs "
             + WHERE + "CAST(jobs.config_type AS VARCHAR) = ? "
             + AND + scopeInList(connectionIds)
             + "ORDER BY scope, created_at DESC",
             toSqlName(ConfigType.SYNC))
-        .stream()
-        .flatMap(r -> getJobOptional(ctx, r.get("id", Long.class)).stream())
-        .collect(Collectors.toList()));
+        .getValues(JOB_ID, Long.class)));
   }
 
   /**
@@ -886,16 +901,33 @@ public class DefaultJobPersistence implements JobPersistence {
       return Collections.emptyList();
     }
 
-    return jobDatabase.query(ctx -> ctx
-        .fetch("SELECT DISTINCT ON (scope) * FROM jobs "
+    return jobDatabase.transaction(ctx -> getJobsById(ctx, ctx
+        .fetch("SELECT DISTINCT ON (scope) jobs.id AS job_id FROM jobs "
             + WHERE + "CAST(jobs.config_type AS VARCHAR) = ? "
             + AND + scopeInList(connectionIds)
             + AND + JOB_STATUS_IS_NON_TERMINAL
             + "ORDER BY scope, created_at DESC",
             toSqlName(ConfigType.SYNC))
-        .stream()
-        .flatMap(r -> getJobOptional(ctx, r.get("id", Long.class)).stream())
-        .collect(Collectors.toList()));
+        .getValues(JOB_ID, Long.class)));
+  }
+
+  /**
+   * Hydrate jobs with a single query, rather than one query per job.
+   *
+   * @return jobs that exist, in the order of the given ids
+   */
+  private static List<Job> getJobsById(final DSLContext ctx, final List<Long> jobIds) {
+    if (jobIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    // rows are grouped by job so that each job is built from consecutive rows.
+    final Map<Long, Job> jobsById = fetchJobs(ctx, BASE_JOB_SELECT_AND_JOIN + WHERE
+        + "jobs.id IN (" + StringUtils.join(jobIds, ',') + ") "
+        + "ORDER BY jobs.id, attempts.created_at ASC, attempts.id ASC")
+            .stream()
+            .collect(Collectors.toMap(Job::getId, job -> job));
+    return jobIds.stream().map(jobsById::get).filter(Objects::nonNull).collect(Collectors.toList());
   }
 
   private String scopeInList(final Collection<UUID> connectionIds) {
@@ -909,7 +941,7 @@ public class DefaultJobPersistence implements JobPersistence {
   @Override
   public Optional<Job> getFirstReplicationJob(final UUID connectionId) throws IOException {
     return jobDatabase.query(ctx -> ctx
-        .fetch(BASE_JOB_SELECT_AND_JOIN + WHERE
+        .fetch(JOB_ID_SELECT + WHERE
             + "CAST(jobs.config_type AS VARCHAR) in " + toSqlInFragment(Job.REPLICATION_TYPES) + AND
             + SCOPE_CLAUSE
             + "CAST(jobs.status AS VARCHAR) <> ? "
@@ -928,7 +960,7 @@ public class DefaultJobPersistence implements JobPersistence {
     // 2. job is excluded if another job of the same scope is already running
     // 3. job is excluded if another job of the same scope is already incomplete
     return jobDatabase.query(ctx -> ctx
-        .fetch(BASE_JOB_SELECT_AND_JOIN + WHERE
+        .fetch(JOB_ID_SELECT + WHERE
             + "CAST(jobs.status AS VARCHAR) = 'pending' AND "
             + "jobs.scope NOT IN ( SELECT scope FROM jobs WHERE status = 'running' OR status = 'incomplete' ) "
             + "ORDER BY jobs.created_at ASC LIMIT 1")
@@ -940,10 +972,14 @@ public class DefaultJobPersistence implements JobPersistence {
   @Override
   public List<AttemptWithJobInfo> listAttemptsWithJobInfo(final ConfigType configType, final Instant attemptEndedAtTimestamp) throws IOException {
     final LocalDateTime timeConvertedIntoLocalDateTime = LocalDateTime.ofInstant(attemptEndedAtTimestamp, ZoneOffset.UTC);
-    return jobDatabase.query(ctx -> getAttemptsWithJobsFromResult(ctx.fetch(
-        BASE_JOB_SELECT_AND_JOIN + WHERE + "CAST(config_type AS VARCHAR) =  ? AND " + " attempts.ended_at > ? ORDER BY attempts.ended_at ASC",
-        toSqlName(configType),
-        timeConvertedIntoLocalDateTime)));
+    return jobDatabase.transaction(ctx -> {
+      try (final Cursor<Record> cursor = ctx.resultQuery(
+          BASE_JOB_SELECT_AND_JOIN + WHERE + "CAST(config_type AS VARCHAR) =  ? AND " + " attempts.ended_at > ? ORDER BY attempts.ended_at ASC",
+          toSqlName(configType),
+          timeConvertedIntoLocalDateTime).fetchSize(JOB_FETCH_SIZE).fetchLazy()) {
+        return getAttemptsWithJobsFromResult(cursor);
+      }
+    });
   }
 
   @Override
@@ -958,12 +994,14 @@ public class DefaultJobPersistence implements JobPersistence {
                 Optional.ofNullable(record.get(SYNC_STATS.RECORDS_COMMITTED)), record.get(NORMALIZATION_SUMMARIES.FAILURES) != null)));
   }
 
-  // Retrieves only Job information from the record, without any attempt info
+  // Retrieves only Job information from the record, without any attempt info. The config is only
+  // deserialized if it is read.
   private static Job getJobFromRecord(final Record record) {
-    return new Job(record.get(JOB_ID, Long.class),
+    final String jobConfigString = record.get("config", String.class);
+    return Job.withLazyConfig(record.get(JOB_ID, Long.class),
         Enums.toEnum(record.get("config_type", String.class), ConfigType.class).orElseThrow(),
         record.get("scope", String.class),
-        parseJobConfigFromString(record.get("config", String.class)),
+        () -> parseJobConfigFromString(jobConfigString),
         new ArrayList<Attempt>(),
         JobStatus.valueOf(record.get("job_status", String.class).toUpperCase()),
         Optional.ofNullable(record.get("job_started_at")).map(value -> getEpoch(record, "started_at")).orElse(null),
@@ -975,15 +1013,16 @@ public class DefaultJobPersistence implements JobPersistence {
     return Jsons.deserialize(jobConfigString, JobConfig.class);
   }
 
+  // The sync config and output are only deserialized if they are read.
   private static Attempt getAttemptFromRecord(final Record record) {
     final String attemptOutputString = record.get("attempt_output", String.class);
-    return new Attempt(
+    final String attemptSyncConfigString = record.get("attempt_sync_config", String.class);
+    return Attempt.withLazyConfigAndOutput(
         record.get(ATTEMPT_NUMBER, int.class),
         record.get(JOB_ID, Long.class),
         Path.of(record.get("log_path", String.class)),
-        record.get("attempt_sync_config", String.class) == null ? null
-            : Jsons.deserialize(record.get("attempt_sync_config", String.class), AttemptSyncConfig.class),
-        attemptOutputString == null ? null : parseJobOutputFromString(attemptOutputString),
+        () -> attemptSyncConfigString == null ? null : Jsons.deserialize(attemptSyncConfigString, AttemptSyncConfig.class),
+        () -> attemptOutputString == null ? null : parseJobOutputFromString(attemptOutputString),
         Enums.toEnum(record.get("attempt_status", String.class), AttemptStatus.class).orElseThrow(),
         record.get("processing_task_queue", String.class),
         record.get("attempt_failure_summary", String.class) == null ? null
@@ -999,15 +1038,25 @@ public class DefaultJobPersistence implements JobPersistence {
     return Jsons.deserialize(jobOutputString, JobOutput.class);
   }
 
-  private static List<AttemptWithJobInfo> getAttemptsWithJobsFromResult(final Result<Record> result) {
-    return result
-        .stream()
+  private static List<AttemptWithJobInfo> getAttemptsWithJobsFromResult(final Iterable<Record> result) {
+    return StreamSupport.stream(result.spliterator(), false)
         .filter(record -> record.getValue(ATTEMPT_NUMBER) != null)
         .map(record -> new AttemptWithJobInfo(getAttemptFromRecord(record), getJobFromRecord(record)))
         .collect(Collectors.toList());
   }
 
-  private static List<Job> getJobsFromResult(final Result<Record> result) {
+  /**
+   * Stream the rows of a jobs query a batch at a time, instead of holding all of them, and their
+   * configs and outputs, in memory at once. Postgres only streams rows inside a transaction, so this
+   * must run within {@link ExceptionWrappingDatabase#transaction}.
+   */
+  private static List<Job> fetchJobs(final DSLContext ctx, final String sql, final Object... bindings) {
+    try (final Cursor<Record> cursor = ctx.resultQuery(sql, bindings).fetchSize(JOB_FETCH_SIZE).fetchLazy()) {
+      return getJobsFromResult(cursor);
+    }
+  }
+
+  private static List<Job> getJobsFromResult(final Iterable<Record> result) {
     // keeps results strictly in order so the sql query controls the sort
     final List<Job> jobs = new ArrayList<>();
     Job currentJob = null;
@@ -4,9 +4,11 @@
 
 package io.airbyte.persistence.job;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.airbyte.analytics.TrackingClient;
 import io.airbyte.commons.map.MoreMaps;
 import io.airbyte.config.ActorDefinitionVersion;
@@ -18,6 +20,9 @@ import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardWorkspace;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.notification.NotificationClient;
 import io.airbyte.persistence.job.models.Job;
 import io.airbyte.persistence.job.tracker.TrackingMetadata;
@@ -30,12 +35,22 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Send a notification to a user about something that happened to a Job.
+ * Send a notification to a user about something that happened to a Job. Notifications are sent in
+ * the background, so that a slow notification destination doesn't hold up the job. The notifier
+ * threads only build the notifications and hand them to the notification dispatcher, without
+ * waiting for their delivery, so that a rate limited destination doesn't hold up the notifications
+ * to every other destination.
  */
 public class JobNotifier {
 
@@ -46,25 +61,62 @@ public class JobNotifier {
   public static final String CONNECTION_DISABLED_WARNING_NOTIFICATION = "Connection Disabled Warning Notification";
   public static final String CONNECTION_DISABLED_NOTIFICATION = "Connection Disabled Notification";
 
+  private static final int NOTIFIER_THREADS = 2;
+  private static final int MAX_QUEUED_NOTIFICATIONS = 1000;
+
   private final ConfigRepository configRepository;
   private final TrackingClient trackingClient;
   private final WebUrlHelper webUrlHelper;
   private final WorkspaceHelper workspaceHelper;
   private final ActorDefinitionVersionHelper actorDefinitionVersionHelper;
+  private final Executor executor;
+  private final Supplier<MetricClient> metricClientSupplier;
 
   public JobNotifier(final WebUrlHelper webUrlHelper,
                      final ConfigRepository configRepository,
                      final WorkspaceHelper workspaceHelper,
                      final TrackingClient trackingClient,
                      final ActorDefinitionVersionHelper actorDefinitionVersionHelper) {
+    this(webUrlHelper, configRepository, workspaceHelper, trackingClient, actorDefinitionVersionHelper, createExecutor(),
+        MetricClientFactory::getMetricClient);
+  }
+
+  @VisibleForTesting
+  JobNotifier(final WebUrlHelper webUrlHelper,
+              final ConfigRepository configRepository,
+              final WorkspaceHelper workspaceHelper,
+              final TrackingClient trackingClient,
+              final ActorDefinitionVersionHelper actorDefinitionVersionHelper,
+              final Executor executor,
+              final Supplier<MetricClient> metricClientSupplier) {
     this.webUrlHelper = webUrlHelper;
     this.workspaceHelper = workspaceHelper;
     this.configRepository = configRepository;
     this.trackingClient = trackingClient;
     this.actorDefinitionVersionHelper = actorDefinitionVersionHelper;
+    this.executor = executor;
+    this.metricClientSupplier = metricClientSupplier;
+  }
+
+  private static Executor createExecutor() {
+    return new ThreadPoolExecutor(NOTIFIER_THREADS, NOTIFIER_THREADS, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(MAX_QUEUED_NOTIFICATIONS),
+        new ThreadFactoryBuilder().setNameFormat("job-notifier-%d").setDaemon(true).build());
+  }
+
+  private void notifyAsync(final Runnable notify) {
+    try {
+      executor.execute(notify);
+    } catch (final RejectedExecutionException e) {
+      LOGGER.warn("Dropped a job notification because too many notifications are waiting to be sent.");
+      metricClientSupplier.get().count(OssMetricsRegistry.JOB_NOTIFICATIONS_DROPPED, 1);
+    }
   }
 
   private void notifyJob(final String reason, final String action, final Job job) {
+    notifyAsync(() -> notifyJobNow(reason, action, job));
+  }
+
+  private void notifyJobNow(final String reason, final String action, final Job job) {
     try {
       final UUID workspaceId = workspaceHelper.getWorkspaceForJobIdIgnoreExceptions(job.getId());
       final StandardWorkspace workspace = configRepository.getStandardWorkspaceNoSecrets(workspaceId, true);
@@ -167,13 +219,15 @@ public class JobNotifier {
   public void notifyJobByEmail(final String reason, final String action, final Job job) {
     final Notification emailNotification = new Notification();
     emailNotification.setNotificationType(NotificationType.CUSTOMERIO);
-    try {
-      final UUID workspaceId = workspaceHelper.getWorkspaceForJobIdIgnoreExceptions(job.getId());
-      final StandardWorkspace workspace = configRepository.getStandardWorkspaceNoSecrets(workspaceId, true);
-      notifyJob(reason, action, job, workspaceId, workspace, Collections.singletonList(emailNotification));
-    } catch (final Exception e) {
-      LOGGER.error("Unable to read configuration:", e);
-    }
+    notifyAsync(() -> {
+      try {
+        final UUID workspaceId = workspaceHelper.getWorkspaceForJobIdIgnoreExceptions(job.getId());
+        final StandardWorkspace workspace = configRepository.getStandardWorkspaceNoSecrets(workspaceId, true);
+        notifyJob(reason, action, job, workspaceId, workspace, Collections.singletonList(emailNotification));
+      } catch (final Exception e) {
+        LOGGER.error("Unable to read configuration:", e);
+      }
+    });
   }
 
   private String getJobDescription(final Job job, final String reason) {
@@ -204,7 +258,7 @@ public class JobNotifier {
   }
 
   protected NotificationClient getNotificationClient(final Notification notification) {
-    return NotificationClient.createNotificationClient(notification);
+    return NotificationClient.createBackgroundNotificationClient(notification);
   }
 
 }
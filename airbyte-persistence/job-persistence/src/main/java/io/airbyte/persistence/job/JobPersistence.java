@@ -24,6 +24,7 @@ import io.airbyte.persistence.job.models.JobWithStatusAndTimestamp;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -219,6 +220,17 @@ public interface JobPersistence {
    */
   Long getJobCount(final Set<ConfigType> configTypes, final String connectionId) throws IOException;
 
+  /**
+   * Get the scopes of jobs in a single query.
+   *
+   * @param jobIds ids of the jobs
+   * @param configTypes types of jobs to include, e.g. sync
+   * @return scope of each job of one of the given types. Jobs that don't exist, or are of another
+   *         type, are left out.
+   * @throws IOException exception due to interaction with persistence
+   */
+  Map<Long, String> getJobScopes(Collection<Long> jobIds, Set<ConfigType> configTypes) throws IOException;
+
   /**
    * List jobs of a connection. Pageable.
    *
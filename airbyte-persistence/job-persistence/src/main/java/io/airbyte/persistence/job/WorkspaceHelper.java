@@ -4,10 +4,14 @@
 
 package io.airbyte.persistence.job;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Suppliers;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import io.airbyte.commons.functional.CheckedSupplier;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.JobConfig;
@@ -16,13 +20,27 @@ import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSyncOperation;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.models.Job;
 import io.airbyte.validation.json.JsonValidationException;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +51,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Helpers for interacting with Workspaces.
+ * <p>
+ * The workspace of each resource is cached. Lookups of many resources at once load the missing ones
+ * with a single query, list endpoints warm the cache with the resources they already read, and
+ * deletes evict them.
  */
 @SuppressWarnings("PMD.AvoidCatchingThrowable")
 @Singleton
@@ -40,15 +62,26 @@ public class WorkspaceHelper {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(WorkspaceHelper.class);
 
-  private final LoadingCache<UUID, UUID> sourceToWorkspaceCache;
-  private final LoadingCache<UUID, UUID> destinationToWorkspaceCache;
-  private final LoadingCache<UUID, UUID> connectionToWorkspaceCache;
-  private final LoadingCache<UUID, UUID> operationToWorkspaceCache;
-  private final LoadingCache<Long, UUID> jobToWorkspaceCache;
+  private static final int MAX_CACHE_SIZE = 20000;
+  private static final Set<JobConfig.ConfigType> CONNECTION_JOB_TYPES = Set.of(JobConfig.ConfigType.SYNC, JobConfig.ConfigType.RESET_CONNECTION);
 
+  private final Supplier<MetricClient> metricClientSupplier;
+  private final WorkspaceCache<UUID> sourceToWorkspaceCache;
+  private final WorkspaceCache<UUID> destinationToWorkspaceCache;
+  private final WorkspaceCache<UUID> connectionToWorkspaceCache;
+  private final WorkspaceCache<UUID> operationToWorkspaceCache;
+  private final WorkspaceCache<Long> jobToWorkspaceCache;
+
+  @Inject
   public WorkspaceHelper(final ConfigRepository configRepository, final JobPersistence jobPersistence) {
+    this(configRepository, jobPersistence, Suppliers.memoize(MetricClientFactory::getMetricClient));
+  }
+
+  @VisibleForTesting
+  WorkspaceHelper(final ConfigRepository configRepository, final JobPersistence jobPersistence, final Supplier<MetricClient> metricClientSupplier) {
+    this.metricClientSupplier = metricClientSupplier;
 
-    this.sourceToWorkspaceCache = getExpiringCache(new CacheLoader<>() {
+    this.sourceToWorkspaceCache = new WorkspaceCache<>("source", new CacheLoader<>() {
 
       @Override
       public UUID load(@NonNull final UUID sourceId) throws JsonValidationException, ConfigNotFoundException, IOException {
@@ -56,9 +89,14 @@ public class WorkspaceHelper {
         return source.getWorkspaceId();
       }
 
+      @Override
+      public Map<UUID, UUID> loadAll(final Iterable<? extends UUID> sourceIds) throws Exception {
+        return loadAllWithFallback(this, sourceIds, configRepository::getWorkspaceIdsForSources);
+      }
+
     });
 
-    this.destinationToWorkspaceCache = getExpiringCache(new CacheLoader<>() {
+    this.destinationToWorkspaceCache = new WorkspaceCache<>("destination", new CacheLoader<>() {
 
       @Override
       public UUID load(@NonNull final UUID destinationId) throws JsonValidationException, ConfigNotFoundException, IOException {
@@ -66,9 +104,14 @@ public class WorkspaceHelper {
         return destination.getWorkspaceId();
       }
 
+      @Override
+      public Map<UUID, UUID> loadAll(final Iterable<? extends UUID> destinationIds) throws Exception {
+        return loadAllWithFallback(this, destinationIds, configRepository::getWorkspaceIdsForDestinations);
+      }
+
     });
 
-    this.connectionToWorkspaceCache = getExpiringCache(new CacheLoader<>() {
+    this.connectionToWorkspaceCache = new WorkspaceCache<>("connection", new CacheLoader<>() {
 
       @Override
       public UUID load(@NonNull final UUID connectionId) throws JsonValidationException, ConfigNotFoundException, IOException {
@@ -78,9 +121,14 @@ public class WorkspaceHelper {
         return getWorkspaceForConnectionIgnoreExceptions(sourceId, destinationId);
       }
 
+      @Override
+      public Map<UUID, UUID> loadAll(final Iterable<? extends UUID> connectionIds) throws Exception {
+        return loadAllWithFallback(this, connectionIds, configRepository::getWorkspaceIdsForConnections);
+      }
+
     });
 
-    this.operationToWorkspaceCache = getExpiringCache(new CacheLoader<>() {
+    this.operationToWorkspaceCache = new WorkspaceCache<>("operation", new CacheLoader<>() {
 
       @Override
       public UUID load(@NonNull final UUID operationId) throws JsonValidationException, ConfigNotFoundException, IOException {
@@ -88,9 +136,14 @@ public class WorkspaceHelper {
         return operation.getWorkspaceId();
       }
 
+      @Override
+      public Map<UUID, UUID> loadAll(final Iterable<? extends UUID> operationIds) throws Exception {
+        return loadAllWithFallback(this, operationIds, configRepository::getWorkspaceIdsForOperations);
+      }
+
     });
 
-    this.jobToWorkspaceCache = getExpiringCache(new CacheLoader<>() {
+    this.jobToWorkspaceCache = new WorkspaceCache<>("job", new CacheLoader<>() {
 
       @Override
       public UUID load(@NonNull final Long jobId) throws ConfigNotFoundException, IOException {
@@ -105,6 +158,22 @@ public class WorkspaceHelper {
         }
       }
 
+      @Override
+      public Map<Long, UUID> loadAll(final Iterable<? extends Long> jobIds) throws Exception {
+        return loadAllWithFallback(this, jobIds, ids -> {
+          final Map<Long, UUID> jobToConnection = jobPersistence.getJobScopes(ids, CONNECTION_JOB_TYPES).entrySet().stream()
+              .collect(Collectors.toMap(Map.Entry::getKey, entry -> UUID.fromString(entry.getValue())));
+          try {
+            final Map<UUID, UUID> connectionToWorkspace = connectionToWorkspaceCache.getAll(jobToConnection.values());
+            return jobToConnection.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> connectionToWorkspace.get(entry.getValue())));
+          } catch (final ExecutionException | UncheckedExecutionException e) {
+            // load the jobs one by one, so that each fails the way a single lookup does.
+            return Map.of();
+          }
+        });
+      }
+
     });
   }
 
@@ -114,6 +183,9 @@ public class WorkspaceHelper {
    * proper api calls, while the latter is meant to be use with asserts and precondtions checks.
    * <p>
    * In API calls, distinguishing between various exceptions helps return the correct status code.
+   * <p>
+   * The methods that take many ids look up the workspaces missing from the cache with a single query,
+   * and fail if any of the ids is invalid.
    */
 
   // SOURCE ID
@@ -125,6 +197,10 @@ public class WorkspaceHelper {
     return swallowExecutionException(() -> getWorkspaceForSourceId(sourceId));
   }
 
+  public Map<UUID, UUID> getWorkspacesForSourceIds(final Collection<UUID> sourceIds) throws ConfigNotFoundException, JsonValidationException {
+    return handleCacheExceptions(() -> sourceToWorkspaceCache.getAll(sourceIds));
+  }
+
   // DESTINATION ID
   public UUID getWorkspaceForDestinationId(final UUID destinationId) throws JsonValidationException, ConfigNotFoundException {
     return handleCacheExceptions(() -> destinationToWorkspaceCache.get(destinationId));
@@ -134,6 +210,11 @@ public class WorkspaceHelper {
     return swallowExecutionException(() -> destinationToWorkspaceCache.get(destinationId));
   }
 
+  public Map<UUID, UUID> getWorkspacesForDestinationIds(final Collection<UUID> destinationIds)
+      throws JsonValidationException, ConfigNotFoundException {
+    return handleCacheExceptions(() -> destinationToWorkspaceCache.getAll(destinationIds));
+  }
+
   // JOB ID
   public UUID getWorkspaceForJobId(final Long jobId) throws JsonValidationException, ConfigNotFoundException {
     return handleCacheExceptions(() -> jobToWorkspaceCache.get(jobId));
@@ -143,6 +224,10 @@ public class WorkspaceHelper {
     return swallowExecutionException(() -> jobToWorkspaceCache.get(jobId));
   }
 
+  public Map<Long, UUID> getWorkspacesForJobIds(final Collection<Long> jobIds) throws JsonValidationException, ConfigNotFoundException {
+    return handleCacheExceptions(() -> jobToWorkspaceCache.getAll(jobIds));
+  }
+
   // CONNECTION ID
 
   /**
@@ -188,6 +273,11 @@ public class WorkspaceHelper {
     return swallowExecutionException(() -> connectionToWorkspaceCache.get(connectionId));
   }
 
+  public Map<UUID, UUID> getWorkspacesForConnectionIds(final Collection<UUID> connectionIds)
+      throws JsonValidationException, ConfigNotFoundException {
+    return handleCacheExceptions(() -> connectionToWorkspaceCache.getAll(connectionIds));
+  }
+
   // OPERATION ID
   public UUID getWorkspaceForOperationId(final UUID operationId) throws JsonValidationException, ConfigNotFoundException {
     return handleCacheExceptions(() -> operationToWorkspaceCache.get(operationId));
@@ -197,7 +287,47 @@ public class WorkspaceHelper {
     return swallowExecutionException(() -> operationToWorkspaceCache.get(operationId));
   }
 
-  private static UUID handleCacheExceptions(final CheckedSupplier<UUID, ExecutionException> supplier)
+  public Map<UUID, UUID> getWorkspacesForOperationIds(final Collection<UUID> operationIds) throws JsonValidationException, ConfigNotFoundException {
+    return handleCacheExceptions(() -> operationToWorkspaceCache.getAll(operationIds));
+  }
+
+  public Map<UUID, UUID> getWorkspacesForOperationIdsIgnoreExceptions(final Collection<UUID> operationIds) {
+    return swallowExecutionException(() -> operationToWorkspaceCache.getAll(operationIds));
+  }
+
+  /**
+   * Cache the workspace of connections that were listed by the workspace of their source, and of
+   * their sources, so that the lookups that follow a list don't query them again.
+   *
+   * @param workspaceId workspace the connections were listed from
+   * @param connections connections of the workspace
+   */
+  public void cacheConnectionWorkspaces(final UUID workspaceId, final Collection<StandardSync> connections) {
+    for (final StandardSync connection : connections) {
+      connectionToWorkspaceCache.put(connection.getConnectionId(), workspaceId);
+      sourceToWorkspaceCache.put(connection.getSourceId(), workspaceId);
+    }
+  }
+
+  /**
+   * Forget the workspace of a connection, e.g. after it was deleted.
+   *
+   * @param connectionId connection id
+   */
+  public void evictConnection(final UUID connectionId) {
+    connectionToWorkspaceCache.invalidate(connectionId);
+  }
+
+  /**
+   * Forget the workspace of an operation, e.g. after it was deleted.
+   *
+   * @param operationId operation id
+   */
+  public void evictOperation(final UUID operationId) {
+    operationToWorkspaceCache.invalidate(operationId);
+  }
+
+  private static <T> T handleCacheExceptions(final CheckedSupplier<T, ExecutionException> supplier)
       throws ConfigNotFoundException, JsonValidationException {
     try {
       return supplier.get();
@@ -213,7 +343,7 @@ public class WorkspaceHelper {
     }
   }
 
-  private static UUID swallowExecutionException(final CheckedSupplier<UUID, Throwable> supplier) {
+  private static <T> T swallowExecutionException(final CheckedSupplier<T, Throwable> supplier) {
     try {
       return supplier.get();
     } catch (final Throwable e) {
@@ -221,10 +351,109 @@ public class WorkspaceHelper {
     }
   }
 
-  private static <K, V> LoadingCache<K, V> getExpiringCache(final CacheLoader<K, V> cacheLoader) {
-    return CacheBuilder.newBuilder()
-        .maximumSize(20000)
-        .build(cacheLoader);
+  /**
+   * Load the workspaces of many ids with a single query, then load the ids it didn't find one by one,
+   * so that they fail the same way a single lookup does.
+   */
+  private static <K> Map<K, UUID> loadAllWithFallback(final CacheLoader<K, UUID> loader,
+                                                      final Iterable<? extends K> keys,
+                                                      final BatchLoader<K> batchLoader)
+      throws Exception {
+    final Set<K> keySet = new LinkedHashSet<>();
+    keys.forEach(keySet::add);
+    final Map<K, UUID> workspaces = new HashMap<>(batchLoader.load(keySet));
+    for (final K key : keySet) {
+      if (!workspaces.containsKey(key)) {
+        workspaces.put(key, loader.load(key));
+      }
+    }
+    return workspaces;
+  }
+
+  /**
+   * Query of the workspaces of many ids, which leaves out the ids it doesn't find.
+   */
+  @FunctionalInterface
+  private interface BatchLoader<K> {
+
+    Map<K, UUID> load(Collection<K> keys) throws IOException;
+
+  }
+
+  /**
+   * Cache of the workspace of one kind of resource, which reports its hits, misses and load times.
+   */
+  private final class WorkspaceCache<K> {
+
+    private final MetricAttribute cacheAttribute;
+    private final LoadingCache<K, UUID> cache;
+
+    WorkspaceCache(final String name, final CacheLoader<K, UUID> loader) {
+      this.cacheAttribute = new MetricAttribute(MetricTags.CACHE_NAME, name);
+      this.cache = CacheBuilder.newBuilder()
+          .maximumSize(MAX_CACHE_SIZE)
+          .build(new CacheLoader<>() {
+
+            @Override
+            public UUID load(@NonNull final K key) throws Exception {
+              final long startNanos = System.nanoTime();
+              try {
+                return loader.load(key);
+              } finally {
+                recordLoadDuration(startNanos);
+              }
+            }
+
+            @Override
+            public Map<K, UUID> loadAll(final Iterable<? extends K> keys) throws Exception {
+              final long startNanos = System.nanoTime();
+              try {
+                return loader.loadAll(keys);
+              } finally {
+                recordLoadDuration(startNanos);
+              }
+            }
+
+          });
+    }
+
+    UUID get(final K key) throws ExecutionException {
+      recordLookups(cache.getIfPresent(key) == null ? 0 : 1, 1);
+      return cache.get(key);
+    }
+
+    Map<K, UUID> getAll(final Collection<K> keys) throws ExecutionException {
+      final ImmutableMap<K, UUID> cached = cache.getAllPresent(keys);
+      recordLookups(cached.size(), keys.size());
+      if (cached.size() == keys.size()) {
+        return cached;
+      }
+      return cache.getAll(keys);
+    }
+
+    void put(final K key, final UUID workspaceId) {
+      cache.put(key, workspaceId);
+    }
+
+    void invalidate(final K key) {
+      cache.invalidate(key);
+    }
+
+    private void recordLookups(final int hits, final int lookups) {
+      final MetricClient metricClient = metricClientSupplier.get();
+      if (hits > 0) {
+        metricClient.count(OssMetricsRegistry.WORKSPACE_CACHE_HITS, hits, cacheAttribute);
+      }
+      if (lookups > hits) {
+        metricClient.count(OssMetricsRegistry.WORKSPACE_CACHE_MISSES, lookups - hits, cacheAttribute);
+      }
+    }
+
+    private void recordLoadDuration(final long startNanos) {
+      metricClientSupplier.get().distribution(OssMetricsRegistry.WORKSPACE_CACHE_LOAD_DURATION_MILLIS,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), cacheAttribute);
+    }
+
   }
 
 }
@@ -4,12 +4,14 @@
 
 package io.airbyte.persistence.job.models;
 
+import com.google.common.base.Suppliers;
 import io.airbyte.config.AttemptFailureSummary;
 import io.airbyte.config.AttemptSyncConfig;
 import io.airbyte.config.JobOutput;
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
 /**
@@ -19,11 +21,12 @@ public class Attempt {
 
   private final int attemptNumber;
   private final long jobId;
-  private final JobOutput output;
+  // the output and sync config are deserialized on first read, they can hold large states and catalogs.
+  private final Supplier<JobOutput> output;
   private final AttemptStatus status;
   private final String processingTaskQueue;
   private final AttemptFailureSummary failureSummary;
-  private final AttemptSyncConfig syncConfig;
+  private final Supplier<AttemptSyncConfig> syncConfig;
   private final Path logPath;
   private final long updatedAtInSecond;
   private final long createdAtInSecond;
@@ -40,6 +43,21 @@ public class Attempt {
                  final long createdAtInSecond,
                  final long updatedAtInSecond,
                  final @Nullable Long endedAtInSecond) {
+    this(attemptNumber, jobId, logPath, Suppliers.ofInstance(syncConfig), Suppliers.ofInstance(output), status, processingTaskQueue,
+        failureSummary, createdAtInSecond, updatedAtInSecond, endedAtInSecond);
+  }
+
+  private Attempt(final int attemptNumber,
+                  final long jobId,
+                  final Path logPath,
+                  final Supplier<AttemptSyncConfig> syncConfig,
+                  final Supplier<JobOutput> output,
+                  final AttemptStatus status,
+                  final String processingTaskQueue,
+                  final @Nullable AttemptFailureSummary failureSummary,
+                  final long createdAtInSecond,
+                  final long updatedAtInSecond,
+                  final @Nullable Long endedAtInSecond) {
     this.attemptNumber = attemptNumber;
     this.jobId = jobId;
     this.syncConfig = syncConfig;
@@ -53,6 +71,29 @@ public class Attempt {
     this.endedAtInSecond = endedAtInSecond;
   }
 
+  /**
+   * Create an attempt whose sync config and output are only deserialized the first time they are
+   * read.
+   *
+   * @param syncConfig supplies the sync config, or null, called at most once
+   * @param output supplies the output, or null, called at most once
+   * @return attempt
+   */
+  public static Attempt withLazyConfigAndOutput(final int attemptNumber,
+                                                final long jobId,
+                                                final Path logPath,
+                                                final Supplier<AttemptSyncConfig> syncConfig,
+                                                final Supplier<JobOutput> output,
+                                                final AttemptStatus status,
+                                                final String processingTaskQueue,
+                                                final @Nullable AttemptFailureSummary failureSummary,
+                                                final long createdAtInSecond,
+                                                final long updatedAtInSecond,
+                                                final @Nullable Long endedAtInSecond) {
+    return new Attempt(attemptNumber, jobId, logPath, Suppliers.memoize(syncConfig::get), Suppliers.memoize(output::get), status,
+        processingTaskQueue, failureSummary, createdAtInSecond, updatedAtInSecond, endedAtInSecond);
+  }
+
   public int getAttemptNumber() {
     return attemptNumber;
   }
@@ -62,11 +103,11 @@ public class Attempt {
   }
 
   public Optional<AttemptSyncConfig> getSyncConfig() {
-    return Optional.ofNullable(syncConfig);
+    return Optional.ofNullable(syncConfig.get());
   }
 
   public Optional<JobOutput> getOutput() {
-    return Optional.ofNullable(output);
+    return Optional.ofNullable(output.get());
   }
 
   public AttemptStatus getStatus() {
@@ -114,8 +155,8 @@ public class Attempt {
         && jobId == attempt.jobId
         && updatedAtInSecond == attempt.updatedAtInSecond
         && createdAtInSecond == attempt.createdAtInSecond
-        && Objects.equals(syncConfig, attempt.syncConfig)
-        && Objects.equals(output, attempt.output)
+        && Objects.equals(getSyncConfig(), attempt.getSyncConfig())
+        && Objects.equals(getOutput(), attempt.getOutput())
         && status == attempt.status
         && Objects.equals(failureSummary, attempt.failureSummary)
         && Objects.equals(logPath, attempt.logPath)
@@ -126,8 +167,8 @@ public class Attempt {
   public int hashCode() {
     return Objects.hash(attemptNumber,
         jobId,
-        syncConfig,
-        output,
+        getSyncConfig(),
+        getOutput(),
         status,
         failureSummary,
         logPath,
@@ -141,8 +182,8 @@ public class Attempt {
     return "Attempt{"
         + "id=" + attemptNumber
         + ", jobId=" + jobId
-        + ", syncConfig=" + syncConfig
-        + ", output=" + output
+        + ", syncConfig=" + getSyncConfig().orElse(null)
+        + ", output=" + getOutput().orElse(null)
         + ", status=" + status
         + ", failureSummary=" + failureSummary
         + ", logPath=" + logPath
@@ -5,6 +5,7 @@
 package io.airbyte.persistence.job.models;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Suppliers;
 import io.airbyte.config.JobConfig;
 import io.airbyte.config.JobConfig.ConfigType;
 import io.airbyte.config.JobOutput;
@@ -14,6 +15,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
@@ -27,7 +29,8 @@ public class Job {
   private final long id;
   private final ConfigType configType;
   private final String scope;
-  private final JobConfig config;
+  // deserialized on first read, most readers of a job never look at its config.
+  private final Supplier<JobConfig> config;
   private final JobStatus status;
   private final Long startedAtInSecond;
   private final long createdAtInSecond;
@@ -43,6 +46,18 @@ public class Job {
              final @Nullable Long startedAtInSecond,
              final long createdAtInSecond,
              final long updatedAtInSecond) {
+    this(id, configType, scope, Suppliers.ofInstance(config), attempts, status, startedAtInSecond, createdAtInSecond, updatedAtInSecond);
+  }
+
+  private Job(final long id,
+              final ConfigType configType,
+              final String scope,
+              final Supplier<JobConfig> config,
+              final List<Attempt> attempts,
+              final JobStatus status,
+              final @Nullable Long startedAtInSecond,
+              final long createdAtInSecond,
+              final long updatedAtInSecond) {
     this.id = id;
     this.configType = configType;
     this.scope = scope;
@@ -54,6 +69,26 @@ public class Job {
     this.updatedAtInSecond = updatedAtInSecond;
   }
 
+  /**
+   * Create a job whose config is only deserialized the first time it is read. Listing jobs with large
+   * catalogs then doesn't pay for configs that are never read.
+   *
+   * @param config supplies the config, called at most once
+   * @return job
+   */
+  public static Job withLazyConfig(final long id,
+                                   final ConfigType configType,
+                                   final String scope,
+                                   final Supplier<JobConfig> config,
+                                   final List<Attempt> attempts,
+                                   final JobStatus status,
+                                   final @Nullable Long startedAtInSecond,
+                                   final long createdAtInSecond,
+                                   final long updatedAtInSecond) {
+    return new Job(id, configType, scope, Suppliers.memoize(config::get), attempts, status, startedAtInSecond, createdAtInSecond,
+        updatedAtInSecond);
+  }
+
   /**
    * Get job id.
    *
@@ -87,7 +122,7 @@ public class Job {
    * @return config
    */
   public JobConfig getConfig() {
-    return config;
+    return config.get();
   }
 
   /**
@@ -276,7 +311,7 @@ public class Job {
         && createdAtInSecond == job.createdAtInSecond
         && updatedAtInSecond == job.updatedAtInSecond
         && Objects.equals(scope, job.scope)
-        && Objects.equals(config, job.config)
+        && Objects.equals(getConfig(), job.getConfig())
         && Objects.equals(configType, job.configType)
         && status == job.status
         && Objects.equals(startedAtInSecond, job.startedAtInSecond)
@@ -285,7 +320,7 @@ public class Job {
 
   @Override
   public int hashCode() {
-    return Objects.hash(id, scope, config, configType, status, startedAtInSecond, createdAtInSecond, updatedAtInSecond, attempts);
+    return Objects.hash(id, scope, getConfig(), configType, status, startedAtInSecond, createdAtInSecond, updatedAtInSecond, attempts);
   }
 
   @Override
@@ -293,7 +328,7 @@ public class Job {
     return "Job{"
         + "id=" + id
         + ", scope='" + scope + '\''
-        + ", config=" + config
+        + ", config=" + getConfig()
         + ", config_type=" + configType
         + ", status=" + status
         + ", startedAtInSecond=" + startedAtInSecond
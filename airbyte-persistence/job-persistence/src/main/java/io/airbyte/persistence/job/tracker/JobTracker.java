@@ -11,6 +11,9 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import io.airbyte.analytics.TrackingClient;
 import io.airbyte.commons.json.Jsons;
@@ -31,6 +34,9 @@ import io.airbyte.config.StandardWorkspace;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.persistence.job.WorkspaceHelper;
 import io.airbyte.persistence.job.models.Attempt;
@@ -48,9 +54,21 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Tracking calls to each job type.
+ * <p>
+ * Events are assembled and sent on a single background thread, so tracking never slows down the
+ * job status transitions that report them. Events are dropped when too many are waiting to be
+ * sent. The connection metadata of a sync is loaded once per job and reused by all its events.
  */
 public class JobTracker {
 
@@ -69,19 +87,46 @@ public class JobTracker {
   public static final String OPERATION = "operation.";
   public static final String SET = "set";
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(JobTracker.class);
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final int MAX_QUEUED_EVENTS = 1000;
+  private static final int MAX_CACHED_JOBS = 1000;
+  private static final long CONNECTION_METADATA_EXPIRY_HOURS = 1;
+  private static final long WORKSPACE_NAME_EXPIRY_MINUTES = 10;
+
+  /**
+   * Connection metadata of a sync or reset job. Loaded once per job, since it doesn't change while
+   * the job runs.
+   */
+  private record ConnectionMetadata(@Nullable UUID workspaceId,
+                                    StandardSourceDefinition sourceDefinition,
+                                    ActorDefinitionVersion sourceVersion,
+                                    StandardDestinationDefinition destinationDefinition,
+                                    ActorDefinitionVersion destinationVersion,
+                                    Map<String, Object> syncMetadata) {}
 
   private final ConfigRepository configRepository;
   private final JobPersistence jobPersistence;
   private final WorkspaceHelper workspaceHelper;
   private final TrackingClient trackingClient;
   private final ActorDefinitionVersionHelper actorDefinitionVersionHelper;
+  private final Executor executor;
+  private final Supplier<MetricClient> metricClientSupplier;
+  private final Cache<Long, ConnectionMetadata> connectionMetadataByJobId = CacheBuilder.newBuilder()
+      .maximumSize(MAX_CACHED_JOBS)
+      .expireAfterAccess(CONNECTION_METADATA_EXPIRY_HOURS, TimeUnit.HOURS)
+      .build();
+  private final Cache<UUID, String> workspaceNames = CacheBuilder.newBuilder()
+      .maximumSize(MAX_CACHED_JOBS)
+      .expireAfterWrite(WORKSPACE_NAME_EXPIRY_MINUTES, TimeUnit.MINUTES)
+      .build();
 
   public JobTracker(final ConfigRepository configRepository,
                     final JobPersistence jobPersistence,
                     final TrackingClient trackingClient,
                     final ActorDefinitionVersionHelper actorDefinitionVersionHelper) {
-    this(configRepository, jobPersistence, new WorkspaceHelper(configRepository, jobPersistence), trackingClient, actorDefinitionVersionHelper);
+    this(configRepository, jobPersistence, new WorkspaceHelper(configRepository, jobPersistence), trackingClient, actorDefinitionVersionHelper,
+        createExecutor(), MetricClientFactory::getMetricClient);
   }
 
   @VisibleForTesting
@@ -89,12 +134,22 @@ public class JobTracker {
              final JobPersistence jobPersistence,
              final WorkspaceHelper workspaceHelper,
              final TrackingClient trackingClient,
-             final ActorDefinitionVersionHelper actorDefinitionVersionHelper) {
+             final ActorDefinitionVersionHelper actorDefinitionVersionHelper,
+             final Executor executor,
+             final Supplier<MetricClient> metricClientSupplier) {
     this.configRepository = configRepository;
     this.jobPersistence = jobPersistence;
     this.workspaceHelper = workspaceHelper;
     this.trackingClient = trackingClient;
     this.actorDefinitionVersionHelper = actorDefinitionVersionHelper;
+    this.executor = executor;
+    this.metricClientSupplier = metricClientSupplier;
+  }
+
+  private static Executor createExecutor() {
+    // a single thread keeps the events of a job in order.
+    return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(MAX_QUEUED_EVENTS),
+        new ThreadFactoryBuilder().setNameFormat("job-tracker-%d").setDaemon(true).build());
   }
 
   /**
@@ -116,7 +171,7 @@ public class JobTracker {
     final StandardCheckConnectionOutput responseOutput = jobOutput != null ? jobOutput.getCheckConnection() : null;
     final FailureReason failureReason = jobOutput != null ? jobOutput.getFailureReason() : null;
 
-    Exceptions.swallow(() -> {
+    trackAsync(() -> {
       final Map<String, Object> checkConnMetadata = generateCheckConnectionMetadata(responseOutput);
       final Map<String, Object> failureReasonMetadata = generateFailureReasonMetadata(failureReason);
       final Map<String, Object> jobMetadata = generateJobMetadata(jobId.toString(), ConfigType.CHECK_CONNECTION_SOURCE);
@@ -146,7 +201,7 @@ public class JobTracker {
     final StandardCheckConnectionOutput responseOutput = jobOutput != null ? jobOutput.getCheckConnection() : null;
     final FailureReason failureReason = jobOutput != null ? jobOutput.getFailureReason() : null;
 
-    Exceptions.swallow(() -> {
+    trackAsync(() -> {
       final Map<String, Object> checkConnMetadata = generateCheckConnectionMetadata(responseOutput);
       final Map<String, Object> failureReasonMetadata = generateFailureReasonMetadata(failureReason);
       final Map<String, Object> jobMetadata = generateJobMetadata(jobId.toString(), ConfigType.CHECK_CONNECTION_DESTINATION);
@@ -174,7 +229,7 @@ public class JobTracker {
                             final @Nullable ConnectorJobOutput jobOutput) {
     final FailureReason failureReason = jobOutput != null ? jobOutput.getFailureReason() : null;
 
-    Exceptions.swallow(() -> {
+    trackAsync(() -> {
       final Map<String, Object> jobMetadata = generateJobMetadata(jobId.toString(), ConfigType.DISCOVER_SCHEMA);
       final Map<String, Object> failureReasonMetadata = generateFailureReasonMetadata(failureReason);
       final Map<String, Object> sourceDefMetadata = generateSourceDefinitionMetadata(sourceDefinitionId, workspaceId, actorId);
@@ -191,7 +246,7 @@ public class JobTracker {
    * @param jobState job state
    */
   public void trackSync(final Job job, final JobState jobState) {
-    Exceptions.swallow(() -> {
+    trackAsync(() -> {
       final ConfigType configType = job.getConfigType();
       final boolean allowedJob = configType == ConfigType.SYNC || configType == ConfigType.RESET_CONNECTION;
       Preconditions.checkArgument(allowedJob, "Job type " + configType + " is not allowed!");
@@ -199,35 +254,28 @@ public class JobTracker {
       final Optional<Attempt> lastAttempt = job.getLastAttempt();
       final Optional<AttemptSyncConfig> attemptSyncConfig = lastAttempt.flatMap(Attempt::getSyncConfig);
 
-      final UUID connectionId = UUID.fromString(job.getScope());
-      final UUID workspaceId = workspaceHelper.getWorkspaceForJobIdIgnoreExceptions(jobId);
-      final StandardSync standardSync = configRepository.getStandardSync(connectionId);
-      final StandardSourceDefinition sourceDefinition = configRepository.getSourceDefinitionFromConnection(connectionId);
-      final ActorDefinitionVersion sourceVersion =
-          actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, workspaceId, standardSync.getSourceId());
-      final StandardDestinationDefinition destinationDefinition = configRepository.getDestinationDefinitionFromConnection(connectionId);
-      final ActorDefinitionVersion destinationVersion =
-          actorDefinitionVersionHelper.getDestinationVersion(destinationDefinition, workspaceId, standardSync.getDestinationId());
+      final ConnectionMetadata connectionMetadata = getConnectionMetadata(jobId, UUID.fromString(job.getScope()));
 
       final Map<String, Object> jobMetadata = generateJobMetadata(String.valueOf(jobId), configType, job.getAttemptsCount());
-      final Map<String, Object> jobAttemptMetadata = generateJobAttemptMetadata(jobId, jobState);
-      final Map<String, Object> sourceDefMetadata = generateSourceDefinitionMetadata(sourceDefinition, sourceVersion);
-      final Map<String, Object> destinationDefMetadata = generateDestinationDefinitionMetadata(destinationDefinition, destinationVersion);
-      final Map<String, Object> syncMetadata = generateSyncMetadata(standardSync);
+      final Map<String, Object> jobAttemptMetadata = generateJobAttemptMetadata(job, jobState);
+      final Map<String, Object> sourceDefMetadata =
+          generateSourceDefinitionMetadata(connectionMetadata.sourceDefinition(), connectionMetadata.sourceVersion());
+      final Map<String, Object> destinationDefMetadata =
+          generateDestinationDefinitionMetadata(connectionMetadata.destinationDefinition(), connectionMetadata.destinationVersion());
       final Map<String, Object> stateMetadata = generateStateMetadata(jobState);
       final Map<String, Object> syncConfigMetadata = generateSyncConfigMetadata(
           job.getConfig(),
           attemptSyncConfig.orElse(null),
-          sourceVersion.getSpec().getConnectionSpecification(),
-          destinationVersion.getSpec().getConnectionSpecification());
+          connectionMetadata.sourceVersion().getSpec().getConnectionSpecification(),
+          connectionMetadata.destinationVersion().getSpec().getConnectionSpecification());
 
-      track(workspaceId,
+      track(connectionMetadata.workspaceId(),
           MoreMaps.merge(
               jobMetadata,
               jobAttemptMetadata,
               sourceDefMetadata,
               destinationDefMetadata,
-              syncMetadata,
+              connectionMetadata.syncMetadata(),
               stateMetadata,
               syncConfigMetadata));
     });
@@ -247,37 +295,47 @@ public class JobTracker {
                                           final Integer attempts,
                                           final JobState jobState,
                                           final Exception e) {
-    Exceptions.swallow(() -> {
-      final UUID workspaceId = workspaceHelper.getWorkspaceForJobIdIgnoreExceptions(jobId);
-      final StandardSync standardSync = configRepository.getStandardSync(connectionId);
-      final StandardSourceDefinition sourceDefinition = configRepository.getSourceDefinitionFromConnection(connectionId);
-      final StandardDestinationDefinition destinationDefinition = configRepository.getDestinationDefinitionFromConnection(connectionId);
-      final ActorDefinitionVersion sourceVersion =
-          actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, workspaceId, standardSync.getSourceId());
-      final ActorDefinitionVersion destinationVersion =
-          actorDefinitionVersionHelper.getDestinationVersion(destinationDefinition, workspaceId, standardSync.getDestinationId());
+    trackAsync(() -> {
+      final ConnectionMetadata connectionMetadata = getConnectionMetadata(jobId, connectionId);
 
       final Map<String, Object> jobMetadata = generateJobMetadata(String.valueOf(jobId), null, attempts);
-      final Map<String, Object> jobAttemptMetadata = generateJobAttemptMetadata(jobId, jobState);
-      final Map<String, Object> sourceDefMetadata = generateSourceDefinitionMetadata(sourceDefinition, sourceVersion);
-      final Map<String, Object> destinationDefMetadata = generateDestinationDefinitionMetadata(destinationDefinition, destinationVersion);
-      final Map<String, Object> syncMetadata = generateSyncMetadata(standardSync);
+      final Map<String, Object> jobAttemptMetadata = generateJobAttemptMetadata(jobPersistence.getJob(jobId), jobState);
+      final Map<String, Object> sourceDefMetadata =
+          generateSourceDefinitionMetadata(connectionMetadata.sourceDefinition(), connectionMetadata.sourceVersion());
+      final Map<String, Object> destinationDefMetadata =
+          generateDestinationDefinitionMetadata(connectionMetadata.destinationDefinition(), connectionMetadata.destinationVersion());
       final Map<String, Object> stateMetadata = generateStateMetadata(jobState);
       final Map<String, Object> generalMetadata = Map.of("connection_id", connectionId, "internal_error_cause", e.getMessage(),
           "internal_error_type", e.getClass().getName());
 
-      track(workspaceId,
+      track(connectionMetadata.workspaceId(),
           MoreMaps.merge(
               jobMetadata,
               jobAttemptMetadata,
               sourceDefMetadata,
               destinationDefMetadata,
-              syncMetadata,
+              connectionMetadata.syncMetadata(),
               stateMetadata,
               generalMetadata));
     });
   }
 
+  private ConnectionMetadata getConnectionMetadata(final long jobId, final UUID connectionId) throws Exception {
+    return connectionMetadataByJobId.get(jobId, () -> {
+      final UUID workspaceId = workspaceHelper.getWorkspaceForJobIdIgnoreExceptions(jobId);
+      final StandardSync standardSync = configRepository.getStandardSync(connectionId);
+      final StandardSourceDefinition sourceDefinition = configRepository.getSourceDefinitionFromConnection(connectionId);
+      final StandardDestinationDefinition destinationDefinition = configRepository.getDestinationDefinitionFromConnection(connectionId);
+      return new ConnectionMetadata(
+          workspaceId,
+          sourceDefinition,
+          actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, workspaceId, standardSync.getSourceId()),
+          destinationDefinition,
+          actorDefinitionVersionHelper.getDestinationVersion(destinationDefinition, workspaceId, standardSync.getDestinationId()),
+          generateSyncMetadata(standardSync));
+    });
+  }
+
   private Map<String, Object> generateSyncConfigMetadata(
                                                          final JobConfig config,
                                                          @Nullable final AttemptSyncConfig attemptSyncConfig,
@@ -503,8 +561,7 @@ public class JobTracker {
     return Collections.unmodifiableMap(metadata);
   }
 
-  private Map<String, Object> generateJobAttemptMetadata(final long jobId, final JobState jobState) throws IOException {
-    final Job job = jobPersistence.getJob(jobId);
+  private Map<String, Object> generateJobAttemptMetadata(final Job job, final JobState jobState) {
     if (jobState != JobState.STARTED) {
       return TrackingMetadata.generateJobAttemptMetadata(job);
     } else {
@@ -517,15 +574,37 @@ public class JobTracker {
     // unfortunate but in the case of jobs that cannot be linked to a workspace there not a sensible way
     // track it.
     if (workspaceId != null) {
-      final StandardWorkspace standardWorkspace = configRepository.getStandardWorkspaceNoSecrets(workspaceId, true);
-      if (standardWorkspace != null && standardWorkspace.getName() != null) {
+      final String workspaceName = getWorkspaceName(workspaceId);
+      if (workspaceName != null) {
         final Map<String, Object> standardTrackingMetadata = Map.of(
             "workspace_id", workspaceId,
-            "workspace_name", standardWorkspace.getName());
+            "workspace_name", workspaceName);
 
         trackingClient.track(workspaceId, MESSAGE_NAME, MoreMaps.merge(metadata, standardTrackingMetadata));
       }
     }
   }
 
+  private @Nullable String getWorkspaceName(final UUID workspaceId) throws JsonValidationException, ConfigNotFoundException, IOException {
+    final String cachedName = workspaceNames.getIfPresent(workspaceId);
+    if (cachedName != null) {
+      return cachedName;
+    }
+    final StandardWorkspace standardWorkspace = configRepository.getStandardWorkspaceNoSecrets(workspaceId, true);
+    if (standardWorkspace == null || standardWorkspace.getName() == null) {
+      return null;
+    }
+    workspaceNames.put(workspaceId, standardWorkspace.getName());
+    return standardWorkspace.getName();
+  }
+
+  private void trackAsync(final Exceptions.Procedure procedure) {
+    try {
+      executor.execute(() -> Exceptions.swallow(procedure));
+    } catch (final RejectedExecutionException e) {
+      LOGGER.warn("Dropped a job tracking event because too many events are waiting to be sent.");
+      metricClientSupplier.get().count(OssMetricsRegistry.TRACKING_EVENTS_DROPPED, 1);
+    }
+  }
+
 }
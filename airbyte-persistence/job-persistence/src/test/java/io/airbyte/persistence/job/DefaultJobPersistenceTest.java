@@ -1664,6 +1664,27 @@ class DefaultJobPersistenceTest {
       }
     }
 
+    @Test
+    @DisplayName("Should list jobs whose attempts are streamed across several fetches")
+    void testListJobsAcrossFetches() throws IOException {
+      final List<Long> ids = new ArrayList<>();
+      // two rows per job, so that the attempts of some jobs are split between two fetches.
+      for (int i = 0; i < DefaultJobPersistence.JOB_FETCH_SIZE + 1; i++) {
+        final long jobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+        jobPersistence.failAttempt(jobId, jobPersistence.createAttempt(jobId, LOG_PATH));
+        jobPersistence.createAttempt(jobId, LOG_PATH);
+        ids.add(jobId);
+      }
+
+      final List<Job> actualList = jobPersistence.listJobs(SPEC_JOB_CONFIG.getConfigType(), SCOPE, 9999, 0);
+
+      assertEquals(Lists.reverse(ids), actualList.stream().map(Job::getId).toList());
+      for (final Job job : actualList) {
+        assertEquals(List.of(AttemptStatus.FAILED, AttemptStatus.RUNNING), job.getAttempts().stream().map(Attempt::getStatus).toList());
+        assertEquals(SPEC_JOB_CONFIG, job.getConfig());
+      }
+    }
+
     @Test
     @DisplayName("Should list all jobs")
     void testListJobs() throws IOException {
@@ -9,6 +9,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
@@ -27,6 +28,8 @@ import io.airbyte.config.StandardWorkspace;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.notification.NotificationClient;
 import io.airbyte.persistence.job.models.Job;
 import io.airbyte.persistence.job.models.JobStatus;
@@ -39,6 +42,7 @@ import java.time.format.FormatStyle;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -61,6 +65,7 @@ class JobNotifierTest {
   private NotificationClient notificationClient;
   private TrackingClient trackingClient;
   private ActorDefinitionVersionHelper actorDefinitionVersionHelper;
+  private MetricClient metricClient;
 
   @BeforeEach
   void setup() {
@@ -69,7 +74,10 @@ class JobNotifierTest {
     trackingClient = mock(TrackingClient.class);
     actorDefinitionVersionHelper = mock(ActorDefinitionVersionHelper.class);
 
-    jobNotifier = Mockito.spy(new JobNotifier(webUrlHelper, configRepository, workspaceHelper, trackingClient, actorDefinitionVersionHelper));
+    metricClient = mock(MetricClient.class);
+
+    jobNotifier = Mockito.spy(new JobNotifier(webUrlHelper, configRepository, workspaceHelper, trackingClient, actorDefinitionVersionHelper,
+        Runnable::run, () -> metricClient));
     notificationClient = mock(NotificationClient.class);
     when(jobNotifier.getNotificationClient(getSlackNotification())).thenReturn(notificationClient);
   }
@@ -122,6 +130,19 @@ class JobNotifierTest {
     verify(trackingClient).track(WORKSPACE_ID, JobNotifier.FAILURE_NOTIFICATION, metadata.build());
   }
 
+  @Test
+  void testNotificationsAreDroppedWhenTheQueueIsFull() {
+    final JobNotifier fullJobNotifier = new JobNotifier(webUrlHelper, configRepository, workspaceHelper, trackingClient,
+        actorDefinitionVersionHelper, command -> {
+          throw new RejectedExecutionException();
+        }, () -> metricClient);
+
+    fullJobNotifier.failJob("JobNotifierTest was running", createJob());
+
+    verify(metricClient).count(OssMetricsRegistry.JOB_NOTIFICATIONS_DROPPED, 1);
+    verifyNoInteractions(workspaceHelper, configRepository, trackingClient);
+  }
+
   private static StandardWorkspace getWorkspace() {
     return new StandardWorkspace()
         .withCustomerId(UUID.randomUUID())
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.persistence.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.JobConfig;
+import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.config.JobOutput;
+import io.airbyte.config.JobSyncConfig;
+import io.airbyte.config.StandardSyncOutput;
+import io.airbyte.config.StandardSyncSummary;
+import io.airbyte.config.State;
+import io.airbyte.db.Database;
+import io.airbyte.db.factory.DSLContextFactory;
+import io.airbyte.db.factory.DataSourceFactory;
+import io.airbyte.db.instance.test.TestDatabaseProviders;
+import io.airbyte.persistence.job.models.Attempt;
+import io.airbyte.persistence.job.models.Job;
+import io.airbyte.persistence.job.models.JobStatus;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.DestinationSyncMode;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import io.airbyte.protocol.models.SyncMode;
+import io.airbyte.test.utils.DatabaseConnectionHelper;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.SQLDialect;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Benchmark of listing the jobs of a connection with a large catalog and state. Compares the memory
+ * allocated to list the jobs when callers only read their statuses, as list endpoints and metric
+ * emitters do, with the memory allocated when every config and output is read too, and reports both
+ * in the logs.
+ * <p>
+ * This is not part of the test suite. To use it, run the main method and look at the logs.
+ */
+@Slf4j
+public class JobPersistenceBenchmark {
+
+  private static final int NUM_JOBS = 50;
+  private static final int NUM_STREAMS = 1_000;
+  private static final int NUM_RUNS = 5;
+  private static final String SCOPE = UUID.randomUUID().toString();
+  private static final Path LOG_PATH = Path.of("/tmp/logs/all/the/way/down");
+
+  public static void main(final String[] args) throws Exception {
+    try (final PostgreSQLContainer<?> container = new PostgreSQLContainer<>("postgres:13-alpine")
+        .withDatabaseName("airbyte")
+        .withUsername("docker")
+        .withPassword("docker")) {
+      container.start();
+      final DataSource dataSource = DatabaseConnectionHelper.createDataSource(container);
+      try {
+        final Database jobDatabase =
+            new TestDatabaseProviders(dataSource, DSLContextFactory.create(dataSource, SQLDialect.POSTGRES)).createNewJobsDatabase();
+        final DefaultJobPersistence jobPersistence = new DefaultJobPersistence(jobDatabase);
+        createJobs(jobPersistence);
+        benchmarkListJobs(jobPersistence);
+      } finally {
+        DataSourceFactory.close(dataSource);
+      }
+    }
+  }
+
+  private static void createJobs(final DefaultJobPersistence jobPersistence) throws Exception {
+    final JobConfig jobConfig = new JobConfig()
+        .withConfigType(ConfigType.SYNC)
+        .withSync(new JobSyncConfig().withConfiguredAirbyteCatalog(createCatalog()));
+    final JobOutput jobOutput = new JobOutput()
+        .withOutputType(JobOutput.OutputType.SYNC)
+        .withSync(new StandardSyncOutput()
+            .withStandardSyncSummary(new StandardSyncSummary())
+            .withState(new State().withState(createState())));
+    for (int i = 0; i < NUM_JOBS; i++) {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, jobConfig).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+      jobPersistence.writeOutput(jobId, attemptNumber, jobOutput);
+      jobPersistence.succeedAttempt(jobId, attemptNumber);
+    }
+  }
+
+  private static void benchmarkListJobs(final DefaultJobPersistence jobPersistence) throws Exception {
+    final Consumer<List<Job>> readStatuses = jobs -> jobs.forEach(Job::getStatus);
+    final Consumer<List<Job>> readConfigsAndOutputs = jobs -> jobs.forEach(job -> {
+      job.getConfig();
+      job.getAttempts().forEach(Attempt::getOutput);
+    });
+
+    // warm up both code paths once so that class loading is not measured.
+    final List<Job> jobs = jobPersistence.listJobs(ConfigType.SYNC, SCOPE, NUM_JOBS, 0);
+    assertEquals(NUM_JOBS, jobs.size());
+    assertEquals(JobStatus.SUCCEEDED, jobs.get(0).getStatus());
+    assertEquals(NUM_STREAMS, jobs.get(0).getConfig().getSync().getConfiguredAirbyteCatalog().getStreams().size());
+    measureListJobs(jobPersistence, readConfigsAndOutputs);
+
+    long statusesAllocatedBytes = 0;
+    long configsAllocatedBytes = 0;
+    for (int i = 0; i < NUM_RUNS; i++) {
+      statusesAllocatedBytes += measureListJobs(jobPersistence, readStatuses);
+      configsAllocatedBytes += measureListJobs(jobPersistence, readConfigsAndOutputs);
+    }
+
+    log.info("Listing {} jobs with {} streams each. Reading statuses allocated avg: {} KB, "
+        + "reading configs and outputs allocated avg: {} KB",
+        NUM_JOBS,
+        NUM_STREAMS,
+        statusesAllocatedBytes / NUM_RUNS / 1024,
+        configsAllocatedBytes / NUM_RUNS / 1024);
+  }
+
+  /**
+   * List the jobs of the connection and read them.
+   *
+   * @return bytes allocated by this thread to list and read the jobs
+   */
+  private static long measureListJobs(final DefaultJobPersistence jobPersistence, final Consumer<List<Job>> reader) throws Exception {
+    final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    final long threadId = Thread.currentThread().getId();
+    final long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+    reader.accept(jobPersistence.listJobs(ConfigType.SYNC, SCOPE, NUM_JOBS, 0));
+    return threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+  }
+
+  private static ConfiguredAirbyteCatalog createCatalog() {
+    return new ConfiguredAirbyteCatalog().withStreams(IntStream.range(0, NUM_STREAMS)
+        .mapToObj(i -> new ConfiguredAirbyteStream()
+            .withStream(CatalogHelpers.createAirbyteStream("stream_" + i, "public",
+                Field.of("id", JsonSchemaType.INTEGER),
+                Field.of("name", JsonSchemaType.STRING),
+                Field.of("updated_at", JsonSchemaType.STRING)))
+            .withSyncMode(SyncMode.INCREMENTAL)
+            .withDestinationSyncMode(DestinationSyncMode.APPEND))
+        .toList());
+  }
+
+  private static JsonNode createState() {
+    return Jsons.jsonNode(IntStream.range(0, NUM_STREAMS).boxed()
+        .collect(Collectors.toMap(i -> "stream_" + i, i -> Map.of("cursor", "2023-01-01T00:00:00Z"))));
+  }
+
+}
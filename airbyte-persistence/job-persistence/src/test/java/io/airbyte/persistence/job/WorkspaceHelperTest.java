@@ -7,8 +7,11 @@ package io.airbyte.persistence.job;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.AdditionalMatchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -25,12 +28,19 @@ import io.airbyte.config.StandardSyncOperation;
 import io.airbyte.config.StandardSyncOperation.OperatorType;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.models.Job;
 import io.airbyte.persistence.job.models.JobStatus;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -75,6 +85,7 @@ class WorkspaceHelperTest {
 
   ConfigRepository configRepository;
   JobPersistence jobPersistence;
+  MetricClient metricClient;
   WorkspaceHelper workspaceHelper;
 
   @BeforeEach
@@ -91,7 +102,8 @@ class WorkspaceHelperTest {
     when(configRepository.getStandardSyncOperation(OPERATION_ID)).thenReturn(OPERATION);
     when(configRepository.getStandardSyncOperation(not(eq(OPERATION_ID)))).thenThrow(ConfigNotFoundException.class);
 
-    workspaceHelper = new WorkspaceHelper(configRepository, jobPersistence);
+    metricClient = mock(MetricClient.class);
+    workspaceHelper = new WorkspaceHelper(configRepository, jobPersistence, () -> metricClient);
   }
 
   @Test
@@ -185,4 +197,55 @@ class WorkspaceHelperTest {
     assertEquals(WORKSPACE_ID, jobWorkspace);
   }
 
+  @Test
+  void testSourcesAreLoadedWithOneQuery() throws IOException, JsonValidationException, ConfigNotFoundException {
+    final MetricAttribute sourceAttribute = new MetricAttribute(MetricTags.CACHE_NAME, "source");
+    when(configRepository.getWorkspaceIdsForSources(any())).thenReturn(Map.of(SOURCE_ID, WORKSPACE_ID));
+
+    assertEquals(Map.of(SOURCE_ID, WORKSPACE_ID), workspaceHelper.getWorkspacesForSourceIds(List.of(SOURCE_ID)));
+    verify(configRepository).getWorkspaceIdsForSources(Set.of(SOURCE_ID));
+    verify(configRepository, never()).getSourceConnection(SOURCE_ID);
+    verify(metricClient).count(OssMetricsRegistry.WORKSPACE_CACHE_MISSES, 1, sourceAttribute);
+    verify(metricClient).distribution(eq(OssMetricsRegistry.WORKSPACE_CACHE_LOAD_DURATION_MILLIS), anyDouble(), eq(sourceAttribute));
+
+    assertEquals(WORKSPACE_ID, workspaceHelper.getWorkspaceForSourceId(SOURCE_ID));
+    // There should have been no other call to configRepository
+    verify(configRepository, times(1)).getWorkspaceIdsForSources(any());
+    verify(metricClient).count(OssMetricsRegistry.WORKSPACE_CACHE_HITS, 1, sourceAttribute);
+  }
+
+  @Test
+  void testBatchLookupOfMissingObjectFailsLikeSingleLookup() {
+    final List<UUID> sourceIds = List.of(SOURCE_ID, UUID.randomUUID());
+    final List<UUID> operationIds = List.of(OPERATION_ID, UUID.randomUUID());
+
+    assertThrows(ConfigNotFoundException.class, () -> workspaceHelper.getWorkspacesForSourceIds(sourceIds));
+    assertThrows(RuntimeException.class, () -> workspaceHelper.getWorkspacesForOperationIdsIgnoreExceptions(operationIds));
+  }
+
+  @Test
+  void testJobsAreLoadedWithOneQuery() throws IOException, JsonValidationException, ConfigNotFoundException {
+    final long jobId = 123;
+    when(jobPersistence.getJobScopes(any(), any())).thenReturn(Map.of(jobId, CONNECTION_ID.toString()));
+    when(configRepository.getWorkspaceIdsForConnections(any())).thenReturn(Map.of(CONNECTION_ID, WORKSPACE_ID));
+
+    assertEquals(Map.of(jobId, WORKSPACE_ID), workspaceHelper.getWorkspacesForJobIds(List.of(jobId)));
+    verify(jobPersistence, never()).getJob(jobId);
+    verify(configRepository, never()).getStandardSync(CONNECTION_ID);
+  }
+
+  @Test
+  void testListedConnectionsAreCachedUntilEvicted() throws IOException, JsonValidationException, ConfigNotFoundException {
+    workspaceHelper.cacheConnectionWorkspaces(WORKSPACE_ID, List.of(CONNECTION));
+
+    assertEquals(WORKSPACE_ID, workspaceHelper.getWorkspaceForConnectionId(CONNECTION_ID));
+    assertEquals(WORKSPACE_ID, workspaceHelper.getWorkspaceForSourceId(SOURCE_ID));
+    verify(configRepository, never()).getStandardSync(CONNECTION_ID);
+    verify(configRepository, never()).getSourceConnection(SOURCE_ID);
+
+    workspaceHelper.evictConnection(CONNECTION_ID);
+    assertEquals(WORKSPACE_ID, workspaceHelper.getWorkspaceForConnectionId(CONNECTION_ID));
+    verify(configRepository, times(1)).getStandardSync(CONNECTION_ID);
+  }
+
 }
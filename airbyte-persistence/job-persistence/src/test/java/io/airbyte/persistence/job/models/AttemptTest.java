@@ -4,9 +4,14 @@
 
 package io.airbyte.persistence.job.models;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.airbyte.config.JobOutput;
+import io.airbyte.config.JobOutput.OutputType;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 class AttemptTest {
@@ -22,4 +27,22 @@ class AttemptTest {
     return new Attempt(1, 1L, null, null, null, attemptStatus, null, null, 0L, 0L, null);
   }
 
+  @Test
+  void testLazyOutputIsDeserializedOnceWhenRead() {
+    final AtomicInteger deserializations = new AtomicInteger();
+    final JobOutput output = new JobOutput().withOutputType(OutputType.SYNC);
+    final Attempt attempt = Attempt.withLazyConfigAndOutput(1, 1L, null, () -> null, () -> {
+      deserializations.incrementAndGet();
+      return output;
+    }, AttemptStatus.SUCCEEDED, null, null, 0L, 0L, null);
+
+    assertTrue(Attempt.isAttemptInTerminalState(attempt));
+    assertEquals(0, deserializations.get());
+
+    assertEquals(Optional.of(output), attempt.getOutput());
+    assertEquals(Optional.of(output), attempt.getOutput());
+    assertEquals(Optional.empty(), attempt.getSyncConfig());
+    assertEquals(1, deserializations.get());
+  }
+
 }
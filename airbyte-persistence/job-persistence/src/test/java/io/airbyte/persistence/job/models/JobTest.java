@@ -10,7 +10,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.airbyte.config.JobConfig;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
@@ -145,4 +147,21 @@ class JobTest {
     assertThrows(IllegalStateException.class, () -> cancelledJob.validateStatusTransition(JobStatus.CANCELLED));
   }
 
+  @Test
+  void testLazyConfigIsDeserializedOnceWhenRead() {
+    final AtomicInteger deserializations = new AtomicInteger();
+    final JobConfig config = new JobConfig().withConfigType(JobConfig.ConfigType.SYNC);
+    final Job job = Job.withLazyConfig(1L, JobConfig.ConfigType.SYNC, null, () -> {
+      deserializations.incrementAndGet();
+      return config;
+    }, List.of(), JobStatus.PENDING, 0L, 0L, 0L);
+
+    assertEquals(JobStatus.PENDING, job.getStatus());
+    assertEquals(0, deserializations.get());
+
+    assertEquals(config, job.getConfig());
+    assertEquals(new Job(1L, JobConfig.ConfigType.SYNC, null, config, List.of(), JobStatus.PENDING, 0L, 0L, 0L), job);
+    assertEquals(1, deserializations.get());
+  }
+
 }
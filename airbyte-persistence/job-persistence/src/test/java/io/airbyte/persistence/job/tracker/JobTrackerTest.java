@@ -5,8 +5,11 @@
 package io.airbyte.persistence.job.tracker;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -45,6 +48,8 @@ import io.airbyte.config.SyncStats;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.persistence.job.WorkspaceHelper;
 import io.airbyte.persistence.job.models.Attempt;
@@ -68,6 +73,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
@@ -191,6 +197,7 @@ class JobTrackerTest {
   private TrackingClient trackingClient;
   private WorkspaceHelper workspaceHelper;
   private ActorDefinitionVersionHelper actorDefinitionVersionHelper;
+  private MetricClient metricClient;
   private JobTracker jobTracker;
 
   @BeforeEach
@@ -200,7 +207,10 @@ class JobTrackerTest {
     workspaceHelper = mock(WorkspaceHelper.class);
     trackingClient = mock(TrackingClient.class);
     actorDefinitionVersionHelper = mock(ActorDefinitionVersionHelper.class);
-    jobTracker = new JobTracker(configRepository, jobPersistence, workspaceHelper, trackingClient, actorDefinitionVersionHelper);
+    metricClient = mock(MetricClient.class);
+    // events are tracked on the calling thread, so they can be verified right away.
+    jobTracker = new JobTracker(configRepository, jobPersistence, workspaceHelper, trackingClient, actorDefinitionVersionHelper, Runnable::run,
+        () -> metricClient);
   }
 
   @Test
@@ -418,7 +428,10 @@ class JobTrackerTest {
         additionalExpectedMetadata);
     assertCorrectMessageForEachState((jobState) -> jobTracker.trackSync(job, jobState), manualMetadata);
 
-    // test when frequency is scheduled.
+    // test when frequency is scheduled. the connection is loaded once per job, so use another job.
+    final long scheduledJobId = jobId + 1;
+    when(workspaceHelper.getWorkspaceForJobIdIgnoreExceptions(scheduledJobId)).thenReturn(WORKSPACE_ID);
+    final Job scheduledJob = getJobMock(configType, scheduledJobId);
     when(configRepository.getStandardSync(CONNECTION_ID))
         .thenReturn(new StandardSync()
             .withConnectionId(CONNECTION_ID)
@@ -428,10 +441,36 @@ class JobTrackerTest {
             .withManual(false)
             .withSchedule(new Schedule().withUnits(1L).withTimeUnit(TimeUnit.MINUTES)));
     final Map<String, Object> scheduledMetadata = MoreMaps.merge(
-        metadata,
+        getJobMetadata(configType, scheduledJobId),
         Map.of(FREQUENCY_KEY, "1 min"),
         additionalExpectedMetadata);
-    assertCorrectMessageForEachState((jobState) -> jobTracker.trackSync(job, jobState), scheduledMetadata);
+    assertCorrectMessageForEachState((jobState) -> jobTracker.trackSync(scheduledJob, jobState), scheduledMetadata);
+  }
+
+  @Test
+  void testConnectionIsLoadedOncePerJob() throws ConfigNotFoundException, IOException, JsonValidationException {
+    testAsynchronousAttempt(ConfigType.SYNC, SYNC_CONFIG_METADATA);
+    jobTracker.trackSync(getJobWithAttemptsMock(ConfigType.SYNC, LONG_JOB_ID), JobState.STARTED);
+
+    verify(configRepository).getStandardSync(CONNECTION_ID);
+    verify(configRepository).getSourceDefinitionFromConnection(CONNECTION_ID);
+    verify(configRepository).getDestinationDefinitionFromConnection(CONNECTION_ID);
+    verify(configRepository).getStandardWorkspaceNoSecrets(WORKSPACE_ID, true);
+    verify(trackingClient, times(3)).track(eq(WORKSPACE_ID), eq(JobTracker.MESSAGE_NAME), anyMap());
+  }
+
+  @Test
+  void testEventsAreDroppedWhenTheQueueIsFull() throws ConfigNotFoundException, IOException, JsonValidationException {
+    jobTracker = new JobTracker(configRepository, jobPersistence, workspaceHelper, trackingClient, actorDefinitionVersionHelper,
+        runnable -> {
+          throw new RejectedExecutionException();
+        },
+        () -> metricClient);
+
+    jobTracker.trackSync(getJobMock(ConfigType.SYNC, LONG_JOB_ID), JobState.STARTED);
+
+    verify(metricClient).count(OssMetricsRegistry.TRACKING_EVENTS_DROPPED, 1);
+    verifyNoInteractions(trackingClient, configRepository);
   }
 
   @Test
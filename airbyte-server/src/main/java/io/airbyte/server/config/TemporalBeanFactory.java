@@ -26,6 +26,7 @@ import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.time.Duration;
 
 /**
  * Micronaut bean factory for Temporal-related singletons.
@@ -69,9 +70,10 @@ public class TemporalBeanFactory {
                                                                final JobErrorReporter jobErrorReporter,
                                                                final OAuthConfigSupplier oAuthConfigSupplier,
                                                                final RouterService routerService,
-                                                               final ConfigInjector configInjector) {
+                                                               final ConfigInjector configInjector,
+                                                               @Value("${airbyte.job-coalescing-window}") final Duration coalescingWindow) {
     return new DefaultSynchronousSchedulerClient(temporalClient, jobTracker, jobErrorReporter, oAuthConfigSupplier, routerService,
-        configInjector);
+        configInjector, coalescingWindow);
   }
 
 }
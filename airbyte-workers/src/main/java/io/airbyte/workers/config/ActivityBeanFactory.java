@@ -19,6 +19,7 @@ import io.airbyte.workers.temporal.scheduling.activities.RecordMetricActivity;
 import io.airbyte.workers.temporal.scheduling.activities.RouteToSyncTaskQueueActivity;
 import io.airbyte.workers.temporal.scheduling.activities.SlackConfigActivity;
 import io.airbyte.workers.temporal.scheduling.activities.StreamResetActivity;
+import io.airbyte.workers.temporal.scheduling.activities.SyncPreparationActivity;
 import io.airbyte.workers.temporal.scheduling.activities.WorkflowConfigActivity;
 import io.airbyte.workers.temporal.spec.SpecActivity;
 import io.airbyte.workers.temporal.sync.DbtTransformationActivity;
@@ -76,7 +77,8 @@ public class ActivityBeanFactory {
                                                   final RecordMetricActivity recordMetricActivity,
                                                   final WorkflowConfigActivity workflowConfigActivity,
                                                   final RouteToSyncTaskQueueActivity routeToSyncTaskQueueActivity,
-                                                  final FeatureFlagFetchActivity featureFlagFetchActivity) {
+                                                  final FeatureFlagFetchActivity featureFlagFetchActivity,
+                                                  final SyncPreparationActivity syncPreparationActivity) {
     return List.of(generateInputActivity,
         jobCreationAndStatusUpdateActivity,
         configFetchActivity,
@@ -86,7 +88,8 @@ public class ActivityBeanFactory {
         recordMetricActivity,
         workflowConfigActivity,
         routeToSyncTaskQueueActivity,
-        featureFlagFetchActivity);
+        featureFlagFetchActivity,
+        syncPreparationActivity);
   }
 
   @Singleton
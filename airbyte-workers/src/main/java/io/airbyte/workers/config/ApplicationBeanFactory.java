@@ -25,6 +25,7 @@ import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.persistence.job.WebUrlHelper;
 import io.airbyte.persistence.job.WorkspaceHelper;
 import io.airbyte.persistence.job.tracker.JobTracker;
+import io.airbyte.workers.LineGobblerMetricReporter;
 import io.airbyte.workers.WorkerConfigs;
 import io.airbyte.workers.internal.state_aggregator.StateAggregatorFactory;
 import io.micronaut.context.annotation.Factory;
@@ -156,7 +157,9 @@ public class ApplicationBeanFactory {
   public MetricClient metricClient() {
     // Initialize the metric client
     MetricClientFactory.initialize(MetricEmittingApps.WORKER);
-    return MetricClientFactory.getMetricClient();
+    final MetricClient metricClient = MetricClientFactory.getMetricClient();
+    LineGobblerMetricReporter.start(metricClient);
+    return metricClient;
   }
 
   private <T> T convertToEnum(final String value, final Function<String, T> creatorFunction, final T defaultValue) {
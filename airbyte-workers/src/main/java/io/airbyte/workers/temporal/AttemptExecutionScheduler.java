@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.temporal;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the attempts of {@link TemporalAttemptExecution}s and their periodic cancellation checks. The
+ * checks of all the attempts of a worker share one small scheduler, instead of each attempt starting
+ * its own scheduler thread. Attempts run on a shared pool whose idle threads are reused and time out.
+ * On JDKs that support them, TEMPORAL_ATTEMPT_USE_VIRTUAL_THREADS=true runs each attempt on its own
+ * virtual thread instead.
+ */
+class AttemptExecutionScheduler {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AttemptExecutionScheduler.class);
+
+  private static final String USE_VIRTUAL_THREADS_ENV_VAR = "TEMPORAL_ATTEMPT_USE_VIRTUAL_THREADS";
+  private static final int SCHEDULER_THREADS = 2;
+  private static final long THREAD_KEEP_ALIVE_SECONDS = 60;
+  private static final long REPORT_INTERVAL_SECONDS = 30;
+
+  private static final AttemptExecutionScheduler INSTANCE = create(Boolean.parseBoolean(System.getenv(USE_VIRTUAL_THREADS_ENV_VAR)));
+
+  /**
+   * A periodic check, which runs until it is stopped.
+   */
+  interface ScheduledCheck {
+
+    void stop();
+
+  }
+
+  private final ExecutorService attemptExecutor;
+  private final ScheduledExecutorService scheduler;
+  private final Supplier<MetricClient> metricClientSupplier;
+  private final LongSupplier nanoTime;
+  private final AtomicInteger runningAttempts = new AtomicInteger();
+  private final AtomicInteger scheduledChecks = new AtomicInteger();
+  // longest delay of a check since the previous report.
+  private final AtomicLong maxCheckLagNanos = new AtomicLong();
+
+  @VisibleForTesting
+  AttemptExecutionScheduler(final ExecutorService attemptExecutor,
+                            final ScheduledExecutorService scheduler,
+                            final Supplier<MetricClient> metricClientSupplier,
+                            final LongSupplier nanoTime) {
+    this.attemptExecutor = attemptExecutor;
+    this.scheduler = scheduler;
+    this.metricClientSupplier = metricClientSupplier;
+    this.nanoTime = nanoTime;
+  }
+
+  /**
+   * Get the scheduler shared by all the attempts of this worker.
+   *
+   * @return shared scheduler
+   */
+  static AttemptExecutionScheduler getInstance() {
+    return INSTANCE;
+  }
+
+  private static AttemptExecutionScheduler create(final boolean useVirtualThreads) {
+    final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(SCHEDULER_THREADS,
+        new ThreadFactoryBuilder().setNameFormat("attempt-scheduler-%d").setDaemon(true).build());
+    // stopped checks are removed right away rather than when they would have run next.
+    scheduler.setRemoveOnCancelPolicy(true);
+
+    final AttemptExecutionScheduler attemptScheduler =
+        new AttemptExecutionScheduler(createAttemptExecutor(useVirtualThreads), scheduler, MetricClientFactory::getMetricClient, System::nanoTime);
+    scheduler.scheduleAtFixedRate(attemptScheduler::reportMetrics, REPORT_INTERVAL_SECONDS, REPORT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    return attemptScheduler;
+  }
+
+  @VisibleForTesting
+  static ExecutorService createAttemptExecutor(final boolean useVirtualThreads) {
+    if (useVirtualThreads) {
+      if (Runtime.version().feature() >= 21) {
+        try {
+          // resolved reflectively so that this keeps compiling against JDKs without virtual threads.
+          return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+          LOGGER.warn("Could not create a virtual thread executor for attempts, falling back to platform threads", e);
+        }
+      } else {
+        LOGGER.warn("{} is set but virtual threads are not supported by Java {}, falling back to platform threads",
+            USE_VIRTUAL_THREADS_ENV_VAR, Runtime.version().feature());
+      }
+    }
+
+    // attempts can run for hours and must not wait for each other, so the pool is not bounded.
+    return new ThreadPoolExecutor(0, Integer.MAX_VALUE, THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(),
+        new ThreadFactoryBuilder().setNameFormat("attempt-worker-%d").setDaemon(true).build());
+  }
+
+  /**
+   * Start running an attempt.
+   *
+   * @param attempt runs the attempt
+   * @return future of the attempt, cancelling it with interruption interrupts the attempt
+   */
+  Future<?> submitAttempt(final Runnable attempt) {
+    return attemptExecutor.submit(() -> {
+      runningAttempts.incrementAndGet();
+      try {
+        attempt.run();
+      } finally {
+        runningAttempts.decrementAndGet();
+      }
+    });
+  }
+
+  /**
+   * Run a task that may block, such as cleaning up a cancelled attempt, outside of the shared
+   * scheduler.
+   *
+   * @param task task to run
+   */
+  void execute(final Runnable task) {
+    attemptExecutor.execute(task);
+  }
+
+  /**
+   * Run a check now and then at a fixed rate until it is stopped. Checks share the scheduler threads,
+   * so they must be quick. Work that may block must be handed to {@link #execute(Runnable)}.
+   *
+   * @param check check to run
+   * @param interval time between the starts of two runs of the check
+   * @return handle to stop the check
+   */
+  ScheduledCheck scheduleAtFixedRate(final Runnable check, final Duration interval) {
+    final long intervalNanos = interval.toNanos();
+    final long firstRunNanos = nanoTime.getAsLong();
+    final AtomicLong runs = new AtomicLong();
+    final ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(() -> {
+      final long expectedNanos = firstRunNanos + runs.getAndIncrement() * intervalNanos;
+      maxCheckLagNanos.accumulateAndGet(nanoTime.getAsLong() - expectedNanos, Math::max);
+      try {
+        check.run();
+      } catch (final Exception e) {
+        // an exception would cancel the next runs of the check.
+        LOGGER.error("Scheduled check failed", e);
+      }
+    }, 0, intervalNanos, TimeUnit.NANOSECONDS);
+    scheduledChecks.incrementAndGet();
+
+    return () -> {
+      if (future.cancel(false)) {
+        scheduledChecks.decrementAndGet();
+      }
+    };
+  }
+
+  @VisibleForTesting
+  int getRunningAttemptCount() {
+    return runningAttempts.get();
+  }
+
+  @VisibleForTesting
+  int getScheduledCheckCount() {
+    return scheduledChecks.get();
+  }
+
+  @VisibleForTesting
+  void shutdownNow() {
+    scheduler.shutdownNow();
+    attemptExecutor.shutdownNow();
+  }
+
+  @VisibleForTesting
+  void reportMetrics() {
+    try {
+      final MetricClient metricClient = metricClientSupplier.get();
+      metricClient.gauge(OssMetricsRegistry.TEMPORAL_ATTEMPT_RUNNING, runningAttempts.get());
+      metricClient.gauge(OssMetricsRegistry.TEMPORAL_ATTEMPT_THREADS, getPoolSize(attemptExecutor) + getPoolSize(scheduler));
+      metricClient.gauge(OssMetricsRegistry.TEMPORAL_ATTEMPT_CHECK_LAG_MILLIS,
+          TimeUnit.NANOSECONDS.toMillis(Math.max(0, maxCheckLagNanos.getAndSet(0))));
+    } catch (final Exception e) {
+      // an exception would cancel the scheduled reports.
+      LOGGER.warn("Failed to report attempt execution metrics", e);
+    }
+  }
+
+  // virtual threads are not counted, they don't hold on to a platform thread while they wait.
+  private static int getPoolSize(final Executor executor) {
+    return executor instanceof ThreadPoolExecutor ? ((ThreadPoolExecutor) executor).getPoolSize() : 0;
+  }
+
+}
@@ -16,15 +16,18 @@ import io.airbyte.config.helpers.LogClientSingleton;
 import io.airbyte.config.helpers.LogConfigs;
 import io.airbyte.persistence.job.models.JobRunConfig;
 import io.airbyte.workers.Worker;
+import io.airbyte.workers.temporal.AttemptExecutionScheduler.ScheduledCheck;
 import io.temporal.activity.Activity;
 import io.temporal.activity.ActivityExecutionContext;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.apache.commons.lang3.math.NumberUtils;
@@ -36,6 +39,9 @@ import org.slf4j.MDC;
  * This class represents a single run of a worker. It handles making sure the correct inputs and
  * outputs are passed to the selected worker. It also makes sures that the outputs of the worker are
  * persisted to the db.
+ * <p>
+ * The worker and the periodic cancellation checks run on the {@link AttemptExecutionScheduler}
+ * shared by all the attempts of this worker.
  */
 @SuppressWarnings({"PMD.UnusedFormalParameter", "PMD.AvoidCatchingThrowable"})
 public class TemporalAttemptExecution<INPUT, OUTPUT> implements Supplier<OUTPUT> {
@@ -53,6 +59,8 @@ public class TemporalAttemptExecution<INPUT, OUTPUT> implements Supplier<OUTPUT>
   private final String airbyteVersion;
   private final Optional<String> replicationTaskQueue;
   private final Runnable finalizer;
+  private final AttemptExecutionScheduler attemptScheduler;
+  private final Duration cancellationCheckInterval;
 
   public TemporalAttemptExecution(final Path workspaceRoot,
                                   final WorkerEnvironment workerEnvironment,
@@ -75,7 +83,9 @@ public class TemporalAttemptExecution<INPUT, OUTPUT> implements Supplier<OUTPUT>
         () -> activityContext.get().getInfo().getWorkflowId(),
         airbyteVersion,
         Optional.empty(),
-        () -> {});
+        () -> {},
+        AttemptExecutionScheduler.getInstance(),
+        TemporalUtils.SEND_HEARTBEAT_INTERVAL);
   }
 
   public TemporalAttemptExecution(final Path workspaceRoot,
@@ -101,7 +111,9 @@ public class TemporalAttemptExecution<INPUT, OUTPUT> implements Supplier<OUTPUT>
         () -> activityContext.get().getInfo().getWorkflowId(),
         airbyteVersion,
         replicationTaskQueue,
-        finalizer);
+        finalizer,
+        AttemptExecutionScheduler.getInstance(),
+        TemporalUtils.SEND_HEARTBEAT_INTERVAL);
   }
 
   @VisibleForTesting
@@ -117,7 +129,9 @@ public class TemporalAttemptExecution<INPUT, OUTPUT> implements Supplier<OUTPUT>
                            final Supplier<String> workflowIdProvider,
                            final String airbyteVersion,
                            final Optional<String> replicationTaskQueue,
-                           final Runnable finalizer) {
+                           final Runnable finalizer,
+                           final AttemptExecutionScheduler attemptScheduler,
+                           final Duration cancellationCheckInterval) {
     this.jobRunConfig = jobRunConfig;
 
     this.jobRoot = TemporalUtils.getJobRoot(workspaceRoot, jobRunConfig.getJobId(), jobRunConfig.getAttemptId());
@@ -131,6 +145,8 @@ public class TemporalAttemptExecution<INPUT, OUTPUT> implements Supplier<OUTPUT>
     this.airbyteVersion = airbyteVersion;
     this.replicationTaskQueue = replicationTaskQueue;
     this.finalizer = finalizer;
+    this.attemptScheduler = attemptScheduler;
+    this.cancellationCheckInterval = cancellationCheckInterval;
   }
 
   @Override
@@ -152,22 +168,26 @@ public class TemporalAttemptExecution<INPUT, OUTPUT> implements Supplier<OUTPUT>
 
       final Worker<INPUT, OUTPUT> worker = workerSupplier.get();
       final CompletableFuture<OUTPUT> outputFuture = new CompletableFuture<>();
-      final Thread workerThread = getWorkerThread(worker, outputFuture);
-      final ScheduledExecutorService scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
-      final Runnable cancellationChecker = getCancellationChecker(worker, workerThread, outputFuture);
+      final AtomicReference<Future<?>> workerFuture = new AtomicReference<>();
+      final AtomicBoolean cancelled = new AtomicBoolean(false);
 
       // check once first that we are not already cancelled. if we are, don't start!
-      cancellationChecker.run();
+      getCancellationChecker(worker, workerFuture, outputFuture, cancelled, Runnable::run).run();
+      if (!outputFuture.isDone()) {
+        workerFuture.set(attemptScheduler.submitAttempt(getWorkerRunnable(worker, outputFuture)));
+      }
 
-      workerThread.start();
-      scheduledExecutor.scheduleAtFixedRate(cancellationChecker, 0, TemporalUtils.SEND_HEARTBEAT_INTERVAL.toSeconds(), TimeUnit.SECONDS);
+      // the scheduler is shared, so the cancellation itself runs outside of it, as it may block.
+      final ScheduledCheck cancellationChecks = attemptScheduler.scheduleAtFixedRate(
+          getCancellationChecker(worker, workerFuture, outputFuture, cancelled, attemptScheduler::execute),
+          cancellationCheckInterval);
 
       try {
         // block and wait for the output
         return outputFuture.get();
       } finally {
         LOGGER.info("Stopping cancellation check scheduling...");
-        scheduledExecutor.shutdown();
+        cancellationChecks.stop();
         finalizer.run();
       }
     } catch (final Exception e) {
@@ -194,8 +214,8 @@ public class TemporalAttemptExecution<INPUT, OUTPUT> implements Supplier<OUTPUT>
     }
   }
 
-  private Thread getWorkerThread(final Worker<INPUT, OUTPUT> worker, final CompletableFuture<OUTPUT> outputFuture) {
-    return new Thread(() -> {
+  private Runnable getWorkerRunnable(final Worker<INPUT, OUTPUT> worker, final CompletableFuture<OUTPUT> outputFuture) {
+    return () -> {
       mdcSetter.accept(jobRoot);
 
       try {
@@ -204,8 +224,11 @@ public class TemporalAttemptExecution<INPUT, OUTPUT> implements Supplier<OUTPUT>
       } catch (final Throwable e) {
         LOGGER.info("Completing future exceptionally...", e);
         outputFuture.completeExceptionally(e);
+      } finally {
+        // the thread is reused by other attempts.
+        MDC.clear();
       }
-    });
+    };
   }
 
   /**
@@ -218,41 +241,63 @@ public class TemporalAttemptExecution<INPUT, OUTPUT> implements Supplier<OUTPUT>
    * defines the clean up operations executed as part of cancel.
    * <p>
    * See {@link CancellationHandler} for more info.
+   *
+   * @param cancellationExecutor runs the clean up operations
    */
   private Runnable getCancellationChecker(final Worker<INPUT, OUTPUT> worker,
-                                          final Thread workerThread,
-                                          final CompletableFuture<OUTPUT> outputFuture) {
-    final var cancelled = new AtomicBoolean(false);
-    return () -> {
+                                          final AtomicReference<Future<?>> workerFuture,
+                                          final CompletableFuture<OUTPUT> outputFuture,
+                                          final AtomicBoolean cancelled,
+                                          final Executor cancellationExecutor) {
+    return () -> runWithJobMdc(() -> {
       try {
-        mdcSetter.accept(jobRoot);
-
         final Runnable onCancellationCallback = () -> {
-          if (cancelled.get()) {
-            // Since this is a separate thread, race condition between the executor service shutting down and
-            // this thread's next invocation can happen. This
-            // check guarantees cancel operations are only executed once.
+          if (cancelled.getAndSet(true)) {
+            // Since this is a separate thread, race condition between the check being stopped and its next
+            // invocation can happen. This check guarantees cancel operations are only executed once.
             return;
           }
 
-          LOGGER.info("Running sync worker cancellation...");
-          cancelled.set(true);
-          worker.cancel();
+          cancellationExecutor.execute(() -> runWithJobMdc(() -> {
+            LOGGER.info("Running sync worker cancellation...");
+            worker.cancel();
 
-          LOGGER.info("Interrupting worker thread...");
-          workerThread.interrupt();
+            LOGGER.info("Interrupting worker thread...");
+            final Future<?> runningWorker = workerFuture.get();
+            if (runningWorker != null) {
+              runningWorker.cancel(true);
+            }
 
-          LOGGER.info("Cancelling completable future...");
-          // This throws a CancellationException as part of the cancelling and is the exception seen in logs
-          // when cancelling the job.
-          outputFuture.cancel(false);
+            LOGGER.info("Cancelling completable future...");
+            // This throws a CancellationException as part of the cancelling and is the exception seen in logs
+            // when cancelling the job.
+            outputFuture.cancel(false);
+          }));
         };
 
         cancellationHandler.checkAndHandleCancellation(onCancellationCallback);
       } catch (final Exception e) {
         LOGGER.error("Cancellation checker exception", e);
       }
-    };
+    });
+  }
+
+  /**
+   * Run with the MDC of this attempt. The checks run on threads shared with other attempts, and
+   * inline on the activity thread, so the previous MDC of the thread is restored once done.
+   */
+  private void runWithJobMdc(final Runnable runnable) {
+    final Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+    mdcSetter.accept(jobRoot);
+    try {
+      runnable.run();
+    } finally {
+      if (previousMdc == null) {
+        MDC.clear();
+      } else {
+        MDC.setContextMap(previousMdc);
+      }
+    }
   }
 
 }
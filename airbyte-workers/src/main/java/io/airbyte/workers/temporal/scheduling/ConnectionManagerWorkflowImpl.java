@@ -71,6 +71,9 @@ import io.airbyte.workers.temporal.scheduling.activities.RouteToSyncTaskQueueAct
 import io.airbyte.workers.temporal.scheduling.activities.RouteToSyncTaskQueueActivity.RouteToSyncTaskQueueOutput;
 import io.airbyte.workers.temporal.scheduling.activities.StreamResetActivity;
 import io.airbyte.workers.temporal.scheduling.activities.StreamResetActivity.DeleteStreamResetRecordsForJobInput;
+import io.airbyte.workers.temporal.scheduling.activities.SyncPreparationActivity;
+import io.airbyte.workers.temporal.scheduling.activities.SyncPreparationActivity.SyncPreparationInput;
+import io.airbyte.workers.temporal.scheduling.activities.SyncPreparationActivity.SyncPreparationOutput;
 import io.airbyte.workers.temporal.scheduling.activities.WorkflowConfigActivity;
 import io.temporal.api.enums.v1.ParentClosePolicy;
 import io.temporal.failure.ActivityFailure;
@@ -88,6 +91,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 
@@ -108,6 +112,9 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
   private static final String GET_FEATURE_FLAGS_TAG = "get_feature_flags";
   private static final int GET_FEATURE_FLAGS_CURRENT_VERSION = 1;
 
+  private static final String FUSED_SYNC_PREPARATION_TAG = "fused_sync_preparation";
+  private static final int FUSED_SYNC_PREPARATION_CURRENT_VERSION = 1;
+
   @TemporalActivityStub(activityOptionsBeanName = "shortActivityOptions")
   private GenerateInputActivity getSyncInputActivity;
   @TemporalActivityStub(activityOptionsBeanName = "shortActivityOptions")
@@ -128,6 +135,8 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
   private RouteToSyncTaskQueueActivity routeToSyncTaskQueueActivity;
   @TemporalActivityStub(activityOptionsBeanName = "shortActivityOptions")
   private FeatureFlagFetchActivity featureFlagFetchActivity;
+  @TemporalActivityStub(activityOptionsBeanName = "shortActivityOptions")
+  private SyncPreparationActivity syncPreparationActivity;
 
   private CancellationScope cancellableSyncWorkflow;
 
@@ -220,73 +229,112 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
         prepareForNextRunAndContinueAsNew(connectionUpdaterInput);
       }
 
+      if (shouldRunFusedSyncPreparation()) {
+        runSyncWithFusedPreparation(connectionUpdaterInput);
+        return;
+      }
+
       final Map<String, Boolean> featureFlags = getFeatureFlags(connectionUpdaterInput.getConnectionId());
       final boolean featureFlagCheckInputGeneration = featureFlags.getOrDefault(CheckInputGeneration.INSTANCE.getKey(), false);
 
       workflowInternalState.setJobId(getOrCreateJobId(connectionUpdaterInput));
       workflowInternalState.setAttemptNumber(createAttempt(workflowInternalState.getJobId()));
 
-      GeneratedJobInput jobInputs = null;
+      final GeneratedJobInput jobInputs;
       final boolean shouldRunCheckInputGeneration = shouldRunCheckInputGeneration(featureFlagCheckInputGeneration);
       if (!shouldRunCheckInputGeneration) {
         jobInputs = getJobInput();
+      } else {
+        jobInputs = null;
       }
 
       reportJobStarting(connectionUpdaterInput.getConnectionId());
-      StandardSyncOutput standardSyncOutput = null;
 
-      try {
-        final SyncCheckConnectionResult syncCheckConnectionResult = checkConnections(getJobRunConfig(), jobInputs, featureFlagCheckInputGeneration);
-        if (syncCheckConnectionResult.isFailed()) {
-          final StandardSyncOutput checkFailureOutput = syncCheckConnectionResult.buildFailureOutput();
-          workflowState.setFailed(getFailStatus(checkFailureOutput));
-          reportFailure(connectionUpdaterInput, checkFailureOutput, FailureCause.CONNECTION);
+      runChecksAndSync(connectionUpdaterInput,
+          () -> checkConnections(getJobRunConfig(), jobInputs, featureFlagCheckInputGeneration),
+          () -> shouldRunCheckInputGeneration ? getJobInput() : jobInputs,
+          this::getSyncTaskQueue);
+    });
+  }
+
+  /**
+   * Create the job and the attempt, then prepare the sync with a single activity instead of one
+   * activity per preparation step.
+   */
+  private void runSyncWithFusedPreparation(final ConnectionUpdaterInput connectionUpdaterInput) {
+    workflowInternalState.setJobId(getOrCreateJobId(connectionUpdaterInput));
+    workflowInternalState.setAttemptNumber(createAttempt(workflowInternalState.getJobId()));
+
+    reportJobStarting(connectionUpdaterInput.getConnectionId());
+
+    final SyncPreparationOutput syncPreparation = prepareSync();
+
+    runChecksAndSync(connectionUpdaterInput,
+        () -> checkConnections(getJobRunConfig(), syncPreparation),
+        () -> syncPreparation.getSyncInput() != null ? syncPreparation.getSyncInput() : getJobInput(),
+        syncPreparation::getTaskQueue);
+  }
+
+  /**
+   * Run the checks, then the sync if the checks succeeded, and report the result.
+   *
+   * @param checkConnections runs the checks
+   * @param jobInputs provides the input of the sync, called once the checks succeeded
+   * @param syncTaskQueue provides the task queue of the sync, called right before the sync starts
+   */
+  private void runChecksAndSync(final ConnectionUpdaterInput connectionUpdaterInput,
+                                final Supplier<SyncCheckConnectionResult> checkConnections,
+                                final Supplier<GeneratedJobInput> jobInputs,
+                                final Supplier<String> syncTaskQueue) {
+    StandardSyncOutput standardSyncOutput = null;
+
+    try {
+      final SyncCheckConnectionResult syncCheckConnectionResult = checkConnections.get();
+      if (syncCheckConnectionResult.isFailed()) {
+        final StandardSyncOutput checkFailureOutput = syncCheckConnectionResult.buildFailureOutput();
+        workflowState.setFailed(getFailStatus(checkFailureOutput));
+        reportFailure(connectionUpdaterInput, checkFailureOutput, FailureCause.CONNECTION);
+      } else {
+        standardSyncOutput = runChildWorkflow(jobInputs.get(), syncTaskQueue.get());
+        workflowState.setFailed(getFailStatus(standardSyncOutput));
+
+        if (workflowState.isFailed()) {
+          reportFailure(connectionUpdaterInput, standardSyncOutput, FailureCause.UNKNOWN);
         } else {
-          if (shouldRunCheckInputGeneration) {
-            jobInputs = getJobInput();
-          }
-
-          standardSyncOutput = runChildWorkflow(jobInputs);
-          workflowState.setFailed(getFailStatus(standardSyncOutput));
-
-          if (workflowState.isFailed()) {
-            reportFailure(connectionUpdaterInput, standardSyncOutput, FailureCause.UNKNOWN);
-          } else {
-            reportSuccess(connectionUpdaterInput, standardSyncOutput);
-          }
+          reportSuccess(connectionUpdaterInput, standardSyncOutput);
         }
+      }
 
+      prepareForNextRunAndContinueAsNew(connectionUpdaterInput);
+    } catch (final ChildWorkflowFailure childWorkflowFailure) {
+      // when we cancel a method, we call the cancel method of the cancellation scope. This will throw an
+      // exception since we expect it, we just
+      // silently ignore it.
+      if (childWorkflowFailure.getCause() instanceof CanceledFailure) {
+        log.debug("Ignoring canceled failure as it is handled by the cancellation scope.");
+        // do nothing, cancellation handled by cancellationScope
+      } else if (childWorkflowFailure.getCause()instanceof final ActivityFailure af) {
+        // Allows us to classify unhandled failures from the sync workflow. e.g. If the normalization
+        // activity throws an exception, for
+        // example, this lets us set the failureOrigin to normalization.
+        workflowInternalState.getFailures().add(FailureHelper.failureReasonFromWorkflowAndActivity(
+            childWorkflowFailure.getWorkflowType(),
+            af.getActivityType(),
+            af.getCause(),
+            workflowInternalState.getJobId(),
+            workflowInternalState.getAttemptNumber()));
+        ApmTraceUtils.addExceptionToTrace(af.getCause());
+        reportFailure(connectionUpdaterInput, standardSyncOutput, FailureCause.ACTIVITY);
+        prepareForNextRunAndContinueAsNew(connectionUpdaterInput);
+      } else {
+        workflowInternalState.getFailures().add(
+            FailureHelper.unknownOriginFailure(childWorkflowFailure.getCause(), workflowInternalState.getJobId(),
+                workflowInternalState.getAttemptNumber()));
+        ApmTraceUtils.addExceptionToTrace(childWorkflowFailure.getCause());
+        reportFailure(connectionUpdaterInput, standardSyncOutput, FailureCause.WORKFLOW);
         prepareForNextRunAndContinueAsNew(connectionUpdaterInput);
-      } catch (final ChildWorkflowFailure childWorkflowFailure) {
-        // when we cancel a method, we call the cancel method of the cancellation scope. This will throw an
-        // exception since we expect it, we just
-        // silently ignore it.
-        if (childWorkflowFailure.getCause() instanceof CanceledFailure) {
-          log.debug("Ignoring canceled failure as it is handled by the cancellation scope.");
-          // do nothing, cancellation handled by cancellationScope
-        } else if (childWorkflowFailure.getCause()instanceof final ActivityFailure af) {
-          // Allows us to classify unhandled failures from the sync workflow. e.g. If the normalization
-          // activity throws an exception, for
-          // example, this lets us set the failureOrigin to normalization.
-          workflowInternalState.getFailures().add(FailureHelper.failureReasonFromWorkflowAndActivity(
-              childWorkflowFailure.getWorkflowType(),
-              af.getActivityType(),
-              af.getCause(),
-              workflowInternalState.getJobId(),
-              workflowInternalState.getAttemptNumber()));
-          ApmTraceUtils.addExceptionToTrace(af.getCause());
-          reportFailure(connectionUpdaterInput, standardSyncOutput, FailureCause.ACTIVITY);
-          prepareForNextRunAndContinueAsNew(connectionUpdaterInput);
-        } else {
-          workflowInternalState.getFailures().add(
-              FailureHelper.unknownOriginFailure(childWorkflowFailure.getCause(), workflowInternalState.getJobId(),
-                  workflowInternalState.getAttemptNumber()));
-          ApmTraceUtils.addExceptionToTrace(childWorkflowFailure.getCause());
-          reportFailure(connectionUpdaterInput, standardSyncOutput, FailureCause.WORKFLOW);
-          prepareForNextRunAndContinueAsNew(connectionUpdaterInput);
-        }
       }
-    });
+    }
   }
 
   private void reportSuccess(final ConnectionUpdaterInput connectionUpdaterInput, final StandardSyncOutput standardSyncOutput) {
@@ -373,6 +421,16 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
     return generateCheckInputVersion >= GENERATE_CHECK_INPUT_CURRENT_VERSION;
   }
 
+  /**
+   * Returns whether the sync should be prepared with a single activity. Workflows that started
+   * before the fused preparation was introduced keep running the preparation activities one by one.
+   */
+  private boolean shouldRunFusedSyncPreparation() {
+    final int fusedSyncPreparationVersion =
+        Workflow.getVersion(FUSED_SYNC_PREPARATION_TAG, Workflow.DEFAULT_VERSION, FUSED_SYNC_PREPARATION_CURRENT_VERSION);
+    return fusedSyncPreparationVersion >= FUSED_SYNC_PREPARATION_CURRENT_VERSION;
+  }
+
   private ConnectorJobOutput getCheckResponse(final CheckConnectionInput checkInput) {
     return runMandatoryActivityWithOutput(checkActivity::runWithJobOutput, checkInput);
   }
@@ -412,9 +470,7 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
         runMandatoryActivityWithOutput(jobCreationAndStatusUpdateActivity::isLastJobOrAttemptFailure, jobStateInput);
 
     if (!isLastJobOrAttemptFailure) {
-      log.info("SOURCE CHECK: Skipped, last attempt was not a failure");
-      log.info("DESTINATION CHECK: Skipped, last attempt was not a failure");
-      return checkConnectionResult;
+      return skipCheckConnections(checkConnectionResult);
     }
 
     final SyncJobCheckConnectionInputs checkInputs;
@@ -424,6 +480,35 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
       checkInputs = getCheckConnectionInput();
     }
 
+    return checkConnections(jobRunConfig, checkConnectionResult, checkInputs);
+  }
+
+  private SyncCheckConnectionResult checkConnections(final JobRunConfig jobRunConfig, final SyncPreparationOutput syncPreparation) {
+    final SyncCheckConnectionResult checkConnectionResult = new SyncCheckConnectionResult(jobRunConfig);
+
+    if (!syncPreparation.isLastJobOrAttemptFailure()) {
+      return skipCheckConnections(checkConnectionResult);
+    }
+
+    final SyncJobCheckConnectionInputs checkInputs;
+    if (syncPreparation.getCheckConnectionInputs() != null) {
+      checkInputs = syncPreparation.getCheckConnectionInputs();
+    } else {
+      checkInputs = getCheckConnectionInputFromSync(syncPreparation.getSyncInput());
+    }
+
+    return checkConnections(jobRunConfig, checkConnectionResult, checkInputs);
+  }
+
+  private SyncCheckConnectionResult skipCheckConnections(final SyncCheckConnectionResult checkConnectionResult) {
+    log.info("SOURCE CHECK: Skipped, last attempt was not a failure");
+    log.info("DESTINATION CHECK: Skipped, last attempt was not a failure");
+    return checkConnectionResult;
+  }
+
+  private SyncCheckConnectionResult checkConnections(final JobRunConfig jobRunConfig,
+                                                     final SyncCheckConnectionResult checkConnectionResult,
+                                                     final SyncJobCheckConnectionInputs checkInputs) {
     final IntegrationLauncherConfig sourceLauncherConfig = checkInputs.getSourceLauncherConfig();
     final CheckConnectionInput checkSourceInput = new CheckConnectionInput(
         jobRunConfig,
@@ -774,6 +859,15 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
     return checkConnectionInputs;
   }
 
+  /**
+   * Fetch everything needed to check the connectors and start the sync with a single activity.
+   */
+  private SyncPreparationOutput prepareSync() {
+    return runMandatoryActivityWithOutput(
+        syncPreparationActivity::prepareSync,
+        new SyncPreparationInput(connectionId, workflowInternalState.getJobId(), workflowInternalState.getAttemptNumber()));
+  }
+
   private String getSyncTaskQueue() {
 
     final RouteToSyncTaskQueueInput routeToSyncTaskQueueInput = new RouteToSyncTaskQueueInput(connectionId);
@@ -810,9 +904,7 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
    * since the latter is a long running workflow, in the future, using a different Node pool would
    * make sense.
    */
-  private StandardSyncOutput runChildWorkflow(final GeneratedJobInput jobInputs) {
-    final String taskQueue = getSyncTaskQueue();
-
+  private StandardSyncOutput runChildWorkflow(final GeneratedJobInput jobInputs, final String taskQueue) {
     final SyncWorkflow childSync = Workflow.newChildWorkflowStub(SyncWorkflow.class,
         ChildWorkflowOptions.newBuilder()
             .setWorkflowId("sync_" + workflowInternalState.getJobId())
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.temporal.scheduling.activities;
+
+import io.airbyte.workers.temporal.scheduling.activities.GenerateInputActivity.GeneratedJobInput;
+import io.airbyte.workers.temporal.scheduling.activities.GenerateInputActivity.SyncJobCheckConnectionInputs;
+import io.temporal.activity.ActivityInterface;
+import io.temporal.activity.ActivityMethod;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Prepares a sync in a single activity, instead of one activity per read-only preparation step.
+ */
+@ActivityInterface
+public interface SyncPreparationActivity {
+
+  /**
+   * SyncPreparationInput.
+   */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  class SyncPreparationInput {
+
+    private UUID connectionId;
+    private long jobId;
+    private int attemptNumber;
+
+  }
+
+  /**
+   * Everything the connection manager workflow needs to check the connectors and start the sync.
+   */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  class SyncPreparationOutput {
+
+    private Map<String, Boolean> featureFlags;
+    private boolean lastJobOrAttemptFailure;
+    // only set if the checks have to run and the check input generation flag is enabled.
+    private SyncJobCheckConnectionInputs checkConnectionInputs;
+    // not set if the check input generation flag is enabled, so that the checks run before the sync
+    // input is generated.
+    private GeneratedJobInput syncInput;
+    private String taskQueue;
+
+  }
+
+  /**
+   * Fetch the feature flags, whether the last job or attempt failed, the inputs of the sync or of
+   * the checks and the task queue of the sync.
+   */
+  @ActivityMethod
+  SyncPreparationOutput prepareSync(SyncPreparationInput input);
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.temporal.scheduling.activities;
+
+import static io.airbyte.metrics.lib.ApmTraceConstants.ACTIVITY_TRACE_OPERATION_NAME;
+import static io.airbyte.metrics.lib.ApmTraceConstants.Tags.ATTEMPT_NUMBER_KEY;
+import static io.airbyte.metrics.lib.ApmTraceConstants.Tags.CONNECTION_ID_KEY;
+import static io.airbyte.metrics.lib.ApmTraceConstants.Tags.JOB_ID_KEY;
+
+import datadog.trace.api.Trace;
+import io.airbyte.commons.temporal.config.WorkerMode;
+import io.airbyte.featureflag.CheckInputGeneration;
+import io.airbyte.metrics.lib.ApmTraceUtils;
+import io.airbyte.workers.temporal.scheduling.activities.FeatureFlagFetchActivity.FeatureFlagFetchInput;
+import io.airbyte.workers.temporal.scheduling.activities.GenerateInputActivity.GeneratedJobInput;
+import io.airbyte.workers.temporal.scheduling.activities.GenerateInputActivity.SyncInputWithAttemptNumber;
+import io.airbyte.workers.temporal.scheduling.activities.GenerateInputActivity.SyncJobCheckConnectionInputs;
+import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.JobCheckFailureInput;
+import io.airbyte.workers.temporal.scheduling.activities.RouteToSyncTaskQueueActivity.RouteToSyncTaskQueueInput;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+import java.util.Map;
+
+/**
+ * Runs the read-only sync preparation steps of the other connection manager activities in a single
+ * activity.
+ */
+@Singleton
+@Requires(env = WorkerMode.CONTROL_PLANE)
+public class SyncPreparationActivityImpl implements SyncPreparationActivity {
+
+  private final FeatureFlagFetchActivity featureFlagFetchActivity;
+  private final JobCreationAndStatusUpdateActivity jobCreationAndStatusUpdateActivity;
+  private final GenerateInputActivity generateInputActivity;
+  private final RouteToSyncTaskQueueActivity routeToSyncTaskQueueActivity;
+
+  public SyncPreparationActivityImpl(final FeatureFlagFetchActivity featureFlagFetchActivity,
+                                     final JobCreationAndStatusUpdateActivity jobCreationAndStatusUpdateActivity,
+                                     final GenerateInputActivity generateInputActivity,
+                                     final RouteToSyncTaskQueueActivity routeToSyncTaskQueueActivity) {
+    this.featureFlagFetchActivity = featureFlagFetchActivity;
+    this.jobCreationAndStatusUpdateActivity = jobCreationAndStatusUpdateActivity;
+    this.generateInputActivity = generateInputActivity;
+    this.routeToSyncTaskQueueActivity = routeToSyncTaskQueueActivity;
+  }
+
+  @Trace(operationName = ACTIVITY_TRACE_OPERATION_NAME)
+  @Override
+  public SyncPreparationOutput prepareSync(final SyncPreparationInput input) {
+    ApmTraceUtils.addTagsToTrace(Map.of(
+        CONNECTION_ID_KEY, input.getConnectionId(),
+        JOB_ID_KEY, input.getJobId(),
+        ATTEMPT_NUMBER_KEY, input.getAttemptNumber()));
+
+    final Map<String, Boolean> featureFlags =
+        featureFlagFetchActivity.getFeatureFlags(new FeatureFlagFetchInput(input.getConnectionId())).getFeatureFlags();
+    final boolean checkInputGeneration = featureFlags.getOrDefault(CheckInputGeneration.INSTANCE.getKey(), false);
+
+    final boolean lastJobOrAttemptFailure = jobCreationAndStatusUpdateActivity.isLastJobOrAttemptFailure(
+        new JobCheckFailureInput(input.getJobId(), input.getAttemptNumber(), input.getConnectionId()));
+
+    final SyncInputWithAttemptNumber syncInput = new SyncInputWithAttemptNumber(input.getAttemptNumber(), input.getJobId());
+    final GeneratedJobInput generatedJobInput = checkInputGeneration ? null : generateInputActivity.getSyncWorkflowInputWithAttemptNumber(syncInput);
+    final SyncJobCheckConnectionInputs checkConnectionInputs =
+        lastJobOrAttemptFailure && checkInputGeneration ? generateInputActivity.getCheckConnectionInputs(syncInput) : null;
+
+    final String taskQueue = routeToSyncTaskQueueActivity.route(new RouteToSyncTaskQueueInput(input.getConnectionId())).getTaskQueue();
+
+    return new SyncPreparationOutput(featureFlags, lastJobOrAttemptFailure, checkConnectionInputs, generatedJobInput, taskQueue);
+  }
+
+}
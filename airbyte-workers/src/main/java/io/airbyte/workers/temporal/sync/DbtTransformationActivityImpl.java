@@ -103,7 +103,7 @@ public class DbtTransformationActivityImpl implements DbtTransformationActivity
     return temporalUtils.withBackgroundHeartbeat(
         () -> {
           final var fullDestinationConfig = secretsHydrator.hydrate(input.getDestinationConfiguration());
-          final var fullInput = Jsons.clone(input).withDestinationConfiguration(fullDestinationConfig);
+          final var fullInput = Jsons.deepCopy(input).withDestinationConfiguration(fullDestinationConfig);
 
           final Supplier<OperatorDbtInput> inputSupplier = () -> {
             airbyteConfigValidator.ensureAsRuntime(ConfigSchema.OPERATOR_DBT_INPUT, Jsons.jsonNode(fullInput));
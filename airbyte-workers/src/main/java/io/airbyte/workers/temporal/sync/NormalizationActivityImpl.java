@@ -110,7 +110,7 @@ public class NormalizationActivityImpl implements NormalizationActivity {
     final ActivityExecutionContext context = Activity.getExecutionContext();
     return temporalUtils.withBackgroundHeartbeat(() -> {
       final var fullDestinationConfig = secretsHydrator.hydrate(input.getDestinationConfiguration());
-      final var fullInput = Jsons.clone(input).withDestinationConfiguration(fullDestinationConfig);
+      final var fullInput = Jsons.deepCopy(input).withDestinationConfiguration(fullDestinationConfig);
 
       final Supplier<NormalizationInput> inputSupplier = () -> {
         airbyteConfigValidator.ensureAsRuntime(ConfigSchema.NORMALIZATION_INPUT, Jsons.jsonNode(fullInput));
@@ -189,7 +189,7 @@ public class ReplicationActivityImpl implements ReplicationActivity {
           final var fullSourceConfig = secretsHydrator.hydrate(syncInput.getSourceConfiguration());
           final var fullDestinationConfig = secretsHydrator.hydrate(syncInput.getDestinationConfiguration());
 
-          final var fullSyncInput = Jsons.clone(syncInput)
+          final var fullSyncInput = Jsons.deepCopy(syncInput)
               .withSourceConfiguration(fullSourceConfig)
               .withDestinationConfiguration(fullDestinationConfig);
 
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.temporal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.airbyte.workers.temporal.AttemptExecutionScheduler.ScheduledCheck;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AttemptExecutionSchedulerTest {
+
+  private static final long CLOCK_STEP_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+  private MetricClient metricClient;
+  private AtomicLong clockReads;
+  private AttemptExecutionScheduler attemptScheduler;
+
+  @BeforeEach
+  void setup() {
+    metricClient = mock(MetricClient.class);
+    clockReads = new AtomicLong();
+    // every read of the clock moves it forward, so each check runs 5ms late.
+    attemptScheduler = new AttemptExecutionScheduler(AttemptExecutionScheduler.createAttemptExecutor(false), new ScheduledThreadPoolExecutor(1),
+        () -> metricClient, () -> clockReads.getAndIncrement() * CLOCK_STEP_NANOS);
+  }
+
+  @AfterEach
+  void tearDown() {
+    attemptScheduler.shutdownNow();
+  }
+
+  @Test
+  void testReportsRunningAttemptsThreadsAndCheckLag() throws InterruptedException {
+    final CountDownLatch attemptStarted = new CountDownLatch(1);
+    final CountDownLatch attemptReleased = new CountDownLatch(1);
+    final CountDownLatch checked = new CountDownLatch(1);
+    attemptScheduler.submitAttempt(() -> {
+      attemptStarted.countDown();
+      try {
+        attemptReleased.await();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    final ScheduledCheck check = attemptScheduler.scheduleAtFixedRate(checked::countDown, Duration.ofHours(1));
+    assertTrue(attemptStarted.await(10, TimeUnit.SECONDS));
+    assertTrue(checked.await(10, TimeUnit.SECONDS));
+
+    attemptScheduler.reportMetrics();
+
+    verify(metricClient).gauge(OssMetricsRegistry.TEMPORAL_ATTEMPT_RUNNING, 1);
+    verify(metricClient).gauge(OssMetricsRegistry.TEMPORAL_ATTEMPT_THREADS, 2);
+    verify(metricClient).gauge(OssMetricsRegistry.TEMPORAL_ATTEMPT_CHECK_LAG_MILLIS, 5);
+
+    // the lag is reset by each report.
+    attemptReleased.countDown();
+    check.stop();
+    attemptScheduler.reportMetrics();
+    verify(metricClient).gauge(OssMetricsRegistry.TEMPORAL_ATTEMPT_CHECK_LAG_MILLIS, 0);
+  }
+
+  @Test
+  void testFailingChecksKeepRunningUntilStopped() throws InterruptedException {
+    final CountDownLatch checked = new CountDownLatch(3);
+    final ScheduledCheck check = attemptScheduler.scheduleAtFixedRate(() -> {
+      checked.countDown();
+      throw new IllegalStateException("check failed");
+    }, Duration.ofMillis(10));
+    assertEquals(1, attemptScheduler.getScheduledCheckCount());
+
+    assertTrue(checked.await(10, TimeUnit.SECONDS));
+    check.stop();
+    check.stop();
+
+    assertEquals(0, attemptScheduler.getScheduledCheckCount());
+  }
+
+}
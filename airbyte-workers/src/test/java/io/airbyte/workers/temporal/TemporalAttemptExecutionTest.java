@@ -4,12 +4,18 @@
 
 package io.airbyte.workers.temporal;
 
+import static io.airbyte.config.helpers.LogClientSingleton.JOB_LOG_PATH_MDC_KEY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -20,15 +26,22 @@ import io.airbyte.commons.functional.CheckedSupplier;
 import io.airbyte.commons.temporal.CancellationHandler;
 import io.airbyte.config.Configs;
 import io.airbyte.db.init.DatabaseInitializationException;
+import io.airbyte.metrics.lib.MetricClientFactory;
 import io.airbyte.persistence.job.models.JobRunConfig;
 import io.airbyte.workers.Worker;
 import io.temporal.serviceclient.CheckedExceptionWrapper;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,6 +49,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
+import org.slf4j.MDC;
 import org.testcontainers.containers.PostgreSQLContainer;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,6 +69,9 @@ class TemporalAttemptExecutionTest {
 
   private CheckedSupplier<Worker<String, String>, Exception> execution;
   private Consumer<Path> mdcSetter;
+  private CancellationHandler cancellationHandler;
+  private ScheduledThreadPoolExecutor scheduler;
+  private AttemptExecutionScheduler attemptScheduler;
 
   private TemporalAttemptExecution<String, String> attemptExecution;
 
@@ -81,6 +98,10 @@ class TemporalAttemptExecutionTest {
 
     execution = mock(CheckedSupplier.class);
     mdcSetter = mock(Consumer.class);
+    cancellationHandler = mock(CancellationHandler.class);
+    scheduler = new ScheduledThreadPoolExecutor(1);
+    attemptScheduler = new AttemptExecutionScheduler(AttemptExecutionScheduler.createAttemptExecutor(false), scheduler,
+        MetricClientFactory::getMetricClient, System::nanoTime);
 
     attemptExecution = new TemporalAttemptExecution<>(
         workspaceRoot,
@@ -88,11 +109,19 @@ class TemporalAttemptExecutionTest {
         JOB_RUN_CONFIG, execution,
         () -> "",
         mdcSetter,
-        mock(CancellationHandler.class),
+        cancellationHandler,
         airbyteApiClient,
         () -> "workflow_id", configs.getAirbyteVersionOrWarning(),
         Optional.of("SYNC"),
-        () -> {});
+        () -> {},
+        attemptScheduler,
+        Duration.ofSeconds(1));
+  }
+
+  @AfterEach
+  void tearDown() {
+    attemptScheduler.shutdownNow();
+    MDC.clear();
   }
 
   @AfterAll
@@ -117,6 +146,76 @@ class TemporalAttemptExecutionTest {
     verify(mdcSetter, atLeast(2)).accept(jobRoot);
     verify(attemptApi, times(1)).setWorkflowInAttempt(
         argThat(request -> request.getAttemptNumber().equals(ATTEMPT_NUMBER) && request.getJobId().equals(Long.valueOf(JOB_ID))));
+    assertEquals(0, attemptScheduler.getScheduledCheckCount());
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void testScheduledChecksRestoreTheSchedulerMdc() throws Exception {
+    doAnswer(invocation -> {
+      MDC.put(JOB_LOG_PATH_MDC_KEY, jobRoot.toString());
+      return null;
+    }).when(mdcSetter).accept(jobRoot);
+    final CountDownLatch scheduledCheckRan = new CountDownLatch(2);
+    doAnswer(invocation -> {
+      scheduledCheckRan.countDown();
+      return null;
+    }).when(cancellationHandler).checkAndHandleCancellation(any());
+    final Worker<String, String> worker = mock(Worker.class);
+    when(worker.run(any(), any())).thenAnswer(invocation -> {
+      assertTrue(scheduledCheckRan.await(10, TimeUnit.SECONDS));
+      return "output";
+    });
+    when(execution.get()).thenAnswer((Answer<Worker<String, String>>) invocation -> worker);
+
+    assertEquals("output", attemptExecution.get());
+
+    // the scheduler thread is shared with other attempts, which must not log to this attempt's logs.
+    assertNull(scheduler.submit(() -> MDC.get(JOB_LOG_PATH_MDC_KEY)).get());
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void testCancellationInterruptsTheWorker() throws Exception {
+    final CountDownLatch workerInterrupted = new CountDownLatch(1);
+    final Worker<String, String> worker = mock(Worker.class);
+    when(worker.run(any(), any())).thenAnswer(invocation -> {
+      try {
+        new CountDownLatch(1).await();
+      } catch (final InterruptedException e) {
+        workerInterrupted.countDown();
+        throw e;
+      }
+      return null;
+    });
+    when(execution.get()).thenAnswer((Answer<Worker<String, String>>) invocation -> worker);
+    // the check before the worker starts passes, the first scheduled check finds the attempt cancelled.
+    doNothing().doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).when(cancellationHandler).checkAndHandleCancellation(any());
+
+    assertThrows(CancellationException.class, () -> attemptExecution.get());
+
+    verify(worker).cancel();
+    assertTrue(workerInterrupted.await(10, TimeUnit.SECONDS));
+    assertEquals(0, attemptScheduler.getScheduledCheckCount());
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void testCancelledAttemptIsNotStarted() throws Exception {
+    final Worker<String, String> worker = mock(Worker.class);
+    when(execution.get()).thenAnswer((Answer<Worker<String, String>>) invocation -> worker);
+    doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).when(cancellationHandler).checkAndHandleCancellation(any());
+
+    assertThrows(CancellationException.class, () -> attemptExecution.get());
+
+    verify(worker).cancel();
+    verify(worker, never()).run(any(), any());
   }
 
   @Test
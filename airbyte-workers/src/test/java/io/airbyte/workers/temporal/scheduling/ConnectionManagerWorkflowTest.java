@@ -8,6 +8,7 @@ import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.google.protobuf.util.JsonFormat;
 import io.airbyte.commons.temporal.TemporalJobType;
 import io.airbyte.commons.temporal.scheduling.ConnectionManagerWorkflow;
 import io.airbyte.commons.temporal.scheduling.ConnectionUpdaterInput;
@@ -53,6 +54,8 @@ import io.airbyte.workers.temporal.scheduling.activities.RecordMetricActivity;
 import io.airbyte.workers.temporal.scheduling.activities.RouteToSyncTaskQueueActivity;
 import io.airbyte.workers.temporal.scheduling.activities.RouteToSyncTaskQueueActivity.RouteToSyncTaskQueueOutput;
 import io.airbyte.workers.temporal.scheduling.activities.StreamResetActivity;
+import io.airbyte.workers.temporal.scheduling.activities.SyncPreparationActivity;
+import io.airbyte.workers.temporal.scheduling.activities.SyncPreparationActivityImpl;
 import io.airbyte.workers.temporal.scheduling.activities.WorkflowConfigActivity;
 import io.airbyte.workers.temporal.scheduling.testsyncworkflow.DbtFailureSyncWorkflow;
 import io.airbyte.workers.temporal.scheduling.testsyncworkflow.EmptySyncWorkflow;
@@ -66,8 +69,12 @@ import io.airbyte.workers.temporal.support.TemporalProxyHelper;
 import io.micronaut.context.BeanRegistration;
 import io.micronaut.inject.BeanIdentifier;
 import io.temporal.activity.ActivityOptions;
+import io.temporal.api.common.v1.WorkflowExecution;
 import io.temporal.api.enums.v1.WorkflowExecutionStatus;
 import io.temporal.api.filter.v1.WorkflowExecutionFilter;
+import io.temporal.api.history.v1.History;
+import io.temporal.api.history.v1.HistoryEvent;
+import io.temporal.api.workflowservice.v1.GetWorkflowExecutionHistoryRequest;
 import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsRequest;
 import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsResponse;
 import io.temporal.client.WorkflowClient;
@@ -75,6 +82,7 @@ import io.temporal.client.WorkflowOptions;
 import io.temporal.common.RetryOptions;
 import io.temporal.failure.ApplicationFailure;
 import io.temporal.testing.TestWorkflowEnvironment;
+import io.temporal.testing.WorkflowReplayer;
 import io.temporal.worker.Worker;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -136,6 +144,9 @@ class ConnectionManagerWorkflowTest {
       mock(RouteToSyncTaskQueueActivity.class, Mockito.withSettings().withoutAnnotations());
   private static final FeatureFlagFetchActivity mFeatureFlagFetchActivity =
       mock(FeatureFlagFetchActivity.class, Mockito.withSettings().withoutAnnotations());
+  // runs the preparation steps with the mocks of the other activities.
+  private static final SyncPreparationActivity syncPreparationActivity = new SyncPreparationActivityImpl(mFeatureFlagFetchActivity,
+      mJobCreationAndStatusUpdateActivity, mGenerateInputActivityImpl, mRouteToSyncTaskQueueActivity);
   private static final String EVENT = "event = ";
 
   private TestWorkflowEnvironment testEnv;
@@ -923,7 +934,7 @@ class ConnectionManagerWorkflowTest {
       managerWorker.registerWorkflowImplementationTypes(temporalProxyHelper.proxyWorkflowClass(ConnectionManagerWorkflowImpl.class));
       managerWorker.registerActivitiesImplementations(mConfigFetchActivity, mCheckConnectionActivity, mGenerateInputActivityImpl,
           mJobCreationAndStatusUpdateActivity, mAutoDisableConnectionActivity, mRecordMetricActivity,
-          mWorkflowConfigActivity, mRouteToSyncTaskQueueActivity, mFeatureFlagFetchActivity);
+          mWorkflowConfigActivity, mRouteToSyncTaskQueueActivity, mFeatureFlagFetchActivity, syncPreparationActivity);
 
       client = testEnv.getWorkflowClient();
       workflow = client.newWorkflowStub(ConnectionManagerWorkflow.class,
@@ -1021,7 +1032,7 @@ class ConnectionManagerWorkflowTest {
       managerWorker.registerWorkflowImplementationTypes(temporalProxyHelper.proxyWorkflowClass(ConnectionManagerWorkflowImpl.class));
       managerWorker.registerActivitiesImplementations(mConfigFetchActivity, mCheckConnectionActivity, mGenerateInputActivityImpl,
           mJobCreationAndStatusUpdateActivity, mAutoDisableConnectionActivity, mRecordMetricActivity,
-          mWorkflowConfigActivity, mRouteToSyncTaskQueueActivity, mFeatureFlagFetchActivity);
+          mWorkflowConfigActivity, mRouteToSyncTaskQueueActivity, mFeatureFlagFetchActivity, syncPreparationActivity);
 
       client = testEnv.getWorkflowClient();
       workflow = client.newWorkflowStub(ConnectionManagerWorkflow.class,
@@ -1542,6 +1553,94 @@ class ConnectionManagerWorkflowTest {
 
   }
 
+  @Nested
+  @DisplayName("Test that the sync is prepared with a single activity.")
+  class FusedSyncPreparation {
+
+    @BeforeEach
+    void setup() {
+      setupSpecificChildWorkflow(EmptySyncWorkflow.class);
+    }
+
+    @Test
+    @Timeout(value = 10,
+             unit = TimeUnit.SECONDS)
+    @DisplayName("Test that a new workflow prepares the sync with a single activity and can be replayed")
+    void testFusedSyncPreparationIsReplayable() throws Exception {
+      returnTrueForLastJobOrAttemptFailure();
+      runFirstSync();
+
+      final History history = getFirstRunHistory();
+      final List<String> activityTypes = history.getEventsList().stream()
+          .filter(HistoryEvent::hasActivityTaskScheduledEventAttributes)
+          .map(event -> event.getActivityTaskScheduledEventAttributes().getActivityType().getName())
+          .toList();
+      Assertions.assertThat(activityTypes)
+          .contains("PrepareSync", "RunWithJobOutput", "GetSyncWorkflowInputWithAttemptNumber")
+          .doesNotContain("GetFeatureFlags", "IsLastJobOrAttemptFailure", "GetCheckConnectionInputs", "Route");
+
+      // histories of workflows that started before the fused preparation are replayed in
+      // WorkflowReplayingTest.
+      WorkflowReplayer.replayWorkflowExecution(JsonFormat.printer().print(history),
+          temporalProxyHelper.proxyWorkflowClass(ConnectionManagerWorkflowImpl.class));
+    }
+
+    @Test
+    @Timeout(value = 10,
+             unit = TimeUnit.SECONDS)
+    @DisplayName("Test that the checks use the prepared sync input if check input generation is disabled")
+    void testChecksUsePreparedSyncInput() throws Exception {
+      returnTrueForLastJobOrAttemptFailure();
+      when(mFeatureFlagFetchActivity.getFeatureFlags(Mockito.any()))
+          .thenReturn(new FeatureFlagFetchOutput(Map.of(CheckInputGeneration.INSTANCE.getKey(), false)));
+      runFirstSync();
+
+      Mockito.verify(mGenerateInputActivityImpl).getSyncWorkflowInputWithAttemptNumber(Mockito.any(SyncInputWithAttemptNumber.class));
+      Mockito.verify(mGenerateInputActivityImpl, Mockito.never()).getCheckConnectionInputs(Mockito.any(SyncInputWithAttemptNumber.class));
+      Mockito.verify(mCheckConnectionActivity, Mockito.times(2)).runWithJobOutput(Mockito.any());
+      Mockito.verify(mJobCreationAndStatusUpdateActivity).jobSuccessWithAttemptNumber(Mockito.any());
+    }
+
+    private void runFirstSync() throws InterruptedException {
+      when(mConfigFetchActivity.getTimeToWait(Mockito.any()))
+          .thenReturn(new ScheduleRetrieverOutput(SCHEDULE_WAIT));
+      when(mConfigFetchActivity.getMaxAttempt()).thenReturn(new GetMaxAttemptOutput(1));
+
+      final ConnectionUpdaterInput input = ConnectionUpdaterInput.builder()
+          .connectionId(UUID.randomUUID())
+          .jobId(null)
+          .attemptId(null)
+          .fromFailure(false)
+          .attemptNumber(1)
+          .workflowState(new WorkflowState(UUID.randomUUID(), new TestStateListener()))
+          .build();
+
+      startWorkflowAndWaitUntilReady(workflow, input);
+      // wait to be scheduled and to run once, the next run then waits to be scheduled again
+      testEnv.sleep(SCHEDULE_WAIT.plus(Duration.ofMinutes(1)));
+      assertWorkflowWasContinuedAsNew();
+    }
+
+    private History getFirstRunHistory() {
+      final ListClosedWorkflowExecutionsRequest request = ListClosedWorkflowExecutionsRequest.newBuilder()
+          .setNamespace(testEnv.getNamespace())
+          .setExecutionFilter(WorkflowExecutionFilter.newBuilder().setWorkflowId(WORKFLOW_ID))
+          .build();
+      final WorkflowExecution firstRun = testEnv.getWorkflowService().blockingStub()
+          .listClosedWorkflowExecutions(request)
+          .getExecutions(0)
+          .getExecution();
+
+      return testEnv.getWorkflowService().blockingStub()
+          .getWorkflowExecutionHistory(GetWorkflowExecutionHistoryRequest.newBuilder()
+              .setNamespace(testEnv.getNamespace())
+              .setExecution(firstRun)
+              .build())
+          .getHistory();
+    }
+
+  }
+
   private class HasFailureFromOrigin implements ArgumentMatcher<AttemptNumberFailureInput> {
 
     private final FailureOrigin expectedFailureOrigin;
@@ -1619,7 +1718,7 @@ class ConnectionManagerWorkflowTest {
     managerWorker.registerWorkflowImplementationTypes(temporalProxyHelper.proxyWorkflowClass(ConnectionManagerWorkflowImpl.class));
     managerWorker.registerActivitiesImplementations(mConfigFetchActivity, mCheckConnectionActivity, mGenerateInputActivityImpl,
         mJobCreationAndStatusUpdateActivity, mAutoDisableConnectionActivity, mRecordMetricActivity,
-        mWorkflowConfigActivity, mRouteToSyncTaskQueueActivity, mFeatureFlagFetchActivity);
+        mWorkflowConfigActivity, mRouteToSyncTaskQueueActivity, mFeatureFlagFetchActivity, syncPreparationActivity);
 
     client = testEnv.getWorkflowClient();
     testEnv.start();
@@ -53,6 +53,8 @@ class WorkflowReplayingTest {
     // This JSON file is exported from Temporal directly (e.g.
     // `http://${temporal-ui}/namespaces/default/workflows/connection_manager_-${uuid}/${uuid}/history`)
     // and export
+    // The history predates the fused sync preparation, so it covers the path that prepares the sync
+    // with one activity per step.
     final URL historyPath = getClass().getClassLoader().getResource("connectionManagerWorkflowHistory.json");
 
     final File historyFile = new File(historyPath.toURI());